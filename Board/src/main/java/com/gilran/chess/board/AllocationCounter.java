@@ -0,0 +1,50 @@
+package com.gilran.chess.board;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads the number of bytes allocated by the current thread.
+ *
+ * <p>Uses the HotSpot extension of the thread MX bean. The class is only
+ * loaded when a move is traced, so platforms without java.lang.management
+ * (e.g. Android) can use the Board module as long as tracing is off.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+final class AllocationCounter {
+  /** The HotSpot thread MX bean (null if allocations cannot be measured). */
+  private static final com.sun.management.ThreadMXBean THREAD_BEAN;
+  static {
+    com.sun.management.ThreadMXBean bean = null;
+    try {
+      ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+      if (threadBean instanceof com.sun.management.ThreadMXBean) {
+        bean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!bean.isThreadAllocatedMemorySupported()) {
+          bean = null;
+        } else if (!bean.isThreadAllocatedMemoryEnabled()) {
+          bean.setThreadAllocatedMemoryEnabled(true);
+        }
+      }
+    } catch (Throwable t) {
+      bean = null;
+    }
+    THREAD_BEAN = bean;
+  }
+
+  /** Not instantiable. */
+  private AllocationCounter() {}
+
+  /**
+   * Returns the number of bytes allocated by the current thread so far, or -1
+   * if it cannot be measured.
+   */
+  static long allocatedBytes() {
+    if (THREAD_BEAN == null) {
+      return -1;
+    }
+    return THREAD_BEAN.getThreadAllocatedBytes(
+        Thread.currentThread().getId());
+  }
+}
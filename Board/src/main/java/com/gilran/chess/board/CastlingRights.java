@@ -1,16 +1,20 @@
 package com.gilran.chess.board;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 
 import java.util.Map;
 
 /**
  * The castling rights a chess position.
+ * <p>The rights themselves are held by the position, as a mask with a bit for
+ * each castle (see Castle.getMask).
  *
  * @author Gil Ran <gilrun@gmail.com>
  */
-/* package */ class CastlingRights {
+/* package */ final class CastlingRights {
+  /** The mask with all the castling rights. */
+  static final int ALL = 0xf;
+
   /** An enum for castling sides.
    * <p>The order of elements in the enum is important as notation classes count
    * on this order when creating notation strings.
@@ -61,63 +65,13 @@ import java.util.Map;
 
     /** Returns the castling side. */
     public Side getSide() { return side; }
-  }
-
-  /**
-   * The castling rights of each side.
-   * For each side, the inner map will have KING_SIDE and QUEEN_SIDE as keys,
-   * and a boolean indicating if the side is holding the right to castle in that
-   * direction.
-   * */
-  private Map<Castle, Boolean> rightsMap;
-
-  /** Creates castling rights, with all rights enabled. */
-  CastlingRights() {
-    this(true);
-  }
-
-  /** Creates castling rights, with all rights set to the given default. */
-  CastlingRights(boolean defaultRight) {
-    rightsMap = Maps.newHashMap();
-
-    rightsMap.put(Castle.get(Piece.Color.WHITE, Side.KING), defaultRight);
-    rightsMap.put(Castle.get(Piece.Color.WHITE, Side.QUEEN), defaultRight);
-    rightsMap.put(Castle.get(Piece.Color.BLACK, Side.KING), defaultRight);
-    rightsMap.put(Castle.get(Piece.Color.BLACK, Side.QUEEN), defaultRight);
-  }
-
-  /** Copy constructor. */
-  CastlingRights(CastlingRights other) {
-    rightsMap = Maps.newHashMap(other.rightsMap);
-  }
 
-  /**
-   * Returns true iff the given color holds the right to castle to the given
-   * side.
-   */
-  public boolean get(Piece.Color color, Side side) {
-    return get(Castle.get(color, side));
-  }
-
-  /**
-   * Returns true iff the the right to perform the given castle is held.
-   */
-  public boolean get(Castle castle) {
-    return rightsMap.get(castle);
-  }
-
-  /** Sets the castling right for the given castle. */
-  public void set(Castle castle, boolean right) {
-    rightsMap.put(castle, right);
-  }
-
-  /** Revokes the right of the given color to castle to the given side. */
-  public void revoke(Piece.Color color, Side side) {
-    revoke(Castle.get(color, side));
+    /** Returns the bit of the castle in a castling rights mask. */
+    public int getMask() {
+      return 1 << (color.ordinal() * Side.values().length + side.ordinal());
+    }
   }
 
-  /** Revokes the right to perform the given castle. */
-  public void revoke(Castle castle) {
-    set(castle, false);
-  }
+  /** Not instantiable. */
+  private CastlingRights() {}
 }
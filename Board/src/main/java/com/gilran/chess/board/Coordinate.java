@@ -24,6 +24,9 @@ public class Coordinate implements Comparable<Coordinate> {
   /** The index of the last rank. */
   public static final int LAST_RANK = RANKS - 1;
 
+  /** The number of squares. */
+  public static final int SQUARES = FILES * RANKS;
+
   /** The file index. */
   private int file;
 
@@ -47,6 +50,18 @@ public class Coordinate implements Comparable<Coordinate> {
     COORDINATES = tmpCoordinates;
   }
 
+  /** Static array of all coordinates, by their square index. */
+  private static final Coordinate BY_INDEX[];
+  static {
+    Coordinate tmpByIndex[] = new Coordinate[SQUARES];
+    for (Coordinate coordinates[] : COORDINATES) {
+      for (Coordinate coordinate : coordinates) {
+        tmpByIndex[coordinate.getIndex()] = coordinate;
+      }
+    }
+    BY_INDEX = tmpByIndex;
+  }
+
   /** Returns the coordinate at the given file and rank. */
   public static Coordinate get(int file, int rank) {
     if (!isValidFile(file) || !isValidRank(rank)) {
@@ -55,6 +70,17 @@ public class Coordinate implements Comparable<Coordinate> {
     return COORDINATES[file][rank];
   }
 
+  /**
+   * Returns the coordinate with the given square index (see getIndex), or null
+   * if the index is invalid.
+   */
+  public static Coordinate getByIndex(int index) {
+    if (index < 0 || index >= SQUARES) {
+      return null;
+    }
+    return BY_INDEX[index];
+  }
+
   /**
    * Returns a coordinate by its name, or null if the name is invalid.
    * <p>A coordinate name is the algebric notation name of the square, where the
@@ -84,6 +110,12 @@ public class Coordinate implements Comparable<Coordinate> {
   /** Returns the rank. */
   public int getRank() { return rank; }
 
+  /**
+   * Returns the square index of the coordinate, between 0 (a1) and SQUARES - 1
+   * (h8), rank by rank.
+   */
+  public int getIndex() { return rank * FILES + file; }
+
   /**
    * Tries to add the given files and ranks to the coodinate.
    *
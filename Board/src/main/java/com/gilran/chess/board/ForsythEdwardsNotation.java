@@ -4,7 +4,6 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 import com.google.common.primitives.Ints;
 
 import java.util.Map;
@@ -114,33 +113,40 @@ public class ForsythEdwardsNotation extends PositionBase {
 
     parsePiecePlacement(fenParts[0]);
 
-    activePlayer = NAME_TO_COLOR.get(fenParts[1]);
+    Piece.Color activePlayer = NAME_TO_COLOR.get(fenParts[1]);
     if (activePlayer == null) {
       throw new InvalidFENStringException();
     }
+    setActivePlayer(activePlayer);
 
     parseCastlingRights(fenParts[2]);
 
-    if (fenParts[3].equals("-")) {
-      enPassantTarget = null;
-    } else {
-      enPassantTarget = Coordinate.get(fenParts[3]);
+    if (!fenParts[3].equals("-")) {
+      Coordinate enPassantTarget = Coordinate.get(fenParts[3]);
       if (enPassantTarget == null) {
         throw new InvalidFENStringException();
       }
+      setEnPassantTarget(enPassantTarget);
+      // Only the file of the target is kept, so the rank must match the
+      // active player.
+      if (!enPassantTarget.equals(getEnPassantTarget())) {
+        throw new InvalidFENStringException();
+      }
     }
 
     Integer tmpHalfMovesClock = Ints.tryParse(fenParts[4]);
-    if (tmpHalfMovesClock == null) {
+    if (tmpHalfMovesClock == null || tmpHalfMovesClock < 0 ||
+        tmpHalfMovesClock > MAX_HALF_MOVES_CLOCK) {
       throw new InvalidFENStringException();
     }
-    halfMovesClock = tmpHalfMovesClock;
+    setHalfMovesClock(tmpHalfMovesClock);
 
     Integer tmpCurrentMove = Ints.tryParse(fenParts[5]);
-    if (tmpCurrentMove == null) {
+    if (tmpCurrentMove == null || tmpCurrentMove < 0 ||
+        tmpCurrentMove > MAX_CURRENT_MOVE) {
       throw new InvalidFENStringException();
     }
-    currentMove = tmpCurrentMove;
+    setCurrentMove(tmpCurrentMove);
   }
 
   /** Returns the FEN string. */
@@ -178,7 +184,6 @@ public class ForsythEdwardsNotation extends PositionBase {
   private void parsePiecePlacement(String placementString)
       throws InvalidFENStringException {
     piecesPlacement = new PiecesPlacement();
-    kingPosition = Maps.newEnumMap(Piece.Color.class);
     String[] rankStrings = placementString.split("/");
     Preconditions.checkArgument(
         rankStrings.length == Coordinate.RANKS, "Invalid FEN string");
@@ -240,8 +245,12 @@ public class ForsythEdwardsNotation extends PositionBase {
       } else {
         Coordinate coordinate = Coordinate.get(file, rank);
         piecesPlacement.add(piece, coordinate);
+        if (!piecesPlacement.getMaterialSignature().isWithinMaxCounts()) {
+          // Checked on every piece, before a count can overflow.
+          throw new InvalidFENStringException();
+        }
         if (piece.getType() == Piece.Type.KING) {
-          kingPosition.put(piece.getColor(), coordinate);
+          setKingPosition(piece.getColor(), coordinate);
         }
         file++;
       }
@@ -256,7 +265,7 @@ public class ForsythEdwardsNotation extends PositionBase {
     StringBuilder builder = new StringBuilder(4 /* max size */);
     for (Piece.Color color : Piece.Color.values()) {
       for (CastlingRights.Side side : CastlingRights.Side.values()) {
-        if (castlingRights.get(color, side)) {
+        if (hasCastlingRight(color, side)) {
           builder.append(
               CASTLE_TO_NAME.get(CastlingRights.Castle.get(color, side)));
         }
@@ -270,9 +279,9 @@ public class ForsythEdwardsNotation extends PositionBase {
    */
   private void parseCastlingRights(String rightsString)
       throws InvalidFENStringException{
-    castlingRights = new CastlingRights(false);
+    setCastlingRights(0);
 
-    if (rightsString == "-") {
+    if (rightsString.equals("-")) {
       return;
     }
 
@@ -281,7 +290,7 @@ public class ForsythEdwardsNotation extends PositionBase {
       if (castle == null) {
         throw new InvalidFENStringException();
       }
-      castlingRights.set(castle, true);
+      setCastlingRights(getCastlingRights() | castle.getMask());
     }
   }
 
@@ -16,9 +16,14 @@ public class Game {
   private Position position;
 
   public Game(String whitePlayer, String blackPlayer) {
+    this(whitePlayer, blackPlayer, new Position());
+  }
+
+  /** Constructs a game that continues from the given position. */
+  protected Game(String whitePlayer, String blackPlayer, Position position) {
     this.whitePlayer = whitePlayer;
     this.blackPlayer = blackPlayer;
-    this.position = new Position();
+    this.position = position;
   }
 
   /** Returns the name of the player playing the given color. */
@@ -41,6 +46,11 @@ public class Game {
     return position;
   }
 
+  /** Replaces the game position, e.g. with one rebuilt from the moves. */
+  protected void setPosition(Position position) {
+    this.position = position;
+  }
+
   /** Returns the player who offered draw, or null if there is no draw offer. */
   public Color getOutstandingDrawOffer() {
     return position.getOutstandingDrawOffer();
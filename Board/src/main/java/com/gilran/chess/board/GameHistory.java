@@ -0,0 +1,279 @@
+package com.gilran.chess.board;
+
+import com.gilran.chess.Proto.GameStatus;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The moves of a game, with random access to the position at any ply.
+ *
+ * <p>The moves are kept compactly, as the from-square and to-square indices
+ * of each move, its promotion piece and a castling flag, in a single short,
+ * together with the status after each move. A copy of the
+ * position is kept every checkpointPlies plies, so the position at any ply is
+ * found by replaying at most checkpointPlies - 1 moves from the checkpoint
+ * before it.
+ * <p>The replay is done on a cursor position that is kept between calls. A
+ * following ply is reached by moving the cursor forward, and a preceding ply
+ * by taking back the cursor's moves, so scrubbing through the game one ply at
+ * a time costs a single move per ply, and the cursor is only rebuilt from a
+ * checkpoint once every checkpointPlies plies. The cursor keeps the undo
+ * records of its last checkpointPlies moves, which is all a seek can use.
+ * <p>The statuses are recorded as the moves are added, so the cursor does not
+ * need the repetition history of the game, and is rebuilt without it.
+ * <p>The methods are synchronized, as the cursor is shared by all the readers.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class GameHistory {
+  /** The default number of plies between checkpoints. */
+  private static final int DEFAULT_CHECKPOINT_PLIES =
+      Integer.getInteger("chess.history.checkpointPlies", 16);
+
+  /** The number of plies between checkpoints. */
+  private final int checkpointPlies;
+  /** The FEN of the position before the first move. */
+  private final String startFen;
+  /** The bits of the to-index and the from-index of an encoded move. */
+  private static final int SQUARES_BITS = 12;
+  /** The mask of the to-index and the from-index of an encoded move. */
+  private static final int SQUARES_MASK = (1 << SQUARES_BITS) - 1;
+  /** The mask of the promotion piece code (the type's ordinal + 1). */
+  private static final int PROMOTION_MASK = 0x7;
+  /** The castling flag of an encoded move. */
+  private static final int CASTLING_FLAG = 1 << 15;
+
+  /**
+   * The encoded moves: from-index * 64 + to-index, the promotion piece code
+   * above them (0 if none), and the castling flag. Only plies first are used.
+   */
+  private short[] moves;
+  /** The status after each ply (index 0 is the start position's status). */
+  private GameStatus[] statuses;
+  /** The number of moves in the history. */
+  private int plies;
+  /** The positions at plies 0, checkpointPlies, 2 * checkpointPlies, ... */
+  private final List<PositionBase> checkpoints;
+  /** The position the last lookup replayed to (null if none). */
+  private Position cursor;
+  /** The ply of the cursor position. */
+  private int cursorPly;
+
+  /**
+   * Constructor.
+   *
+   * @param start The position before the first move. Not kept.
+   */
+  public GameHistory(Position start) {
+    this(start, DEFAULT_CHECKPOINT_PLIES);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param start The position before the first move. Not kept.
+   * @param checkpointPlies The number of plies between checkpoints.
+   */
+  public GameHistory(Position start, int checkpointPlies) {
+    Preconditions.checkArgument(checkpointPlies > 0);
+    this.checkpointPlies = checkpointPlies;
+    this.startFen = new ForsythEdwardsNotation(start).toString();
+    this.moves = new short[checkpointPlies];
+    this.statuses = new GameStatus[checkpointPlies + 1];
+    this.statuses[0] = start.getStatus();
+    this.plies = 0;
+    this.checkpoints = Lists.newArrayList();
+    this.checkpoints.add(new PositionBase(start));
+  }
+
+  /** Returns the FEN of the position before the first move. */
+  public String getStartFen() {
+    return startFen;
+  }
+
+  /** Returns the number of moves in the history. */
+  public synchronized int getPlies() {
+    return plies;
+  }
+
+  /**
+   * Rebuilds a history from the moves returned by getEncodedMoves, by
+   * replaying them.
+   *
+   * @param start The position before the first move. Not kept.
+   * @param encodedMoves The encoded moves.
+   */
+  public static GameHistory fromEncodedMoves(
+      Position start, short[] encodedMoves) {
+    GameHistory history = new GameHistory(start);
+    Position position = new Position(
+        start, start.getRepetitionHistory(), start.getStatus(), 0);
+    for (short move : encodedMoves) {
+      Preconditions.checkArgument(!play(position, move).isEmpty());
+      history.add(move, position);
+    }
+    return history;
+  }
+
+  /**
+   * Adds a move to the history.
+   *
+   * @param made The moves made, as returned by Position.move (the king's
+   *     first, in castling).
+   * @param after The position after the moves. Not kept.
+   */
+  public synchronized void add(List<Move> made, Position after) {
+    Move move = made.get(0);
+    int encoded = move.getFrom().getIndex() * Coordinate.SQUARES +
+        move.getTo().getIndex();
+    if (move.getPromotionPiece() != null) {
+      encoded |= (move.getPromotionPiece().ordinal() + 1) << SQUARES_BITS;
+    }
+    if (move.getCastlingSide() != null) {
+      encoded |= CASTLING_FLAG;
+    }
+    add((short) encoded, after);
+  }
+
+  /** Adds an encoded move to the history. */
+  private void add(short move, Position after) {
+    if (plies == moves.length) {
+      moves = Arrays.copyOf(moves, plies * 2);
+      statuses = Arrays.copyOf(statuses, plies * 2 + 1);
+    }
+    moves[plies] = move;
+    plies++;
+    statuses[plies] = after.getStatus();
+    if (plies % checkpointPlies == 0) {
+      checkpoints.add(new PositionBase(after));
+    }
+  }
+
+  /** Returns the encoded moves, for fromEncodedMoves. */
+  public synchronized short[] getEncodedMoves() {
+    return Arrays.copyOf(moves, plies);
+  }
+
+  /** Returns the from-coordinate of a move (0 for the first move). */
+  public synchronized Coordinate getFrom(int move) {
+    Preconditions.checkElementIndex(move, plies);
+    return from(moves[move]);
+  }
+
+  /** Returns the to-coordinate of a move (0 for the first move). */
+  public synchronized Coordinate getTo(int move) {
+    Preconditions.checkElementIndex(move, plies);
+    return to(moves[move]);
+  }
+
+  /**
+   * Returns the piece type a move promoted a pawn to (0 for the first move),
+   * or null if the move is not a promotion.
+   */
+  public synchronized Piece.Type getPromotionPiece(int move) {
+    Preconditions.checkElementIndex(move, plies);
+    return promotionPiece(moves[move]);
+  }
+
+  /** Returns true iff a move is a castling (0 for the first move). */
+  public synchronized boolean isCastling(int move) {
+    Preconditions.checkElementIndex(move, plies);
+    return (moves[move] & CASTLING_FLAG) != 0;
+  }
+
+  /** Removes the given number of last moves from the history. */
+  public synchronized void takeBack(int count) {
+    Preconditions.checkArgument(count >= 0 && count <= plies);
+    plies -= count;
+    while (checkpoints.size() > plies / checkpointPlies + 1) {
+      checkpoints.remove(checkpoints.size() - 1);
+    }
+    if (cursorPly > plies) {
+      cursor = null;
+    }
+  }
+
+  /**
+   * Returns the position after the given number of plies (0 for the start
+   * position).
+   */
+  public synchronized ForsythEdwardsNotation getPositionAtPly(int ply) {
+    seek(ply);
+    return new ForsythEdwardsNotation(cursor);
+  }
+
+  /**
+   * Returns a new position after all the moves, replayed from the start
+   * position. Unlike the positions of getPositionAtPly, it has the repetition
+   * history of the game, so the game can continue from it.
+   */
+  public synchronized Position replay() {
+    Position position = new Position(checkpoints.get(0));
+    for (int i = 0; i < plies; i++) {
+      Preconditions.checkState(!play(position, moves[i]).isEmpty());
+    }
+    return position;
+  }
+
+  /**
+   * Returns the status after the given number of plies, as recorded when the
+   * moves were added.
+   */
+  public synchronized GameStatus getStatusAtPly(int ply) {
+    Preconditions.checkElementIndex(ply, plies + 1);
+    return statuses[ply];
+  }
+
+  /** Moves the cursor to the given ply. */
+  private void seek(int ply) {
+    Preconditions.checkElementIndex(ply, plies + 1);
+    int checkpointPly = ply / checkpointPlies * checkpointPlies;
+    if (cursor == null || cursorPly < checkpointPly ||
+        cursorPly - cursor.getUndoDepth() > ply) {
+      // Rebuilding the cursor from the checkpoint is the shortest way.
+      cursor = new Position(
+          checkpoints.get(ply / checkpointPlies),
+          ImmutableMap.<String, Integer>of(),
+          statuses[checkpointPly],
+          checkpointPlies);
+      cursorPly = checkpointPly;
+    }
+    while (cursorPly > ply) {
+      cursor.undo();
+      cursorPly--;
+    }
+    while (cursorPly < ply) {
+      Preconditions.checkState(!play(cursor, moves[cursorPly]).isEmpty());
+      cursorPly++;
+    }
+  }
+
+  /** Returns the promotion piece of an encoded move (null if none). */
+  private static Piece.Type promotionPiece(short move) {
+    int code = move >> SQUARES_BITS & PROMOTION_MASK;
+    return code == 0 ? null : Piece.Type.values()[code - 1];
+  }
+
+  /** Makes an encoded move in a position, and returns the moves made. */
+  private static List<Move> play(Position position, short move) {
+    Piece.Type promotion = promotionPiece(move);
+    if (promotion != null) {
+      position.setPromotionPieceType(position.getActivePlayer(), promotion);
+    }
+    return position.move(from(move), to(move));
+  }
+
+  /** Returns the from-coordinate of an encoded move. */
+  private static Coordinate from(short move) {
+    return Coordinate.getByIndex((move & SQUARES_MASK) / Coordinate.SQUARES);
+  }
+
+  /** Returns the to-coordinate of an encoded move. */
+  private static Coordinate to(short move) {
+    return Coordinate.getByIndex((move & SQUARES_MASK) % Coordinate.SQUARES);
+  }
+}
@@ -0,0 +1,130 @@
+package com.gilran.chess.board;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+import java.util.Map;
+
+/**
+ * A process-wide cache of the legal moves of positions.
+ *
+ * <p>All games start from the same position, and many of them pass through the
+ * same opening positions, so the legal moves of these positions are generated
+ * once and shared by all the games. The cache is keyed by the position hash,
+ * and each entry keeps a copy of its position, so a hash collision is a miss
+ * rather than wrong moves. The cached moves maps are immutable, and the moves
+ * themselves are immutable, so they are shared between threads without
+ * locking.
+ * <p>The cache is bounded, and the least recently used positions are evicted
+ * (approximately, by segment). Its size is taken from the system property
+ * chess.legalMovesCache.size (0 disables the cache).
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public final class LegalMovesCache {
+  /** The maximal number of cached positions. */
+  private static final long SIZE =
+      Long.getLong("chess.legalMovesCache.size", 4096);
+
+  /** A cached position. */
+  private static class Entry {
+    /** A copy of the position, to tell apart positions with equal hashes. */
+    final PositionBase position;
+    /** The legal moves of both sides, as kept by Position. */
+    final Map<Piece.Color, Map<Coordinate, Map<Coordinate, Move>>> legalMoves;
+
+    /** Constructor. */
+    Entry(
+        PositionBase position,
+        Map<Piece.Color, Map<Coordinate, Map<Coordinate, Move>>> legalMoves) {
+      this.position = position;
+      this.legalMoves = legalMoves;
+    }
+  }
+
+  /** The cached positions, by position hash (null if disabled). */
+  private static final Cache<Long, Entry> CACHE = SIZE > 0
+      ? CacheBuilder.newBuilder().maximumSize(SIZE).recordStats()
+          .<Long, Entry>build()
+      : null;
+
+  /** Not instantiable. */
+  private LegalMovesCache() {}
+
+  /**
+   * Returns the cached legal moves of the given position, or null if they are
+   * not cached.
+   */
+  static Map<Piece.Color, Map<Coordinate, Map<Coordinate, Move>>> get(
+      PositionBase position) {
+    if (CACHE == null) {
+      return null;
+    }
+    Entry entry = CACHE.getIfPresent(position.getPositionHash());
+    if (entry == null || !entry.position.isSamePosition(position)) {
+      return null;
+    }
+    return entry.legalMoves;
+  }
+
+  /**
+   * Caches the legal moves of the given position.
+   *
+   * @param position The position.
+   * @param legalMoves The legal moves of the position. Not modified.
+   * @return The moves to be kept by the position instead of the given moves:
+   *     an immutable copy if the cache is enabled, or the given moves
+   *     themselves if it is disabled.
+   */
+  static Map<Piece.Color, Map<Coordinate, Map<Coordinate, Move>>> put(
+      PositionBase position,
+      Map<Piece.Color, Map<Coordinate, Map<Coordinate, Move>>> legalMoves) {
+    if (CACHE == null) {
+      return legalMoves;
+    }
+    Map<Piece.Color, Map<Coordinate, Map<Coordinate, Move>>> frozen =
+        freeze(legalMoves);
+    CACHE.put(
+        position.getPositionHash(),
+        new Entry(new PositionBase(position), frozen));
+    return frozen;
+  }
+
+  /** Returns an immutable copy of a legal moves map. */
+  private static Map<Piece.Color, Map<Coordinate, Map<Coordinate, Move>>>
+      freeze(Map<Piece.Color, Map<Coordinate, Map<Coordinate, Move>>> moves) {
+    Map<Piece.Color, Map<Coordinate, Map<Coordinate, Move>>> frozen =
+        Maps.newEnumMap(Piece.Color.class);
+    for (Map.Entry<Piece.Color, Map<Coordinate, Map<Coordinate, Move>>> side :
+         moves.entrySet()) {
+      ImmutableMap.Builder<Coordinate, Map<Coordinate, Move>> builder =
+          ImmutableMap.builder();
+      for (Map.Entry<Coordinate, Map<Coordinate, Move>> from :
+           side.getValue().entrySet()) {
+        builder.put(from.getKey(), ImmutableMap.copyOf(from.getValue()));
+      }
+      frozen.put(side.getKey(), builder.build());
+    }
+    return Maps.immutableEnumMap(frozen);
+  }
+
+  /** Returns the hit and miss statistics of the cache. */
+  public static CacheStats getStats() {
+    return CACHE == null ? new CacheStats(0, 0, 0, 0, 0, 0) : CACHE.stats();
+  }
+
+  /** Returns the number of cached positions. */
+  public static long size() {
+    return CACHE == null ? 0 : CACHE.size();
+  }
+
+  /** Removes all the cached positions. */
+  public static void clear() {
+    if (CACHE != null) {
+      CACHE.invalidateAll();
+    }
+  }
+}
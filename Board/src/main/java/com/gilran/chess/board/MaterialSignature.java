@@ -0,0 +1,199 @@
+package com.gilran.chess.board;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * The material signature of a position: the number of pieces of each type and
+ * color, with the bishops counted separately by the color of their squares.
+ *
+ * <p>The signature is packed in a single long, with a 4-bit count for each
+ * (color, piece kind), so it is kept incrementally by the pieces placement as
+ * pieces are added and removed, and material questions about the position are
+ * answered in O(1), without scanning the board. The kings are not counted, as
+ * each side always has exactly one.
+ * <p>A count cannot exceed MAX_COUNT in a game, as only pawns are promoted.
+ * Positions with more pieces of a kind would overflow the counts into each
+ * other, so they are rejected when they are parsed.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public final class MaterialSignature {
+  /** The kinds of counted pieces, in the order of their counts in the key. */
+  private enum Kind {
+    PAWN, KNIGHT, LIGHT_BISHOP, DARK_BISHOP, ROOK, QUEEN
+  }
+
+  /** The number of bits of each count. */
+  private static final int BITS = 4;
+  /** The mask of a single count. */
+  private static final long MASK = (1L << BITS) - 1;
+  /** The maximal number of pieces of a kind, with all pawns promoted to it. */
+  private static final int MAX_COUNT = 10;
+
+  /**
+   * The signatures with insufficient material to mate: a king against a king
+   * and at most one minor piece, or kings and any number of bishops, that are
+   * all on squares of the same color.
+   */
+  private static final ImmutableSet<Long> INSUFFICIENT_MATERIAL;
+  static {
+    ImmutableSet.Builder<Long> builder = ImmutableSet.builder();
+    builder.add(0L);
+    for (Piece.Color color : Piece.Color.values()) {
+      builder.add(unit(color, Kind.KNIGHT));
+    }
+    for (Kind bishop : new Kind[] { Kind.LIGHT_BISHOP, Kind.DARK_BISHOP }) {
+      for (int white = 0; white <= MAX_COUNT; ++white) {
+        for (int black = 0; black <= MAX_COUNT; ++black) {
+          builder.add(white * unit(Piece.Color.WHITE, bishop)
+              + black * unit(Piece.Color.BLACK, bishop));
+        }
+      }
+    }
+    INSUFFICIENT_MATERIAL = builder.build();
+  }
+
+  /** The packed counts. */
+  private final long key;
+
+  /** Constructor. */
+  MaterialSignature(long key) {
+    this.key = key;
+  }
+
+  /**
+   * Returns the change in the key when the given piece is added at the given
+   * coordinate (0 for kings).
+   */
+  static long delta(Piece piece, Coordinate coordinate) {
+    switch (piece.getType()) {
+      case PAWN:
+        return unit(piece.getColor(), Kind.PAWN);
+      case KNIGHT:
+        return unit(piece.getColor(), Kind.KNIGHT);
+      case BISHOP:
+        // a1 is a dark square.
+        return unit(
+            piece.getColor(),
+            (coordinate.getFile() + coordinate.getRank()) % 2 == 0
+                ? Kind.DARK_BISHOP : Kind.LIGHT_BISHOP);
+      case ROOK:
+        return unit(piece.getColor(), Kind.ROOK);
+      case QUEEN:
+        return unit(piece.getColor(), Kind.QUEEN);
+      default:
+        return 0;
+    }
+  }
+
+  /** Returns the offset of the count of the given color and kind in a key. */
+  private static int shift(Piece.Color color, Kind kind) {
+    return BITS * (color.ordinal() * Kind.values().length + kind.ordinal());
+  }
+
+  /** Returns the key of a single piece of the given color and kind. */
+  private static long unit(Piece.Color color, Kind kind) {
+    return 1L << shift(color, kind);
+  }
+
+  /** Returns the count of a kind of pieces of the given color. */
+  private int count(Piece.Color color, Kind kind) {
+    return (int) ((key >>> shift(color, kind)) & MASK);
+  }
+
+  /** Returns the packed counts, as a key for lookup tables. */
+  public long getKey() {
+    return key;
+  }
+
+  /** Returns the number of pieces of the given type and color. */
+  public int count(Piece.Type type, Piece.Color color) {
+    switch (type) {
+      case PAWN:
+        return count(color, Kind.PAWN);
+      case KNIGHT:
+        return count(color, Kind.KNIGHT);
+      case BISHOP:
+        return count(color, Kind.LIGHT_BISHOP)
+            + count(color, Kind.DARK_BISHOP);
+      case ROOK:
+        return count(color, Kind.ROOK);
+      case QUEEN:
+        return count(color, Kind.QUEEN);
+      default:
+        return 1;
+    }
+  }
+
+  /** Returns the number of pieces on the board, including the kings. */
+  public int getPieceCount() {
+    int pieces = 2;
+    for (long counts = key; counts != 0; counts >>>= BITS) {
+      pieces += counts & MASK;
+    }
+    return pieces;
+  }
+
+  /** Returns true iff there are at most MAX_COUNT pieces of each kind. */
+  boolean isWithinMaxCounts() {
+    for (long counts = key; counts != 0; counts >>>= BITS) {
+      if ((counts & MASK) > MAX_COUNT) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns true iff neither side has enough material to mate. */
+  public boolean isInsufficientMaterial() {
+    return INSUFFICIENT_MATERIAL.contains(key);
+  }
+
+  /**
+   * Returns true iff the position can be looked up in endgame tablebases of up
+   * to the given number of pieces.
+   */
+  public boolean isTablebaseEligible(int maxPieces) {
+    return getPieceCount() <= maxPieces;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof MaterialSignature &&
+        ((MaterialSignature) other).key == key;
+  }
+
+  @Override
+  public int hashCode() {
+    return (int) (key ^ (key >>> 32));
+  }
+
+  /**
+   * Returns the conventional name of the endgame, such as "KRPvKR": the pieces
+   * of white, and then the pieces of black.
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    for (Piece.Color color : Piece.Color.values()) {
+      if (color == Piece.Color.BLACK) {
+        builder.append('v');
+      }
+      builder.append('K');
+      appendPieces(builder, color, Piece.Type.QUEEN, 'Q');
+      appendPieces(builder, color, Piece.Type.ROOK, 'R');
+      appendPieces(builder, color, Piece.Type.BISHOP, 'B');
+      appendPieces(builder, color, Piece.Type.KNIGHT, 'N');
+      appendPieces(builder, color, Piece.Type.PAWN, 'P');
+    }
+    return builder.toString();
+  }
+
+  /** Appends the letter of a piece type once for each piece of the type. */
+  private void appendPieces(
+      StringBuilder builder, Piece.Color color, Piece.Type type, char letter) {
+    for (int i = count(type, color); i > 0; --i) {
+      builder.append(letter);
+    }
+  }
+}
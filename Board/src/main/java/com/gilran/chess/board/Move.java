@@ -8,47 +8,58 @@ import java.util.Set;
 /**
  * A move on the chess board.
  *
+ * <p>Moves are immutable, so the move templates of the pieces can be shared by
+ * all the positions, on any number of threads. A position resolves a template
+ * into the move as made in the position (e.g. whether it captures, and what a
+ * pawn is promoted to) by deriving a new move with the with-methods.
+ *
  * @author Gil Ran <gilrun@gmail.com>
  */
 public class Move {
   /** The coordinate from which the piece moves. */
-  private Coordinate from;
+  private final Coordinate from;
   /** The coordinate to which the piece moves. */
-  private Coordinate to;
+  private final Coordinate to;
 
   /**
    * The coordinate that would be captured when this move is performed.
    * May be null, in which case, the move is not a capture.
    */
-  private Coordinate capture;
+  private final Coordinate capture;
 
   /**
    * A list of coordinates that must be unoccupied in order to make this move.
    */
-  private Set<Coordinate> unoccupied;
+  private final Set<Coordinate> unoccupied;
 
   /**
    * A list of coordinates that must be unthreatened in order to make this move.
    */
-  private Set<Coordinate> unthreatened;
+  private final Set<Coordinate> unthreatened;
 
   /** Is the move only legal as a capture? */
-  private boolean captureOnly;
+  private final boolean captureOnly;
 
   /** Castling side of the move (null if this is not a castling move). */
-  private CastlingRights.Side castlingSide;
+  private final CastlingRights.Side castlingSide;
 
   /**
    * The en passant target created by this move.
    * May be null, in which case the move does not create an en passant target.
    */
-  private Coordinate enPassantTarget;
+  private final Coordinate enPassantTarget;
 
   /**
    * The piece to which a paw wass promoted in the move.
    * May be null, in which case the move was not a pawn promotion.
    */
-  private Piece.Type promotionPiece;
+  private final Piece.Type promotionPiece;
+
+  /**
+   * This move without a capture (null if the move is not a capture). Kept so
+   * resolving a quiet move does not create a new move.
+   */
+  private final Move withoutCapture;
 
   /** Constructor. */
   public Move(Coordinate from, Coordinate to) {
@@ -136,6 +147,44 @@ public class Move {
     this.castlingSide = castlingSide;
     this.enPassantTarget = enPassantTarget;
     this.promotionPiece = null;
+    this.withoutCapture =
+        capture == null ? null : new Move(this, null, null);
+  }
+
+  /** Copy constructor, with the given capture and promotion piece. */
+  private Move(Move other, Coordinate capture, Piece.Type promotionPiece) {
+    this.from = other.from;
+    this.to = other.to;
+    this.capture = capture;
+    this.unoccupied = other.unoccupied;
+    this.unthreatened = other.unthreatened;
+    this.captureOnly = other.captureOnly;
+    this.castlingSide = other.castlingSide;
+    this.enPassantTarget = other.enPassantTarget;
+    this.promotionPiece = promotionPiece;
+    this.withoutCapture = null;
+  }
+
+  /**
+   * Returns this move with the given captured coordinate (null if the move does
+   * not capture).
+   */
+  public Move withCapture(Coordinate capture) {
+    if (capture == this.capture) {
+      return this;
+    }
+    if (capture == null && withoutCapture != null) {
+      return withoutCapture;
+    }
+    return new Move(this, capture, promotionPiece);
+  }
+
+  /** Returns this move with the given promotion piece. */
+  public Move withPromotionPiece(Piece.Type promotionPiece) {
+    if (promotionPiece == this.promotionPiece) {
+      return this;
+    }
+    return new Move(this, capture, promotionPiece);
   }
 
   @Override
@@ -181,41 +230,12 @@ public class Move {
   }
 
   public Coordinate getFrom() { return from; }
-  public void setFrom(Coordinate coordinate) { from = coordinate; }
-
   public Coordinate getTo() { return to; }
-  public void setTo(Coordinate coordinate) { to = coordinate; }
-
   public Coordinate getCapture() { return capture; }
-  public void setCapture(Coordinate coordinate) { capture = coordinate; }
-
   public Set<Coordinate> getUnoccupied() { return unoccupied; }
-  public void setUnoccupied(Set<Coordinate> unoccupied) {
-    this.unoccupied = ImmutableSortedSet.copyOf(unoccupied);
-  }
-
   public Set<Coordinate> getUnthreatened() { return unthreatened; }
-  public void setUnthreatened(Set<Coordinate> unthreatened) {
-    this.unthreatened = ImmutableSortedSet.copyOf(unthreatened);
-  }
-
   public boolean isCaptureOnly() { return captureOnly; }
-  public void setCaptureOnly(boolean captureOnly) {
-    this.captureOnly = captureOnly;
-  }
-
   public CastlingRights.Side getCastlingSide() { return castlingSide; }
-  public void setCastlingSide(CastlingRights.Side side) {
-    this.castlingSide = side;
-  }
-
   public Coordinate getEnPassantTarget() { return enPassantTarget; }
-  public void setEnPassantTarget(Coordinate target) {
-    this.enPassantTarget = target;
-  }
-
   public Piece.Type getPromotionPiece() { return promotionPiece; }
-  public void setPromotionPiece(Piece.Type promotionPiece) {
-    this.promotionPiece = promotionPiece;
-  }
 }
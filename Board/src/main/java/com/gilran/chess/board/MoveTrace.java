@@ -0,0 +1,119 @@
+package com.gilran.chess.board;
+
+import java.util.Arrays;
+
+/**
+ * The cost breakdown of a single Position.move call.
+ *
+ * <p>A trace is filled by the position while the move is made, and is read
+ * only after it is published by the MoveTracer.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public final class MoveTrace {
+  /** The phases of a move, in the order they run. */
+  public enum Phase {
+    /** Making the move on the board and updating the position's state. */
+    APPLY,
+    /** Creating the candidate moves of all the pieces. */
+    CANDIDATE_MOVES,
+    /** Removing castling moves through threatened squares. */
+    REMOVE_THREATENED,
+    /** Removing moves that leave the king in check. */
+    REMOVE_CHECKED,
+    /** Updating the status, including the threefold repetition test. */
+    STATUS
+  }
+
+  /** The FEN of the position before the move. */
+  private final String position;
+  /** The move, as from-square and to-square (e.g. "e2e4"). */
+  private final String move;
+  /** The time the move started (as in System.currentTimeMillis). */
+  private final long timeMillis;
+  /** The duration of each phase, in nanoseconds. */
+  private final long[] phaseNanos;
+  /** The bytes allocated in each phase (-1 if not measured). */
+  private final long[] phaseBytes;
+  /** The time the current phase started (as in System.nanoTime). */
+  private long phaseStartNanos;
+  /** The allocated bytes when the current phase started. */
+  private long phaseStartBytes;
+
+  /** Constructor. Starts the first phase. */
+  MoveTrace(String position, String move) {
+    this.position = position;
+    this.move = move;
+    this.timeMillis = System.currentTimeMillis();
+    this.phaseNanos = new long[Phase.values().length];
+    this.phaseBytes = new long[Phase.values().length];
+    Arrays.fill(phaseBytes, -1);
+    this.phaseStartBytes = AllocationCounter.allocatedBytes();
+    this.phaseStartNanos = System.nanoTime();
+  }
+
+  /** Ends a phase, and starts the next one. */
+  void endPhase(Phase phase) {
+    long now = System.nanoTime();
+    long bytes = AllocationCounter.allocatedBytes();
+    phaseNanos[phase.ordinal()] += now - phaseStartNanos;
+    if (bytes >= 0 && phaseStartBytes >= 0) {
+      phaseBytes[phase.ordinal()] =
+          Math.max(phaseBytes[phase.ordinal()], 0) + bytes - phaseStartBytes;
+    }
+    phaseStartBytes = bytes;
+    // Do not count the time it took to read the allocated bytes.
+    phaseStartNanos = System.nanoTime();
+  }
+
+  /** Returns the FEN of the position before the move. */
+  public String getPosition() { return position; }
+  /** Returns the move, as from-square and to-square (e.g. "e2e4"). */
+  public String getMove() { return move; }
+  /** Returns the time the move started (as in System.currentTimeMillis). */
+  public long getTimeMillis() { return timeMillis; }
+
+  /** Returns the duration of a phase, in nanoseconds. */
+  public long getNanos(Phase phase) {
+    return phaseNanos[phase.ordinal()];
+  }
+
+  /** Returns the bytes allocated in a phase, or -1 if not measured. */
+  public long getBytes(Phase phase) {
+    return phaseBytes[phase.ordinal()];
+  }
+
+  /** Returns the total duration of the move, in nanoseconds. */
+  public long getTotalNanos() {
+    long total = 0;
+    for (long nanos : phaseNanos) {
+      total += nanos;
+    }
+    return total;
+  }
+
+  /** Returns the total bytes allocated in the move, or -1 if not measured. */
+  public long getTotalBytes() {
+    long total = 0;
+    for (long bytes : phaseBytes) {
+      if (bytes < 0) {
+        return -1;
+      }
+      total += bytes;
+    }
+    return total;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(move).append(" total=").append(getTotalNanos() / 1000)
+        .append("us/").append(getTotalBytes()).append('B');
+    for (Phase phase : Phase.values()) {
+      builder.append(' ').append(phase.name().toLowerCase()).append('=')
+          .append(getNanos(phase) / 1000).append("us/")
+          .append(getBytes(phase)).append('B');
+    }
+    return builder.append(" fen=\"").append(position).append('"').toString();
+  }
+}
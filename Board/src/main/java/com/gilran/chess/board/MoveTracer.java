@@ -0,0 +1,126 @@
+package com.gilran.chess.board;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Samples the cost breakdown of Position.move calls.
+ *
+ * <p>One of every sampleEvery moves is traced: the duration and the allocated
+ * bytes of each phase of the move are recorded, together with the position
+ * before the move, so slow positions can be found and reproduced. Traces that
+ * took less than minNanos are dropped, and the rest are kept in a fixed-size
+ * ring buffer, overwriting the oldest traces.
+ * <p>Tracing is off by default. When it is off, a move only pays for a single
+ * volatile read. The initial settings are taken from the system properties
+ * chess.trace.sampleEvery (0 to turn tracing off), chess.trace.minMicros and
+ * chess.trace.bufferSize.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public final class MoveTracer {
+  /** The ring buffer of the traces. */
+  private static final AtomicReferenceArray<MoveTrace> TRACES =
+      new AtomicReferenceArray<MoveTrace>(
+          Integer.getInteger("chess.trace.bufferSize", 1024));
+  /** The number of traces ever written to the ring buffer. */
+  private static final AtomicLong WRITTEN = new AtomicLong();
+  /** The number of moves made while tracing was on. */
+  private static final AtomicLong MOVES = new AtomicLong();
+
+  /** Trace one of every sampleEvery moves (0 if tracing is off). */
+  private static volatile int sampleEvery =
+      Integer.getInteger("chess.trace.sampleEvery", 0);
+  /** The minimal duration of a kept trace, in nanoseconds. */
+  private static volatile long minNanos =
+      Long.getLong("chess.trace.minMicros", 0) * 1000;
+
+  /** Not instantiable. */
+  private MoveTracer() {}
+
+  /**
+   * Sets the sampling rate.
+   *
+   * @param every Trace one of every given number of moves (0 to turn tracing
+   *     off).
+   */
+  public static void setSampleEvery(int every) {
+    Preconditions.checkArgument(every >= 0);
+    sampleEvery = every;
+  }
+
+  /** Returns the sampling rate (0 if tracing is off). */
+  public static int getSampleEvery() {
+    return sampleEvery;
+  }
+
+  /** Sets the minimal duration of a kept trace, in microseconds. */
+  public static void setMinMicros(long micros) {
+    Preconditions.checkArgument(micros >= 0);
+    minNanos = micros * 1000;
+  }
+
+  /**
+   * Returns the kept traces.
+   *
+   * @param slowestFirst If true, the traces are sorted by their total
+   *     duration, slowest first. Otherwise they are ordered oldest first.
+   */
+  public static List<MoveTrace> dump(boolean slowestFirst) {
+    List<MoveTrace> traces = Lists.newArrayList();
+    long end = WRITTEN.get();
+    long start = Math.max(end - TRACES.length(), 0);
+    for (long i = start; i < end; ++i) {
+      MoveTrace trace = TRACES.get((int) (i % TRACES.length()));
+      if (trace != null) {
+        traces.add(trace);
+      }
+    }
+    if (slowestFirst) {
+      Collections.sort(traces, new Comparator<MoveTrace>() {
+        @Override
+        public int compare(MoveTrace trace1, MoveTrace trace2) {
+          return Long.compare(trace2.getTotalNanos(), trace1.getTotalNanos());
+        }
+      });
+    }
+    return traces;
+  }
+
+  /** Removes all the kept traces. */
+  public static void clear() {
+    for (int i = 0; i < TRACES.length(); ++i) {
+      TRACES.set(i, null);
+    }
+  }
+
+  /**
+   * Starts tracing a move, if it is sampled.
+   *
+   * @return The trace of the move, or null if the move is not traced.
+   */
+  static MoveTrace start(Position position, Coordinate from, Coordinate to) {
+    int every = sampleEvery;
+    if (every == 0 || MOVES.incrementAndGet() % every != 0) {
+      return null;
+    }
+    return new MoveTrace(
+        new ForsythEdwardsNotation(position).toString(),
+        from.toString() + to.toString());
+  }
+
+  /** Keeps the trace of a move that ended, unless it is too fast. */
+  static void finish(MoveTrace trace) {
+    if (trace.getTotalNanos() < minNanos) {
+      return;
+    }
+    long index = WRITTEN.getAndIncrement();
+    TRACES.set((int) (index % TRACES.length()), trace);
+  }
+}
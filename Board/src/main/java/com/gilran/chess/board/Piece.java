@@ -40,6 +40,10 @@ public abstract class Piece {
    * than to perform for each move an action that is O(P*N), with P being the
    * number of pieces on the board and P being the length of one edge of the
    * board.
+   * <p>The moves are immutable templates, shared by all the positions. The map
+   * is built eagerly when the piece is constructed, and the pieces are only
+   * published through the static PIECES map, so reading it from any thread is
+   * safe without synchronization.
    */
   protected ImmutableMap<Coordinate, ImmutableList<Move>> movesMap;
 
@@ -124,9 +128,6 @@ public abstract class Piece {
    * @return A list of all possible moves from the give coordinate.
    */
   public List<Move> moves(Coordinate from) {
-    if (movesMap == null) {
-      initMovesMap();
-    }
     return movesMap.get(from);
   }
 
@@ -176,9 +177,7 @@ public abstract class Piece {
     Coordinate to = from.add(files, ranks);
     List<Coordinate> unoccupied = Lists.newArrayList();
     while (to != null) {
-      Move move = new Move(from, to);
-      move.setUnoccupied(Sets.newHashSet(unoccupied));
-      listBuilder.add(move);
+      listBuilder.add(new Move(from, to, Sets.newHashSet(unoccupied)));
       unoccupied.add(to);
       to = to.add(files, ranks);
     }
@@ -186,13 +185,14 @@ public abstract class Piece {
 
   /** A chess pawn. */
   private static class Pawn extends Piece {
-    private static Map<Color, Integer> startingRank = ImmutableMap.of(
+    private static final Map<Color, Integer> startingRank = ImmutableMap.of(
         Color.WHITE, Coordinate.FIRST_RANK + 1,
         Color.BLACK, Coordinate.LAST_RANK - 1);
 
     /** Constructor. */
     public Pawn(Color color) {
       super(Type.PAWN, color);
+      initMovesMap();
     }
 
     @Override
@@ -232,9 +232,13 @@ public abstract class Piece {
       for (int filesToAdd : ImmutableList.of(-1, 1)) {
         Coordinate to = from.add(filesToAdd, direction);
         if (to != null) {
-          Move capture = new Move(from, to);
-          capture.setCaptureOnly(true);
-          listBuilder.add(capture);
+          listBuilder.add(new Move(
+                from,
+                to,
+                to /* capture */,
+                null /* unoccupied */,
+                true /* captureOnly */,
+                null /* enPassantTarget */));
         }
       }
 
@@ -247,6 +251,7 @@ public abstract class Piece {
     /** Constructor. */
     public Rook(Color color) {
       super(Type.ROOK, color);
+      initMovesMap();
     }
 
     @Override
@@ -267,6 +272,7 @@ public abstract class Piece {
     /** Constructor. */
     public Knight(Color color) {
       super(Type.KNIGHT, color);
+      initMovesMap();
     }
 
     @Override
@@ -291,6 +297,7 @@ public abstract class Piece {
     /** Constructor. */
     public Bishop(Color color) {
       super(Type.BISHOP, color);
+      initMovesMap();
     }
 
     @Override
@@ -311,6 +318,7 @@ public abstract class Piece {
     /** Constructor. */
     public Queen(Color color) {
       super(Type.QUEEN, color);
+      initMovesMap();
     }
 
     @Override
@@ -335,6 +343,7 @@ public abstract class Piece {
     /** Constructor. */
     public King(Color color) {
       super(Type.KING, color);
+      initMovesMap();
     }
 
     @Override
@@ -364,22 +373,22 @@ public abstract class Piece {
         // Castling queen side.
         Coordinate to = from.add(-2, 0);
         Coordinate middle = from.add(-1, 0);
-        Move queenSideCastle = new Move(from, to);
-        queenSideCastle.setCapture(null);
-        queenSideCastle.setUnoccupied(Sets.newHashSet(middle, to));
-        queenSideCastle.setUnthreatened(Sets.newHashSet(from, middle));
-        queenSideCastle.setCastlingSide(CastlingRights.Side.QUEEN);
-        listBuilder.add(queenSideCastle);
+        listBuilder.add(new Move(
+              from,
+              to,
+              ImmutableSet.of(middle, to, to.add(-1, 0)) /* unoccupied */,
+              ImmutableSet.of(from, middle) /* unthreatened */,
+              CastlingRights.Side.QUEEN));
 
         // Castling king side.
         to = from.add(2, 0);
         middle = from.add(1, 0);
-        Move kingSideCastle = new Move(from, to);
-        kingSideCastle.setCapture(null);
-        kingSideCastle.setUnoccupied(ImmutableSet.of(middle, to));
-        kingSideCastle.setUnthreatened(Sets.newHashSet(from, middle));
-        kingSideCastle.setCastlingSide(CastlingRights.Side.KING);
-        listBuilder.add(kingSideCastle);
+        listBuilder.add(new Move(
+              from,
+              to,
+              ImmutableSet.of(middle, to) /* unoccupied */,
+              ImmutableSet.of(from, middle) /* unthreatened */,
+              CastlingRights.Side.KING));
       }
 
       return listBuilder.build();
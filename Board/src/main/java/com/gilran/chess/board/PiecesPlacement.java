@@ -1,27 +1,49 @@
 package com.gilran.chess.board;
 
-import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
-
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
+import java.util.NoSuchElementException;
+import java.util.Random;
 
 /**
  * The placement of pieces on the board.
  *
+ * <p>The placement is kept as an array of the pieces by the square index of
+ * their coordinates, so a copy of the placement is a single array copy. The
+ * material signature and the hash of the placement are kept incrementally as
+ * pieces are added and removed.
+ *
  * @author Gil Ran <gilrun@gmail.com>
  */
 public class PiecesPlacement
     implements Iterable<PiecesPlacement.PlacementEntry> {
-  /** A map from a coordinate to the piece that occupies it. */
-  private Map<Coordinate, Piece> coordinateToPiece;
-
   /**
-   * A map from a piece to the coordinates that are occupied by that piece.
+   * The random keys of a piece on a square, by piece index and square index.
+   * The hash of a placement is the XOR of the keys of its pieces (Zobrist
+   * hashing). The seed is fixed, so the hashes are the same in all processes.
    */
-  private Map<Piece, Set<Coordinate>> pieceToCoordinates;
+  private static final long[][] PIECE_SQUARE_KEYS;
+  static {
+    Random random = new Random(0x5eed);
+    long[][] tmpKeys =
+        new long[Piece.Type.values().length * Piece.Color.values().length]
+                [Coordinate.SQUARES];
+    for (long[] pieceKeys : tmpKeys) {
+      for (int i = 0; i < pieceKeys.length; ++i) {
+        pieceKeys[i] = random.nextLong();
+      }
+    }
+    PIECE_SQUARE_KEYS = tmpKeys;
+  }
+
+  /** The pieces, by the square index of their coordinates. */
+  private final Piece[] squares;
+
+  /** The key of the material signature, kept as pieces are added or removed. */
+  private long materialKey;
+
+  /** The hash of the placement, kept as pieces are added or removed. */
+  private long hash;
 
   /** A single piece placement in the position. */
   public static class PlacementEntry {
@@ -45,22 +67,38 @@ public class PiecesPlacement
   /** An iterator over the PiecesPlacement. */
   public static class PlacementEntryIterator
       implements Iterator<PlacementEntry> {
-    private Iterator<Entry<Coordinate, Piece>> internalIterator;
+    private final Piece[] squares;
+    /** The square index of the next piece (SQUARES if there isn't one). */
+    private int next;
 
     /** Constractor. */
     public PlacementEntryIterator(PiecesPlacement piecePlacement) {
-      internalIterator = piecePlacement.coordinateToPiece.entrySet().iterator();
+      squares = piecePlacement.squares;
+      next = advance(0);
+    }
+
+    /** Returns the index of the first occupied square from the given index. */
+    private int advance(int index) {
+      while (index < squares.length && squares[index] == null) {
+        ++index;
+      }
+      return index;
     }
 
     @Override
     public boolean hasNext() {
-      return internalIterator.hasNext();
+      return next < squares.length;
     }
 
     @Override
     public PlacementEntry next() {
-      Entry<Coordinate, Piece> entry = internalIterator.next();
-      return new PlacementEntry(entry.getValue(), entry.getKey());
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      PlacementEntry entry =
+          new PlacementEntry(squares[next], Coordinate.getByIndex(next));
+      next = advance(next + 1);
+      return entry;
     }
 
     @Override
@@ -73,14 +111,14 @@ public class PiecesPlacement
 
   /** Creates a piece placement with no pieces. */
   public PiecesPlacement() {
-    coordinateToPiece = Maps.newHashMap();
-    pieceToCoordinates = Maps.newHashMap();
+    squares = new Piece[Coordinate.SQUARES];
   }
 
   /** Copy constructor. */
   public PiecesPlacement(PiecesPlacement other) {
-    coordinateToPiece = Maps.newHashMap(other.coordinateToPiece);
-    pieceToCoordinates = Maps.newHashMap(other.pieceToCoordinates);
+    squares = other.squares.clone();
+    materialKey = other.materialKey;
+    hash = other.hash;
   }
 
   /** Returns an iterator. */
@@ -93,7 +131,7 @@ public class PiecesPlacement
    * not occupied.
    */
   public Piece at(Coordinate coordinate) {
-    return coordinateToPiece.get(coordinate);
+    return squares[coordinate.getIndex()];
   }
 
   /** Returns true iff the given coordinate is occupied. */
@@ -114,22 +152,38 @@ public class PiecesPlacement
     return false;
   }
 
+  /** Returns the material signature of the placement. */
+  public MaterialSignature getMaterialSignature() {
+    return new MaterialSignature(materialKey);
+  }
+
+  /**
+   * Returns the hash of the placement. Equal placements have equal hashes, in
+   * all processes.
+   */
+  public long getHash() {
+    return hash;
+  }
+
+  /** Returns true iff the given placement has the same pieces everywhere. */
+  public boolean isSamePlacement(PiecesPlacement other) {
+    return hash == other.hash && Arrays.equals(squares, other.squares);
+  }
+
   /** Adds the given piece at the given coordinate. */
   public void add(Piece piece, Coordinate coordinate) {
     assert !isOccupied(coordinate);
-    coordinateToPiece.put(coordinate, piece);
-    Set<Coordinate> pieceCoordinates = pieceToCoordinates.get(piece);
-    if (pieceCoordinates == null) {
-      pieceCoordinates = Sets.newHashSet();
-      pieceToCoordinates.put(piece, pieceCoordinates);
-    }
-    pieceCoordinates.add(coordinate);
+    squares[coordinate.getIndex()] = piece;
+    materialKey += MaterialSignature.delta(piece, coordinate);
+    hash ^= key(piece, coordinate);
   }
 
   /** Removes the given pieces from the given coordinate and returns it. */
   public Piece remove(Coordinate coordinate) {
-    Piece piece = coordinateToPiece.remove(coordinate);
-    pieceToCoordinates.get(piece).remove(coordinate);
+    Piece piece = squares[coordinate.getIndex()];
+    squares[coordinate.getIndex()] = null;
+    materialKey -= MaterialSignature.delta(piece, coordinate);
+    hash ^= key(piece, coordinate);
     return piece;
   }
 
@@ -137,5 +191,11 @@ public class PiecesPlacement
   public void move(Coordinate from, Coordinate to) {
     add(remove(from), to);
   }
-}
 
+  /** Returns the hash key of the given piece on the given coordinate. */
+  private static long key(Piece piece, Coordinate coordinate) {
+    return PIECE_SQUARE_KEYS[
+        piece.getType().ordinal() * Piece.Color.values().length
+            + piece.getColor().ordinal()][coordinate.getIndex()];
+  }
+}
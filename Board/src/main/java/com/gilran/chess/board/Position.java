@@ -6,8 +6,11 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Queues;
+import com.google.common.primitives.UnsignedLongs;
 
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -51,18 +54,21 @@ public class Position extends PositionBase {
    */
   private Map<Piece.Color, Map<Coordinate, Map<Coordinate, Move>>> legalMoves;
 
-  /** The piece to which pawns are promoted for each side. */
-  private Map<Piece.Color, Piece.Type> promotionPieceType;
+  /** The piece to which pawns are promoted for each side (queen by default). */
+  private Map<Piece.Color, Piece.Type> promotionPieceType =
+      Maps.newEnumMap(ImmutableMap.of(
+          Piece.Color.WHITE, Piece.Type.QUEEN,
+          Piece.Color.BLACK, Piece.Type.QUEEN));
 
   /**
    * A map of previous game positions.
-   * <p>The map is from the FEN representation of the position to the number of
-   * times it was seen.
+   * <p>The map is from the hash of the position (see getPositionHash) to the
+   * number of times it was seen, so counting a position costs no FEN string.
    * <p>The map is used to test for threefold repetition, thus every time a
    * piece is captured it may be cleaned, as all previous positions will not be
    * seen again.
    */
-  private Map<String, Integer> previousPositions;
+  private Map<Long, Integer> previousPositions;
 
   /** The game's status. */
   private GameStatus status;
@@ -73,6 +79,67 @@ public class Position extends PositionBase {
    */
   private Piece.Color outstandingDrawOffer;
 
+  /**
+   * Whether the last status update counted the position for threefold
+   * repetition.
+   */
+  private boolean positionCounted;
+
+  /** What is needed to take back a move: the position before the move. */
+  private static class UndoRecord {
+    /** The moves performed (two in castling). */
+    final List<Move> moves;
+    /** The piece captured by the moves (null if none). */
+    final Piece capturedPiece;
+    /** The packed state before the moves. */
+    final long state;
+    /**
+     * The legal moves before the moves. A legal moves map is never modified
+     * once it is generated, so it is shared.
+     */
+    final Map<Piece.Color, Map<Coordinate, Map<Coordinate, Move>>> legalMoves;
+    /** The status before the moves. */
+    final GameStatus status;
+    /** The draw offer before the moves. */
+    final Piece.Color outstandingDrawOffer;
+    /** Whether the position after the moves was counted for repetition. */
+    boolean positionCounted;
+
+    /** Constructor. */
+    UndoRecord(
+        List<Move> moves,
+        Piece capturedPiece,
+        long state,
+        Map<Piece.Color, Map<Coordinate, Map<Coordinate, Move>>> legalMoves,
+        GameStatus status,
+        Piece.Color outstandingDrawOffer) {
+      this.moves = moves;
+      this.capturedPiece = capturedPiece;
+      this.state = state;
+      this.legalMoves = legalMoves;
+      this.status = status;
+      this.outstandingDrawOffer = outstandingDrawOffer;
+    }
+  }
+
+  /**
+   * The default maximal number of moves that can be taken back: a takeback
+   * request takes back at most two plies.
+   */
+  public static final int DEFAULT_MAX_UNDO_DEPTH = 2;
+
+  /**
+   * The maximal number of undo records. When a move is made with the maximal
+   * number of records, the record of the oldest move is dropped.
+   */
+  private final int maxUndoDepth;
+  /**
+   * The undo records of the moves made in this position, the last move first.
+   * <p>A copy of a position starts with no records, so the moves that were made
+   * before the copy cannot be taken back in the copy.
+   */
+  private final Deque<UndoRecord> undoRecords = Queues.newArrayDeque();
+
   /** Constructs a board with the starting position of a standard chess game. */
   public Position() {
     this(ForsythEdwardsNotation.STARTING_POSITION);
@@ -80,14 +147,74 @@ public class Position extends PositionBase {
 
   /** Constructs a board with a the position of the given PositionBase. */
   public Position(PositionBase other) {
+    this(other, DEFAULT_MAX_UNDO_DEPTH);
+  }
+
+  /**
+   * Constructs a board with a the position of the given PositionBase.
+   *
+   * @param other The position.
+   * @param maxUndoDepth The maximal number of moves that can be taken back
+   *     (0 for positions whose moves are never taken back).
+   */
+  public Position(PositionBase other, int maxUndoDepth) {
     super(other);
+    Preconditions.checkArgument(maxUndoDepth >= 0);
+    this.maxUndoDepth = maxUndoDepth;
     previousPositions = Maps.newHashMap();
     updateLegalMoves();
     updateStatus();
   }
 
+  /**
+   * Restores a position from a previously saved state.
+   * <p>Unlike the PositionBase constructor, the given position is not counted
+   * again for threefold repetition, as it is already part of the given
+   * repetition history.
+   *
+   * @param other The position to restore.
+   * @param previousPositions The repetition history, as returned by
+   *     getRepetitionHistory. Position identifiers of older versions (FEN
+   *     strings without the clocks) are accepted as well.
+   * @param status The game status at the time the state was saved.
+   */
+  public Position(
+      PositionBase other,
+      Map<String, Integer> previousPositions,
+      GameStatus status) {
+    this(other, previousPositions, status, DEFAULT_MAX_UNDO_DEPTH);
+  }
+
+  /**
+   * Restores a position from a previously saved state, like the previous
+   * constructor.
+   *
+   * @param maxUndoDepth The maximal number of moves that can be taken back
+   *     (0 for positions whose moves are never taken back).
+   */
+  public Position(
+      PositionBase other,
+      Map<String, Integer> previousPositions,
+      GameStatus status,
+      int maxUndoDepth) {
+    super(other);
+    Preconditions.checkArgument(maxUndoDepth >= 0);
+    this.maxUndoDepth = maxUndoDepth;
+    this.previousPositions = Maps.newHashMap();
+    for (Map.Entry<String, Integer> entry : previousPositions.entrySet()) {
+      Long hash = parsePositionId(entry.getKey());
+      if (hash != null) {
+        Integer count = this.previousPositions.get(hash);
+        this.previousPositions.put(
+            hash, (count == null ? 0 : count) + entry.getValue());
+      }
+    }
+    this.status = Preconditions.checkNotNull(status);
+    updateLegalMoves();
+  }
+
   public Set<Coordinate> getLegalMoves(Coordinate from) {
-    Piece piece = getPiecesPlacement().at(from);
+    Piece piece = at(from);
     if (piece == null) {
       return Collections.emptySet();
     }
@@ -95,7 +222,7 @@ public class Position extends PositionBase {
     if (movesMap == null) {
       return Collections.emptySet();
     }
-    return movesMap.keySet();
+    return Collections.unmodifiableSet(movesMap.keySet());
   }
 
   /** Returns the piece type to which pawns are promoted for the given side. */
@@ -125,6 +252,8 @@ public class Position extends PositionBase {
     switch (status) {
       case BLACK_RESIGNED:
       case WHITE_RESIGNED:
+      case BLACK_CLOCK_EXPIRED:
+      case WHITE_CLOCK_EXPIRED:
       case DRAW_BY_AGREEMENT:
         this.status = status;
         return true;
@@ -133,6 +262,37 @@ public class Position extends PositionBase {
     }
   }
 
+  /**
+   * Returns a copy of the repetition history of the position.
+   * <p>The map is from the position identifier (the position hash, in hex) to
+   * the number of times it was seen. It can be used to restore the position
+   * later on.
+   */
+  public Map<String, Integer> getRepetitionHistory() {
+    ImmutableMap.Builder<String, Integer> builder = ImmutableMap.builder();
+    for (Map.Entry<Long, Integer> entry : previousPositions.entrySet()) {
+      builder.put(Long.toHexString(entry.getKey()), entry.getValue());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns the hash of a position identifier of the repetition history, or
+   * null if it is not valid.
+   */
+  private static Long parsePositionId(String positionId) {
+    try {
+      if (positionId.indexOf('/') < 0) {
+        return UnsignedLongs.parseUnsignedLong(positionId, 16);
+      }
+      // A FEN string without the clocks, of older versions.
+      return new ForsythEdwardsNotation(positionId + " 0 1").getPositionHash();
+    } catch (IllegalArgumentException |
+             ForsythEdwardsNotation.InvalidFENStringException e) {
+      return null;
+    }
+  }
+
   /** Returns the player who offered draw, or null if there is no draw offer. */
   public Piece.Color getOutstandingDrawOffer() {
     return outstandingDrawOffer;
@@ -150,23 +310,63 @@ public class Position extends PositionBase {
   private void revert(List<Move> moves, Piece capturedPiece) {
     for (Move move : moves) {
       Piece piece = at(move.getTo());
-      piecesPlacement.move(move.getTo(), move.getFrom());
+      if (move.getPromotionPiece() != null) {
+        piecesPlacement.remove(move.getTo());
+        piecesPlacement.add(
+            Piece.get(Piece.Type.PAWN, piece.getColor()), move.getFrom());
+      } else {
+        piecesPlacement.move(move.getTo(), move.getFrom());
+        if (piece.getType() == Piece.Type.KING) {
+          setKingPosition(piece.getColor(), move.getFrom());
+        }
+      }
       if (move.getCapture() != null) {
         assert capturedPiece != null;
         piecesPlacement.add(capturedPiece, move.getCapture());
       }
+    }
+  }
 
-      if (move.getPromotionPiece() != null) {
-        piecesPlacement.add(
-            Piece.get(Piece.Type.PAWN, piece.getColor()), move.getFrom());
-      } else if (piece.getType() == Piece.Type.KING) {
-        kingPosition.put(piece.getColor(), move.getFrom());
+  /** Returns the number of moves that can be taken back with undo. */
+  public int getUndoDepth() {
+    return undoRecords.size();
+  }
+
+  /**
+   * Takes back the last move made in the position.
+   * <p>The position before the move is restored from the move's undo record in
+   * constant time, without generating legal moves: the placement, the state,
+   * the legal moves, the status, the draw offer and the repetition history.
+   *
+   * @return The moves that were taken back (two in castling), or an empty list
+   *     if there is no move to take back.
+   */
+  public List<Move> undo() {
+    UndoRecord record = undoRecords.poll();
+    if (record == null) {
+      return ImmutableList.of();
+    }
+    if (record.positionCounted) {
+      long hash = getPositionHash();
+      int count = previousPositions.get(hash);
+      if (count > 1) {
+        previousPositions.put(hash, count - 1);
+      } else {
+        previousPositions.remove(hash);
       }
     }
+    revert(record.moves, record.capturedPiece);
+    setState(record.state);
+    legalMoves = record.legalMoves;
+    status = record.status;
+    outstandingDrawOffer = record.outstandingDrawOffer;
+    return record.moves;
   }
 
   /**
    * Applies moves in the position.
+   * <p>The moves must be resolved in the position, so their captures are
+   * exact. A pawn is only promoted if the move has a promotion piece.
    * <p> Only updates piece locations, without updating any other property of
    * the position. This way, it is possible to easily revert the move, and thus
    * simulate moves in order to test whether the move is illegal due to being
@@ -183,24 +383,17 @@ public class Position extends PositionBase {
       Piece piece = at(move.getFrom());
 
       if (move.getCapture() != null) {
-        if (piecesPlacement.isOccupied(move.getCapture())) {
-          capturedPiece = piecesPlacement.remove(move.getCapture());
-        } else {
-          move.setCapture(null);
-        }
+        capturedPiece = piecesPlacement.remove(move.getCapture());
       }
       piecesPlacement.move(move.getFrom(), move.getTo());
 
-      if (piece.getType() == Piece.Type.PAWN &&
-          (move.getTo().getRank() == Coordinate.FIRST_RANK ||
-           move.getTo().getRank() == Coordinate.LAST_RANK)) {
-        move.setPromotionPiece(promotionPieceType.get(piece.getColor()));
+      if (move.getPromotionPiece() != null) {
         piecesPlacement.remove(move.getTo());
         piecesPlacement.add(
             Piece.get(move.getPromotionPiece(), piece.getColor()),
             move.getTo());
       } else if (piece.getType() == Piece.Type.KING) {
-        kingPosition.put(piece.getColor(), move.getTo());
+        setKingPosition(piece.getColor(), move.getTo());
       }
     }
     return capturedPiece;
@@ -218,43 +411,75 @@ public class Position extends PositionBase {
   public List<Move> move(Coordinate from, Coordinate to) {
     List<Move> moves = Lists.newArrayList();
 
+    Piece.Color activePlayer = getActivePlayer();
     if (!legalMoves.get(activePlayer).containsKey(from) ||
         !legalMoves.get(activePlayer).get(from).containsKey(to)) {
       return moves;
     }
 
+    MoveTrace trace = MoveTracer.start(this, from, to);
     Move theMove = legalMoves.get(activePlayer).get(from).get(to);
-    moves.add(theMove);
-
     Piece piece = at(from);
-    boolean isCapture =
-        theMove.getCapture() != null && at(theMove.getCapture()) != null;
-    if (!isCapture) {
-      theMove.setCapture(null);
+    if (piece.getType() == Piece.Type.PAWN &&
+        (to.getRank() == Coordinate.FIRST_RANK ||
+         to.getRank() == Coordinate.LAST_RANK)) {
+      theMove = theMove.withPromotionPiece(
+          promotionPieceType.get(piece.getColor()));
     }
+    moves.add(theMove);
+    boolean isCapture = theMove.getCapture() != null;
 
     if (theMove.getCastlingSide() != null) {
       moves.add(completeCastle(theMove));
     }
 
-    apply(moves);
+    long previousState = getState();
+    Piece capturedPiece = apply(moves);
+    UndoRecord record = null;
+    if (maxUndoDepth > 0) {
+      record = new UndoRecord(
+          ImmutableList.copyOf(moves),
+          capturedPiece,
+          previousState,
+          legalMoves,
+          status,
+          outstandingDrawOffer);
+      if (undoRecords.size() == maxUndoDepth) {
+        undoRecords.removeLast();
+      }
+      undoRecords.push(record);
+    }
     updateCastlingRights(theMove, piece);
 
-    enPassantTarget = theMove.getEnPassantTarget();
-    activePlayer = Piece.otherColor(activePlayer);
-    if (activePlayer == Piece.Color.WHITE) {
-      currentMove++;
+    setActivePlayer(Piece.otherColor(activePlayer));
+    setEnPassantTarget(theMove.getEnPassantTarget());
+    if (activePlayer == Piece.Color.BLACK) {
+      setCurrentMove(getCurrentMove() + 1);
     }
     if (isCapture || piece.getType() == Piece.Type.PAWN) {
-      halfMovesClock = 0;
+      setHalfMovesClock(0);
     } else {
-      halfMovesClock++;
+      setHalfMovesClock(getHalfMovesClock() + 1);
     }
 
     setOutstandingDrawOffer(null);
-    updateLegalMoves();
-    updateStatus();
+    if (trace == null) {
+      updateLegalMoves();
+      updateStatus();
+      if (record != null) {
+        record.positionCounted = positionCounted;
+      }
+      return moves;
+    }
 
+    trace.endPhase(MoveTrace.Phase.APPLY);
+    updateLegalMoves(trace);
+    updateStatus();
+    if (record != null) {
+      record.positionCounted = positionCounted;
+    }
+    trace.endPhase(MoveTrace.Phase.STATUS);
+    MoveTracer.finish(trace);
     return moves;
   }
 
@@ -272,7 +497,7 @@ public class Position extends PositionBase {
     Coordinate to =
         move.getTo().add(
             move.getCastlingSide() == CastlingRights.Side.KING ? -1 : 1, 0);
-    return new Move(from, to);
+    return new Move(from, to).withCapture(null);
   }
 
   /**
@@ -284,50 +509,96 @@ public class Position extends PositionBase {
   private void updateCastlingRights(Move move, Piece piece) {
     switch (piece.getType()) {
       case KING:
-        castlingRights.revoke(piece.getColor(), CastlingRights.Side.KING);
-        castlingRights.revoke(piece.getColor(), CastlingRights.Side.QUEEN);
+        revokeCastlingRight(piece.getColor(), CastlingRights.Side.KING);
+        revokeCastlingRight(piece.getColor(), CastlingRights.Side.QUEEN);
         break;
       case ROOK:
         Map<CastlingRights.Side, Coordinate> rooks =
             ROOK_INITIAL_POSITION.get(piece.getColor());
         if (move.getFrom() == rooks.get(CastlingRights.Side.KING)) {
-          castlingRights.revoke(piece.getColor(), CastlingRights.Side.KING);
+          revokeCastlingRight(piece.getColor(), CastlingRights.Side.KING);
         } else if (move.getFrom() == rooks.get(CastlingRights.Side.QUEEN)) {
-          castlingRights.revoke(piece.getColor(), CastlingRights.Side.QUEEN);
+          revokeCastlingRight(piece.getColor(), CastlingRights.Side.QUEEN);
         }
         break;
       default:
         break;
     }
+
+    // Capturing a rook on its initial square revokes the castling right of
+    // the rook's side.
+    if (move.getCapture() != null) {
+      Piece.Color otherColor = Piece.otherColor(piece.getColor());
+      for (Map.Entry<CastlingRights.Side, Coordinate> rook :
+           ROOK_INITIAL_POSITION.get(otherColor).entrySet()) {
+        if (move.getCapture() == rook.getValue()) {
+          revokeCastlingRight(otherColor, rook.getKey());
+        }
+      }
+    }
   }
 
-  /** Updates the legal moves map. */
+  /**
+   * Updates the legal moves map.
+   * <p>The moves are taken from the legal moves cache if the position is
+   * cached. Otherwise, they are generated and cached. Either way, the map is
+   * not modified once it is set.
+   */
   private void updateLegalMoves() {
+    legalMoves = LegalMovesCache.get(this);
+    if (legalMoves != null) {
+      return;
+    }
     legalMoves = this.createCandidateMoves();
     removeThreatened(Piece.Color.WHITE);
     removeThreatened(Piece.Color.BLACK);
     removeChecked(Piece.Color.WHITE);
     removeChecked(Piece.Color.BLACK);
+    legalMoves = LegalMovesCache.put(this, legalMoves);
+  }
+
+  /**
+   * Updates the legal moves map, recording each phase in a move trace. For a
+   * cached position, the lookup is recorded as the candidate moves phase.
+   */
+  private void updateLegalMoves(MoveTrace trace) {
+    legalMoves = LegalMovesCache.get(this);
+    if (legalMoves != null) {
+      trace.endPhase(MoveTrace.Phase.CANDIDATE_MOVES);
+      trace.endPhase(MoveTrace.Phase.REMOVE_THREATENED);
+      trace.endPhase(MoveTrace.Phase.REMOVE_CHECKED);
+      return;
+    }
+    legalMoves = this.createCandidateMoves();
+    trace.endPhase(MoveTrace.Phase.CANDIDATE_MOVES);
+    removeThreatened(Piece.Color.WHITE);
+    removeThreatened(Piece.Color.BLACK);
+    trace.endPhase(MoveTrace.Phase.REMOVE_THREATENED);
+    removeChecked(Piece.Color.WHITE);
+    removeChecked(Piece.Color.BLACK);
+    trace.endPhase(MoveTrace.Phase.REMOVE_CHECKED);
+    legalMoves = LegalMovesCache.put(this, legalMoves);
   }
 
   /**
    * Returns true iff the current position was seen for the third time.
    * <p>Updates the previous positions map for use in the next tests for
-   * threefold repetition.
+   * threefold repetition, and records that the position was counted, so the
+   * count can be taken back.
+   * <p>The position is identified by its hash, which covers all but the
+   * half-move clock and the full-move counter, like the FEN string without
+   * them.
    * */
   private boolean isThreefoldRepetition() {
-    ForsythEdwardsNotation fen = new ForsythEdwardsNotation(this);
-    // The position identifier is the FEN string without the half-move clock and
-    // the full-move counter.
-    String positionId = fen.toString().replaceAll(" [^ ]+ [^ ]+$", "");
-
-    Integer numberOfTimesPositionWasSeen = previousPositions.get(positionId);
+    long positionHash = getPositionHash();
+    Integer numberOfTimesPositionWasSeen = previousPositions.get(positionHash);
     if (numberOfTimesPositionWasSeen == null) {
       numberOfTimesPositionWasSeen = 0;
     }
 
     numberOfTimesPositionWasSeen++;
-    previousPositions.put(positionId, numberOfTimesPositionWasSeen);
+    previousPositions.put(positionHash, numberOfTimesPositionWasSeen);
+    positionCounted = true;
     return numberOfTimesPositionWasSeen == 3;
   }
 
@@ -346,100 +617,79 @@ public class Position extends PositionBase {
     for (PiecesPlacement.PlacementEntry entry : piecesPlacement) {
       Coordinate from = entry.getCoordinate();
       Piece piece = entry.getPiece();
-      Map<Coordinate, Map<Coordinate, Move>> sideMoves =
-          moves.get(piece.getColor());
-      List<Move> movesList = Lists.newLinkedList(piece.moves(from));
-      if (removeIllegalMoves(movesList)) {
-        continue;
-      }
-      Map<Coordinate, Move> coordinateMoves = Maps.newHashMap();
-      for (Move move : movesList) {
+      Map<Coordinate, Move> coordinateMoves = null;
+      for (Move candidate : piece.moves(from)) {
+        Move move = resolve(candidate, piece);
+        if (move == null) {
+          continue;
+        }
+        if (coordinateMoves == null) {
+          coordinateMoves = Maps.newHashMap();
+        }
         coordinateMoves.put(move.getTo(), move);
       }
-      sideMoves.put(from, coordinateMoves);
+      if (coordinateMoves != null) {
+        moves.get(piece.getColor()).put(from, coordinateMoves);
+      }
     }
 
     return moves;
   }
 
   /**
-   * Removes the illegal moves from the candidate moves list.
-   *
-   * @param candidates A list of candidate moves.
-   * @return true iff all moves were removed.
-   */
-   private boolean removeIllegalMoves (List<Move> candidates) {
-    Iterator<Move> it = candidates.iterator();
-    while (it.hasNext()) {
-      Move move = it.next();
-      if (!isLegalMove(move)) {
-        it.remove();
-      }
-    }
-    return candidates.size() == 0;
-  }
-
-   /**
-   * Tests if a move is valid.
+   * Resolves a candidate move in the position.
    * <p>Assumes that the move is valid by the piece rules, and only checks the
-   * move against the position.
+   * move against the position. The candidate is a shared template, so it is
+   * never modified: if the move captures a different coordinate than the
+   * template (e.g. a quiet move, or an en passant capture), a new move is
+   * returned.
    * <p>Ignores the active player, as legal moves of both sides may be checked
    * using this method, regardless of who's the active player (in order to test
    * for checks).
    *
-   * @param move A move.
-   * @return false if the given move is legal in this position. May return true
-   *     for illegal moves, as the move is considered a candidate move that the
-   *     piece returned.
+   * @param candidate A candidate move that the piece returned.
+   * @param piece The piece at the from-coordinate of the move.
+   * @return The move as made in this position, with the exact captured
+   *     coordinate, or null if the move is illegal in this position.
    */
-  private boolean isLegalMove(Move move) {
-    Piece piece = at(move.getFrom());
-
-    // No piece at the from-coordinate.
-    if (piece == null) {
-      return false;
-    }
-
-    Piece capturedPiece = at(move.getTo());
-    boolean capture = false;
+  private Move resolve(Move candidate, Piece piece) {
+    Coordinate capture = null;
+    Piece capturedPiece = at(candidate.getTo());
     if (capturedPiece != null) {
       // Trying to capture a piece of the same color.
       if (piece.getColor() == capturedPiece.getColor()) {
-        return false;
+        return null;
       }
-      capture = true;
-      move.setCapture(move.getTo());
+      capture = candidate.getTo();
     }
 
     // The move is only legal as a capture, but there is no piece to capture at
     // the to-squeare.
-    if (move.isCaptureOnly() && !capture) {
-      if (move.getTo().equals(getEnPassantTarget())) {
-        move.setCapture(
-            getEnPassantTarget().add(
-                0, piece.getColor() == Piece.Color.WHITE ? -1 : 1));
-        if (!piecesPlacement.isOccupied(move.getCapture())) {
-          return false;
-        }
-      } else {
-        return false;
+    if (candidate.isCaptureOnly() && capture == null) {
+      if (!candidate.getTo().equals(getEnPassantTarget())) {
+        return null;
+      }
+      capture = getEnPassantTarget().add(
+          0, piece.getColor() == Piece.Color.WHITE ? -1 : 1);
+      if (!piecesPlacement.isOccupied(capture)) {
+        return null;
       }
     }
 
     // If the move is a castle, but the castling right was lost, the move is
     // illegal.
-    if (move.getCastlingSide() != null) {
-      if (!castlingRights.get(piece.getColor(), move.getCastlingSide())) {
-        return false;
+    if (candidate.getCastlingSide() != null) {
+      if (!hasCastlingRight(piece.getColor(), candidate.getCastlingSide())) {
+        return null;
       }
     }
 
     // A square that must be unoccupied for this move to be legal is occupied.
-    if (piecesPlacement.anyOccupied(move.getUnoccupied())) {
-      return false;
+    if (piecesPlacement.anyOccupied(candidate.getUnoccupied())) {
+      return null;
     }
 
-    return true;
+    return candidate.withCapture(capture);
   }
 
   /**
@@ -521,7 +771,7 @@ public class Position extends PositionBase {
       Piece.Color color,
       Map<Piece.Color, Map<Coordinate, Map<Coordinate, Move>>> movesMap) {
     return isThreatened(
-        kingPosition.get(color), Piece.otherColor(color), movesMap);
+        getKingPosition(color), Piece.otherColor(color), movesMap);
   };
 
   /**
@@ -557,6 +807,7 @@ public class Position extends PositionBase {
 
   /** Updates the position status (testing for end-game conditions). */
   private void updateStatus() {
+    positionCounted = false;
     boolean check = isChecked(getActivePlayer(), legalMoves);
     boolean hasLegalMoves = !legalMoves.get(getActivePlayer()).isEmpty();
 
@@ -570,7 +821,10 @@ public class Position extends PositionBase {
       return;
     }
 
-    // TODO(gilran): Handle INSUFFICIENT_MATERIAL.
+    if (piecesPlacement.getMaterialSignature().isInsufficientMaterial()) {
+      status = GameStatus.INSUFFICIENT_MATERIAL;
+      return;
+    }
 
     switch (getActivePlayer()) {
       case WHITE:
@@ -1,71 +1,80 @@
 package com.gilran.chess.board;
 
-import com.google.common.collect.Maps;
-
-import java.util.Map;
+import java.util.Random;
 
 /**
  * A base class for chess position and position-like (such as annotations)
  * classes.
  *
+ * <p>The position is kept as a compact value: the pieces placement array, and
+ * a single state word that packs all the other properties of the position
+ * (the active player, the castling rights, the en passant file, the positions
+ * of the kings and the clocks). So copying a position is an array copy, and
+ * the position hash is kept without scanning the board.
+ *
  * @author Gil Ran <gilrun@gmail.com>
  */
 /* package */ class PositionBase {
-  /** The pieces placement. */
-  protected PiecesPlacement piecesPlacement;
-
-  /** The player whos turn it is to make a move. */
-  protected Piece.Color activePlayer;
-
-  /**
-   * The castling rights of each side.
-   * For each side, the inner map will have KING_SIDE and QUEEN_SIDE as keys,
-   * and a boolean indicating if the side is holding the right to castle in that
-   * direction.
-   */
-  protected CastlingRights castlingRights;
+  /** The offset of the active player bit (set for black) in the state. */
+  private static final int ACTIVE_PLAYER_SHIFT = 0;
+  /** The offset of the castling rights mask (see CastlingRights). */
+  private static final int CASTLING_SHIFT = 1;
+  private static final int CASTLING_BITS = 4;
+  /** The offset of the en passant file (1-based, 0 for none). */
+  private static final int EN_PASSANT_SHIFT = 5;
+  private static final int EN_PASSANT_BITS = 4;
+  /** The offsets of the kings' square indices (1-based, 0 for none). */
+  private static final int WHITE_KING_SHIFT = 9;
+  private static final int BLACK_KING_SHIFT = 16;
+  private static final int KING_BITS = 7;
+  /** The offset of the halfmoves clock. */
+  private static final int HALF_MOVES_SHIFT = 23;
+  private static final int HALF_MOVES_BITS = 16;
+  /** The offset of the current move number. */
+  private static final int CURRENT_MOVE_SHIFT = 39;
+  private static final int CURRENT_MOVE_BITS = 25;
+
+  /** The largest halfmoves clock that can be held. */
+  static final int MAX_HALF_MOVES_CLOCK = (1 << HALF_MOVES_BITS) - 1;
+  /** The largest move number that can be held. */
+  static final int MAX_CURRENT_MOVE = (1 << CURRENT_MOVE_BITS) - 1;
 
   /**
-   * The number of halfmoves since the last capture or pawn advance. This is
-   * used to determine if a draw can be claimed under the fifty-move rule.
+   * The number of low bits of the state that identify the position together
+   * with the pieces placement (the active player, the castling rights and the
+   * en passant file), as opposed to the derived king positions and the clocks.
    */
-  protected int halfMovesClock;
-
-  /**
-   * The target square for an en passant capture. If null, the last move was not
-   * a 2 squares pawn advance.
-   */
-  protected Coordinate enPassantTarget;
+  private static final int IDENTITY_BITS = WHITE_KING_SHIFT;
+
+  /** The random hash keys of the identifying state bits. */
+  private static final long[] STATE_KEYS;
+  static {
+    Random random = new Random(0x57a7e);
+    long[] tmpKeys = new long[1 << IDENTITY_BITS];
+    for (int i = 0; i < tmpKeys.length; ++i) {
+      tmpKeys[i] = random.nextLong();
+    }
+    STATE_KEYS = tmpKeys;
+  }
 
-  /**
-   * The number of the current (full) move. A game starts at move 1 (so this is
-   * 1-based).
-   */
-  protected int currentMove;
+  /** The pieces placement. */
+  protected PiecesPlacement piecesPlacement;
 
-  /** The positions of the kings. This is used to test for checks. */
-  protected Map<Piece.Color, Coordinate> kingPosition;
+  /** The packed state of the position. */
+  private long state;
 
   /** Default constructor. */
   protected PositionBase() {
     piecesPlacement = new PiecesPlacement();
-    activePlayer = Piece.Color.WHITE;
-    castlingRights = new CastlingRights();
-    halfMovesClock = 0;
-    enPassantTarget = null;
-    currentMove = 1;
-    kingPosition = null;
+    state = 0;
+    setCastlingRights(CastlingRights.ALL);
+    setCurrentMove(1);
   }
 
   /** Copy constructor. */
   protected PositionBase(PositionBase other) {
     piecesPlacement = other.getPiecesPlacement();
-    activePlayer = other.getActivePlayer();
-    castlingRights = other.getCastlingRights();
-    halfMovesClock = other.getHalfMovesClock();
-    enPassantTarget = other.getEnPassantTarget();
-    currentMove = other.getCurrentMove();
-    kingPosition = other.getKingPosition();
+    state = other.state;
   }
 
   /**
@@ -77,44 +86,166 @@ import java.util.Map;
     return new PiecesPlacement(piecesPlacement);
   }
 
+  /** Returns the material signature of the position. */
+  public MaterialSignature getMaterialSignature() {
+    return piecesPlacement.getMaterialSignature();
+  }
+
+  /**
+   * Returns the hash of the position: of the pieces placement, the active
+   * player, the castling rights and the en passant file, but not the clocks.
+   * The hashes are the same in all processes, so they may be used as keys of
+   * persistent or shared tables.
+   */
+  public long getPositionHash() {
+    return piecesPlacement.getHash() ^
+        STATE_KEYS[(int) (state & ((1 << IDENTITY_BITS) - 1))];
+  }
+
+  /**
+   * Returns true iff the given position is the same as this position, in all
+   * but the clocks. This is the position identity used for repetitions.
+   */
+  public boolean isSamePosition(PositionBase other) {
+    return ((state ^ other.state) & ((1 << IDENTITY_BITS) - 1)) == 0 &&
+        piecesPlacement.isSamePlacement(other.piecesPlacement);
+  }
+
   /** Returns the color whos turn it is to make a move. */
-  public Piece.Color getActivePlayer() { return activePlayer; }
+  public Piece.Color getActivePlayer() {
+    return get(ACTIVE_PLAYER_SHIFT, 1) == 0
+        ? Piece.Color.WHITE : Piece.Color.BLACK;
+  }
+
+  /** Sets the color whos turn it is to make a move. */
+  protected void setActivePlayer(Piece.Color color) {
+    set(ACTIVE_PLAYER_SHIFT, 1, color == Piece.Color.WHITE ? 0 : 1);
+  }
+
+  /** Returns the castling rights mask (see CastlingRights.Castle.getMask). */
+  protected int getCastlingRights() {
+    return (int) get(CASTLING_SHIFT, CASTLING_BITS);
+  }
+
+  /** Sets the castling rights mask (see CastlingRights.Castle.getMask). */
+  protected void setCastlingRights(int mask) {
+    set(CASTLING_SHIFT, CASTLING_BITS, mask);
+  }
 
   /**
-   * Returns a copy of the castling rights.
-   * <p>A copy is returned in order to prevent clients from changing the
-   * position's internal castling rights.
+   * Returns true iff the given color holds the right to castle to the given
+   * side.
    */
-  private CastlingRights getCastlingRights() {
-    return new CastlingRights(castlingRights);
+  protected boolean hasCastlingRight(
+      Piece.Color color, CastlingRights.Side side) {
+    return (getCastlingRights() &
+            CastlingRights.Castle.get(color, side).getMask()) != 0;
+  }
+
+  /** Revokes the right of the given color to castle to the given side. */
+  protected void revokeCastlingRight(
+      Piece.Color color, CastlingRights.Side side) {
+    setCastlingRights(getCastlingRights() &
+                      ~CastlingRights.Castle.get(color, side).getMask());
   }
 
   /** Returns the number of halfmoves since the last capture or pawn advance. */
-  protected int getHalfMovesClock() { return halfMovesClock; }
+  protected int getHalfMovesClock() {
+    return (int) get(HALF_MOVES_SHIFT, HALF_MOVES_BITS);
+  }
+
+  /**
+   * Sets the number of halfmoves since the last capture or pawn advance. This
+   * is used to determine if a draw can be claimed under the fifty-move rule.
+   * The clock stops at MAX_HALF_MOVES_CLOCK.
+   */
+  protected void setHalfMovesClock(int halfMovesClock) {
+    set(HALF_MOVES_SHIFT, HALF_MOVES_BITS,
+        Math.min(halfMovesClock, MAX_HALF_MOVES_CLOCK));
+  }
 
   /**
    * Returns the target square for an en passant capture. If null, the last move
    * was not a 2 squares pawn advance.
    */
-  protected Coordinate getEnPassantTarget() { return enPassantTarget; }
+  protected Coordinate getEnPassantTarget() {
+    int file = (int) get(EN_PASSANT_SHIFT, EN_PASSANT_BITS);
+    if (file == 0) {
+      return null;
+    }
+    // The target is behind the pawn that was just advanced by the other side.
+    return Coordinate.get(
+        file - 1,
+        getActivePlayer() == Piece.Color.WHITE
+            ? Coordinate.LAST_RANK - 2 : Coordinate.FIRST_RANK + 2);
+  }
+
+  /**
+   * Sets the target square for an en passant capture (null if none). Only the
+   * file is kept, as the rank is implied by the active player after the pawn
+   * advance.
+   */
+  protected void setEnPassantTarget(Coordinate target) {
+    set(EN_PASSANT_SHIFT, EN_PASSANT_BITS,
+        target == null ? 0 : target.getFile() + 1);
+  }
 
   /**
    * Returns the number of the current (full) move. A game starts at move 1 (so
    * this is 1-based).
    */
-  protected int getCurrentMove() { return currentMove; }
+  protected int getCurrentMove() {
+    return (int) get(CURRENT_MOVE_SHIFT, CURRENT_MOVE_BITS);
+  }
+
+  /** Sets the number of the current (full) move. */
+  protected void setCurrentMove(int currentMove) {
+    set(CURRENT_MOVE_SHIFT, CURRENT_MOVE_BITS,
+        Math.min(currentMove, MAX_CURRENT_MOVE));
+  }
 
   /**
-   * Returns a copy of the king position map.
-   * <p>A copy is returned in order to prevent clients from changing the
-   * position's internal king position map.
+   * Returns the position of the king of the given color, or null if there is
+   * no such king. This is used to test for checks.
    */
-  private Map<Piece.Color, Coordinate> getKingPosition() {
-    return Maps.newEnumMap(kingPosition);
+  protected Coordinate getKingPosition(Piece.Color color) {
+    int index = (int) get(kingShift(color), KING_BITS);
+    return index == 0 ? null : Coordinate.getByIndex(index - 1);
+  }
+
+  /** Sets the position of the king of the given color. */
+  protected void setKingPosition(Piece.Color color, Coordinate coordinate) {
+    set(kingShift(color), KING_BITS, coordinate.getIndex() + 1);
   }
 
   /** Returns the piece at the given coordinate, or null if there isn't one. */
   protected Piece at(Coordinate coordinate) {
     return piecesPlacement.at(coordinate);
   }
+
+  /** Returns the offset of the king position of the given color. */
+  private static int kingShift(Piece.Color color) {
+    return color == Piece.Color.WHITE ? WHITE_KING_SHIFT : BLACK_KING_SHIFT;
+  }
+
+  /** Returns the packed state of the position, so it can be restored. */
+  protected long getState() {
+    return state;
+  }
+
+  /** Restores a packed state, as returned by getState. */
+  protected void setState(long state) {
+    this.state = state;
+  }
+
+  /** Returns a field of the state. */
+  private long get(int shift, int bits) {
+    return (state >>> shift) & ((1L << bits) - 1);
+  }
+
+  /** Sets a field of the state. The value must fit in the field. */
+  private void set(int shift, int bits, long value) {
+    long mask = ((1L << bits) - 1) << shift;
+    state = (state & ~mask) | ((value << shift) & mask);
+  }
 }
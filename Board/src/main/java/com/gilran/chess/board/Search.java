@@ -0,0 +1,344 @@
+package com.gilran.chess.board;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded best move search.
+ *
+ * <p>The search is a depth limited alpha-beta search of the legal move tree,
+ * evaluating the leaves by material and mobility, for one or more best lines.
+ * The caller deepens the search one depth at a time, and the principal
+ * variation of the last depth is searched first at the next depth, so the
+ * cutoffs of the deeper searches are better. The search is bounded by a budget
+ * of nodes and of time, and is abandoned as soon as the budget runs out, or the
+ * searching thread is interrupted.
+ * <p>Each depth is searched on a single copy of the root position, with the
+ * game's repetition history, making each move and then taking it back using
+ * the position's undo records, so a node costs a single move, and repetitions
+ * of earlier positions of the game are seen. The root position is not
+ * modified. A search instance is used by a single thread.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class Search {
+  /**
+   * The score of a mate in the root position. A mate in N plies is scored as
+   * MATE_SCORE - N for the mating side.
+   */
+  public static final int MATE_SCORE = 100000;
+
+  /** A score that is beyond any real score. */
+  private static final int INFINITY = MATE_SCORE + 1;
+
+  /** The value of the pieces, in centipawns. */
+  private static final Map<Piece.Type, Integer> PIECE_VALUE =
+      ImmutableMap.<Piece.Type, Integer>builder()
+      .put(Piece.Type.PAWN, 100)
+      .put(Piece.Type.KNIGHT, 320)
+      .put(Piece.Type.BISHOP, 330)
+      .put(Piece.Type.ROOK, 500)
+      .put(Piece.Type.QUEEN, 900)
+      .put(Piece.Type.KING, 0)
+      .build();
+
+  /** The value of a legal move, in centipawns. */
+  private static final int MOBILITY_VALUE = 2;
+
+  /** The result of a search to a given depth. */
+  public static class Result {
+    /** The depth of the search. */
+    private final int depth;
+    /** The score, in centipawns, for the active player of the root. */
+    private final int score;
+    /** The principal variation (empty if the root game has ended). */
+    private final ImmutableList<Move> principalVariation;
+    /** The number of nodes searched. */
+    private final long nodes;
+
+    /** Constructor. */
+    public Result(
+        int depth, int score, List<Move> principalVariation, long nodes) {
+      this.depth = depth;
+      this.score = score;
+      this.principalVariation = ImmutableList.copyOf(principalVariation);
+      this.nodes = nodes;
+    }
+
+    /** Returns the depth of the search. */
+    public int getDepth() { return depth; }
+
+    /**
+     * Returns the score, in centipawns, for the active player of the root
+     * position (see MATE_SCORE for mates).
+     */
+    public int getScore() { return score; }
+
+    /** Returns the best move, or null if the root game has ended. */
+    public Move getBestMove() {
+      return principalVariation.isEmpty() ? null : principalVariation.get(0);
+    }
+
+    /**
+     * Returns the principal variation: the best move, and the best replies to
+     * it. In castling, only the king's move is included.
+     */
+    public List<Move> getPrincipalVariation() { return principalVariation; }
+
+    /** Returns the number of nodes searched. */
+    public long getNodes() { return nodes; }
+  }
+
+  /** The root position. Not modified. */
+  private final Position root;
+  /** The maximal number of nodes to search. */
+  private final long maxNodes;
+  /** The time the search must end by (as in System.nanoTime). */
+  private final long deadlineNanos;
+  /** The number of nodes searched so far, in all depths. */
+  private long nodes;
+  /** Whether the budget ran out. */
+  private boolean aborted;
+  /** The principal variation of the last depth (searched first). */
+  private List<Move> lastPrincipalVariation;
+  /** The root moves that are not searched (the best moves of other lines). */
+  private final List<Move> excludedRootMoves;
+
+  /**
+   * Constructor.
+   *
+   * @param root The root position.
+   * @param maxNodes The maximal number of nodes to search, in all depths.
+   * @param maxMillis The maximal time of the search, in all depths, in
+   *     milliseconds.
+   */
+  public Search(Position root, long maxNodes, long maxMillis) {
+    this.root = Preconditions.checkNotNull(root);
+    this.maxNodes = maxNodes;
+    this.deadlineNanos =
+        System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxMillis);
+    this.lastPrincipalVariation = Collections.emptyList();
+    this.excludedRootMoves = Lists.newArrayList();
+  }
+
+  /** Returns the number of nodes searched so far, in all depths. */
+  public long getNodes() {
+    return nodes;
+  }
+
+  /**
+   * Sets the principal variation to search first in the next depth, such as
+   * the result of a previous search of the same position.
+   */
+  public void setPrincipalVariation(List<Move> principalVariation) {
+    lastPrincipalVariation = principalVariation;
+  }
+
+  /**
+   * Searches the root position to the given depth.
+   *
+   * @param depth The depth, in plies.
+   * @return The result, or null if the budget ran out (or the thread was
+   *     interrupted) before the search ended.
+   */
+  public Result search(int depth) {
+    List<Result> results = search(depth, 1);
+    return results == null ? null : results.get(0);
+  }
+
+  /**
+   * Searches the root position to the given depth, for the given number of
+   * best lines (multi-PV). Each line is searched with the best moves of the
+   * previous lines excluded, so the scores of all the lines are exact.
+   *
+   * @param depth The depth, in plies.
+   * @param lines The number of lines.
+   * @return The lines, best first, or null if the budget ran out (or the
+   *     thread was interrupted) before the search ended. There are fewer lines
+   *     if there are fewer legal moves, and a single line with no moves if the
+   *     root game has ended.
+   */
+  public List<Result> search(int depth, int lines) {
+    Preconditions.checkArgument(depth > 0);
+    Preconditions.checkArgument(lines > 0);
+    List<Result> results = Lists.newArrayList();
+    excludedRootMoves.clear();
+    for (int line = 0; line < lines && !aborted; ++line) {
+      long startNodes = nodes;
+      List<Move> principalVariation = Lists.newArrayList();
+      Position position = new Position(
+          root, root.getRepetitionHistory(), root.getStatus(), depth);
+      int score =
+          search(position, depth, 0, -INFINITY, INFINITY, principalVariation);
+      if (aborted || (line > 0 && principalVariation.isEmpty())) {
+        break;
+      }
+      results.add(
+          new Result(depth, score, principalVariation, nodes - startNodes));
+      if (principalVariation.isEmpty()) {
+        break;
+      }
+      excludedRootMoves.add(principalVariation.get(0));
+    }
+    excludedRootMoves.clear();
+    if (aborted) {
+      return null;
+    }
+    lastPrincipalVariation = results.get(0).getPrincipalVariation();
+    return results;
+  }
+
+  /**
+   * Searches a position (negamax alpha-beta).
+   *
+   * @param position The position. Its moves are taken back before returning,
+   *     so it must keep at least depth undo records.
+   * @param depth The remaining depth.
+   * @param ply The distance from the root.
+   * @param alpha The score the active player is already assured of.
+   * @param beta The score the other player is already assured of.
+   * @param principalVariation Set to the principal variation of the position.
+   * @return The score of the position for its active player.
+   */
+  private int search(
+      Position position,
+      int depth,
+      int ply,
+      int alpha,
+      int beta,
+      List<Move> principalVariation) {
+    switch (position.getStatus()) {
+      case WHITE_CHECKMATED:
+      case BLACK_CHECKMATED:
+        return -(MATE_SCORE - ply);
+      case WHITE_TO_MOVE:
+      case BLACK_TO_MOVE:
+      case WHITE_CHECKED:
+      case BLACK_CHECKED:
+        break;
+      default:
+        // Stalemate, or any other draw.
+        return 0;
+    }
+    if (depth == 0) {
+      return evaluate(position);
+    }
+
+    int best = -INFINITY;
+    List<Move> childVariation = Lists.newArrayList();
+    for (Coordinate[] move : orderedMoves(position, ply)) {
+      if (isOutOfBudget()) {
+        aborted = true;
+        return 0;
+      }
+      Move made = position.move(move[0], move[1]).get(0);
+      ++nodes;
+      childVariation.clear();
+      int score =
+          -search(position, depth - 1, ply + 1, -beta, -alpha, childVariation);
+      position.undo();
+      if (aborted) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+      }
+      if (score > alpha) {
+        alpha = score;
+        principalVariation.clear();
+        principalVariation.add(made);
+        principalVariation.addAll(childVariation);
+      }
+      if (alpha >= beta) {
+        break;
+      }
+    }
+    return best;
+  }
+
+  /** Returns true iff the search must stop. */
+  private boolean isOutOfBudget() {
+    return nodes >= maxNodes ||
+        System.nanoTime() - deadlineNanos >= 0 ||
+        Thread.currentThread().isInterrupted();
+  }
+
+  /**
+   * Returns the legal moves of the active player, as {from, to}: the move of
+   * the last principal variation at this ply first, then the captures of the
+   * most valuable pieces, and then the other moves.
+   */
+  private List<Coordinate[]> orderedMoves(Position position, int ply) {
+    final PiecesPlacement placement = position.piecesPlacement;
+    Move hint = ply < lastPrincipalVariation.size()
+        ? lastPrincipalVariation.get(ply) : null;
+    List<Coordinate[]> moves = Lists.newArrayList();
+    Coordinate[] hintMove = null;
+    for (PiecesPlacement.PlacementEntry entry : placement) {
+      if (entry.getPiece().getColor() != position.getActivePlayer()) {
+        continue;
+      }
+      Coordinate from = entry.getCoordinate();
+      for (Coordinate to : position.getLegalMoves(from)) {
+        if (ply == 0 && isExcludedRootMove(from, to)) {
+          continue;
+        }
+        Coordinate[] move = new Coordinate[] { from, to };
+        if (hint != null && hint.getFrom() == from && hint.getTo() == to) {
+          hintMove = move;
+        } else {
+          moves.add(move);
+        }
+      }
+    }
+    Collections.sort(moves, new Comparator<Coordinate[]>() {
+      @Override
+      public int compare(Coordinate[] move1, Coordinate[] move2) {
+        return victimValue(placement, move2) - victimValue(placement, move1);
+      }
+    });
+    if (hintMove != null) {
+      moves.add(0, hintMove);
+    }
+    return moves;
+  }
+
+  /** Returns true iff the given root move is excluded from the search. */
+  private boolean isExcludedRootMove(Coordinate from, Coordinate to) {
+    for (Move move : excludedRootMoves) {
+      if (move.getFrom() == from && move.getTo() == to) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns the value of the piece captured by a move (0 if none). */
+  private static int victimValue(PiecesPlacement placement, Coordinate[] move) {
+    Piece victim = placement.at(move[1]);
+    return victim == null ? 0 : PIECE_VALUE.get(victim.getType());
+  }
+
+  /**
+   * Evaluates a position for its active player, by the material and the
+   * number of legal moves of each side.
+   */
+  private static int evaluate(Position position) {
+    int score = 0;
+    for (PiecesPlacement.PlacementEntry entry : position.piecesPlacement) {
+      Piece piece = entry.getPiece();
+      int value = PIECE_VALUE.get(piece.getType()) + MOBILITY_VALUE *
+          position.getLegalMoves(entry.getCoordinate()).size();
+      score += piece.getColor() == position.getActivePlayer() ? value : -value;
+    }
+    return score;
+  }
+}
@@ -0,0 +1,101 @@
+package com.gilran.chess.client;
+
+import com.google.common.collect.Maps;
+
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A circuit breaker for the polls sent to a single server.
+ *
+ * <p>All the listeners of a server share its circuit breaker. After enough
+ * consecutive failed polls the circuit opens, and the listeners hold back their
+ * polls for the open duration, instead of all retrying against a server that
+ * is down. Then a single probe poll is let through: if it succeeds the circuit
+ * closes, and if it fails the circuit opens again. A probe that gets no result
+ * within the open duration (e.g. its listener was stopped) expires, and
+ * another probe is let through, so the circuit cannot stay open forever.
+ * <p>The thresholds are taken from the system properties
+ * chess.client.circuitFailures and chess.client.circuitOpenMillis.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class CircuitBreaker {
+  /** The consecutive failures that open the circuit. */
+  private static final int FAILURE_THRESHOLD =
+      Integer.getInteger("chess.client.circuitFailures", 50);
+  /** The time the circuit stays open, in milliseconds. */
+  private static final long OPEN_MILLIS =
+      Long.getLong("chess.client.circuitOpenMillis", 10000);
+
+  /** The circuit breakers of the servers, by server address. */
+  private static final ConcurrentMap<String, CircuitBreaker> BREAKERS =
+      Maps.newConcurrentMap();
+
+  /** The number of consecutive failures. */
+  private int failures;
+  /** The time the circuit opened (0 if it is closed). */
+  private long openedAt;
+  /** The time a probe poll was let through the open circuit (0 if none). */
+  private long probeStartedAt;
+
+  /**
+   * Returns the circuit breaker of a server.
+   *
+   * @param server The server address (host and port).
+   */
+  public static CircuitBreaker forServer(String server) {
+    CircuitBreaker breaker = BREAKERS.get(server);
+    if (breaker == null) {
+      BREAKERS.putIfAbsent(server, new CircuitBreaker());
+      breaker = BREAKERS.get(server);
+    }
+    return breaker;
+  }
+
+  /**
+   * Checks whether a poll may be sent.
+   *
+   * @return 0 if the poll may be sent now, or the time to wait in milliseconds.
+   */
+  public synchronized long allowRequest() {
+    if (openedAt == 0) {
+      return 0;
+    }
+    long now = System.currentTimeMillis();
+    long remaining = openedAt + OPEN_MILLIS - now;
+    if (remaining > 0) {
+      return remaining;
+    }
+    if (probeStartedAt != 0) {
+      remaining = probeStartedAt + OPEN_MILLIS - now;
+      if (remaining > 0) {
+        // Wait for the probe to complete.
+        return remaining;
+      }
+    }
+    probeStartedAt = now;
+    return 0;
+  }
+
+  /** Records a successful poll, closing the circuit. */
+  public synchronized void recordSuccess() {
+    failures = 0;
+    openedAt = 0;
+    probeStartedAt = 0;
+  }
+
+  /** Records a failed poll, opening the circuit if needed. */
+  public synchronized void recordFailure() {
+    failures++;
+    if (probeStartedAt != 0 ||
+        (openedAt == 0 && failures >= FAILURE_THRESHOLD)) {
+      openedAt = System.currentTimeMillis();
+      probeStartedAt = 0;
+    }
+  }
+
+  /** Returns true iff the circuit is open. */
+  public synchronized boolean isOpen() {
+    return openedAt != 0;
+  }
+}
@@ -2,8 +2,10 @@ package com.gilran.chess.client;
 
 import com.gilran.chess.Proto.*;
 import com.gilran.chess.Proto.GameEvent.Type;
+import com.gilran.chess.board.Piece;
 import com.gilran.chess.client.Client.LoggerAdapter.Level;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.protobuf.Message;
 
 /**
@@ -35,8 +37,14 @@ public class Client {
   private String sessionToken;
   /** The game identifier of an active game. */
   private String gameId;
-  /** An event listener thread for listening to game events. */
-  private EventsListenerThread eventsListenerThread;
+  /** The color of the local user in the active game. */
+  private Piece.Color color;
+  /** An event listener for listening to game events. */
+  private EventsListener eventsListener;
+  /** The serial number of the first game event that was not handled yet. */
+  private int nextEventNumber;
+  /** A handler for events listener health changes (may be null). */
+  private ListenerHealthHandler healthHandler;
   /** An http getter for sending GET requests to the server. */
   private HttpGetter httpGetter;
 
@@ -88,21 +96,35 @@ public class Client {
       return null;
     }
     gameId = response.getGameId();
+    color = response.getWhite().equals(username)
+        ? Piece.Color.WHITE : Piece.Color.BLACK;
+    nextEventNumber = 0;
     return response;
   }
 
   /** Sends a move to the server. */
   public ErrorResponse move(String from, String to) {
+    return httpGetter.get("move", moveRequest(from, to), ErrorResponse.class);
+  }
+
+  /**
+   * Sends a move to the server asynchronously.
+   * <p>Unlike move, this does not block the caller.
+   */
+  public ListenableFuture<ErrorResponse> moveAsync(String from, String to) {
+    return httpGetter.getAsync(
+        "move", moveRequest(from, to), ErrorResponse.class);
+  }
+
+  /** Creates a move request in the active game. */
+  private MoveRequest moveRequest(String from, String to) {
     Preconditions.checkNotNull(sessionToken);
     Preconditions.checkNotNull(gameId);
-    return httpGetter.get(
-        "move",
-        MoveRequest.newBuilder()
-            .setGameInfo(GameInfo.newBuilder()
-                .setSessionToken(sessionToken)
-                .setGameId(gameId))
-            .setMove(MoveProto.newBuilder().setFrom(from).setTo(to)).build(),
-        ErrorResponse.class);
+    return MoveRequest.newBuilder()
+        .setGameInfo(GameInfo.newBuilder()
+            .setSessionToken(sessionToken)
+            .setGameId(gameId))
+        .setMove(MoveProto.newBuilder().setFrom(from).setTo(to)).build();
   }
 
   /** Calls a web-service method that takes GameInfo as the request. */
@@ -118,6 +140,22 @@ public class Client {
         type);
   }
 
+  /**
+   * Calls a web-service method that takes GameInfo as the request,
+   * asynchronously.
+   */
+  public <T extends Message> ListenableFuture<T> callSimpleMethodAsync(
+      String methodName, Class<T> type) {
+    Preconditions.checkNotNull(sessionToken);
+    Preconditions.checkNotNull(gameId);
+    return httpGetter.getAsync(
+        methodName,
+        GameInfo.newBuilder()
+            .setSessionToken(sessionToken)
+            .setGameId(gameId).build(),
+        type);
+  }
+
   /** Sends a resignation to the server. */
   public ErrorResponse resign() {
     return callSimpleMethod("resign", ErrorResponse.class);
@@ -137,14 +175,83 @@ public class Client {
     return callSimpleMethod("declineDrawOffer", ErrorResponse.class);
   }
 
+  /**
+   * Sends a takeback request to the server.
+   * <p>If the opponent already requested a takeback, this accepts it.
+   */
+  public ErrorResponse requestTakeback() {
+    return callSimpleMethod("requestTakeback", ErrorResponse.class);
+  }
+
+  /** Accepts the opponent's takeback request. */
+  public ErrorResponse acceptTakeback() {
+    return callSimpleMethod("acceptTakeback", ErrorResponse.class);
+  }
+
+  /** Declines the opponent's takeback request. */
+  public ErrorResponse declineTakeback() {
+    return callSimpleMethod("declineTakeback", ErrorResponse.class);
+  }
+
   /** Asks the server to send the current position. */
   public PositionResponse getPosition() {
     return callSimpleMethod("getPosition", PositionResponse.class);
   }
 
-  /** Starts listening to game events. */
+  /**
+   * Asks the server to send the position of the game after the given number
+   * of plies (0 for the position the game started from).
+   */
+  public PositionResponse getPositionAtPly(int ply) {
+    Preconditions.checkNotNull(sessionToken);
+    Preconditions.checkNotNull(gameId);
+    return httpGetter.get(
+        "getPositionAtPly",
+        PlyRequest.newBuilder()
+            .setGameInfo(GameInfo.newBuilder()
+                .setSessionToken(sessionToken)
+                .setGameId(gameId))
+            .setPly(ply).build(),
+        PositionResponse.class);
+  }
+
+  /**
+   * Asks the server to send the game events, starting from the given event.
+   * <p>The server holds the request until there is such an event, so this
+   * blocks the caller. Clients would usually use startListeningToEvents
+   * instead.
+   *
+   * @param minEventNumber The serial number of the first requested event.
+   */
+  public EventsResponse getEvents(int minEventNumber) {
+    Preconditions.checkNotNull(sessionToken);
+    Preconditions.checkNotNull(gameId);
+    return httpGetter.get(
+        "getEvents",
+        EventsRequest.newBuilder()
+            .setGameInfo(GameInfo.newBuilder()
+                .setSessionToken(sessionToken)
+                .setGameId(gameId))
+            .setMinEventNumber(minEventNumber).build(),
+        EventsResponse.class);
+  }
+
+  /**
+   * Sets a handler for events listener health changes.
+   * <p>Applies to listeners that are started after it is set.
+   */
+  public void setListenerHealthHandler(ListenerHealthHandler healthHandler) {
+    this.healthHandler = healthHandler;
+  }
+
+  /**
+   * Starts listening to game events.
+   * <p>If the client listened to the game before, the listener resumes from
+   * the first event that was not handled. This way a listener that gave up
+   * can be restarted by stopListeningToEvents and startListeningToEvents.
+   */
   public void startListeningToEvents(final GameEventHandler handler) {
-    if (eventsListenerThread != null) {
+    if (eventsListener != null) {
       return;
     }
     Preconditions.checkNotNull(sessionToken);
@@ -158,17 +265,54 @@ public class Client {
         handler.handle(event);
       }
     };
-    eventsListenerThread = new EventsListenerThread(
-        baseUrl, sessionToken, gameId, handlerWithEndGame, logger);
+    if (baseUrl.startsWith("http://")) {
+      // Plain HTTP games share the selector thread of the multiplexer.
+      eventsListener = EventsMultiplexer.getShared().subscribe(
+          baseUrl,
+          sessionToken,
+          gameId,
+          handlerWithEndGame,
+          logger,
+          nextEventNumber,
+          healthHandler);
+      return;
+    }
+    EventsListenerThread eventsListenerThread = new EventsListenerThread(
+        baseUrl,
+        sessionToken,
+        gameId,
+        handlerWithEndGame,
+        logger,
+        nextEventNumber,
+        healthHandler);
     eventsListenerThread.start();
+    eventsListener = eventsListenerThread;
+  }
+
+  /**
+   * Starts listening to game events, applying the local moves optimistically.
+   * <p>Moves should then be made using the returned game, and not using move.
+   *
+   * @param handler An event handler for the game events.
+   * @param listener A listener for changes of the local position that are
+   *     caused by the server's events (may be null).
+   * @return The optimistic game.
+   */
+  public OptimisticGame startOptimisticGame(
+      GameEventHandler handler, OptimisticGame.Listener listener) {
+    Preconditions.checkNotNull(color);
+    OptimisticGame game = new OptimisticGame(this, color, handler, listener);
+    startListeningToEvents(game);
+    return game;
   }
 
   /** Stops listening to game events. */
   public void stopListeningToEvents() {
-    if (eventsListenerThread == null) {
+    if (eventsListener == null) {
       return;
     }
-    eventsListenerThread.stopListening();
-    eventsListenerThread = null;
+    eventsListener.stopListening();
+    nextEventNumber = eventsListener.getNextEventNumber();
+    eventsListener = null;
   }
 }
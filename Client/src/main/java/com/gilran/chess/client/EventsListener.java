@@ -0,0 +1,22 @@
+package com.gilran.chess.client;
+
+/**
+ * A listener to the events of a game.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public interface EventsListener {
+  /**
+   * Stops the listener.
+   * <p>The event handler is not called after the listener stopped, except for
+   * the events that are being handled at the time.
+   */
+  void stopListening();
+
+  /**
+   * Returns the serial number of the first event that was not handled yet.
+   * <p>A new listener that starts from this event resumes the listener
+   * without missing or repeating events.
+   */
+  int getNextEventNumber();
+}
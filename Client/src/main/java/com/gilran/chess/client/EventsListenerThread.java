@@ -4,21 +4,21 @@ import com.gilran.chess.Proto.EventsRequest;
 import com.gilran.chess.Proto.EventsResponse;
 import com.gilran.chess.Proto.GameEvent;
 import com.gilran.chess.Proto.GameInfo;
+import com.gilran.chess.Proto.Status;
 import com.gilran.chess.client.Client.LoggerAdapter;
 
-import java.util.List;
+import java.net.URI;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * A thread that listens to game events.
  * The listener polls the server for events.
+ * <p>Plain HTTP clients use the EventsMultiplexer instead, which does not need
+ * a thread per game.
  *
  * @author Gil Ran <gilrun@gmail.com>
  */
-public class EventsListenerThread extends Thread {
-  /** The maximum failed attempts before the listener stops polling. */
-  private static final int MAX_FAILED_ATTEMPTS = 25;
-
+public class EventsListenerThread extends Thread implements EventsListener {
   /** The session token. */
   private String sessionToken;
   /** The game identifier. */
@@ -29,6 +29,10 @@ public class EventsListenerThread extends Thread {
   private GameEventHandler eventHandler;
   /** Indicates whether the listener is active or not. */
   private AtomicBoolean active;
+  /** The serial number of the first event that was not handled yet. */
+  private volatile int nextEventNumber;
+  /** The retry policy. */
+  private ListenerRetry retry;
 
   /**
    * Constructor.
@@ -48,18 +52,52 @@ public class EventsListenerThread extends Thread {
       String gameId,
       GameEventHandler handler,
       LoggerAdapter logger) {
+    this(baseUrl, sessionToken, gameId, handler, logger, 0, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param baseUrl The base URL of the server.
+   * @param sessionToken The session token of the user's session.
+   * @param gameId The identifier of the game for which we are listening for
+   *     events.
+   * @param handler An event handler that will be invoked for each recieved
+   *     event.
+   * @param logger The logger that should be used. If null, a default logger,
+   *     using standard java logging is used.
+   * @param firstEventNumber The serial number of the first event to get. Used
+   *     for resuming a previous listener.
+   * @param healthHandler A handler for health changes (may be null).
+   */
+  public EventsListenerThread(
+      String baseUrl,
+      String sessionToken,
+      String gameId,
+      GameEventHandler handler,
+      LoggerAdapter logger,
+      int firstEventNumber,
+      ListenerHealthHandler healthHandler) {
     this.active = new AtomicBoolean(true);
     this.sessionToken = sessionToken;
     this.gameId = gameId;
     this.httpGetter = new HttpGetter(baseUrl, logger);
     this.eventHandler = handler;
+    this.nextEventNumber = firstEventNumber;
+    this.retry = new ListenerRetry(
+        gameId,
+        CircuitBreaker.forServer(URI.create(baseUrl).getAuthority()),
+        healthHandler);
   }
 
   @Override
   public void run() {
-    int failedAttmpts = 0;
-    int nextEventNumber = 0;
     while (active.get()) {
+      long delay = retry.delayBeforePoll();
+      if (delay > 0) {
+        backOff(delay);
+        continue;
+      }
       EventsResponse response = httpGetter.get(
           "getEvents",
           EventsRequest.newBuilder()
@@ -69,24 +107,49 @@ public class EventsListenerThread extends Thread {
           .setMinEventNumber(nextEventNumber)
           .build(),
           EventsResponse.class);
-      if (response == null) {
-        failedAttmpts++;
-        if (failedAttmpts == MAX_FAILED_ATTEMPTS) {
-          break;
+      if (response == null ||
+          (response.hasStatus() && response.getStatus() != Status.OK)) {
+        delay = retry.failed(response == null
+            ? "Failed to get events."
+            : "Failed to get events: " + response.getStatus());
+        if (delay < 0) {
+          active.set(false);
+          return;
         }
+        backOff(delay);
         continue;
       }
-      failedAttmpts = 0;
-      List<GameEvent> events = response.getEventList();
-      nextEventNumber = events.get(events.size() - 1).getSerialNumber() + 1;
-      for (GameEvent event : events) {
+      retry.succeeded();
+      // An empty response means that the server timed out the request, as
+      // there were no new events.
+      for (GameEvent event : response.getEventList()) {
+        if (!active.get()) {
+          break;
+        }
         eventHandler.handle(event);
+        nextEventNumber = event.getSerialNumber() + 1;
       }
     }
+    retry.stopped();
+  }
+
+  /** Sleeps for the given time, or until the listener is stopped. */
+  private void backOff(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      // Check whether the listener was stopped.
+    }
   }
 
-  /** Stops the listener. */
+  @Override
   public void stopListening() {
     active.set(false);
+    interrupt();
+  }
+
+  @Override
+  public int getNextEventNumber() {
+    return nextEventNumber;
   }
 }
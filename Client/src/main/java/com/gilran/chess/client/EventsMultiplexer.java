@@ -0,0 +1,554 @@
+package com.gilran.chess.client;
+
+import com.gilran.chess.JsonParser;
+import com.gilran.chess.Proto.EventsRequest;
+import com.gilran.chess.Proto.EventsResponse;
+import com.gilran.chess.Proto.GameEvent;
+import com.gilran.chess.Proto.GameInfo;
+import com.gilran.chess.Proto.Status;
+import com.gilran.chess.client.Client.LoggerAdapter;
+import com.gilran.chess.client.Client.LoggerAdapter.Level;
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Sets;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Listens to the events of many games using a single selector thread.
+ *
+ * <p>Each game subscription long-polls the server on its own non-blocking
+ * keep-alive connection, and all the connections are served by one selector
+ * thread. The event handlers run on a small shared pool. A subscription sends
+ * its next poll only after its handler handled all the events of the previous
+ * poll, so the events of each game are handled one at a time and in order.
+ * This way a process can listen to thousands of games using a handful of
+ * threads, instead of a thread per game.
+ * <p>Only plain HTTP is supported.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class EventsMultiplexer {
+  /** The number of threads that run the event handlers. */
+  private static final int HANDLER_THREADS =
+      Integer.getInteger("chess.client.eventHandlerThreads", 4);
+  /** The time a poll may wait for a response, in milliseconds. */
+  private static final long SOCKET_TIMEOUT_MILLIS =
+      Integer.getInteger("chess.client.socketTimeoutMillis", 60000);
+  /** The maximal time the selector waits between timeout checks. */
+  private static final long SELECT_TIMEOUT_MILLIS = 1000;
+  /** The size of the read buffer. */
+  private static final int READ_BUFFER_SIZE = 16 * 1024;
+
+  /** The shared multiplexer. */
+  private static EventsMultiplexer sharedMultiplexer;
+
+  /** The logger of failures that no subscription can be blamed for. */
+  private final LoggerAdapter logger = new DefaultLogger();
+
+  /** The selector. */
+  private final Selector selector;
+  /** Tasks to run on the selector thread. */
+  private final Queue<Runnable> selectorTasks;
+  /** The executor that runs the event handlers. */
+  private final ExecutorService handlerExecutor;
+  /** The executor that delays retried polls. */
+  private final ScheduledExecutorService retryExecutor;
+  /** The active subscriptions. Only accessed by the selector thread. */
+  private final Set<Subscription> subscriptions;
+  /** The read buffer. Only accessed by the selector thread. */
+  private final ByteBuffer readBuffer;
+
+  /** Returns the multiplexer that is shared by all the clients. */
+  public static synchronized EventsMultiplexer getShared() {
+    if (sharedMultiplexer == null) {
+      try {
+        sharedMultiplexer = new EventsMultiplexer();
+      } catch (IOException e) {
+        throw Throwables.propagate(e);
+      }
+    }
+    return sharedMultiplexer;
+  }
+
+  /** Constructor. Starts the selector thread. */
+  private EventsMultiplexer() throws IOException {
+    this.selector = Selector.open();
+    this.selectorTasks = new ConcurrentLinkedQueue<Runnable>();
+    this.subscriptions = Sets.newHashSet();
+    this.readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    this.handlerExecutor = Executors.newFixedThreadPool(
+        HANDLER_THREADS, new ThreadFactory() {
+          private final AtomicInteger count = new AtomicInteger();
+
+          @Override
+          public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(
+                runnable, "chess-events-handler-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+    this.retryExecutor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactory() {
+          @Override
+          public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "chess-events-retry");
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+    Thread selectorThread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        selectLoop();
+      }
+    }, "chess-events-selector");
+    selectorThread.setDaemon(true);
+    selectorThread.start();
+  }
+
+  /**
+   * Starts listening to the events of a game.
+   *
+   * @param baseUrl The base URL of the server. Must be an http URL.
+   * @param sessionToken The session token of the user's session.
+   * @param gameId The identifier of the game.
+   * @param handler An event handler that will be invoked for each received
+   *     event.
+   * @param logger The logger that should be used. If null, a default logger,
+   *     using standard java logging is used.
+   * @param firstEventNumber The serial number of the first event to get. Used
+   *     for resuming a previous listener.
+   * @param healthHandler A handler for health changes (may be null).
+   * @return The listener, that can be used for stopping the subscription.
+   */
+  public EventsListener subscribe(
+      String baseUrl,
+      String sessionToken,
+      String gameId,
+      GameEventHandler handler,
+      LoggerAdapter logger,
+      int firstEventNumber,
+      ListenerHealthHandler healthHandler) {
+    final Subscription subscription = new Subscription(
+        URI.create(baseUrl),
+        sessionToken,
+        gameId,
+        handler,
+        logger == null ? new DefaultLogger() : logger,
+        firstEventNumber,
+        healthHandler);
+    runOnSelector(subscription.guard(new Runnable() {
+      @Override
+      public void run() {
+        subscriptions.add(subscription);
+        subscription.poll();
+      }
+    }));
+    return subscription;
+  }
+
+  /** Runs a task on the selector thread after a delay. */
+  private void runOnSelector(final Runnable task, long delayMillis) {
+    retryExecutor.schedule(new Runnable() {
+      @Override
+      public void run() {
+        runOnSelector(task);
+      }
+    }, delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /** Runs a task on the selector thread. */
+  private void runOnSelector(Runnable task) {
+    selectorTasks.add(task);
+    selector.wakeup();
+  }
+
+  /**
+   * The selector thread main loop.
+   * <p>A failure of a subscription fails only that subscription, as the
+   * thread is shared by all the others.
+   */
+  private void selectLoop() {
+    long lastTimeoutCheck = System.currentTimeMillis();
+    while (true) {
+      try {
+        selector.select(SELECT_TIMEOUT_MILLIS);
+      } catch (IOException | RuntimeException e) {
+        logger.log(Level.ERROR, "Select failed: " + e);
+        continue;
+      }
+      Runnable task;
+      while ((task = selectorTasks.poll()) != null) {
+        try {
+          task.run();
+        } catch (RuntimeException e) {
+          // Subscription tasks are guarded, so this is not expected.
+          logger.log(Level.ERROR, "Selector task failed: " + e);
+        }
+      }
+      Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+      while (keys.hasNext()) {
+        SelectionKey key = keys.next();
+        keys.remove();
+        Subscription subscription = (Subscription) key.attachment();
+        try {
+          subscription.handleKey(key);
+        } catch (RuntimeException e) {
+          subscription.crashed(e);
+        }
+      }
+      long now = System.currentTimeMillis();
+      if (now - lastTimeoutCheck >= SELECT_TIMEOUT_MILLIS) {
+        lastTimeoutCheck = now;
+        for (Subscription subscription :
+             Sets.newHashSet(subscriptions)) {
+          try {
+            subscription.checkTimeout(now);
+          } catch (RuntimeException e) {
+            subscription.crashed(e);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * A game subscription.
+   * <p>All the methods, except for stopListening, run on the selector thread.
+   */
+  private class Subscription implements EventsListener {
+    /** The server host name. */
+    private final String hostName;
+    /** The server port. */
+    private final int port;
+    /** The value of the Host header. */
+    private final String host;
+    /** The path of the getEvents method. */
+    private final String path;
+    /** The session token. */
+    private final String sessionToken;
+    /** The game identifier. */
+    private final String gameId;
+    /** The event handler. */
+    private final GameEventHandler handler;
+    /** The logger. */
+    private final LoggerAdapter logger;
+    /** Indicates whether the subscription is active. */
+    private volatile boolean active;
+    /** The serial number of the first event that was not handled yet. */
+    private volatile int nextEventNumber;
+    /** The retry policy. */
+    private final ListenerRetry retry;
+    /** The connection (null if there is no open connection). */
+    private SocketChannel channel;
+    /** The selection key of the connection. */
+    private SelectionKey key;
+    /** The request that is being sent. */
+    private ByteBuffer request;
+    /** The parser of the response that is being received. */
+    private HttpResponseParser parser;
+    /** The time of the last I/O of the current poll (0 if not polling). */
+    private long lastActivity;
+
+    /** Constructor. */
+    Subscription(
+        URI baseUri,
+        String sessionToken,
+        String gameId,
+        GameEventHandler handler,
+        LoggerAdapter logger,
+        int firstEventNumber,
+        ListenerHealthHandler healthHandler) {
+      Preconditions.checkArgument(
+          "http".equals(baseUri.getScheme()), "Only http is supported.");
+      this.hostName = baseUri.getHost();
+      this.port = baseUri.getPort() < 0 ? 80 : baseUri.getPort();
+      this.host = hostName + ":" + port;
+      String basePath = baseUri.getRawPath();
+      this.path = (basePath == null || basePath.isEmpty() ? "/" : basePath)
+          + (basePath != null && basePath.endsWith("/") ? "" : "/")
+          + "getEvents";
+      this.sessionToken = sessionToken;
+      this.gameId = gameId;
+      this.handler = Preconditions.checkNotNull(handler);
+      this.logger = logger;
+      this.active = true;
+      this.nextEventNumber = firstEventNumber;
+      this.retry = new ListenerRetry(
+          gameId, CircuitBreaker.forServer(host), healthHandler);
+    }
+
+    @Override
+    public int getNextEventNumber() {
+      return nextEventNumber;
+    }
+
+    @Override
+    public void stopListening() {
+      active = false;
+      runOnSelector(guard(new Runnable() {
+        @Override
+        public void run() {
+          close();
+        }
+      }));
+    }
+
+    /**
+     * Wraps a task of this subscription, so that if it throws, only this
+     * subscription fails.
+     */
+    Runnable guard(final Runnable task) {
+      return new Runnable() {
+        @Override
+        public void run() {
+          try {
+            task.run();
+          } catch (RuntimeException e) {
+            crashed(e);
+          }
+        }
+      };
+    }
+
+    /** Handles an unexpected exception, by failing the current poll. */
+    void crashed(RuntimeException e) {
+      try {
+        fail(e.toString());
+      } catch (RuntimeException failure) {
+        // Failing threw as well (e.g. in the logger or the health handler),
+        // so the subscription is dropped without any further callbacks.
+        active = false;
+        closeChannel();
+        lastActivity = 0;
+        subscriptions.remove(this);
+      }
+    }
+
+    /** Sends the next poll, connecting to the server if needed. */
+    void poll() {
+      if (!active) {
+        close();
+        return;
+      }
+      long delay = retry.delayBeforePoll();
+      if (delay > 0) {
+        retryLater(delay);
+        return;
+      }
+      try {
+        request = ByteBuffer.wrap(buildRequest().getBytes(Charsets.UTF_8));
+        parser = new HttpResponseParser();
+        lastActivity = System.currentTimeMillis();
+        if (channel == null) {
+          channel = SocketChannel.open();
+          channel.configureBlocking(false);
+          channel.socket().setTcpNoDelay(true);
+          key = channel.register(selector, 0, this);
+          // Resolved on each connect, so a changed address is picked up.
+          InetSocketAddress address = new InetSocketAddress(hostName, port);
+          if (address.isUnresolved()) {
+            fail("Unknown host: " + hostName);
+            return;
+          }
+          if (channel.connect(address)) {
+            key.interestOps(SelectionKey.OP_WRITE);
+          } else {
+            key.interestOps(SelectionKey.OP_CONNECT);
+          }
+        } else {
+          key.interestOps(SelectionKey.OP_WRITE);
+        }
+      } catch (IOException | RuntimeException e) {
+        fail(e.toString());
+      }
+    }
+
+    /** Builds the HTTP request of the next poll. */
+    private String buildRequest() throws IOException {
+      String requestJson = JsonParser.toJson(EventsRequest.newBuilder()
+          .setGameInfo(GameInfo.newBuilder()
+              .setSessionToken(sessionToken)
+              .setGameId(gameId))
+          .setMinEventNumber(nextEventNumber)
+          .build());
+      return "GET " + path + "?r=" + URLEncoder.encode(requestJson, "UTF-8")
+          + " HTTP/1.1\r\n"
+          + "Host: " + host + "\r\n"
+          + "Accept: application/json\r\n"
+          + "Connection: keep-alive\r\n"
+          + "\r\n";
+    }
+
+    /** Handles a ready selection key. */
+    void handleKey(SelectionKey key) {
+      try {
+        if (!key.isValid()) {
+          return;
+        }
+        if (key.isConnectable()) {
+          channel.finishConnect();
+          key.interestOps(SelectionKey.OP_WRITE);
+        } else if (key.isWritable()) {
+          channel.write(request);
+          if (!request.hasRemaining()) {
+            key.interestOps(SelectionKey.OP_READ);
+          }
+        } else if (key.isReadable()) {
+          read();
+        }
+        lastActivity = System.currentTimeMillis();
+      } catch (Exception e) {
+        fail(e.toString());
+      }
+    }
+
+    /** Reads the available response bytes. */
+    private void read() throws IOException {
+      readBuffer.clear();
+      int read = channel.read(readBuffer);
+      if (read < 0) {
+        if (parser.endOfStream()) {
+          closeChannel();
+          responseReceived();
+        } else {
+          fail("Connection closed by the server.");
+        }
+        return;
+      }
+      readBuffer.flip();
+      if (parser.feed(readBuffer)) {
+        if (parser.isKeepAlive()) {
+          key.interestOps(0);
+        } else {
+          closeChannel();
+        }
+        responseReceived();
+      }
+    }
+
+    /** Handles a complete response. */
+    private void responseReceived() {
+      lastActivity = 0;
+      if (parser.getStatusCode() != 200) {
+        fail("Failed : HTTP error code : " + parser.getStatusCode());
+        return;
+      }
+      final EventsResponse response = (EventsResponse) JsonParser.toProto(
+          parser.getBody(), EventsResponse.class);
+      if (response == null) {
+        fail("Failed to parse events response.");
+        return;
+      }
+      if (response.hasStatus() && response.getStatus() != Status.OK) {
+        fail("Failed to get events: " + response.getStatus());
+        return;
+      }
+      retry.succeeded();
+      handlerExecutor.execute(new Runnable() {
+        @Override
+        public void run() {
+          handleEvents(response.getEventList());
+        }
+      });
+    }
+
+    /** Handles the events of a poll, and then sends the next poll. */
+    private void handleEvents(List<GameEvent> events) {
+      for (GameEvent event : events) {
+        if (!active) {
+          break;
+        }
+        try {
+          handler.handle(event);
+        } catch (Exception e) {
+          logger.log(Level.ERROR, "Event handler failed: " + e);
+        }
+        nextEventNumber = event.getSerialNumber() + 1;
+      }
+      runOnSelector(guard(new Runnable() {
+        @Override
+        public void run() {
+          poll();
+        }
+      }));
+    }
+
+    /** Fails the current poll if the server did not respond in time. */
+    void checkTimeout(long now) {
+      if (lastActivity != 0 && now - lastActivity > SOCKET_TIMEOUT_MILLIS) {
+        fail("Timed out waiting for events.");
+      }
+    }
+
+    /** Handles a failed poll, by retrying it after a backoff or giving up. */
+    private void fail(String reason) {
+      logger.log(Level.ERROR, reason);
+      closeChannel();
+      lastActivity = 0;
+      long delay = retry.failed(reason);
+      if (delay < 0) {
+        active = false;
+        close();
+        return;
+      }
+      retryLater(delay);
+    }
+
+    /** Sends the next poll after a delay. */
+    private void retryLater(long delayMillis) {
+      runOnSelector(guard(new Runnable() {
+        @Override
+        public void run() {
+          poll();
+        }
+      }), delayMillis);
+    }
+
+    /** Closes the connection. */
+    private void closeChannel() {
+      if (channel == null) {
+        return;
+      }
+      key.cancel();
+      try {
+        channel.close();
+      } catch (IOException e) {
+        // Nothing to do.
+      }
+      channel = null;
+      key = null;
+    }
+
+    /** Ends the subscription. */
+    private void close() {
+      active = false;
+      closeChannel();
+      lastActivity = 0;
+      if (subscriptions.remove(this)) {
+        retry.stopped();
+      }
+    }
+  }
+}
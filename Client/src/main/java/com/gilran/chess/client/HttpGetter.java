@@ -4,21 +4,27 @@ import com.gilran.chess.JsonParser;
 import com.gilran.chess.client.Client.LoggerAdapter;
 import com.gilran.chess.client.Client.LoggerAdapter.Level;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.protobuf.Message;
 
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
-import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.util.EntityUtils;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.net.URLEncoder;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * A class for managing HTTP GET requests.
  * <p>The HttpGetter hides the HTTP GET request by using only protobuf messages
  * in its public interface.
+ * <p>All the HttpGetters in the process use the connection pool of the shared
+ * HttpTransport, so creating an HttpGetter is cheap.
  *
  * @author Gil Ran <gilrun@gmail.com>
  */
@@ -27,8 +33,8 @@ public class HttpGetter {
   private LoggerAdapter logger;
   /** The server base URL. */
   private String baseUrl;
-  /** An http client. */
-  private DefaultHttpClient httpClient = new DefaultHttpClient();
+  /** The HTTP transport. */
+  private HttpTransport transport;
 
   /**
    * Constructor.
@@ -40,7 +46,7 @@ public class HttpGetter {
   public HttpGetter(String baseUrl, LoggerAdapter logger) {
     this.logger = logger == null ? new DefaultLogger() : logger;
     this.baseUrl = baseUrl;
-    this.httpClient = new DefaultHttpClient();
+    this.transport = HttpTransport.getShared();
   }
 
   /**
@@ -64,11 +70,22 @@ public class HttpGetter {
     }
     getRequest.addHeader("accept", "application/json");
 
+    HttpClient httpClient = transport.getHttpClient();
     HttpResponse response;
     try {
       response = httpClient.execute(getRequest);
     } catch (Exception e) {
       logger.log(Level.ERROR, e.toString());
+      getRequest.abort();
+      return null;
+    }
+
+    String content;
+    try {
+      content = readContent(response);
+    } catch (IOException e) {
+      logger.log(Level.ERROR, "Failed to read response content: " + e);
+      getRequest.abort();
       return null;
     }
 
@@ -80,7 +97,7 @@ public class HttpGetter {
 
     Message responseProto = null;
     try {
-      responseProto = parseResponse(response, responseType);
+      responseProto = JsonParser.toProto(content, responseType);
     } catch (Exception e) {
       return null;
     }
@@ -93,34 +110,46 @@ public class HttpGetter {
   }
 
   /**
-   * Parses an HttpResponse to a protobuf message of the given type.
+   * Does a GET request asynchronously.
+   * <p>The request runs on the executor of the shared HttpTransport.
    *
-   * @param response The HTTP response.
-   * @param type The response protobuf message type.
-   * @return The response message.
+   * @param methodName The name of the method to call.
+   * @param request The request protobuf message.
+   * @param responseType The type of the response.
+   * @return A future for the response. The response is null if the request
+   *     failed, like the response of get. The future fails if there are too
+   *     many asynchronous requests waiting.
    */
-  private <T extends Message> Message parseResponse(
-      HttpResponse response, Class<T> type) {
-    BufferedReader br;
+  public <T extends Message> ListenableFuture<T> getAsync(
+      final String methodName,
+      final Message request,
+      final Class<T> responseType) {
     try {
-      br = new BufferedReader(
-          new InputStreamReader((response.getEntity().getContent())));
-    } catch (Exception e) {
-      logger.log(Level.ERROR, "Failed to get response content: " + e);
-      return null;
+      return transport.getExecutor().submit(new Callable<T>() {
+        @Override
+        public T call() {
+          return get(methodName, request, responseType);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      logger.log(Level.WARNING, "Too many asynchronous requests.");
+      return Futures.immediateFailedFuture(e);
     }
+  }
 
-    StringBuilder outputBuilder = new StringBuilder();
-    String line;
-    try {
-      while ((line = br.readLine()) != null) {
-        outputBuilder.append(line);
-      }
-    } catch (IOException e) {
-      logger.log(Level.ERROR, "Failed to read response content: " + e);
-      return null;
+  /**
+   * Reads the whole content of an HTTP response.
+   * <p>The content is always consumed, so the connection goes back to the
+   * pool and can be reused.
+   *
+   * @return The content, or an empty string if the response has no content.
+   */
+  private static String readContent(HttpResponse response)
+      throws IOException {
+    HttpEntity entity = response.getEntity();
+    if (entity == null) {
+      return "";
     }
-
-    return JsonParser.toProto(outputBuilder.toString(), type);
+    return EntityUtils.toString(entity, "UTF-8");
   }
 }
@@ -0,0 +1,213 @@
+package com.gilran.chess.client;
+
+import com.google.common.base.Charsets;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * An incremental parser of a single HTTP/1.x response.
+ *
+ * <p>The response bytes are fed as they arrive from a non-blocking channel.
+ * The parser supports bodies with a Content-Length, chunked bodies, and bodies
+ * that end when the connection is closed.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+class HttpResponseParser {
+  /** The parsing states. */
+  private enum State { HEADERS, FIXED_BODY, CHUNKED_BODY, UNTIL_CLOSE, DONE }
+
+  /** The header block terminator. */
+  private static final byte[] HEADERS_END = { '\r', '\n', '\r', '\n' };
+  /** The line terminator. */
+  private static final byte[] CRLF = { '\r', '\n' };
+
+  /** The bytes that were received. */
+  private byte[] data = new byte[4096];
+  /** The number of bytes that were received. */
+  private int size;
+  /** The index of the first byte that was not parsed yet. */
+  private int position;
+  /** The parsing state. */
+  private State state = State.HEADERS;
+  /** The HTTP status code. */
+  private int statusCode;
+  /** The body length (for FIXED_BODY). */
+  private int contentLength;
+  /** Indicates whether the connection may be reused after the response. */
+  private boolean keepAlive;
+  /** The decoded body. */
+  private ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+  /**
+   * Feeds received bytes to the parser.
+   *
+   * @return true iff the response is complete.
+   * @throws IllegalStateException If the response is malformed.
+   */
+  boolean feed(ByteBuffer buffer) {
+    int length = buffer.remaining();
+    if (size + length > data.length) {
+      data = Arrays.copyOf(data, Math.max(data.length * 2, size + length));
+    }
+    buffer.get(data, size, length);
+    size += length;
+    parse();
+    return state == State.DONE;
+  }
+
+  /**
+   * Tells the parser that the connection was closed.
+   *
+   * @return true iff the response is complete.
+   */
+  boolean endOfStream() {
+    if (state == State.UNTIL_CLOSE) {
+      body.write(data, position, size - position);
+      position = size;
+      state = State.DONE;
+    }
+    return state == State.DONE;
+  }
+
+  /** Returns the HTTP status code. */
+  int getStatusCode() { return statusCode; }
+  /** Returns true iff the connection may be reused. */
+  boolean isKeepAlive() { return keepAlive; }
+  /** Returns the body as a string. */
+  String getBody() { return new String(body.toByteArray(), Charsets.UTF_8); }
+
+  /** Parses as much of the received bytes as possible. */
+  private void parse() {
+    while (true) {
+      switch (state) {
+        case HEADERS:
+          if (!parseHeaders()) {
+            return;
+          }
+          break;
+        case FIXED_BODY:
+          if (size - position < contentLength) {
+            return;
+          }
+          body.write(data, position, contentLength);
+          position += contentLength;
+          state = State.DONE;
+          break;
+        case CHUNKED_BODY:
+          if (!parseChunk()) {
+            return;
+          }
+          break;
+        case UNTIL_CLOSE:
+        case DONE:
+          return;
+      }
+    }
+  }
+
+  /**
+   * Parses the status line and the headers.
+   *
+   * @return false iff more bytes are needed.
+   */
+  private boolean parseHeaders() {
+    int end = indexOf(HEADERS_END, position);
+    if (end < 0) {
+      return false;
+    }
+    String[] lines =
+        new String(data, position, end - position, Charsets.ISO_8859_1)
+            .split("\r\n");
+    String[] statusLine = lines[0].split(" ", 3);
+    if (statusLine.length < 2 || !statusLine[0].startsWith("HTTP/")) {
+      throw new IllegalStateException("Bad status line: " + lines[0]);
+    }
+    statusCode = Integer.parseInt(statusLine[1]);
+    keepAlive = statusLine[0].equals("HTTP/1.1");
+    contentLength = -1;
+    boolean chunked = false;
+    for (int i = 1; i < lines.length; i++) {
+      int colon = lines[i].indexOf(':');
+      if (colon < 0) {
+        continue;
+      }
+      String name = lines[i].substring(0, colon).trim();
+      String value = lines[i].substring(colon + 1).trim();
+      if (name.equalsIgnoreCase("Content-Length")) {
+        contentLength = Integer.parseInt(value);
+      } else if (name.equalsIgnoreCase("Transfer-Encoding")) {
+        chunked = value.equalsIgnoreCase("chunked");
+      } else if (name.equalsIgnoreCase("Connection")) {
+        keepAlive = value.equalsIgnoreCase("keep-alive");
+      }
+    }
+    position = end + HEADERS_END.length;
+    if (chunked) {
+      state = State.CHUNKED_BODY;
+    } else if (contentLength >= 0) {
+      state = State.FIXED_BODY;
+    } else {
+      keepAlive = false;
+      state = State.UNTIL_CLOSE;
+    }
+    return true;
+  }
+
+  /**
+   * Parses a single chunk of a chunked body.
+   *
+   * @return false iff more bytes are needed.
+   */
+  private boolean parseChunk() {
+    int lineEnd = indexOf(CRLF, position);
+    if (lineEnd < 0) {
+      return false;
+    }
+    String sizeLine =
+        new String(data, position, lineEnd - position, Charsets.ISO_8859_1);
+    int extension = sizeLine.indexOf(';');
+    int chunkSize = Integer.parseInt(
+        (extension < 0 ? sizeLine : sizeLine.substring(0, extension)).trim(),
+        16);
+    int chunkStart = lineEnd + CRLF.length;
+    if (chunkSize == 0) {
+      // The last chunk is followed by optional trailers and an empty line.
+      int trailersEnd = chunkStart;
+      while (true) {
+        int end = indexOf(CRLF, trailersEnd);
+        if (end < 0) {
+          return false;
+        }
+        if (end == trailersEnd) {
+          position = end + CRLF.length;
+          state = State.DONE;
+          return true;
+        }
+        trailersEnd = end + CRLF.length;
+      }
+    }
+    if (size - chunkStart < chunkSize + CRLF.length) {
+      return false;
+    }
+    body.write(data, chunkStart, chunkSize);
+    position = chunkStart + chunkSize + CRLF.length;
+    return true;
+  }
+
+  /** Returns the index of the pattern in the received bytes, or -1. */
+  private int indexOf(byte[] pattern, int from) {
+    for (int i = from; i <= size - pattern.length; i++) {
+      int j = 0;
+      while (j < pattern.length && data[i + j] == pattern[j]) {
+        j++;
+      }
+      if (j == pattern.length) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,133 @@
+package com.gilran.chess.client;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.params.ConnManagerParams;
+import org.apache.http.conn.params.ConnPerRouteBean;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The HTTP transport that is shared by all the clients in the process.
+ *
+ * <p>The transport holds a single pool of keep-alive connections, so any
+ * number of clients and event listeners reuse the same few connections to
+ * each server, and an executor for running requests asynchronously.
+ * <p>The executor has a bounded number of threads and a bounded queue, so a
+ * burst of asynchronous requests does not start a thread per request.
+ * Requests that do not fit in the queue are refused.
+ * <p>The pool sizes and timeouts are taken from system properties:
+ * chess.client.maxConnections, chess.client.maxConnectionsPerRoute,
+ * chess.client.connectTimeoutMillis, chess.client.socketTimeoutMillis,
+ * chess.client.asyncThreads and chess.client.asyncQueueSize.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class HttpTransport {
+  /** The maximal number of pooled connections. */
+  private static final int MAX_CONNECTIONS =
+      Integer.getInteger("chess.client.maxConnections", 2000);
+  /** The maximal number of pooled connections to a single server. */
+  private static final int MAX_CONNECTIONS_PER_ROUTE =
+      Integer.getInteger("chess.client.maxConnectionsPerRoute", 2000);
+  /** The connect timeout, in milliseconds. */
+  private static final int CONNECT_TIMEOUT_MILLIS =
+      Integer.getInteger("chess.client.connectTimeoutMillis", 10000);
+  /**
+   * The socket read timeout, in milliseconds. Must be longer than the time the
+   * server holds a getEvents request.
+   */
+  private static final int SOCKET_TIMEOUT_MILLIS =
+      Integer.getInteger("chess.client.socketTimeoutMillis", 60000);
+  /** The maximal number of threads running asynchronous requests. */
+  private static final int ASYNC_THREADS =
+      Integer.getInteger("chess.client.asyncThreads", 32);
+  /** The maximal number of asynchronous requests waiting for a thread. */
+  private static final int ASYNC_QUEUE_SIZE =
+      Integer.getInteger("chess.client.asyncQueueSize", 10000);
+  /** The time an idle asynchronous requests thread is kept, in seconds. */
+  private static final long ASYNC_KEEP_ALIVE_SECONDS = 60;
+
+  /** The shared transport. */
+  private static HttpTransport sharedTransport;
+
+  /** The HTTP client, using the connection pool. */
+  private final HttpClient httpClient;
+  /** The executor that runs asynchronous requests. */
+  private final ListeningExecutorService executor;
+
+  /** Returns the transport that is shared by all the clients. */
+  public static synchronized HttpTransport getShared() {
+    if (sharedTransport == null) {
+      sharedTransport = new HttpTransport();
+    }
+    return sharedTransport;
+  }
+
+  /** Constructor. */
+  // The 4.0 pool API, as the Android app bundles its own older httpclient.
+  @SuppressWarnings("deprecation")
+  private HttpTransport() {
+    HttpParams params = new BasicHttpParams();
+    ConnManagerParams.setMaxTotalConnections(params, MAX_CONNECTIONS);
+    ConnManagerParams.setMaxConnectionsPerRoute(
+        params, new ConnPerRouteBean(MAX_CONNECTIONS_PER_ROUTE));
+    HttpConnectionParams.setConnectionTimeout(params, CONNECT_TIMEOUT_MILLIS);
+    HttpConnectionParams.setSoTimeout(params, SOCKET_TIMEOUT_MILLIS);
+    HttpConnectionParams.setTcpNoDelay(params, true);
+
+    SchemeRegistry schemeRegistry = new SchemeRegistry();
+    schemeRegistry.register(
+        new Scheme("http", PlainSocketFactory.getSocketFactory(), 80));
+    schemeRegistry.register(
+        new Scheme("https", SSLSocketFactory.getSocketFactory(), 443));
+
+    this.httpClient = new DefaultHttpClient(
+        new ThreadSafeClientConnManager(params, schemeRegistry), params);
+    ThreadPoolExecutor threadPool = new ThreadPoolExecutor(
+        ASYNC_THREADS, ASYNC_THREADS,
+        ASYNC_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<Runnable>(ASYNC_QUEUE_SIZE),
+        new ThreadFactory() {
+          private final AtomicInteger count = new AtomicInteger();
+
+          @Override
+          public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(
+                runnable, "chess-http-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+    threadPool.allowCoreThreadTimeOut(true);
+    this.executor = MoreExecutors.listeningDecorator(threadPool);
+  }
+
+  /** Returns the pooled HTTP client. */
+  public HttpClient getHttpClient() {
+    return httpClient;
+  }
+
+  /**
+   * Returns the executor that runs asynchronous requests. It throws
+   * RejectedExecutionException when its queue is full.
+   */
+  public ListeningExecutorService getExecutor() {
+    return executor;
+  }
+}
@@ -0,0 +1,32 @@
+package com.gilran.chess.client;
+
+/**
+ * An interface for a handler of game events listener health changes.
+ *
+ * <p>The handler lets the user of the client show that the connection to the
+ * server is degraded, instead of silently not getting game events.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public interface ListenerHealthHandler {
+  /** The health of a listener. */
+  enum Health {
+    /** The listener gets responses from the server. */
+    HEALTHY,
+    /** Polls failed, and the listener retries with backoff. */
+    RETRYING,
+    /** The server is considered down, and polls are held back. */
+    CIRCUIT_OPEN,
+    /** The listener gave up, or was stopped. */
+    STOPPED
+  }
+
+  /**
+   * Called when the health of a listener changes.
+   *
+   * @param gameId The identifier of the game that the listener listens to.
+   * @param health The new health.
+   * @param reason The reason of the change (null if healthy).
+   */
+  void healthChanged(String gameId, Health health, String reason);
+}
@@ -0,0 +1,134 @@
+package com.gilran.chess.client;
+
+import com.gilran.chess.client.ListenerHealthHandler.Health;
+import com.google.common.base.Preconditions;
+
+import java.util.Random;
+
+/**
+ * The retry policy of a game events listener.
+ *
+ * <p>Failed polls are retried after a jittered exponential backoff, so the
+ * clients do not retry in a hot loop, and do not all retry in the same moment
+ * after a server blip. Polls are also held back while the circuit breaker of
+ * the server is open. Health changes are reported to the health handler.
+ * <p>The listener gives up after maxFailedAttempts consecutive failed polls,
+ * which is well above the failures that open the circuit, so an outage is
+ * handled by the circuit breaker, and the listeners keep retrying at the
+ * maximal backoff. The failures of probes through an open circuit are not
+ * counted, so the listeners survive an outage of any length.
+ * <p>The backoff is taken from the system properties
+ * chess.client.backoffBaseMillis and chess.client.backoffMaxMillis, and the
+ * maximal failed attempts from chess.client.maxFailedAttempts (0 for no
+ * limit).
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+class ListenerRetry {
+  /**
+   * The maximum failed attempts before the listener stops polling (0 for no
+   * limit).
+   */
+  private static final int MAX_FAILED_ATTEMPTS =
+      Integer.getInteger("chess.client.maxFailedAttempts", 1000);
+  /** The backoff of the first retry, in milliseconds. */
+  private static final long BACKOFF_BASE_MILLIS =
+      Long.getLong("chess.client.backoffBaseMillis", 250);
+  /** The maximal backoff, in milliseconds. */
+  private static final long BACKOFF_MAX_MILLIS =
+      Long.getLong("chess.client.backoffMaxMillis", 30000);
+
+  /** Random utility, for the jitter. */
+  private static final Random RANDOM = new Random();
+
+  /** The identifier of the game that the listener listens to. */
+  private final String gameId;
+  /** The circuit breaker of the server. */
+  private final CircuitBreaker circuitBreaker;
+  /** The health handler (may be null). */
+  private final ListenerHealthHandler healthHandler;
+  /** The number of consecutive failed polls. */
+  private int failedAttempts;
+  /** The last reported health. */
+  private Health health;
+
+  /** Constructor. */
+  ListenerRetry(
+      String gameId,
+      CircuitBreaker circuitBreaker,
+      ListenerHealthHandler healthHandler) {
+    this.gameId = gameId;
+    this.circuitBreaker = Preconditions.checkNotNull(circuitBreaker);
+    this.healthHandler = healthHandler;
+    this.failedAttempts = 0;
+    this.health = Health.HEALTHY;
+  }
+
+  /**
+   * Checks whether the next poll may be sent.
+   *
+   * @return 0 if the poll may be sent now, or the time to wait in milliseconds.
+   */
+  synchronized long delayBeforePoll() {
+    long delay = circuitBreaker.allowRequest();
+    if (delay > 0) {
+      report(Health.CIRCUIT_OPEN, "The server seems to be down.");
+      // Spread the listeners' probes over the end of the open period.
+      return delay + jitter(BACKOFF_BASE_MILLIS);
+    }
+    return 0;
+  }
+
+  /** Records a successful poll. */
+  synchronized void succeeded() {
+    failedAttempts = 0;
+    circuitBreaker.recordSuccess();
+    report(Health.HEALTHY, null);
+  }
+
+  /**
+   * Records a failed poll.
+   *
+   * @return The time to wait before retrying in milliseconds, or -1 if the
+   *     listener should give up.
+   */
+  synchronized long failed(String reason) {
+    if (!circuitBreaker.isOpen()) {
+      failedAttempts++;
+    }
+    circuitBreaker.recordFailure();
+    if (MAX_FAILED_ATTEMPTS > 0 && failedAttempts >= MAX_FAILED_ATTEMPTS) {
+      report(Health.STOPPED, "Gave up after " + failedAttempts
+          + " failed attempts: " + reason);
+      return -1;
+    }
+    report(Health.RETRYING, reason);
+    long backoff =
+        BACKOFF_BASE_MILLIS << Math.min(Math.max(failedAttempts - 1, 0), 20);
+    backoff = Math.min(backoff, BACKOFF_MAX_MILLIS);
+    return backoff / 2 + jitter(backoff / 2);
+  }
+
+  /** Records that the listener was stopped. */
+  synchronized void stopped() {
+    report(Health.STOPPED, "Stopped.");
+  }
+
+  /** Returns a random delay between 0 and max milliseconds. */
+  private static long jitter(long max) {
+    synchronized (RANDOM) {
+      return (long) (RANDOM.nextDouble() * max);
+    }
+  }
+
+  /** Reports a health change to the health handler. */
+  private void report(Health newHealth, String reason) {
+    if (newHealth == health) {
+      return;
+    }
+    health = newHealth;
+    if (healthHandler != null) {
+      healthHandler.healthChanged(gameId, newHealth, reason);
+    }
+  }
+}
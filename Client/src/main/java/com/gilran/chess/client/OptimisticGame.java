@@ -0,0 +1,248 @@
+package com.gilran.chess.client;
+
+import com.gilran.chess.Proto.ErrorResponse;
+import com.gilran.chess.Proto.GameEvent;
+import com.gilran.chess.Proto.GameStatus;
+import com.gilran.chess.Proto.MoveProto;
+import com.gilran.chess.Proto.Status;
+import com.gilran.chess.board.Coordinate;
+import com.gilran.chess.board.Move;
+import com.gilran.chess.board.Piece;
+import com.gilran.chess.board.Position;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A game that applies the local player's moves optimistically.
+ *
+ * <p>A move is validated against the local position and applied immediately,
+ * and only then sent to the server asynchronously, so the UI does not wait for
+ * a network round trip. The game keeps the position confirmed by the server's
+ * events, and the local moves that were not confirmed yet. When the server's
+ * events diverge from the local moves (e.g. the move was rejected, or the game
+ * ended on time), the local position is rolled back to the confirmed position
+ * and the pending moves that are still legal are replayed. The same is done
+ * when moves are taken back.
+ * <p>The game should be used as the event handler of the client's events
+ * listener. The events are passed on to the given event handler.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class OptimisticGame implements GameEventHandler {
+  /** A listener for changes of the local position. */
+  public interface Listener {
+    /**
+     * Called when the local position changes due to the server's events.
+     * <p>It is not called for local moves, which the caller already knows.
+     *
+     * @param position The local position. Must not be modified.
+     * @param rolledBack true iff local moves were rolled back.
+     */
+    void positionChanged(Position position, boolean rolledBack);
+  }
+
+  /** A local move that was not confirmed by the server yet. */
+  private static class PendingMove {
+    private final Coordinate from;
+    private final Coordinate to;
+
+    PendingMove(Coordinate from, Coordinate to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    /** Returns true iff this is the main move of the given proto move. */
+    boolean matches(MoveProto move) {
+      return from.toString().equals(move.getFrom())
+          && to.toString().equals(move.getTo());
+    }
+  }
+
+  /** The client, for sending moves. */
+  private final Client client;
+  /** The color of the local player. */
+  private final Piece.Color color;
+  /** The handler to which the events are passed on. */
+  private final GameEventHandler eventHandler;
+  /** The local position listener (may be null). */
+  private final Listener listener;
+  /** The position confirmed by the server. */
+  private Position confirmed;
+  /** The local position: the confirmed position and the pending moves. */
+  private Position local;
+  /** The local moves that were not confirmed yet, oldest first. */
+  private LinkedList<PendingMove> pending;
+
+  /**
+   * Constructor.
+   *
+   * @param client The client, which is already in the game.
+   * @param color The color of the local player.
+   * @param eventHandler A handler to which the game events are passed on.
+   * @param listener A listener for local position changes (may be null).
+   */
+  public OptimisticGame(
+      Client client,
+      Piece.Color color,
+      GameEventHandler eventHandler,
+      Listener listener) {
+    this.client = Preconditions.checkNotNull(client);
+    this.color = Preconditions.checkNotNull(color);
+    this.eventHandler = Preconditions.checkNotNull(eventHandler);
+    this.listener = listener;
+    this.confirmed = new Position();
+    this.local = copy(confirmed);
+    this.pending = Lists.newLinkedList();
+  }
+
+  /** Returns the local position. Must not be modified. */
+  public synchronized Position getPosition() {
+    return local;
+  }
+
+  /**
+   * Makes a local move, and sends it to the server.
+   *
+   * @return The moves performed in the local position. If empty, the move is
+   *     not legal in the local position, and it was not sent.
+   */
+  public synchronized List<Move> move(Coordinate from, Coordinate to) {
+    if (!isOngoing(local.getStatus()) || local.getActivePlayer() != color) {
+      return Collections.emptyList();
+    }
+    List<Move> moves = local.move(from, to);
+    if (moves.isEmpty()) {
+      return moves;
+    }
+    final PendingMove pendingMove = new PendingMove(from, to);
+    pending.add(pendingMove);
+    Futures.addCallback(
+        client.moveAsync(from.toString(), to.toString()),
+        new FutureCallback<ErrorResponse>() {
+          @Override
+          public void onSuccess(ErrorResponse response) {
+            if (response == null ||
+                (response.hasStatus() && response.getStatus() != Status.OK)) {
+              moveFailed(pendingMove);
+            }
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            moveFailed(pendingMove);
+          }
+        });
+    return moves;
+  }
+
+  @Override
+  public void handle(GameEvent event) {
+    boolean changed;
+    boolean rolledBack;
+    Position position;
+    synchronized (this) {
+      changed = false;
+      rolledBack = false;
+      switch (event.getType()) {
+        case MOVE_MADE:
+          MoveProto move = event.getMove(0);
+          confirmed.move(
+              Coordinate.get(move.getFrom()), Coordinate.get(move.getTo()));
+          if (!pending.isEmpty() && pending.getFirst().matches(move)) {
+            // The server confirmed the oldest local move.
+            pending.removeFirst();
+          } else {
+            rolledBack = !pending.isEmpty();
+            rebuild();
+            changed = true;
+          }
+          break;
+        case MOVES_TAKEN_BACK:
+          for (int i = 0; i < event.getMoveCount(); i++) {
+            confirmed.undo();
+          }
+          rolledBack = true;
+          rebuild();
+          changed = true;
+          break;
+        case GAME_ENDED:
+          confirmed.setStatus(event.getStatus());
+          rolledBack = !pending.isEmpty();
+          pending.clear();
+          rebuild();
+          changed = true;
+          break;
+        default:
+          break;
+      }
+      position = local;
+    }
+    if (changed && listener != null) {
+      listener.positionChanged(position, rolledBack);
+    }
+    eventHandler.handle(event);
+  }
+
+  /** Drops a local move that the server did not accept. */
+  private void moveFailed(PendingMove pendingMove) {
+    Position position;
+    synchronized (this) {
+      if (!pending.contains(pendingMove)) {
+        return;
+      }
+      // The moves that follow the failed move depend on it.
+      while (pending.removeLast() != pendingMove) {}
+      rebuild();
+      position = local;
+    }
+    if (listener != null) {
+      listener.positionChanged(position, true);
+    }
+  }
+
+  /**
+   * Rebuilds the local position from the confirmed position, replaying the
+   * pending moves that are still legal, and dropping the rest.
+   */
+  private void rebuild() {
+    local = copy(confirmed);
+    Iterator<PendingMove> it = pending.iterator();
+    while (it.hasNext()) {
+      PendingMove pendingMove = it.next();
+      if (local.getActivePlayer() != color ||
+          local.move(pendingMove.from, pendingMove.to).isEmpty()) {
+        it.remove();
+        while (it.hasNext()) {
+          it.next();
+          it.remove();
+        }
+      }
+    }
+  }
+
+  /** Returns true iff the game did not end. */
+  private static boolean isOngoing(GameStatus status) {
+    switch (status) {
+      case WHITE_TO_MOVE:
+      case BLACK_TO_MOVE:
+      case WHITE_CHECKED:
+      case BLACK_CHECKED:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /** Returns a copy of a position, without undo records. */
+  private static Position copy(Position position) {
+    return new Position(
+        position, position.getRepetitionHistory(), position.getStatus(), 0);
+  }
+}
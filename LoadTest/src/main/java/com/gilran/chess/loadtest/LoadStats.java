@@ -0,0 +1,110 @@
+package com.gilran.chess.loadtest;
+
+import com.gilran.chess.server.LatencyHistogram;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Maps;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The statistics of a load test: a latency histogram for each endpoint, and
+ * the numbers of played games.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class LoadStats {
+  /** The latency histograms, by endpoint name. */
+  private final ConcurrentMap<String, LatencyHistogram> histograms;
+  /** The number of games that started. */
+  private final AtomicLong gamesStarted;
+  /** The number of games that ended. */
+  private final AtomicLong gamesEnded;
+  /** The number of games that the local position of a player failed. */
+  private final AtomicLong gamesFailed;
+
+  /** Constructor. */
+  public LoadStats() {
+    histograms = Maps.newConcurrentMap();
+    gamesStarted = new AtomicLong();
+    gamesEnded = new AtomicLong();
+    gamesFailed = new AtomicLong();
+  }
+
+  /** Returns the latency histogram of an endpoint. */
+  public LatencyHistogram get(String endpoint) {
+    LatencyHistogram histogram = histograms.get(endpoint);
+    if (histogram == null) {
+      histograms.putIfAbsent(endpoint, new LatencyHistogram());
+      histogram = histograms.get(endpoint);
+    }
+    return histogram;
+  }
+
+  /** Records that a game started. */
+  public void gameStarted() {
+    gamesStarted.incrementAndGet();
+  }
+
+  /** Records that a game ended. */
+  public void gameEnded() {
+    gamesEnded.incrementAndGet();
+  }
+
+  /** Records that the local position of a player failed in a game. */
+  public void gameFailed() {
+    gamesFailed.incrementAndGet();
+  }
+
+  /** Returns the number of games that ended. */
+  public long getGamesEnded() {
+    return gamesEnded.get();
+  }
+
+  /** Returns the number of games that the local position of a player failed. */
+  public long getGamesFailed() {
+    return gamesFailed.get();
+  }
+
+  /** Returns the number of failed requests in all the endpoints. */
+  public long getErrors() {
+    long errors = 0;
+    for (LatencyHistogram histogram : histograms.values()) {
+      errors += histogram.getErrors();
+    }
+    return errors;
+  }
+
+  /**
+   * Prints a report of the statistics.
+   *
+   * @param out The stream to which the report is printed.
+   * @param elapsedMillis The duration of the test, for the throughput.
+   */
+  public void report(PrintStream out, long elapsedMillis) {
+    double seconds = Math.max(elapsedMillis, 1) / 1000.0;
+    out.printf(
+        "Duration: %.1fs, games started: %d, ended: %d, failed: %d%n",
+        seconds, gamesStarted.get(), gamesEnded.get(), gamesFailed.get());
+    out.printf("%-12s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+        "endpoint", "requests", "errors", "req/s",
+        "mean(ms)", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+    for (Map.Entry<String, LatencyHistogram> entry :
+         ImmutableSortedMap.copyOf(histograms).entrySet()) {
+      LatencyHistogram histogram = entry.getValue();
+      out.printf("%-12s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+          entry.getKey(),
+          histogram.getCount(),
+          histogram.getErrors(),
+          histogram.getCount() / seconds,
+          histogram.getMeanMicros() / 1000.0,
+          histogram.getPercentileMicros(50) / 1000.0,
+          histogram.getPercentileMicros(90) / 1000.0,
+          histogram.getPercentileMicros(99) / 1000.0,
+          histogram.getMaxMicros() / 1000.0);
+    }
+    out.flush();
+  }
+}
@@ -0,0 +1,126 @@
+package com.gilran.chess.loadtest;
+
+import com.gilran.chess.server.EmbeddedServer;
+import com.google.common.collect.Lists;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A load test of the Chess server.
+ *
+ * <p>The load test runs synthetic players, that play random games against each
+ * other through the client API, and prints the latency and the throughput of
+ * each endpoint. Unless a server URL is given, the players play against an
+ * embedded server, so the test runs fully locally. The exit status is non-zero
+ * if any request failed, if the local position of a player failed to follow a
+ * game, or if no game was played to its end.
+ * <p>The test is configured with the following system properties:
+ * <ul>
+ * <li>chess.loadtest.url: The base URL of the server under test. If not set,
+ *     an embedded server is started.
+ * <li>chess.loadtest.port: The port of the embedded server. Its pools are
+ *     configured with the properties of EmbeddedServer.
+ * <li>chess.loadtest.players: The number of players (two per game).
+ * <li>chess.loadtest.durationSeconds: The duration of the test.
+ * <li>chess.loadtest.movesPerSecond: The move rate of each player.
+ * <li>chess.loadtest.maxPlies: The number of half-moves after which a game is
+ *     resigned.
+ * <li>chess.loadtest.positionEvery: The number of own moves between two
+ *     getPosition requests of a player.
+ * </ul>
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class LoadTest {
+  /** The port of the embedded server. */
+  private static final int PORT =
+      Integer.getInteger("chess.loadtest.port", 8090);
+  /** The number of players. */
+  private static final int PLAYERS =
+      Integer.getInteger("chess.loadtest.players", 1000);
+  /** The duration of the test, in seconds. */
+  private static final int DURATION_SECONDS =
+      Integer.getInteger("chess.loadtest.durationSeconds", 60);
+  /** The move rate of each player. */
+  private static final double MOVES_PER_SECOND =
+      Double.parseDouble(System.getProperty(
+          "chess.loadtest.movesPerSecond", "1"));
+  /** The number of half-moves after which a game is resigned. */
+  private static final int MAX_PLIES =
+      Integer.getInteger("chess.loadtest.maxPlies", 200);
+  /** The number of own moves between two getPosition requests. */
+  private static final int POSITION_EVERY =
+      Integer.getInteger("chess.loadtest.positionEvery", 10);
+  /**
+   * The time the players may take to finish their games after the test ends,
+   * in milliseconds. Longer than the server's getEvents wait timeout.
+   */
+  private static final long GRACE_MILLIS = 40000;
+  /** The stack size of the player threads. */
+  private static final long PLAYER_STACK_SIZE = 256 * 1024;
+
+  /** The main function. */
+  public static void main(String[] args)
+      throws IOException, InterruptedException {
+    // Each player holds a single connection at a time.
+    setDefault("chess.client.maxConnections", PLAYERS);
+    setDefault("chess.client.maxConnectionsPerRoute", PLAYERS);
+    // The server logs every request.
+    Logger.getLogger("").setLevel(Level.WARNING);
+
+    String baseUrl = System.getProperty("chess.loadtest.url");
+    EmbeddedServer server = null;
+    if (baseUrl == null) {
+      server = new EmbeddedServer("localhost", PORT);
+      baseUrl = server.start().toString();
+    }
+
+    System.out.printf("Running %d players against %s for %ds...%n",
+        PLAYERS, baseUrl, DURATION_SECONDS);
+    LoadStats stats = new LoadStats();
+    long startTime = System.currentTimeMillis();
+    long deadline = startTime + DURATION_SECONDS * 1000L;
+    List<Thread> threads = Lists.newArrayList();
+    for (int i = 0; i < PLAYERS; ++i) {
+      Thread thread = new Thread(
+          null,
+          new SyntheticPlayer(
+              baseUrl,
+              "player" + i,
+              stats,
+              (long) (1000 / MOVES_PER_SECOND),
+              MAX_PLIES,
+              POSITION_EVERY,
+              deadline),
+          "player-" + i,
+          PLAYER_STACK_SIZE);
+      thread.setDaemon(true);
+      thread.start();
+      threads.add(thread);
+    }
+    for (Thread thread : threads) {
+      thread.join(
+          Math.max(deadline + GRACE_MILLIS - System.currentTimeMillis(), 1));
+    }
+    long elapsedMillis = System.currentTimeMillis() - startTime;
+
+    stats.report(System.out, elapsedMillis);
+    if (server != null) {
+      server.stop();
+    }
+    System.exit(
+        stats.getErrors() == 0 &&
+        stats.getGamesFailed() == 0 &&
+        stats.getGamesEnded() > 0 ? 0 : 1);
+  }
+
+  /** Sets a system property, unless it is already set. */
+  private static void setDefault(String key, int value) {
+    if (System.getProperty(key) == null) {
+      System.setProperty(key, String.valueOf(value));
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package com.gilran.chess.loadtest;
+
+import com.gilran.chess.board.Coordinate;
+import com.gilran.chess.board.ForsythEdwardsNotation;
+import com.gilran.chess.board.ForsythEdwardsNotation.InvalidFENStringException;
+import com.gilran.chess.board.PiecesPlacement.PlacementEntry;
+import com.gilran.chess.board.Position;
+import com.google.common.collect.Lists;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A parallel perft driver, measuring the move generation throughput of the
+ * Board module on all cores.
+ *
+ * <p>Perft counts the leaf nodes of the legal move tree of a position to a
+ * given depth. The moves of the top levels of the tree are split into fork-join
+ * tasks, each with its own copy of the position, so the subtrees are counted in
+ * parallel and the work-stealing pool balances subtrees of different sizes.
+ * The tree is counted with 1, 2, 4, ... threads, up to the number of cores, and
+ * the nodes per second and the speedup of each run are printed. The node
+ * counts of all the runs must be equal. A shallower tree is counted before the
+ * runs, so the first run is not slowed down by the JIT warmup.
+ * <p>In bulk mode, the last level of the tree is not played: the nodes are
+ * counted from the legal moves of their parent positions, so the run measures
+ * the legal move generation throughput.
+ * <p>As the Board module promotes pawns to a single piece type, the counts of
+ * trees with promotions are lower than the standard perft counts.
+ * <p>The driver is configured with the following system properties:
+ * <ul>
+ * <li>chess.perft.fen: The position (the starting position if not set).
+ * <li>chess.perft.depth: The depth of the tree.
+ * <li>chess.perft.splitDepth: The number of top levels of the tree that are
+ *     split into tasks.
+ * <li>chess.perft.maxThreads: The maximal number of threads.
+ * <li>chess.perft.bulk: Whether to count the last level from the legal moves.
+ * <li>chess.perft.expected: The expected node count, if known.
+ * </ul>
+ * The exit status is non-zero if the node counts differ between the runs, or
+ * from the expected node count.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class Perft {
+  /** The depth of the tree. */
+  private static final int DEPTH = Integer.getInteger("chess.perft.depth", 4);
+  /** The number of top levels of the tree that are split into tasks. */
+  private static final int SPLIT_DEPTH =
+      Integer.getInteger("chess.perft.splitDepth", 2);
+  /** The maximal number of threads. */
+  private static final int MAX_THREADS = Integer.getInteger(
+      "chess.perft.maxThreads", Runtime.getRuntime().availableProcessors());
+  /** Whether to count the last level of the tree from the legal moves. */
+  private static final boolean BULK =
+      Boolean.parseBoolean(System.getProperty("chess.perft.bulk", "true"));
+
+  /** Counts the nodes of a subtree, splitting the top levels into tasks. */
+  private static class PerftTask extends RecursiveTask<Long> {
+    private static final long serialVersionUID = 1L;
+
+    /** The root of the subtree. Owned by the task. */
+    private final Position position;
+    /** The depth of the subtree. */
+    private final int depth;
+    /** The number of levels that are still split into tasks. */
+    private final int splitDepth;
+
+    /** Constructor. */
+    PerftTask(Position position, int depth, int splitDepth) {
+      this.position = position;
+      this.depth = depth;
+      this.splitDepth = splitDepth;
+    }
+
+    @Override
+    protected Long compute() {
+      if (splitDepth == 0 || depth <= 1) {
+        return perft(position, depth);
+      }
+      List<PerftTask> tasks = Lists.newArrayList();
+      for (Coordinate[] move : legalMoves(position)) {
+        tasks.add(new PerftTask(
+            play(position, move), depth - 1, splitDepth - 1));
+      }
+      invokeAll(tasks);
+      long nodes = 0;
+      for (PerftTask task : tasks) {
+        nodes += task.join();
+      }
+      return nodes;
+    }
+  }
+
+  /** The main function. */
+  public static void main(String[] args) throws InvalidFENStringException {
+    String fen = System.getProperty("chess.perft.fen");
+    Position position = fen == null
+        ? new Position()
+        : new Position(new ForsythEdwardsNotation(fen));
+    String expected = System.getProperty("chess.perft.expected");
+
+    System.out.printf("Perft of \"%s\" to depth %d%s%n",
+        new ForsythEdwardsNotation(position), DEPTH, BULK ? " (bulk)" : "");
+    System.out.printf("%7s %12s %9s %12s %8s%n",
+        "threads", "nodes", "time(ms)", "nodes/s", "speedup");
+    perft(new Position(position), DEPTH - 1);
+
+    boolean ok = true;
+    long firstNodes = -1;
+    double firstRate = 0;
+    for (int threads = 1; ; threads = Math.min(threads * 2, MAX_THREADS)) {
+      ForkJoinPool pool = new ForkJoinPool(threads);
+      long start = System.nanoTime();
+      long nodes = pool.invoke(
+          new PerftTask(new Position(position), DEPTH, SPLIT_DEPTH));
+      long nanos = Math.max(System.nanoTime() - start, 1);
+      pool.shutdown();
+
+      double rate = nodes * 1e9 / nanos;
+      if (firstNodes < 0) {
+        firstNodes = nodes;
+        firstRate = rate;
+      } else if (nodes != firstNodes) {
+        ok = false;
+      }
+      System.out.printf("%7d %12d %9d %12.0f %7.2fx%n",
+          threads, nodes, nanos / 1000000, rate, rate / firstRate);
+      if (threads >= MAX_THREADS) {
+        break;
+      }
+    }
+
+    if (!ok) {
+      System.out.println("The node counts differ between the runs.");
+    }
+    if (expected != null && Long.parseLong(expected) != firstNodes) {
+      System.out.println("Expected " + expected + " nodes.");
+      ok = false;
+    }
+    System.exit(ok ? 0 : 1);
+  }
+
+  /** Counts the nodes of a subtree on the current thread. */
+  private static long perft(Position position, int depth) {
+    if (depth == 0) {
+      return 1;
+    }
+    List<Coordinate[]> moves = legalMoves(position);
+    if (depth == 1 && BULK) {
+      return moves.size();
+    }
+    long nodes = 0;
+    for (Coordinate[] move : moves) {
+      nodes += perft(play(position, move), depth - 1);
+    }
+    return nodes;
+  }
+
+  /** Returns a copy of the position, after the given move. */
+  private static Position play(Position position, Coordinate[] move) {
+    Position copy = new Position(position, 0);
+    if (copy.move(move[0], move[1]).isEmpty()) {
+      throw new IllegalStateException("Illegal move "
+          + move[0] + move[1] + " in " + new ForsythEdwardsNotation(position));
+    }
+    return copy;
+  }
+
+  /** Returns the legal moves of the active player, as {from, to}. */
+  private static List<Coordinate[]> legalMoves(Position position) {
+    List<Coordinate[]> moves = Lists.newArrayList();
+    for (PlacementEntry entry : position.getPiecesPlacement()) {
+      if (entry.getPiece().getColor() != position.getActivePlayer()) {
+        continue;
+      }
+      Coordinate from = entry.getCoordinate();
+      for (Coordinate to : position.getLegalMoves(from)) {
+        moves.add(new Coordinate[] { from, to });
+      }
+    }
+    return moves;
+  }
+}
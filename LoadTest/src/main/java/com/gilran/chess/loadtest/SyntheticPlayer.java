@@ -0,0 +1,284 @@
+package com.gilran.chess.loadtest;
+
+import com.gilran.chess.Proto.EventsResponse;
+import com.gilran.chess.Proto.GameEvent;
+import com.gilran.chess.Proto.GameStatus;
+import com.gilran.chess.Proto.MoveProto;
+import com.gilran.chess.Proto.SeekResponse;
+import com.gilran.chess.Proto.Status;
+import com.gilran.chess.board.Coordinate;
+import com.gilran.chess.board.Piece;
+import com.gilran.chess.board.PiecesPlacement.PlacementEntry;
+import com.gilran.chess.board.Position;
+import com.gilran.chess.client.Client;
+import com.gilran.chess.server.LatencyHistogram;
+import com.google.common.collect.Lists;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A synthetic player for load tests.
+ *
+ * <p>The player logs in, and then plays games until the end of the test: it
+ * seeks a game, and plays random legal moves from a local position at a fixed
+ * rate, following the game with getEvents requests. Once in a while it also
+ * asks for the position. A game that gets too long is resigned, and so are the
+ * games that are still played when the test ends, and the games that the local
+ * position fails to follow (which are counted as failed games).
+ * <p>Every request is timed, and recorded in the load statistics under the
+ * name of the endpoint.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class SyntheticPlayer implements Runnable {
+  /** Logger. */
+  private static final Logger LOGGER = Logger.getLogger(
+      Thread.currentThread().getStackTrace()[0].getClassName());
+
+  /** The time to wait after a failed request, in milliseconds. */
+  private static final long ERROR_BACKOFF_MILLIS = 1000;
+
+  /** The base URL of the server. */
+  private final String baseUrl;
+  /** The user name of the player. */
+  private final String username;
+  /** The load statistics. */
+  private final LoadStats stats;
+  /** The minimal time between two moves of the player, in milliseconds. */
+  private final long moveIntervalMillis;
+  /** The number of half-moves after which the player resigns. */
+  private final int maxPlies;
+  /** The number of own moves between two getPosition requests. */
+  private final int positionEvery;
+  /** The time at which the test ends (as in System.currentTimeMillis). */
+  private final long deadline;
+  /** Random utility, for choosing moves. */
+  private final Random random;
+  /** The client. */
+  private Client client;
+
+  /**
+   * Constructor.
+   *
+   * @param baseUrl The base URL of the server.
+   * @param username The user name of the player.
+   * @param stats The load statistics.
+   * @param moveIntervalMillis The minimal time between two moves of the
+   *     player, in milliseconds.
+   * @param maxPlies The number of half-moves after which the player resigns.
+   * @param positionEvery The number of own moves between two getPosition
+   *     requests.
+   * @param deadline The time at which the test ends.
+   */
+  public SyntheticPlayer(
+      String baseUrl,
+      String username,
+      LoadStats stats,
+      long moveIntervalMillis,
+      int maxPlies,
+      int positionEvery,
+      long deadline) {
+    this.baseUrl = baseUrl;
+    this.username = username;
+    this.stats = stats;
+    this.moveIntervalMillis = moveIntervalMillis;
+    this.maxPlies = maxPlies;
+    this.positionEvery = positionEvery;
+    this.deadline = deadline;
+    this.random = new Random();
+  }
+
+  @Override
+  public void run() {
+    client = new Client(baseUrl);
+    long start = System.nanoTime();
+    if (!record("login", start, client.login(username))) {
+      return;
+    }
+    while (System.currentTimeMillis() < deadline) {
+      start = System.nanoTime();
+      SeekResponse seekResponse = client.seek();
+      if (!record("seek", start, seekResponse)) {
+        pause(ERROR_BACKOFF_MILLIS);
+        continue;
+      }
+      stats.gameStarted();
+      play(seekResponse.getWhite().equals(username)
+          ? Piece.Color.WHITE : Piece.Color.BLACK);
+    }
+  }
+
+  /** Plays a game until it ends. */
+  private void play(Piece.Color color) {
+    Position position = new Position();
+    int nextEventNumber = 0;
+    int plies = 0;
+    int ownMoves = 0;
+    long nextMoveTime = System.currentTimeMillis();
+    boolean resigned = false;
+    // Set when the local position cannot follow the game.
+    boolean failed = false;
+    while (true) {
+      if (!resigned && (failed ||
+          (isOngoing(position.getStatus()) &&
+           position.getActivePlayer() == color))) {
+        long start;
+        if (failed || plies >= maxPlies ||
+            System.currentTimeMillis() >= deadline) {
+          start = System.nanoTime();
+          resigned = record("resign", start, client.resign());
+        } else {
+          pause(nextMoveTime - System.currentTimeMillis());
+          nextMoveTime =
+              Math.max(nextMoveTime, System.currentTimeMillis())
+              + moveIntervalMillis;
+          Coordinate[] move = randomMove(position);
+          if (move == null) {
+            failed = fail("No legal moves in an ongoing game.", null);
+            continue;
+          }
+          start = System.nanoTime();
+          record("move", start, client.move(
+              move[0].toString(), move[1].toString()));
+          if (++ownMoves % positionEvery == 0) {
+            start = System.nanoTime();
+            record("getPosition", start, client.getPosition());
+          }
+        }
+      }
+
+      long start = System.nanoTime();
+      EventsResponse response = client.getEvents(nextEventNumber);
+      boolean ok = record("getEvents", start, response);
+      if (!ok || response.getEventCount() == 0) {
+        if (System.currentTimeMillis() >= deadline) {
+          // Give up the game, as the test is over.
+          return;
+        }
+        if (!ok) {
+          pause(ERROR_BACKOFF_MILLIS);
+        } else if (!failed && !isOngoing(position.getStatus())) {
+          failed = fail("The game ended only in the local position.", null);
+        }
+        continue;
+      }
+      for (GameEvent event : response.getEventList()) {
+        nextEventNumber = event.getSerialNumber() + 1;
+        switch (event.getType()) {
+          case MOVE_MADE:
+            plies++;
+            if (failed) {
+              break;
+            }
+            MoveProto move = event.getMove(0);
+            try {
+              if (position.move(
+                  Coordinate.get(move.getFrom()),
+                  Coordinate.get(move.getTo())).isEmpty()) {
+                failed = fail("Illegal move in the local position: "
+                    + move.getFrom() + move.getTo(), null);
+              }
+            } catch (RuntimeException e) {
+              failed = fail("The local position failed.", e);
+            }
+            break;
+          case GAME_ENDED:
+            stats.gameEnded();
+            return;
+          default:
+            break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Records that the local position cannot follow the game, so the player
+   * resigns it.
+   *
+   * @return true.
+   */
+  private boolean fail(String message, Throwable thrown) {
+    LOGGER.log(Level.WARNING, username + ": " + message, thrown);
+    stats.gameFailed();
+    return true;
+  }
+
+  /**
+   * Returns a random legal move of the active player, as {from, to}, or null if
+   * there are no legal moves.
+   */
+  private Coordinate[] randomMove(Position position) {
+    List<Coordinate[]> moves = Lists.newArrayList();
+    for (PlacementEntry entry : position.getPiecesPlacement()) {
+      if (entry.getPiece().getColor() != position.getActivePlayer()) {
+        continue;
+      }
+      Coordinate from = entry.getCoordinate();
+      for (Coordinate to : position.getLegalMoves(from)) {
+        moves.add(new Coordinate[] { from, to });
+      }
+    }
+    return moves.isEmpty() ? null : moves.get(random.nextInt(moves.size()));
+  }
+
+  /**
+   * Records the latency of a request.
+   *
+   * @param endpoint The name of the endpoint.
+   * @param startNanos The time the request was sent (as in System.nanoTime).
+   * @param response The response (null if the request failed).
+   * @return true iff the request succeeded.
+   */
+  private boolean record(String endpoint, long startNanos, Message response) {
+    LatencyHistogram histogram = stats.get(endpoint);
+    histogram.record(System.nanoTime() - startNanos);
+    if (!isOk(response)) {
+      histogram.recordError();
+      return false;
+    }
+    return true;
+  }
+
+  /** Returns true iff the response is not null and has no error status. */
+  private static boolean isOk(Message response) {
+    if (response == null) {
+      return false;
+    }
+    FieldDescriptor statusField =
+        response.getDescriptorForType().findFieldByName("status");
+    return statusField == null || !response.hasField(statusField) ||
+        response.getField(statusField).equals(
+            Status.OK.getValueDescriptor());
+  }
+
+  /** Returns true iff the game did not end. */
+  private static boolean isOngoing(GameStatus status) {
+    switch (status) {
+      case WHITE_TO_MOVE:
+      case BLACK_TO_MOVE:
+      case WHITE_CHECKED:
+      case BLACK_CHECKED:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /** Sleeps for the given time, if it is positive. */
+  private static void pause(long millis) {
+    if (millis <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
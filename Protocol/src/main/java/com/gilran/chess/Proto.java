@@ -17,6 +17,11 @@ public final class Proto {
     INVALID_MOVE(4, 4),
     NOT_YOUR_TURN(5, 5),
     ILLEGAL_MOVE(6, 6),
+    TOO_MANY_SPECTATORS(7, 7),
+    TOO_MANY_WAITING_REQUESTS(8, 8),
+    RATE_LIMITED(9, 9),
+    SERVER_BUSY(10, 10),
+    SERVER_ERROR(11, 11),
     ;
 
     public static final int OK_VALUE = 0;
@@ -26,6 +31,11 @@ public final class Proto {
     public static final int INVALID_MOVE_VALUE = 4;
     public static final int NOT_YOUR_TURN_VALUE = 5;
     public static final int ILLEGAL_MOVE_VALUE = 6;
+    public static final int TOO_MANY_SPECTATORS_VALUE = 7;
+    public static final int TOO_MANY_WAITING_REQUESTS_VALUE = 8;
+    public static final int RATE_LIMITED_VALUE = 9;
+    public static final int SERVER_BUSY_VALUE = 10;
+    public static final int SERVER_ERROR_VALUE = 11;
 
 
     public final int getNumber() { return value; }
@@ -39,6 +49,11 @@ public final class Proto {
         case 4: return INVALID_MOVE;
         case 5: return NOT_YOUR_TURN;
         case 6: return ILLEGAL_MOVE;
+        case 7: return TOO_MANY_SPECTATORS;
+        case 8: return TOO_MANY_WAITING_REQUESTS;
+        case 9: return RATE_LIMITED;
+        case 10: return SERVER_BUSY;
+        case 11: return SERVER_ERROR;
         default: return null;
       }
     }
@@ -69,7 +84,7 @@ public final class Proto {
     }
 
     private static final Status[] VALUES = {
-      OK, INVALID_REQUEST, INVALID_OR_EXPIRED_SESSION_TOKEN, INVALID_GAME_ID, INVALID_MOVE, NOT_YOUR_TURN, ILLEGAL_MOVE,
+      OK, INVALID_REQUEST, INVALID_OR_EXPIRED_SESSION_TOKEN, INVALID_GAME_ID, INVALID_MOVE, NOT_YOUR_TURN, ILLEGAL_MOVE, TOO_MANY_SPECTATORS, TOO_MANY_WAITING_REQUESTS, RATE_LIMITED, SERVER_BUSY, SERVER_ERROR,
     };
 
     public static Status valueOf(
@@ -2396,6 +2411,10 @@ public final class Proto {
     // required string to = 2;
     boolean hasTo();
     String getTo();
+
+    // optional string promotion = 3;
+    boolean hasPromotion();
+    String getPromotion();
   }
   public static final class MoveProto extends
       com.google.protobuf.GeneratedMessage
@@ -2490,9 +2509,42 @@ public final class Proto {
       }
     }
 
+    // optional string promotion = 3;
+    public static final int PROMOTION_FIELD_NUMBER = 3;
+    private java.lang.Object promotion_;
+    public boolean hasPromotion() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public String getPromotion() {
+      java.lang.Object ref = promotion_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          promotion_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getPromotionBytes() {
+      java.lang.Object ref = promotion_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        promotion_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private void initFields() {
       from_ = "";
       to_ = "";
+      promotion_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2520,6 +2572,9 @@ public final class Proto {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeBytes(2, getToBytes());
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getPromotionBytes());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2537,6 +2592,10 @@ public final class Proto {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(2, getToBytes());
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getPromotionBytes());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -2665,6 +2724,8 @@ public final class Proto {
         bitField0_ = (bitField0_ & ~0x00000001);
         to_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
+        promotion_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -2711,6 +2772,10 @@ public final class Proto {
           to_bitField0_ |= 0x00000002;
         }
         result.to_ = to_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.promotion_ = promotion_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2733,6 +2798,9 @@ public final class Proto {
         if (other.hasTo()) {
           setTo(other.getTo());
         }
+        if (other.hasPromotion()) {
+          setPromotion(other.getPromotion());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -2782,6 +2850,11 @@ public final class Proto {
               to_ = input.readBytes();
               break;
             }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              promotion_ = input.readBytes();
+              break;
+            }
           }
         }
       }
@@ -2860,6 +2933,42 @@ public final class Proto {
         onChanged();
       }
 
+      // optional string promotion = 3;
+      private java.lang.Object promotion_ = "";
+      public boolean hasPromotion() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      public String getPromotion() {
+        java.lang.Object ref = promotion_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          promotion_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setPromotion(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        promotion_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearPromotion() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        promotion_ = getDefaultInstance().getPromotion();
+        onChanged();
+        return this;
+      }
+      void setPromotion(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000004;
+        promotion_ = value;
+        onChanged();
+      }
+
       // @@protoc_insertion_point(builder_scope:chess.MoveProto)
     }
 
@@ -3979,6 +4088,19 @@ public final class Proto {
         getMoveOrBuilderList();
     com.gilran.chess.Proto.MoveProtoOrBuilder getMoveOrBuilder(
         int index);
+
+    // optional int64 white_time_ms = 5;
+    boolean hasWhiteTimeMs();
+    long getWhiteTimeMs();
+
+    // optional int64 black_time_ms = 6;
+    boolean hasBlackTimeMs();
+    long getBlackTimeMs();
+
+    // optional .chess.AnalysisInfo analysis = 7;
+    boolean hasAnalysis();
+    com.gilran.chess.Proto.AnalysisInfo getAnalysis();
+    com.gilran.chess.Proto.AnalysisInfoOrBuilder getAnalysisOrBuilder();
   }
   public static final class GameEvent extends
       com.google.protobuf.GeneratedMessage
@@ -4016,6 +4138,12 @@ public final class Proto {
       BLACK_OFFERED_DRAW(3, 3),
       DRAW_OFFER_DECLINED(4, 4),
       DRAW_OFFER_WITHDRAWN(5, 5),
+      ANALYSIS_UPDATE(6, 6),
+      ANALYSIS_ENDED(7, 7),
+      WHITE_REQUESTED_TAKEBACK(8, 8),
+      BLACK_REQUESTED_TAKEBACK(9, 9),
+      TAKEBACK_DECLINED(10, 10),
+      MOVES_TAKEN_BACK(11, 11),
       ;
 
       public static final int MOVE_MADE_VALUE = 0;
@@ -4024,6 +4152,12 @@ public final class Proto {
       public static final int BLACK_OFFERED_DRAW_VALUE = 3;
       public static final int DRAW_OFFER_DECLINED_VALUE = 4;
       public static final int DRAW_OFFER_WITHDRAWN_VALUE = 5;
+      public static final int ANALYSIS_UPDATE_VALUE = 6;
+      public static final int ANALYSIS_ENDED_VALUE = 7;
+      public static final int WHITE_REQUESTED_TAKEBACK_VALUE = 8;
+      public static final int BLACK_REQUESTED_TAKEBACK_VALUE = 9;
+      public static final int TAKEBACK_DECLINED_VALUE = 10;
+      public static final int MOVES_TAKEN_BACK_VALUE = 11;
 
 
       public final int getNumber() { return value; }
@@ -4036,6 +4170,12 @@ public final class Proto {
           case 3: return BLACK_OFFERED_DRAW;
           case 4: return DRAW_OFFER_DECLINED;
           case 5: return DRAW_OFFER_WITHDRAWN;
+          case 6: return ANALYSIS_UPDATE;
+          case 7: return ANALYSIS_ENDED;
+          case 8: return WHITE_REQUESTED_TAKEBACK;
+          case 9: return BLACK_REQUESTED_TAKEBACK;
+          case 10: return TAKEBACK_DECLINED;
+          case 11: return MOVES_TAKEN_BACK;
           default: return null;
         }
       }
@@ -4066,7 +4206,7 @@ public final class Proto {
       }
 
       private static final Type[] VALUES = {
-        MOVE_MADE, GAME_ENDED, WHITE_OFFERED_DRAW, BLACK_OFFERED_DRAW, DRAW_OFFER_DECLINED, DRAW_OFFER_WITHDRAWN,
+        MOVE_MADE, GAME_ENDED, WHITE_OFFERED_DRAW, BLACK_OFFERED_DRAW, DRAW_OFFER_DECLINED, DRAW_OFFER_WITHDRAWN, ANALYSIS_UPDATE, ANALYSIS_ENDED, WHITE_REQUESTED_TAKEBACK, BLACK_REQUESTED_TAKEBACK, TAKEBACK_DECLINED, MOVES_TAKEN_BACK,
       };
 
       public static Type valueOf(
@@ -4141,11 +4281,47 @@ public final class Proto {
       return move_.get(index);
     }
 
+    // optional int64 white_time_ms = 5;
+    public static final int WHITE_TIME_MS_FIELD_NUMBER = 5;
+    private long whiteTimeMs_;
+    public boolean hasWhiteTimeMs() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    public long getWhiteTimeMs() {
+      return whiteTimeMs_;
+    }
+
+    // optional int64 black_time_ms = 6;
+    public static final int BLACK_TIME_MS_FIELD_NUMBER = 6;
+    private long blackTimeMs_;
+    public boolean hasBlackTimeMs() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    public long getBlackTimeMs() {
+      return blackTimeMs_;
+    }
+
+    // optional .chess.AnalysisInfo analysis = 7;
+    public static final int ANALYSIS_FIELD_NUMBER = 7;
+    private com.gilran.chess.Proto.AnalysisInfo analysis_;
+    public boolean hasAnalysis() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    public com.gilran.chess.Proto.AnalysisInfo getAnalysis() {
+      return analysis_;
+    }
+    public com.gilran.chess.Proto.AnalysisInfoOrBuilder getAnalysisOrBuilder() {
+      return analysis_;
+    }
+
     private void initFields() {
       serialNumber_ = 0;
       type_ = com.gilran.chess.Proto.GameEvent.Type.MOVE_MADE;
       status_ = com.gilran.chess.Proto.GameStatus.WHITE_TO_MOVE;
       move_ = java.util.Collections.emptyList();
+      whiteTimeMs_ = 0L;
+      blackTimeMs_ = 0L;
+      analysis_ = com.gilran.chess.Proto.AnalysisInfo.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -4170,6 +4346,12 @@ public final class Proto {
           return false;
         }
       }
+      if (hasAnalysis()) {
+        if (!getAnalysis().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -4189,6 +4371,15 @@ public final class Proto {
       for (int i = 0; i < move_.size(); i++) {
         output.writeMessage(4, move_.get(i));
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(5, whiteTimeMs_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeInt64(6, blackTimeMs_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeMessage(7, analysis_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -4214,6 +4405,18 @@ public final class Proto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(4, move_.get(i));
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, whiteTimeMs_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, blackTimeMs_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, analysis_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -4331,6 +4534,7 @@ public final class Proto {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
           getMoveFieldBuilder();
+          getAnalysisFieldBuilder();
         }
       }
       private static Builder create() {
@@ -4351,6 +4555,16 @@ public final class Proto {
         } else {
           moveBuilder_.clear();
         }
+        whiteTimeMs_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        blackTimeMs_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        if (analysisBuilder_ == null) {
+          analysis_ = com.gilran.chess.Proto.AnalysisInfo.getDefaultInstance();
+        } else {
+          analysisBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -4410,6 +4624,22 @@ public final class Proto {
         } else {
           result.move_ = moveBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.whiteTimeMs_ = whiteTimeMs_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.blackTimeMs_ = blackTimeMs_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        if (analysisBuilder_ == null) {
+          result.analysis_ = analysis_;
+        } else {
+          result.analysis_ = analysisBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -4461,6 +4691,15 @@ public final class Proto {
             }
           }
         }
+        if (other.hasWhiteTimeMs()) {
+          setWhiteTimeMs(other.getWhiteTimeMs());
+        }
+        if (other.hasBlackTimeMs()) {
+          setBlackTimeMs(other.getBlackTimeMs());
+        }
+        if (other.hasAnalysis()) {
+          mergeAnalysis(other.getAnalysis());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -4484,6 +4723,12 @@ public final class Proto {
             return false;
           }
         }
+        if (hasAnalysis()) {
+          if (!getAnalysis().isInitialized()) {
+
+            return false;
+          }
+        }
         return true;
       }
 
@@ -4543,6 +4788,25 @@ public final class Proto {
               addMove(subBuilder.buildPartial());
               break;
             }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              whiteTimeMs_ = input.readInt64();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              blackTimeMs_ = input.readInt64();
+              break;
+            }
+            case 58: {
+              com.gilran.chess.Proto.AnalysisInfo.Builder subBuilder = com.gilran.chess.Proto.AnalysisInfo.newBuilder();
+              if (hasAnalysis()) {
+                subBuilder.mergeFrom(getAnalysis());
+              }
+              input.readMessage(subBuilder, extensionRegistry);
+              setAnalysis(subBuilder.buildPartial());
+              break;
+            }
           }
         }
       }
@@ -4804,6 +5068,138 @@ public final class Proto {
         return moveBuilder_;
       }
 
+      // optional int64 white_time_ms = 5;
+      private long whiteTimeMs_ ;
+      public boolean hasWhiteTimeMs() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      public long getWhiteTimeMs() {
+        return whiteTimeMs_;
+      }
+      public Builder setWhiteTimeMs(long value) {
+        bitField0_ |= 0x00000010;
+        whiteTimeMs_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearWhiteTimeMs() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        whiteTimeMs_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 black_time_ms = 6;
+      private long blackTimeMs_ ;
+      public boolean hasBlackTimeMs() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      public long getBlackTimeMs() {
+        return blackTimeMs_;
+      }
+      public Builder setBlackTimeMs(long value) {
+        bitField0_ |= 0x00000020;
+        blackTimeMs_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearBlackTimeMs() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        blackTimeMs_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional .chess.AnalysisInfo analysis = 7;
+      private com.gilran.chess.Proto.AnalysisInfo analysis_ = com.gilran.chess.Proto.AnalysisInfo.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.gilran.chess.Proto.AnalysisInfo, com.gilran.chess.Proto.AnalysisInfo.Builder, com.gilran.chess.Proto.AnalysisInfoOrBuilder> analysisBuilder_;
+      public boolean hasAnalysis() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      public com.gilran.chess.Proto.AnalysisInfo getAnalysis() {
+        if (analysisBuilder_ == null) {
+          return analysis_;
+        } else {
+          return analysisBuilder_.getMessage();
+        }
+      }
+      public Builder setAnalysis(com.gilran.chess.Proto.AnalysisInfo value) {
+        if (analysisBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          analysis_ = value;
+          onChanged();
+        } else {
+          analysisBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      public Builder setAnalysis(
+          com.gilran.chess.Proto.AnalysisInfo.Builder builderForValue) {
+        if (analysisBuilder_ == null) {
+          analysis_ = builderForValue.build();
+          onChanged();
+        } else {
+          analysisBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      public Builder mergeAnalysis(com.gilran.chess.Proto.AnalysisInfo value) {
+        if (analysisBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) == 0x00000040) &&
+              analysis_ != com.gilran.chess.Proto.AnalysisInfo.getDefaultInstance()) {
+            analysis_ =
+              com.gilran.chess.Proto.AnalysisInfo.newBuilder(analysis_).mergeFrom(value).buildPartial();
+          } else {
+            analysis_ = value;
+          }
+          onChanged();
+        } else {
+          analysisBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      public Builder clearAnalysis() {
+        if (analysisBuilder_ == null) {
+          analysis_ = com.gilran.chess.Proto.AnalysisInfo.getDefaultInstance();
+          onChanged();
+        } else {
+          analysisBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+      public com.gilran.chess.Proto.AnalysisInfo.Builder getAnalysisBuilder() {
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return getAnalysisFieldBuilder().getBuilder();
+      }
+      public com.gilran.chess.Proto.AnalysisInfoOrBuilder getAnalysisOrBuilder() {
+        if (analysisBuilder_ != null) {
+          return analysisBuilder_.getMessageOrBuilder();
+        } else {
+          return analysis_;
+        }
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          com.gilran.chess.Proto.AnalysisInfo, com.gilran.chess.Proto.AnalysisInfo.Builder, com.gilran.chess.Proto.AnalysisInfoOrBuilder>
+          getAnalysisFieldBuilder() {
+        if (analysisBuilder_ == null) {
+          analysisBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.gilran.chess.Proto.AnalysisInfo, com.gilran.chess.Proto.AnalysisInfo.Builder, com.gilran.chess.Proto.AnalysisInfoOrBuilder>(
+                  analysis_,
+                  getParentForChildren(),
+                  isClean());
+          analysis_ = null;
+        }
+        return analysisBuilder_;
+      }
+
       // @@protoc_insertion_point(builder_scope:chess.GameEvent)
     }
 
@@ -4815,90 +5211,97 @@ public final class Proto {
     // @@protoc_insertion_point(class_scope:chess.GameEvent)
   }
 
-  public interface EventsRequestOrBuilder
+  public interface AnalysisLineOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // required .chess.GameInfo game_info = 1;
-    boolean hasGameInfo();
-    com.gilran.chess.Proto.GameInfo getGameInfo();
-    com.gilran.chess.Proto.GameInfoOrBuilder getGameInfoOrBuilder();
+    // optional int32 score = 1;
+    boolean hasScore();
+    int getScore();
 
-    // required int32 min_event_number = 2;
-    boolean hasMinEventNumber();
-    int getMinEventNumber();
+    // repeated .chess.MoveProto move = 2;
+    java.util.List<com.gilran.chess.Proto.MoveProto>
+        getMoveList();
+    com.gilran.chess.Proto.MoveProto getMove(int index);
+    int getMoveCount();
+    java.util.List<? extends com.gilran.chess.Proto.MoveProtoOrBuilder>
+        getMoveOrBuilderList();
+    com.gilran.chess.Proto.MoveProtoOrBuilder getMoveOrBuilder(
+        int index);
   }
-  public static final class EventsRequest extends
+  public static final class AnalysisLine extends
       com.google.protobuf.GeneratedMessage
-      implements EventsRequestOrBuilder {
-    // Use EventsRequest.newBuilder() to construct.
-    private EventsRequest(Builder builder) {
+      implements AnalysisLineOrBuilder {
+    // Use AnalysisLine.newBuilder() to construct.
+    private AnalysisLine(Builder builder) {
       super(builder);
     }
-    private EventsRequest(boolean noInit) {}
+    private AnalysisLine(boolean noInit) {}
 
-    private static final EventsRequest defaultInstance;
-    public static EventsRequest getDefaultInstance() {
+    private static final AnalysisLine defaultInstance;
+    public static AnalysisLine getDefaultInstance() {
       return defaultInstance;
     }
 
-    public EventsRequest getDefaultInstanceForType() {
+    public AnalysisLine getDefaultInstanceForType() {
       return defaultInstance;
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.gilran.chess.Proto.internal_static_chess_EventsRequest_descriptor;
+      return com.gilran.chess.Proto.internal_static_chess_AnalysisLine_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.gilran.chess.Proto.internal_static_chess_EventsRequest_fieldAccessorTable;
+      return com.gilran.chess.Proto.internal_static_chess_AnalysisLine_fieldAccessorTable;
     }
 
     private int bitField0_;
-    // required .chess.GameInfo game_info = 1;
-    public static final int GAME_INFO_FIELD_NUMBER = 1;
-    private com.gilran.chess.Proto.GameInfo gameInfo_;
-    public boolean hasGameInfo() {
+    // optional int32 score = 1;
+    public static final int SCORE_FIELD_NUMBER = 1;
+    private int score_;
+    public boolean hasScore() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-    public com.gilran.chess.Proto.GameInfo getGameInfo() {
-      return gameInfo_;
-    }
-    public com.gilran.chess.Proto.GameInfoOrBuilder getGameInfoOrBuilder() {
-      return gameInfo_;
+    public int getScore() {
+      return score_;
     }
 
-    // required int32 min_event_number = 2;
-    public static final int MIN_EVENT_NUMBER_FIELD_NUMBER = 2;
-    private int minEventNumber_;
-    public boolean hasMinEventNumber() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    // repeated .chess.MoveProto move = 2;
+    public static final int MOVE_FIELD_NUMBER = 2;
+    private java.util.List<com.gilran.chess.Proto.MoveProto> move_;
+    public java.util.List<com.gilran.chess.Proto.MoveProto> getMoveList() {
+      return move_;
     }
-    public int getMinEventNumber() {
-      return minEventNumber_;
+    public java.util.List<? extends com.gilran.chess.Proto.MoveProtoOrBuilder>
+        getMoveOrBuilderList() {
+      return move_;
+    }
+    public int getMoveCount() {
+      return move_.size();
+    }
+    public com.gilran.chess.Proto.MoveProto getMove(int index) {
+      return move_.get(index);
+    }
+    public com.gilran.chess.Proto.MoveProtoOrBuilder getMoveOrBuilder(
+        int index) {
+      return move_.get(index);
     }
 
     private void initFields() {
-      gameInfo_ = com.gilran.chess.Proto.GameInfo.getDefaultInstance();
-      minEventNumber_ = 0;
+      score_ = 0;
+      move_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasGameInfo()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasMinEventNumber()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!getGameInfo().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
+      for (int i = 0; i < getMoveCount(); i++) {
+        if (!getMove(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
       memoizedIsInitialized = 1;
       return true;
@@ -4908,10 +5311,10 @@ public final class Proto {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, gameInfo_);
+        output.writeInt32(1, score_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt32(2, minEventNumber_);
+      for (int i = 0; i < move_.size(); i++) {
+        output.writeMessage(2, move_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -4924,11 +5327,11 @@ public final class Proto {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, gameInfo_);
+          .computeInt32Size(1, score_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      for (int i = 0; i < move_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, minEventNumber_);
+          .computeMessageSize(2, move_.get(i));
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -4942,41 +5345,41 @@ public final class Proto {
       return super.writeReplace();
     }
 
-    public static com.gilran.chess.Proto.EventsRequest parseFrom(
+    public static com.gilran.chess.Proto.AnalysisLine parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return newBuilder().mergeFrom(data).buildParsed();
     }
-    public static com.gilran.chess.Proto.EventsRequest parseFrom(
+    public static com.gilran.chess.Proto.AnalysisLine parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return newBuilder().mergeFrom(data, extensionRegistry)
                .buildParsed();
     }
-    public static com.gilran.chess.Proto.EventsRequest parseFrom(byte[] data)
+    public static com.gilran.chess.Proto.AnalysisLine parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return newBuilder().mergeFrom(data).buildParsed();
     }
-    public static com.gilran.chess.Proto.EventsRequest parseFrom(
+    public static com.gilran.chess.Proto.AnalysisLine parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return newBuilder().mergeFrom(data, extensionRegistry)
                .buildParsed();
     }
-    public static com.gilran.chess.Proto.EventsRequest parseFrom(java.io.InputStream input)
+    public static com.gilran.chess.Proto.AnalysisLine parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return newBuilder().mergeFrom(input).buildParsed();
     }
-    public static com.gilran.chess.Proto.EventsRequest parseFrom(
+    public static com.gilran.chess.Proto.AnalysisLine parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return newBuilder().mergeFrom(input, extensionRegistry)
                .buildParsed();
     }
-    public static com.gilran.chess.Proto.EventsRequest parseDelimitedFrom(java.io.InputStream input)
+    public static com.gilran.chess.Proto.AnalysisLine parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       Builder builder = newBuilder();
       if (builder.mergeDelimitedFrom(input)) {
@@ -4985,7 +5388,7 @@ public final class Proto {
         return null;
       }
     }
-    public static com.gilran.chess.Proto.EventsRequest parseDelimitedFrom(
+    public static com.gilran.chess.Proto.AnalysisLine parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4996,12 +5399,12 @@ public final class Proto {
         return null;
       }
     }
-    public static com.gilran.chess.Proto.EventsRequest parseFrom(
+    public static com.gilran.chess.Proto.AnalysisLine parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return newBuilder().mergeFrom(input).buildParsed();
     }
-    public static com.gilran.chess.Proto.EventsRequest parseFrom(
+    public static com.gilran.chess.Proto.AnalysisLine parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5011,7 +5414,7 @@ public final class Proto {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.gilran.chess.Proto.EventsRequest prototype) {
+    public static Builder newBuilder(com.gilran.chess.Proto.AnalysisLine prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -5024,18 +5427,18 @@ public final class Proto {
     }
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.gilran.chess.Proto.EventsRequestOrBuilder {
+       implements com.gilran.chess.Proto.AnalysisLineOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.gilran.chess.Proto.internal_static_chess_EventsRequest_descriptor;
+        return com.gilran.chess.Proto.internal_static_chess_AnalysisLine_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.gilran.chess.Proto.internal_static_chess_EventsRequest_fieldAccessorTable;
+        return com.gilran.chess.Proto.internal_static_chess_AnalysisLine_fieldAccessorTable;
       }
 
-      // Construct using com.gilran.chess.Proto.EventsRequest.newBuilder()
+      // Construct using com.gilran.chess.Proto.AnalysisLine.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5046,7 +5449,7 @@ public final class Proto {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getGameInfoFieldBuilder();
+          getMoveFieldBuilder();
         }
       }
       private static Builder create() {
@@ -5055,14 +5458,14 @@ public final class Proto {
 
       public Builder clear() {
         super.clear();
-        if (gameInfoBuilder_ == null) {
-          gameInfo_ = com.gilran.chess.Proto.GameInfo.getDefaultInstance();
+        score_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (moveBuilder_ == null) {
+          move_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
         } else {
-          gameInfoBuilder_.clear();
+          moveBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        minEventNumber_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -5072,24 +5475,24 @@ public final class Proto {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.gilran.chess.Proto.EventsRequest.getDescriptor();
+        return com.gilran.chess.Proto.AnalysisLine.getDescriptor();
       }
 
-      public com.gilran.chess.Proto.EventsRequest getDefaultInstanceForType() {
-        return com.gilran.chess.Proto.EventsRequest.getDefaultInstance();
+      public com.gilran.chess.Proto.AnalysisLine getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.AnalysisLine.getDefaultInstance();
       }
 
-      public com.gilran.chess.Proto.EventsRequest build() {
-        com.gilran.chess.Proto.EventsRequest result = buildPartial();
+      public com.gilran.chess.Proto.AnalysisLine build() {
+        com.gilran.chess.Proto.AnalysisLine result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      private com.gilran.chess.Proto.EventsRequest buildParsed()
+      private com.gilran.chess.Proto.AnalysisLine buildParsed()
           throws com.google.protobuf.InvalidProtocolBufferException {
-        com.gilran.chess.Proto.EventsRequest result = buildPartial();
+        com.gilran.chess.Proto.AnalysisLine result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(
             result).asInvalidProtocolBufferException();
@@ -5097,60 +5500,78 @@ public final class Proto {
         return result;
       }
 
-      public com.gilran.chess.Proto.EventsRequest buildPartial() {
-        com.gilran.chess.Proto.EventsRequest result = new com.gilran.chess.Proto.EventsRequest(this);
+      public com.gilran.chess.Proto.AnalysisLine buildPartial() {
+        com.gilran.chess.Proto.AnalysisLine result = new com.gilran.chess.Proto.AnalysisLine(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        if (gameInfoBuilder_ == null) {
-          result.gameInfo_ = gameInfo_;
+        result.score_ = score_;
+        if (moveBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            move_ = java.util.Collections.unmodifiableList(move_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.move_ = move_;
         } else {
-          result.gameInfo_ = gameInfoBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
+          result.move_ = moveBuilder_.build();
         }
-        result.minEventNumber_ = minEventNumber_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.gilran.chess.Proto.EventsRequest) {
-          return mergeFrom((com.gilran.chess.Proto.EventsRequest)other);
+        if (other instanceof com.gilran.chess.Proto.AnalysisLine) {
+          return mergeFrom((com.gilran.chess.Proto.AnalysisLine)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.gilran.chess.Proto.EventsRequest other) {
-        if (other == com.gilran.chess.Proto.EventsRequest.getDefaultInstance()) return this;
-        if (other.hasGameInfo()) {
-          mergeGameInfo(other.getGameInfo());
+      public Builder mergeFrom(com.gilran.chess.Proto.AnalysisLine other) {
+        if (other == com.gilran.chess.Proto.AnalysisLine.getDefaultInstance()) return this;
+        if (other.hasScore()) {
+          setScore(other.getScore());
         }
-        if (other.hasMinEventNumber()) {
-          setMinEventNumber(other.getMinEventNumber());
+        if (moveBuilder_ == null) {
+          if (!other.move_.isEmpty()) {
+            if (move_.isEmpty()) {
+              move_ = other.move_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureMoveIsMutable();
+              move_.addAll(other.move_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.move_.isEmpty()) {
+            if (moveBuilder_.isEmpty()) {
+              moveBuilder_.dispose();
+              moveBuilder_ = null;
+              move_ = other.move_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              moveBuilder_ =
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getMoveFieldBuilder() : null;
+            } else {
+              moveBuilder_.addAllMessages(other.move_);
+            }
+          }
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasGameInfo()) {
-
-          return false;
-        }
-        if (!hasMinEventNumber()) {
-
-          return false;
-        }
-        if (!getGameInfo().isInitialized()) {
+        for (int i = 0; i < getMoveCount(); i++) {
+          if (!getMove(i).isInitialized()) {
 
-          return false;
+            return false;
+          }
         }
         return true;
       }
@@ -5178,18 +5599,15 @@ public final class Proto {
               }
               break;
             }
-            case 10: {
-              com.gilran.chess.Proto.GameInfo.Builder subBuilder = com.gilran.chess.Proto.GameInfo.newBuilder();
-              if (hasGameInfo()) {
-                subBuilder.mergeFrom(getGameInfo());
-              }
-              input.readMessage(subBuilder, extensionRegistry);
-              setGameInfo(subBuilder.buildPartial());
+            case 8: {
+              bitField0_ |= 0x00000001;
+              score_ = input.readInt32();
               break;
             }
-            case 16: {
-              bitField0_ |= 0x00000002;
-              minEventNumber_ = input.readInt32();
+            case 18: {
+              com.gilran.chess.Proto.MoveProto.Builder subBuilder = com.gilran.chess.Proto.MoveProto.newBuilder();
+              input.readMessage(subBuilder, extensionRegistry);
+              addMove(subBuilder.buildPartial());
               break;
             }
           }
@@ -5198,216 +5616,342 @@ public final class Proto {
 
       private int bitField0_;
 
-      // required .chess.GameInfo game_info = 1;
-      private com.gilran.chess.Proto.GameInfo gameInfo_ = com.gilran.chess.Proto.GameInfo.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          com.gilran.chess.Proto.GameInfo, com.gilran.chess.Proto.GameInfo.Builder, com.gilran.chess.Proto.GameInfoOrBuilder> gameInfoBuilder_;
-      public boolean hasGameInfo() {
+      // optional int32 score = 1;
+      private int score_ ;
+      public boolean hasScore() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-      public com.gilran.chess.Proto.GameInfo getGameInfo() {
-        if (gameInfoBuilder_ == null) {
-          return gameInfo_;
+      public int getScore() {
+        return score_;
+      }
+      public Builder setScore(int value) {
+        bitField0_ |= 0x00000001;
+        score_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearScore() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        score_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // repeated .chess.MoveProto move = 2;
+      private java.util.List<com.gilran.chess.Proto.MoveProto> move_ =
+        java.util.Collections.emptyList();
+      private void ensureMoveIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          move_ = new java.util.ArrayList<com.gilran.chess.Proto.MoveProto>(move_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.gilran.chess.Proto.MoveProto, com.gilran.chess.Proto.MoveProto.Builder, com.gilran.chess.Proto.MoveProtoOrBuilder> moveBuilder_;
+
+      public java.util.List<com.gilran.chess.Proto.MoveProto> getMoveList() {
+        if (moveBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(move_);
         } else {
-          return gameInfoBuilder_.getMessage();
+          return moveBuilder_.getMessageList();
         }
       }
-      public Builder setGameInfo(com.gilran.chess.Proto.GameInfo value) {
-        if (gameInfoBuilder_ == null) {
+      public int getMoveCount() {
+        if (moveBuilder_ == null) {
+          return move_.size();
+        } else {
+          return moveBuilder_.getCount();
+        }
+      }
+      public com.gilran.chess.Proto.MoveProto getMove(int index) {
+        if (moveBuilder_ == null) {
+          return move_.get(index);
+        } else {
+          return moveBuilder_.getMessage(index);
+        }
+      }
+      public Builder setMove(
+          int index, com.gilran.chess.Proto.MoveProto value) {
+        if (moveBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          gameInfo_ = value;
+          ensureMoveIsMutable();
+          move_.set(index, value);
           onChanged();
         } else {
-          gameInfoBuilder_.setMessage(value);
+          moveBuilder_.setMessage(index, value);
         }
-        bitField0_ |= 0x00000001;
         return this;
       }
-      public Builder setGameInfo(
-          com.gilran.chess.Proto.GameInfo.Builder builderForValue) {
-        if (gameInfoBuilder_ == null) {
-          gameInfo_ = builderForValue.build();
+      public Builder setMove(
+          int index, com.gilran.chess.Proto.MoveProto.Builder builderForValue) {
+        if (moveBuilder_ == null) {
+          ensureMoveIsMutable();
+          move_.set(index, builderForValue.build());
           onChanged();
         } else {
-          gameInfoBuilder_.setMessage(builderForValue.build());
+          moveBuilder_.setMessage(index, builderForValue.build());
         }
-        bitField0_ |= 0x00000001;
         return this;
       }
-      public Builder mergeGameInfo(com.gilran.chess.Proto.GameInfo value) {
-        if (gameInfoBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              gameInfo_ != com.gilran.chess.Proto.GameInfo.getDefaultInstance()) {
-            gameInfo_ =
-              com.gilran.chess.Proto.GameInfo.newBuilder(gameInfo_).mergeFrom(value).buildPartial();
-          } else {
-            gameInfo_ = value;
+      public Builder addMove(com.gilran.chess.Proto.MoveProto value) {
+        if (moveBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureMoveIsMutable();
+          move_.add(value);
           onChanged();
         } else {
-          gameInfoBuilder_.mergeFrom(value);
+          moveBuilder_.addMessage(value);
         }
-        bitField0_ |= 0x00000001;
         return this;
       }
-      public Builder clearGameInfo() {
-        if (gameInfoBuilder_ == null) {
-          gameInfo_ = com.gilran.chess.Proto.GameInfo.getDefaultInstance();
+      public Builder addMove(
+          int index, com.gilran.chess.Proto.MoveProto value) {
+        if (moveBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMoveIsMutable();
+          move_.add(index, value);
           onChanged();
         } else {
-          gameInfoBuilder_.clear();
+          moveBuilder_.addMessage(index, value);
         }
-        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
-      public com.gilran.chess.Proto.GameInfo.Builder getGameInfoBuilder() {
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return getGameInfoFieldBuilder().getBuilder();
-      }
-      public com.gilran.chess.Proto.GameInfoOrBuilder getGameInfoOrBuilder() {
-        if (gameInfoBuilder_ != null) {
-          return gameInfoBuilder_.getMessageOrBuilder();
+      public Builder addMove(
+          com.gilran.chess.Proto.MoveProto.Builder builderForValue) {
+        if (moveBuilder_ == null) {
+          ensureMoveIsMutable();
+          move_.add(builderForValue.build());
+          onChanged();
         } else {
-          return gameInfo_;
+          moveBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
-      private com.google.protobuf.SingleFieldBuilder<
-          com.gilran.chess.Proto.GameInfo, com.gilran.chess.Proto.GameInfo.Builder, com.gilran.chess.Proto.GameInfoOrBuilder>
-          getGameInfoFieldBuilder() {
-        if (gameInfoBuilder_ == null) {
-          gameInfoBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.gilran.chess.Proto.GameInfo, com.gilran.chess.Proto.GameInfo.Builder, com.gilran.chess.Proto.GameInfoOrBuilder>(
-                  gameInfo_,
-                  getParentForChildren(),
-                  isClean());
-          gameInfo_ = null;
+      public Builder addMove(
+          int index, com.gilran.chess.Proto.MoveProto.Builder builderForValue) {
+        if (moveBuilder_ == null) {
+          ensureMoveIsMutable();
+          move_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          moveBuilder_.addMessage(index, builderForValue.build());
         }
-        return gameInfoBuilder_;
+        return this;
       }
-
-      // required int32 min_event_number = 2;
-      private int minEventNumber_ ;
-      public boolean hasMinEventNumber() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      public int getMinEventNumber() {
-        return minEventNumber_;
+      public Builder addAllMove(
+          java.lang.Iterable<? extends com.gilran.chess.Proto.MoveProto> values) {
+        if (moveBuilder_ == null) {
+          ensureMoveIsMutable();
+          super.addAll(values, move_);
+          onChanged();
+        } else {
+          moveBuilder_.addAllMessages(values);
+        }
+        return this;
       }
-      public Builder setMinEventNumber(int value) {
-        bitField0_ |= 0x00000002;
-        minEventNumber_ = value;
-        onChanged();
+      public Builder clearMove() {
+        if (moveBuilder_ == null) {
+          move_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          moveBuilder_.clear();
+        }
         return this;
       }
-      public Builder clearMinEventNumber() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        minEventNumber_ = 0;
-        onChanged();
+      public Builder removeMove(int index) {
+        if (moveBuilder_ == null) {
+          ensureMoveIsMutable();
+          move_.remove(index);
+          onChanged();
+        } else {
+          moveBuilder_.remove(index);
+        }
         return this;
       }
+      public com.gilran.chess.Proto.MoveProto.Builder getMoveBuilder(
+          int index) {
+        return getMoveFieldBuilder().getBuilder(index);
+      }
+      public com.gilran.chess.Proto.MoveProtoOrBuilder getMoveOrBuilder(
+          int index) {
+        if (moveBuilder_ == null) {
+          return move_.get(index);  } else {
+          return moveBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      public java.util.List<? extends com.gilran.chess.Proto.MoveProtoOrBuilder>
+           getMoveOrBuilderList() {
+        if (moveBuilder_ != null) {
+          return moveBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(move_);
+        }
+      }
+      public com.gilran.chess.Proto.MoveProto.Builder addMoveBuilder() {
+        return getMoveFieldBuilder().addBuilder(
+            com.gilran.chess.Proto.MoveProto.getDefaultInstance());
+      }
+      public com.gilran.chess.Proto.MoveProto.Builder addMoveBuilder(
+          int index) {
+        return getMoveFieldBuilder().addBuilder(
+            index, com.gilran.chess.Proto.MoveProto.getDefaultInstance());
+      }
+      public java.util.List<com.gilran.chess.Proto.MoveProto.Builder>
+           getMoveBuilderList() {
+        return getMoveFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.gilran.chess.Proto.MoveProto, com.gilran.chess.Proto.MoveProto.Builder, com.gilran.chess.Proto.MoveProtoOrBuilder>
+          getMoveFieldBuilder() {
+        if (moveBuilder_ == null) {
+          moveBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.gilran.chess.Proto.MoveProto, com.gilran.chess.Proto.MoveProto.Builder, com.gilran.chess.Proto.MoveProtoOrBuilder>(
+                  move_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          move_ = null;
+        }
+        return moveBuilder_;
+      }
 
-      // @@protoc_insertion_point(builder_scope:chess.EventsRequest)
+      // @@protoc_insertion_point(builder_scope:chess.AnalysisLine)
     }
 
     static {
-      defaultInstance = new EventsRequest(true);
+      defaultInstance = new AnalysisLine(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:chess.EventsRequest)
+    // @@protoc_insertion_point(class_scope:chess.AnalysisLine)
   }
 
-  public interface EventsResponseOrBuilder
+  public interface AnalysisInfoOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // optional .chess.Status status = 1;
-    boolean hasStatus();
-    com.gilran.chess.Proto.Status getStatus();
-
-    // repeated .chess.GameEvent event = 2;
-    java.util.List<com.gilran.chess.Proto.GameEvent>
-        getEventList();
-    com.gilran.chess.Proto.GameEvent getEvent(int index);
-    int getEventCount();
-    java.util.List<? extends com.gilran.chess.Proto.GameEventOrBuilder>
-        getEventOrBuilderList();
-    com.gilran.chess.Proto.GameEventOrBuilder getEventOrBuilder(
+    // optional int32 depth = 1;
+    boolean hasDepth();
+    int getDepth();
+
+    // repeated .chess.AnalysisLine line = 2;
+    java.util.List<com.gilran.chess.Proto.AnalysisLine>
+        getLineList();
+    com.gilran.chess.Proto.AnalysisLine getLine(int index);
+    int getLineCount();
+    java.util.List<? extends com.gilran.chess.Proto.AnalysisLineOrBuilder>
+        getLineOrBuilderList();
+    com.gilran.chess.Proto.AnalysisLineOrBuilder getLineOrBuilder(
         int index);
+
+    // optional int64 nodes = 3;
+    boolean hasNodes();
+    long getNodes();
+
+    // optional int64 nodes_per_second = 4;
+    boolean hasNodesPerSecond();
+    long getNodesPerSecond();
   }
-  public static final class EventsResponse extends
+  public static final class AnalysisInfo extends
       com.google.protobuf.GeneratedMessage
-      implements EventsResponseOrBuilder {
-    // Use EventsResponse.newBuilder() to construct.
-    private EventsResponse(Builder builder) {
+      implements AnalysisInfoOrBuilder {
+    // Use AnalysisInfo.newBuilder() to construct.
+    private AnalysisInfo(Builder builder) {
       super(builder);
     }
-    private EventsResponse(boolean noInit) {}
+    private AnalysisInfo(boolean noInit) {}
 
-    private static final EventsResponse defaultInstance;
-    public static EventsResponse getDefaultInstance() {
+    private static final AnalysisInfo defaultInstance;
+    public static AnalysisInfo getDefaultInstance() {
       return defaultInstance;
     }
 
-    public EventsResponse getDefaultInstanceForType() {
+    public AnalysisInfo getDefaultInstanceForType() {
       return defaultInstance;
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.gilran.chess.Proto.internal_static_chess_EventsResponse_descriptor;
+      return com.gilran.chess.Proto.internal_static_chess_AnalysisInfo_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.gilran.chess.Proto.internal_static_chess_EventsResponse_fieldAccessorTable;
+      return com.gilran.chess.Proto.internal_static_chess_AnalysisInfo_fieldAccessorTable;
     }
 
     private int bitField0_;
-    // optional .chess.Status status = 1;
-    public static final int STATUS_FIELD_NUMBER = 1;
-    private com.gilran.chess.Proto.Status status_;
-    public boolean hasStatus() {
+    // optional int32 depth = 1;
+    public static final int DEPTH_FIELD_NUMBER = 1;
+    private int depth_;
+    public boolean hasDepth() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-    public com.gilran.chess.Proto.Status getStatus() {
-      return status_;
+    public int getDepth() {
+      return depth_;
     }
 
-    // repeated .chess.GameEvent event = 2;
-    public static final int EVENT_FIELD_NUMBER = 2;
-    private java.util.List<com.gilran.chess.Proto.GameEvent> event_;
-    public java.util.List<com.gilran.chess.Proto.GameEvent> getEventList() {
-      return event_;
+    // repeated .chess.AnalysisLine line = 2;
+    public static final int LINE_FIELD_NUMBER = 2;
+    private java.util.List<com.gilran.chess.Proto.AnalysisLine> line_;
+    public java.util.List<com.gilran.chess.Proto.AnalysisLine> getLineList() {
+      return line_;
     }
-    public java.util.List<? extends com.gilran.chess.Proto.GameEventOrBuilder>
-        getEventOrBuilderList() {
-      return event_;
+    public java.util.List<? extends com.gilran.chess.Proto.AnalysisLineOrBuilder>
+        getLineOrBuilderList() {
+      return line_;
     }
-    public int getEventCount() {
-      return event_.size();
+    public int getLineCount() {
+      return line_.size();
     }
-    public com.gilran.chess.Proto.GameEvent getEvent(int index) {
-      return event_.get(index);
+    public com.gilran.chess.Proto.AnalysisLine getLine(int index) {
+      return line_.get(index);
     }
-    public com.gilran.chess.Proto.GameEventOrBuilder getEventOrBuilder(
+    public com.gilran.chess.Proto.AnalysisLineOrBuilder getLineOrBuilder(
         int index) {
-      return event_.get(index);
+      return line_.get(index);
+    }
+
+    // optional int64 nodes = 3;
+    public static final int NODES_FIELD_NUMBER = 3;
+    private long nodes_;
+    public boolean hasNodes() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public long getNodes() {
+      return nodes_;
+    }
+
+    // optional int64 nodes_per_second = 4;
+    public static final int NODES_PER_SECOND_FIELD_NUMBER = 4;
+    private long nodesPerSecond_;
+    public boolean hasNodesPerSecond() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public long getNodesPerSecond() {
+      return nodesPerSecond_;
     }
 
     private void initFields() {
-      status_ = com.gilran.chess.Proto.Status.OK;
-      event_ = java.util.Collections.emptyList();
+      depth_ = 0;
+      line_ = java.util.Collections.emptyList();
+      nodes_ = 0L;
+      nodesPerSecond_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      for (int i = 0; i < getEventCount(); i++) {
-        if (!getEvent(i).isInitialized()) {
+      for (int i = 0; i < getLineCount(); i++) {
+        if (!getLine(i).isInitialized()) {
           memoizedIsInitialized = 0;
           return false;
         }
@@ -5420,10 +5964,16 @@ public final class Proto {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeEnum(1, status_.getNumber());
+        output.writeInt32(1, depth_);
       }
-      for (int i = 0; i < event_.size(); i++) {
-        output.writeMessage(2, event_.get(i));
+      for (int i = 0; i < line_.size(); i++) {
+        output.writeMessage(2, line_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(3, nodes_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(4, nodesPerSecond_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -5436,11 +5986,19 @@ public final class Proto {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(1, status_.getNumber());
+          .computeInt32Size(1, depth_);
       }
-      for (int i = 0; i < event_.size(); i++) {
+      for (int i = 0; i < line_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, event_.get(i));
+          .computeMessageSize(2, line_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, nodes_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, nodesPerSecond_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -5454,41 +6012,41 @@ public final class Proto {
       return super.writeReplace();
     }
 
-    public static com.gilran.chess.Proto.EventsResponse parseFrom(
+    public static com.gilran.chess.Proto.AnalysisInfo parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return newBuilder().mergeFrom(data).buildParsed();
     }
-    public static com.gilran.chess.Proto.EventsResponse parseFrom(
+    public static com.gilran.chess.Proto.AnalysisInfo parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return newBuilder().mergeFrom(data, extensionRegistry)
                .buildParsed();
     }
-    public static com.gilran.chess.Proto.EventsResponse parseFrom(byte[] data)
+    public static com.gilran.chess.Proto.AnalysisInfo parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return newBuilder().mergeFrom(data).buildParsed();
     }
-    public static com.gilran.chess.Proto.EventsResponse parseFrom(
+    public static com.gilran.chess.Proto.AnalysisInfo parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return newBuilder().mergeFrom(data, extensionRegistry)
                .buildParsed();
     }
-    public static com.gilran.chess.Proto.EventsResponse parseFrom(java.io.InputStream input)
+    public static com.gilran.chess.Proto.AnalysisInfo parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return newBuilder().mergeFrom(input).buildParsed();
     }
-    public static com.gilran.chess.Proto.EventsResponse parseFrom(
+    public static com.gilran.chess.Proto.AnalysisInfo parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return newBuilder().mergeFrom(input, extensionRegistry)
                .buildParsed();
     }
-    public static com.gilran.chess.Proto.EventsResponse parseDelimitedFrom(java.io.InputStream input)
+    public static com.gilran.chess.Proto.AnalysisInfo parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       Builder builder = newBuilder();
       if (builder.mergeDelimitedFrom(input)) {
@@ -5497,7 +6055,7 @@ public final class Proto {
         return null;
       }
     }
-    public static com.gilran.chess.Proto.EventsResponse parseDelimitedFrom(
+    public static com.gilran.chess.Proto.AnalysisInfo parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5508,12 +6066,12 @@ public final class Proto {
         return null;
       }
     }
-    public static com.gilran.chess.Proto.EventsResponse parseFrom(
+    public static com.gilran.chess.Proto.AnalysisInfo parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return newBuilder().mergeFrom(input).buildParsed();
     }
-    public static com.gilran.chess.Proto.EventsResponse parseFrom(
+    public static com.gilran.chess.Proto.AnalysisInfo parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5523,7 +6081,7 @@ public final class Proto {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.gilran.chess.Proto.EventsResponse prototype) {
+    public static Builder newBuilder(com.gilran.chess.Proto.AnalysisInfo prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -5536,18 +6094,18 @@ public final class Proto {
     }
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.gilran.chess.Proto.EventsResponseOrBuilder {
+       implements com.gilran.chess.Proto.AnalysisInfoOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.gilran.chess.Proto.internal_static_chess_EventsResponse_descriptor;
+        return com.gilran.chess.Proto.internal_static_chess_AnalysisInfo_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.gilran.chess.Proto.internal_static_chess_EventsResponse_fieldAccessorTable;
+        return com.gilran.chess.Proto.internal_static_chess_AnalysisInfo_fieldAccessorTable;
       }
 
-      // Construct using com.gilran.chess.Proto.EventsResponse.newBuilder()
+      // Construct using com.gilran.chess.Proto.AnalysisInfo.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5558,7 +6116,7 @@ public final class Proto {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getEventFieldBuilder();
+          getLineFieldBuilder();
         }
       }
       private static Builder create() {
@@ -5567,14 +6125,18 @@ public final class Proto {
 
       public Builder clear() {
         super.clear();
-        status_ = com.gilran.chess.Proto.Status.OK;
+        depth_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
-        if (eventBuilder_ == null) {
-          event_ = java.util.Collections.emptyList();
+        if (lineBuilder_ == null) {
+          line_ = java.util.Collections.emptyList();
           bitField0_ = (bitField0_ & ~0x00000002);
         } else {
-          eventBuilder_.clear();
+          lineBuilder_.clear();
         }
+        nodes_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        nodesPerSecond_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -5584,24 +6146,24 @@ public final class Proto {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.gilran.chess.Proto.EventsResponse.getDescriptor();
+        return com.gilran.chess.Proto.AnalysisInfo.getDescriptor();
       }
 
-      public com.gilran.chess.Proto.EventsResponse getDefaultInstanceForType() {
-        return com.gilran.chess.Proto.EventsResponse.getDefaultInstance();
+      public com.gilran.chess.Proto.AnalysisInfo getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.AnalysisInfo.getDefaultInstance();
       }
 
-      public com.gilran.chess.Proto.EventsResponse build() {
-        com.gilran.chess.Proto.EventsResponse result = buildPartial();
+      public com.gilran.chess.Proto.AnalysisInfo build() {
+        com.gilran.chess.Proto.AnalysisInfo result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      private com.gilran.chess.Proto.EventsResponse buildParsed()
+      private com.gilran.chess.Proto.AnalysisInfo buildParsed()
           throws com.google.protobuf.InvalidProtocolBufferException {
-        com.gilran.chess.Proto.EventsResponse result = buildPartial();
+        com.gilran.chess.Proto.AnalysisInfo result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(
             result).asInvalidProtocolBufferException();
@@ -5609,75 +6171,89 @@ public final class Proto {
         return result;
       }
 
-      public com.gilran.chess.Proto.EventsResponse buildPartial() {
-        com.gilran.chess.Proto.EventsResponse result = new com.gilran.chess.Proto.EventsResponse(this);
+      public com.gilran.chess.Proto.AnalysisInfo buildPartial() {
+        com.gilran.chess.Proto.AnalysisInfo result = new com.gilran.chess.Proto.AnalysisInfo(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.status_ = status_;
-        if (eventBuilder_ == null) {
+        result.depth_ = depth_;
+        if (lineBuilder_ == null) {
           if (((bitField0_ & 0x00000002) == 0x00000002)) {
-            event_ = java.util.Collections.unmodifiableList(event_);
+            line_ = java.util.Collections.unmodifiableList(line_);
             bitField0_ = (bitField0_ & ~0x00000002);
           }
-          result.event_ = event_;
+          result.line_ = line_;
         } else {
-          result.event_ = eventBuilder_.build();
+          result.line_ = lineBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.nodes_ = nodes_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.nodesPerSecond_ = nodesPerSecond_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.gilran.chess.Proto.EventsResponse) {
-          return mergeFrom((com.gilran.chess.Proto.EventsResponse)other);
+        if (other instanceof com.gilran.chess.Proto.AnalysisInfo) {
+          return mergeFrom((com.gilran.chess.Proto.AnalysisInfo)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.gilran.chess.Proto.EventsResponse other) {
-        if (other == com.gilran.chess.Proto.EventsResponse.getDefaultInstance()) return this;
-        if (other.hasStatus()) {
-          setStatus(other.getStatus());
+      public Builder mergeFrom(com.gilran.chess.Proto.AnalysisInfo other) {
+        if (other == com.gilran.chess.Proto.AnalysisInfo.getDefaultInstance()) return this;
+        if (other.hasDepth()) {
+          setDepth(other.getDepth());
         }
-        if (eventBuilder_ == null) {
-          if (!other.event_.isEmpty()) {
-            if (event_.isEmpty()) {
-              event_ = other.event_;
+        if (lineBuilder_ == null) {
+          if (!other.line_.isEmpty()) {
+            if (line_.isEmpty()) {
+              line_ = other.line_;
               bitField0_ = (bitField0_ & ~0x00000002);
             } else {
-              ensureEventIsMutable();
-              event_.addAll(other.event_);
+              ensureLineIsMutable();
+              line_.addAll(other.line_);
             }
             onChanged();
           }
         } else {
-          if (!other.event_.isEmpty()) {
-            if (eventBuilder_.isEmpty()) {
-              eventBuilder_.dispose();
-              eventBuilder_ = null;
-              event_ = other.event_;
+          if (!other.line_.isEmpty()) {
+            if (lineBuilder_.isEmpty()) {
+              lineBuilder_.dispose();
+              lineBuilder_ = null;
+              line_ = other.line_;
               bitField0_ = (bitField0_ & ~0x00000002);
-              eventBuilder_ =
+              lineBuilder_ =
                 com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getEventFieldBuilder() : null;
+                   getLineFieldBuilder() : null;
             } else {
-              eventBuilder_.addAllMessages(other.event_);
+              lineBuilder_.addAllMessages(other.line_);
             }
           }
         }
+        if (other.hasNodes()) {
+          setNodes(other.getNodes());
+        }
+        if (other.hasNodesPerSecond()) {
+          setNodesPerSecond(other.getNodesPerSecond());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        for (int i = 0; i < getEventCount(); i++) {
-          if (!getEvent(i).isInitialized()) {
+        for (int i = 0; i < getLineCount(); i++) {
+          if (!getLine(i).isInitialized()) {
 
             return false;
           }
@@ -5709,20 +6285,24 @@ public final class Proto {
               break;
             }
             case 8: {
-              int rawValue = input.readEnum();
-              com.gilran.chess.Proto.Status value = com.gilran.chess.Proto.Status.valueOf(rawValue);
-              if (value == null) {
-                unknownFields.mergeVarintField(1, rawValue);
-              } else {
-                bitField0_ |= 0x00000001;
-                status_ = value;
-              }
+              bitField0_ |= 0x00000001;
+              depth_ = input.readInt32();
               break;
             }
             case 18: {
-              com.gilran.chess.Proto.GameEvent.Builder subBuilder = com.gilran.chess.Proto.GameEvent.newBuilder();
+              com.gilran.chess.Proto.AnalysisLine.Builder subBuilder = com.gilran.chess.Proto.AnalysisLine.newBuilder();
               input.readMessage(subBuilder, extensionRegistry);
-              addEvent(subBuilder.buildPartial());
+              addLine(subBuilder.buildPartial());
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              nodes_ = input.readInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              nodesPerSecond_ = input.readInt64();
               break;
             }
           }
@@ -5731,264 +6311,8420 @@ public final class Proto {
 
       private int bitField0_;
 
-      // optional .chess.Status status = 1;
-      private com.gilran.chess.Proto.Status status_ = com.gilran.chess.Proto.Status.OK;
-      public boolean hasStatus() {
+      // optional int32 depth = 1;
+      private int depth_ ;
+      public boolean hasDepth() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-      public com.gilran.chess.Proto.Status getStatus() {
-        return status_;
+      public int getDepth() {
+        return depth_;
       }
-      public Builder setStatus(com.gilran.chess.Proto.Status value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setDepth(int value) {
         bitField0_ |= 0x00000001;
-        status_ = value;
+        depth_ = value;
         onChanged();
         return this;
       }
-      public Builder clearStatus() {
+      public Builder clearDepth() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        status_ = com.gilran.chess.Proto.Status.OK;
+        depth_ = 0;
         onChanged();
         return this;
       }
 
-      // repeated .chess.GameEvent event = 2;
-      private java.util.List<com.gilran.chess.Proto.GameEvent> event_ =
+      // repeated .chess.AnalysisLine line = 2;
+      private java.util.List<com.gilran.chess.Proto.AnalysisLine> line_ =
         java.util.Collections.emptyList();
-      private void ensureEventIsMutable() {
+      private void ensureLineIsMutable() {
         if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          event_ = new java.util.ArrayList<com.gilran.chess.Proto.GameEvent>(event_);
+          line_ = new java.util.ArrayList<com.gilran.chess.Proto.AnalysisLine>(line_);
           bitField0_ |= 0x00000002;
          }
       }
 
       private com.google.protobuf.RepeatedFieldBuilder<
-          com.gilran.chess.Proto.GameEvent, com.gilran.chess.Proto.GameEvent.Builder, com.gilran.chess.Proto.GameEventOrBuilder> eventBuilder_;
+          com.gilran.chess.Proto.AnalysisLine, com.gilran.chess.Proto.AnalysisLine.Builder, com.gilran.chess.Proto.AnalysisLineOrBuilder> lineBuilder_;
 
-      public java.util.List<com.gilran.chess.Proto.GameEvent> getEventList() {
-        if (eventBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(event_);
+      public java.util.List<com.gilran.chess.Proto.AnalysisLine> getLineList() {
+        if (lineBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(line_);
         } else {
-          return eventBuilder_.getMessageList();
+          return lineBuilder_.getMessageList();
         }
       }
-      public int getEventCount() {
-        if (eventBuilder_ == null) {
-          return event_.size();
+      public int getLineCount() {
+        if (lineBuilder_ == null) {
+          return line_.size();
         } else {
-          return eventBuilder_.getCount();
+          return lineBuilder_.getCount();
         }
       }
-      public com.gilran.chess.Proto.GameEvent getEvent(int index) {
-        if (eventBuilder_ == null) {
-          return event_.get(index);
+      public com.gilran.chess.Proto.AnalysisLine getLine(int index) {
+        if (lineBuilder_ == null) {
+          return line_.get(index);
         } else {
-          return eventBuilder_.getMessage(index);
+          return lineBuilder_.getMessage(index);
         }
       }
-      public Builder setEvent(
-          int index, com.gilran.chess.Proto.GameEvent value) {
-        if (eventBuilder_ == null) {
+      public Builder setLine(
+          int index, com.gilran.chess.Proto.AnalysisLine value) {
+        if (lineBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureEventIsMutable();
-          event_.set(index, value);
+          ensureLineIsMutable();
+          line_.set(index, value);
           onChanged();
         } else {
-          eventBuilder_.setMessage(index, value);
+          lineBuilder_.setMessage(index, value);
         }
         return this;
       }
-      public Builder setEvent(
-          int index, com.gilran.chess.Proto.GameEvent.Builder builderForValue) {
-        if (eventBuilder_ == null) {
-          ensureEventIsMutable();
-          event_.set(index, builderForValue.build());
+      public Builder setLine(
+          int index, com.gilran.chess.Proto.AnalysisLine.Builder builderForValue) {
+        if (lineBuilder_ == null) {
+          ensureLineIsMutable();
+          line_.set(index, builderForValue.build());
           onChanged();
         } else {
-          eventBuilder_.setMessage(index, builderForValue.build());
+          lineBuilder_.setMessage(index, builderForValue.build());
         }
         return this;
       }
-      public Builder addEvent(com.gilran.chess.Proto.GameEvent value) {
-        if (eventBuilder_ == null) {
+      public Builder addLine(com.gilran.chess.Proto.AnalysisLine value) {
+        if (lineBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureEventIsMutable();
-          event_.add(value);
+          ensureLineIsMutable();
+          line_.add(value);
           onChanged();
         } else {
-          eventBuilder_.addMessage(value);
+          lineBuilder_.addMessage(value);
         }
         return this;
       }
-      public Builder addEvent(
-          int index, com.gilran.chess.Proto.GameEvent value) {
-        if (eventBuilder_ == null) {
+      public Builder addLine(
+          int index, com.gilran.chess.Proto.AnalysisLine value) {
+        if (lineBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureEventIsMutable();
-          event_.add(index, value);
+          ensureLineIsMutable();
+          line_.add(index, value);
           onChanged();
         } else {
-          eventBuilder_.addMessage(index, value);
+          lineBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      public Builder addLine(
+          com.gilran.chess.Proto.AnalysisLine.Builder builderForValue) {
+        if (lineBuilder_ == null) {
+          ensureLineIsMutable();
+          line_.add(builderForValue.build());
+          onChanged();
+        } else {
+          lineBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addLine(
+          int index, com.gilran.chess.Proto.AnalysisLine.Builder builderForValue) {
+        if (lineBuilder_ == null) {
+          ensureLineIsMutable();
+          line_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          lineBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addAllLine(
+          java.lang.Iterable<? extends com.gilran.chess.Proto.AnalysisLine> values) {
+        if (lineBuilder_ == null) {
+          ensureLineIsMutable();
+          super.addAll(values, line_);
+          onChanged();
+        } else {
+          lineBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      public Builder clearLine() {
+        if (lineBuilder_ == null) {
+          line_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          lineBuilder_.clear();
+        }
+        return this;
+      }
+      public Builder removeLine(int index) {
+        if (lineBuilder_ == null) {
+          ensureLineIsMutable();
+          line_.remove(index);
+          onChanged();
+        } else {
+          lineBuilder_.remove(index);
+        }
+        return this;
+      }
+      public com.gilran.chess.Proto.AnalysisLine.Builder getLineBuilder(
+          int index) {
+        return getLineFieldBuilder().getBuilder(index);
+      }
+      public com.gilran.chess.Proto.AnalysisLineOrBuilder getLineOrBuilder(
+          int index) {
+        if (lineBuilder_ == null) {
+          return line_.get(index);  } else {
+          return lineBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      public java.util.List<? extends com.gilran.chess.Proto.AnalysisLineOrBuilder>
+           getLineOrBuilderList() {
+        if (lineBuilder_ != null) {
+          return lineBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(line_);
+        }
+      }
+      public com.gilran.chess.Proto.AnalysisLine.Builder addLineBuilder() {
+        return getLineFieldBuilder().addBuilder(
+            com.gilran.chess.Proto.AnalysisLine.getDefaultInstance());
+      }
+      public com.gilran.chess.Proto.AnalysisLine.Builder addLineBuilder(
+          int index) {
+        return getLineFieldBuilder().addBuilder(
+            index, com.gilran.chess.Proto.AnalysisLine.getDefaultInstance());
+      }
+      public java.util.List<com.gilran.chess.Proto.AnalysisLine.Builder>
+           getLineBuilderList() {
+        return getLineFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.gilran.chess.Proto.AnalysisLine, com.gilran.chess.Proto.AnalysisLine.Builder, com.gilran.chess.Proto.AnalysisLineOrBuilder>
+          getLineFieldBuilder() {
+        if (lineBuilder_ == null) {
+          lineBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.gilran.chess.Proto.AnalysisLine, com.gilran.chess.Proto.AnalysisLine.Builder, com.gilran.chess.Proto.AnalysisLineOrBuilder>(
+                  line_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          line_ = null;
+        }
+        return lineBuilder_;
+      }
+
+      // optional int64 nodes = 3;
+      private long nodes_ ;
+      public boolean hasNodes() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      public long getNodes() {
+        return nodes_;
+      }
+      public Builder setNodes(long value) {
+        bitField0_ |= 0x00000004;
+        nodes_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearNodes() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        nodes_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 nodes_per_second = 4;
+      private long nodesPerSecond_ ;
+      public boolean hasNodesPerSecond() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      public long getNodesPerSecond() {
+        return nodesPerSecond_;
+      }
+      public Builder setNodesPerSecond(long value) {
+        bitField0_ |= 0x00000008;
+        nodesPerSecond_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearNodesPerSecond() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        nodesPerSecond_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:chess.AnalysisInfo)
+    }
+
+    static {
+      defaultInstance = new AnalysisInfo(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:chess.AnalysisInfo)
+  }
+
+  public interface EventsRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required .chess.GameInfo game_info = 1;
+    boolean hasGameInfo();
+    com.gilran.chess.Proto.GameInfo getGameInfo();
+    com.gilran.chess.Proto.GameInfoOrBuilder getGameInfoOrBuilder();
+
+    // required int32 min_event_number = 2;
+    boolean hasMinEventNumber();
+    int getMinEventNumber();
+  }
+  public static final class EventsRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements EventsRequestOrBuilder {
+    // Use EventsRequest.newBuilder() to construct.
+    private EventsRequest(Builder builder) {
+      super(builder);
+    }
+    private EventsRequest(boolean noInit) {}
+
+    private static final EventsRequest defaultInstance;
+    public static EventsRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public EventsRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.gilran.chess.Proto.internal_static_chess_EventsRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.gilran.chess.Proto.internal_static_chess_EventsRequest_fieldAccessorTable;
+    }
+
+    private int bitField0_;
+    // required .chess.GameInfo game_info = 1;
+    public static final int GAME_INFO_FIELD_NUMBER = 1;
+    private com.gilran.chess.Proto.GameInfo gameInfo_;
+    public boolean hasGameInfo() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public com.gilran.chess.Proto.GameInfo getGameInfo() {
+      return gameInfo_;
+    }
+    public com.gilran.chess.Proto.GameInfoOrBuilder getGameInfoOrBuilder() {
+      return gameInfo_;
+    }
+
+    // required int32 min_event_number = 2;
+    public static final int MIN_EVENT_NUMBER_FIELD_NUMBER = 2;
+    private int minEventNumber_;
+    public boolean hasMinEventNumber() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public int getMinEventNumber() {
+      return minEventNumber_;
+    }
+
+    private void initFields() {
+      gameInfo_ = com.gilran.chess.Proto.GameInfo.getDefaultInstance();
+      minEventNumber_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasGameInfo()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasMinEventNumber()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getGameInfo().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, gameInfo_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, minEventNumber_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, gameInfo_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, minEventNumber_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.gilran.chess.Proto.EventsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.EventsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.EventsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.EventsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.EventsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.EventsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.EventsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.EventsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.EventsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.EventsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.gilran.chess.Proto.EventsRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.gilran.chess.Proto.EventsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.gilran.chess.Proto.internal_static_chess_EventsRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.gilran.chess.Proto.internal_static_chess_EventsRequest_fieldAccessorTable;
+      }
+
+      // Construct using com.gilran.chess.Proto.EventsRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getGameInfoFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (gameInfoBuilder_ == null) {
+          gameInfo_ = com.gilran.chess.Proto.GameInfo.getDefaultInstance();
+        } else {
+          gameInfoBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        minEventNumber_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.gilran.chess.Proto.EventsRequest.getDescriptor();
+      }
+
+      public com.gilran.chess.Proto.EventsRequest getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.EventsRequest.getDefaultInstance();
+      }
+
+      public com.gilran.chess.Proto.EventsRequest build() {
+        com.gilran.chess.Proto.EventsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      private com.gilran.chess.Proto.EventsRequest buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        com.gilran.chess.Proto.EventsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+
+      public com.gilran.chess.Proto.EventsRequest buildPartial() {
+        com.gilran.chess.Proto.EventsRequest result = new com.gilran.chess.Proto.EventsRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (gameInfoBuilder_ == null) {
+          result.gameInfo_ = gameInfo_;
+        } else {
+          result.gameInfo_ = gameInfoBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.minEventNumber_ = minEventNumber_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.gilran.chess.Proto.EventsRequest) {
+          return mergeFrom((com.gilran.chess.Proto.EventsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.gilran.chess.Proto.EventsRequest other) {
+        if (other == com.gilran.chess.Proto.EventsRequest.getDefaultInstance()) return this;
+        if (other.hasGameInfo()) {
+          mergeGameInfo(other.getGameInfo());
+        }
+        if (other.hasMinEventNumber()) {
+          setMinEventNumber(other.getMinEventNumber());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasGameInfo()) {
+
+          return false;
+        }
+        if (!hasMinEventNumber()) {
+
+          return false;
+        }
+        if (!getGameInfo().isInitialized()) {
+
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 10: {
+              com.gilran.chess.Proto.GameInfo.Builder subBuilder = com.gilran.chess.Proto.GameInfo.newBuilder();
+              if (hasGameInfo()) {
+                subBuilder.mergeFrom(getGameInfo());
+              }
+              input.readMessage(subBuilder, extensionRegistry);
+              setGameInfo(subBuilder.buildPartial());
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              minEventNumber_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      }
+
+      private int bitField0_;
+
+      // required .chess.GameInfo game_info = 1;
+      private com.gilran.chess.Proto.GameInfo gameInfo_ = com.gilran.chess.Proto.GameInfo.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.gilran.chess.Proto.GameInfo, com.gilran.chess.Proto.GameInfo.Builder, com.gilran.chess.Proto.GameInfoOrBuilder> gameInfoBuilder_;
+      public boolean hasGameInfo() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public com.gilran.chess.Proto.GameInfo getGameInfo() {
+        if (gameInfoBuilder_ == null) {
+          return gameInfo_;
+        } else {
+          return gameInfoBuilder_.getMessage();
+        }
+      }
+      public Builder setGameInfo(com.gilran.chess.Proto.GameInfo value) {
+        if (gameInfoBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          gameInfo_ = value;
+          onChanged();
+        } else {
+          gameInfoBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      public Builder setGameInfo(
+          com.gilran.chess.Proto.GameInfo.Builder builderForValue) {
+        if (gameInfoBuilder_ == null) {
+          gameInfo_ = builderForValue.build();
+          onChanged();
+        } else {
+          gameInfoBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      public Builder mergeGameInfo(com.gilran.chess.Proto.GameInfo value) {
+        if (gameInfoBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              gameInfo_ != com.gilran.chess.Proto.GameInfo.getDefaultInstance()) {
+            gameInfo_ =
+              com.gilran.chess.Proto.GameInfo.newBuilder(gameInfo_).mergeFrom(value).buildPartial();
+          } else {
+            gameInfo_ = value;
+          }
+          onChanged();
+        } else {
+          gameInfoBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      public Builder clearGameInfo() {
+        if (gameInfoBuilder_ == null) {
+          gameInfo_ = com.gilran.chess.Proto.GameInfo.getDefaultInstance();
+          onChanged();
+        } else {
+          gameInfoBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      public com.gilran.chess.Proto.GameInfo.Builder getGameInfoBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getGameInfoFieldBuilder().getBuilder();
+      }
+      public com.gilran.chess.Proto.GameInfoOrBuilder getGameInfoOrBuilder() {
+        if (gameInfoBuilder_ != null) {
+          return gameInfoBuilder_.getMessageOrBuilder();
+        } else {
+          return gameInfo_;
+        }
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          com.gilran.chess.Proto.GameInfo, com.gilran.chess.Proto.GameInfo.Builder, com.gilran.chess.Proto.GameInfoOrBuilder>
+          getGameInfoFieldBuilder() {
+        if (gameInfoBuilder_ == null) {
+          gameInfoBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.gilran.chess.Proto.GameInfo, com.gilran.chess.Proto.GameInfo.Builder, com.gilran.chess.Proto.GameInfoOrBuilder>(
+                  gameInfo_,
+                  getParentForChildren(),
+                  isClean());
+          gameInfo_ = null;
+        }
+        return gameInfoBuilder_;
+      }
+
+      // required int32 min_event_number = 2;
+      private int minEventNumber_ ;
+      public boolean hasMinEventNumber() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      public int getMinEventNumber() {
+        return minEventNumber_;
+      }
+      public Builder setMinEventNumber(int value) {
+        bitField0_ |= 0x00000002;
+        minEventNumber_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearMinEventNumber() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        minEventNumber_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:chess.EventsRequest)
+    }
+
+    static {
+      defaultInstance = new EventsRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:chess.EventsRequest)
+  }
+
+  public interface EventsResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional .chess.Status status = 1;
+    boolean hasStatus();
+    com.gilran.chess.Proto.Status getStatus();
+
+    // repeated .chess.GameEvent event = 2;
+    java.util.List<com.gilran.chess.Proto.GameEvent>
+        getEventList();
+    com.gilran.chess.Proto.GameEvent getEvent(int index);
+    int getEventCount();
+    java.util.List<? extends com.gilran.chess.Proto.GameEventOrBuilder>
+        getEventOrBuilderList();
+    com.gilran.chess.Proto.GameEventOrBuilder getEventOrBuilder(
+        int index);
+  }
+  public static final class EventsResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements EventsResponseOrBuilder {
+    // Use EventsResponse.newBuilder() to construct.
+    private EventsResponse(Builder builder) {
+      super(builder);
+    }
+    private EventsResponse(boolean noInit) {}
+
+    private static final EventsResponse defaultInstance;
+    public static EventsResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public EventsResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.gilran.chess.Proto.internal_static_chess_EventsResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.gilran.chess.Proto.internal_static_chess_EventsResponse_fieldAccessorTable;
+    }
+
+    private int bitField0_;
+    // optional .chess.Status status = 1;
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private com.gilran.chess.Proto.Status status_;
+    public boolean hasStatus() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public com.gilran.chess.Proto.Status getStatus() {
+      return status_;
+    }
+
+    // repeated .chess.GameEvent event = 2;
+    public static final int EVENT_FIELD_NUMBER = 2;
+    private java.util.List<com.gilran.chess.Proto.GameEvent> event_;
+    public java.util.List<com.gilran.chess.Proto.GameEvent> getEventList() {
+      return event_;
+    }
+    public java.util.List<? extends com.gilran.chess.Proto.GameEventOrBuilder>
+        getEventOrBuilderList() {
+      return event_;
+    }
+    public int getEventCount() {
+      return event_.size();
+    }
+    public com.gilran.chess.Proto.GameEvent getEvent(int index) {
+      return event_.get(index);
+    }
+    public com.gilran.chess.Proto.GameEventOrBuilder getEventOrBuilder(
+        int index) {
+      return event_.get(index);
+    }
+
+    private void initFields() {
+      status_ = com.gilran.chess.Proto.Status.OK;
+      event_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getEventCount(); i++) {
+        if (!getEvent(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, status_.getNumber());
+      }
+      for (int i = 0; i < event_.size(); i++) {
+        output.writeMessage(2, event_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, status_.getNumber());
+      }
+      for (int i = 0; i < event_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, event_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.gilran.chess.Proto.EventsResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.EventsResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.EventsResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.EventsResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.EventsResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.EventsResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.EventsResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.EventsResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.EventsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.EventsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.gilran.chess.Proto.EventsResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.gilran.chess.Proto.EventsResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.gilran.chess.Proto.internal_static_chess_EventsResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.gilran.chess.Proto.internal_static_chess_EventsResponse_fieldAccessorTable;
+      }
+
+      // Construct using com.gilran.chess.Proto.EventsResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getEventFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        status_ = com.gilran.chess.Proto.Status.OK;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (eventBuilder_ == null) {
+          event_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          eventBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.gilran.chess.Proto.EventsResponse.getDescriptor();
+      }
+
+      public com.gilran.chess.Proto.EventsResponse getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.EventsResponse.getDefaultInstance();
+      }
+
+      public com.gilran.chess.Proto.EventsResponse build() {
+        com.gilran.chess.Proto.EventsResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      private com.gilran.chess.Proto.EventsResponse buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        com.gilran.chess.Proto.EventsResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+
+      public com.gilran.chess.Proto.EventsResponse buildPartial() {
+        com.gilran.chess.Proto.EventsResponse result = new com.gilran.chess.Proto.EventsResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.status_ = status_;
+        if (eventBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            event_ = java.util.Collections.unmodifiableList(event_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.event_ = event_;
+        } else {
+          result.event_ = eventBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.gilran.chess.Proto.EventsResponse) {
+          return mergeFrom((com.gilran.chess.Proto.EventsResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.gilran.chess.Proto.EventsResponse other) {
+        if (other == com.gilran.chess.Proto.EventsResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          setStatus(other.getStatus());
+        }
+        if (eventBuilder_ == null) {
+          if (!other.event_.isEmpty()) {
+            if (event_.isEmpty()) {
+              event_ = other.event_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureEventIsMutable();
+              event_.addAll(other.event_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.event_.isEmpty()) {
+            if (eventBuilder_.isEmpty()) {
+              eventBuilder_.dispose();
+              eventBuilder_ = null;
+              event_ = other.event_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              eventBuilder_ =
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEventFieldBuilder() : null;
+            } else {
+              eventBuilder_.addAllMessages(other.event_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getEventCount(); i++) {
+          if (!getEvent(i).isInitialized()) {
+
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              com.gilran.chess.Proto.Status value = com.gilran.chess.Proto.Status.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                status_ = value;
+              }
+              break;
+            }
+            case 18: {
+              com.gilran.chess.Proto.GameEvent.Builder subBuilder = com.gilran.chess.Proto.GameEvent.newBuilder();
+              input.readMessage(subBuilder, extensionRegistry);
+              addEvent(subBuilder.buildPartial());
+              break;
+            }
+          }
+        }
+      }
+
+      private int bitField0_;
+
+      // optional .chess.Status status = 1;
+      private com.gilran.chess.Proto.Status status_ = com.gilran.chess.Proto.Status.OK;
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public com.gilran.chess.Proto.Status getStatus() {
+        return status_;
+      }
+      public Builder setStatus(com.gilran.chess.Proto.Status value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        status_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = com.gilran.chess.Proto.Status.OK;
+        onChanged();
+        return this;
+      }
+
+      // repeated .chess.GameEvent event = 2;
+      private java.util.List<com.gilran.chess.Proto.GameEvent> event_ =
+        java.util.Collections.emptyList();
+      private void ensureEventIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          event_ = new java.util.ArrayList<com.gilran.chess.Proto.GameEvent>(event_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.gilran.chess.Proto.GameEvent, com.gilran.chess.Proto.GameEvent.Builder, com.gilran.chess.Proto.GameEventOrBuilder> eventBuilder_;
+
+      public java.util.List<com.gilran.chess.Proto.GameEvent> getEventList() {
+        if (eventBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(event_);
+        } else {
+          return eventBuilder_.getMessageList();
+        }
+      }
+      public int getEventCount() {
+        if (eventBuilder_ == null) {
+          return event_.size();
+        } else {
+          return eventBuilder_.getCount();
+        }
+      }
+      public com.gilran.chess.Proto.GameEvent getEvent(int index) {
+        if (eventBuilder_ == null) {
+          return event_.get(index);
+        } else {
+          return eventBuilder_.getMessage(index);
+        }
+      }
+      public Builder setEvent(
+          int index, com.gilran.chess.Proto.GameEvent value) {
+        if (eventBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventIsMutable();
+          event_.set(index, value);
+          onChanged();
+        } else {
+          eventBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      public Builder setEvent(
+          int index, com.gilran.chess.Proto.GameEvent.Builder builderForValue) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addEvent(com.gilran.chess.Proto.GameEvent value) {
+        if (eventBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventIsMutable();
+          event_.add(value);
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      public Builder addEvent(
+          int index, com.gilran.chess.Proto.GameEvent value) {
+        if (eventBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventIsMutable();
+          event_.add(index, value);
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      public Builder addEvent(
+          com.gilran.chess.Proto.GameEvent.Builder builderForValue) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.add(builderForValue.build());
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addEvent(
+          int index, com.gilran.chess.Proto.GameEvent.Builder builderForValue) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addAllEvent(
+          java.lang.Iterable<? extends com.gilran.chess.Proto.GameEvent> values) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          super.addAll(values, event_);
+          onChanged();
+        } else {
+          eventBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      public Builder clearEvent() {
+        if (eventBuilder_ == null) {
+          event_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          eventBuilder_.clear();
+        }
+        return this;
+      }
+      public Builder removeEvent(int index) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.remove(index);
+          onChanged();
+        } else {
+          eventBuilder_.remove(index);
+        }
+        return this;
+      }
+      public com.gilran.chess.Proto.GameEvent.Builder getEventBuilder(
+          int index) {
+        return getEventFieldBuilder().getBuilder(index);
+      }
+      public com.gilran.chess.Proto.GameEventOrBuilder getEventOrBuilder(
+          int index) {
+        if (eventBuilder_ == null) {
+          return event_.get(index);  } else {
+          return eventBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      public java.util.List<? extends com.gilran.chess.Proto.GameEventOrBuilder>
+           getEventOrBuilderList() {
+        if (eventBuilder_ != null) {
+          return eventBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(event_);
+        }
+      }
+      public com.gilran.chess.Proto.GameEvent.Builder addEventBuilder() {
+        return getEventFieldBuilder().addBuilder(
+            com.gilran.chess.Proto.GameEvent.getDefaultInstance());
+      }
+      public com.gilran.chess.Proto.GameEvent.Builder addEventBuilder(
+          int index) {
+        return getEventFieldBuilder().addBuilder(
+            index, com.gilran.chess.Proto.GameEvent.getDefaultInstance());
+      }
+      public java.util.List<com.gilran.chess.Proto.GameEvent.Builder>
+           getEventBuilderList() {
+        return getEventFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.gilran.chess.Proto.GameEvent, com.gilran.chess.Proto.GameEvent.Builder, com.gilran.chess.Proto.GameEventOrBuilder>
+          getEventFieldBuilder() {
+        if (eventBuilder_ == null) {
+          eventBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.gilran.chess.Proto.GameEvent, com.gilran.chess.Proto.GameEvent.Builder, com.gilran.chess.Proto.GameEventOrBuilder>(
+                  event_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          event_ = null;
+        }
+        return eventBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:chess.EventsResponse)
+    }
+
+    static {
+      defaultInstance = new EventsResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:chess.EventsResponse)
+  }
+
+  public interface PositionResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional .chess.Status status = 1;
+    boolean hasStatus();
+    com.gilran.chess.Proto.Status getStatus();
+
+    // optional string fen = 2;
+    boolean hasFen();
+    String getFen();
+
+    // optional .chess.GameStatus game_status = 3;
+    boolean hasGameStatus();
+    com.gilran.chess.Proto.GameStatus getGameStatus();
+
+    // optional int32 plies = 4;
+    boolean hasPlies();
+    int getPlies();
+  }
+  public static final class PositionResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements PositionResponseOrBuilder {
+    // Use PositionResponse.newBuilder() to construct.
+    private PositionResponse(Builder builder) {
+      super(builder);
+    }
+    private PositionResponse(boolean noInit) {}
+
+    private static final PositionResponse defaultInstance;
+    public static PositionResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public PositionResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.gilran.chess.Proto.internal_static_chess_PositionResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.gilran.chess.Proto.internal_static_chess_PositionResponse_fieldAccessorTable;
+    }
+
+    private int bitField0_;
+    // optional .chess.Status status = 1;
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private com.gilran.chess.Proto.Status status_;
+    public boolean hasStatus() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public com.gilran.chess.Proto.Status getStatus() {
+      return status_;
+    }
+
+    // optional string fen = 2;
+    public static final int FEN_FIELD_NUMBER = 2;
+    private java.lang.Object fen_;
+    public boolean hasFen() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public String getFen() {
+      java.lang.Object ref = fen_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          fen_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getFenBytes() {
+      java.lang.Object ref = fen_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        fen_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional .chess.GameStatus game_status = 3;
+    public static final int GAME_STATUS_FIELD_NUMBER = 3;
+    private com.gilran.chess.Proto.GameStatus gameStatus_;
+    public boolean hasGameStatus() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public com.gilran.chess.Proto.GameStatus getGameStatus() {
+      return gameStatus_;
+    }
+
+    // optional int32 plies = 4;
+    public static final int PLIES_FIELD_NUMBER = 4;
+    private int plies_;
+    public boolean hasPlies() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    public int getPlies() {
+      return plies_;
+    }
+
+    private void initFields() {
+      status_ = com.gilran.chess.Proto.Status.OK;
+      fen_ = "";
+      gameStatus_ = com.gilran.chess.Proto.GameStatus.WHITE_TO_MOVE;
+      plies_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, status_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getFenBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeEnum(3, gameStatus_.getNumber());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt32(4, plies_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, status_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getFenBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, gameStatus_.getNumber());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, plies_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.gilran.chess.Proto.PositionResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PositionResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.PositionResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PositionResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.PositionResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PositionResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.PositionResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.PositionResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.PositionResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PositionResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.gilran.chess.Proto.PositionResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.gilran.chess.Proto.PositionResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.gilran.chess.Proto.internal_static_chess_PositionResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.gilran.chess.Proto.internal_static_chess_PositionResponse_fieldAccessorTable;
+      }
+
+      // Construct using com.gilran.chess.Proto.PositionResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        status_ = com.gilran.chess.Proto.Status.OK;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        fen_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        gameStatus_ = com.gilran.chess.Proto.GameStatus.WHITE_TO_MOVE;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        plies_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.gilran.chess.Proto.PositionResponse.getDescriptor();
+      }
+
+      public com.gilran.chess.Proto.PositionResponse getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.PositionResponse.getDefaultInstance();
+      }
+
+      public com.gilran.chess.Proto.PositionResponse build() {
+        com.gilran.chess.Proto.PositionResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      private com.gilran.chess.Proto.PositionResponse buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        com.gilran.chess.Proto.PositionResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+
+      public com.gilran.chess.Proto.PositionResponse buildPartial() {
+        com.gilran.chess.Proto.PositionResponse result = new com.gilran.chess.Proto.PositionResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.status_ = status_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.fen_ = fen_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.gameStatus_ = gameStatus_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.plies_ = plies_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.gilran.chess.Proto.PositionResponse) {
+          return mergeFrom((com.gilran.chess.Proto.PositionResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.gilran.chess.Proto.PositionResponse other) {
+        if (other == com.gilran.chess.Proto.PositionResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          setStatus(other.getStatus());
+        }
+        if (other.hasFen()) {
+          setFen(other.getFen());
+        }
+        if (other.hasGameStatus()) {
+          setGameStatus(other.getGameStatus());
+        }
+        if (other.hasPlies()) {
+          setPlies(other.getPlies());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              com.gilran.chess.Proto.Status value = com.gilran.chess.Proto.Status.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                status_ = value;
+              }
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              fen_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              int rawValue = input.readEnum();
+              com.gilran.chess.Proto.GameStatus value = com.gilran.chess.Proto.GameStatus.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(3, rawValue);
+              } else {
+                bitField0_ |= 0x00000004;
+                gameStatus_ = value;
+              }
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              plies_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      }
+
+      private int bitField0_;
+
+      // optional .chess.Status status = 1;
+      private com.gilran.chess.Proto.Status status_ = com.gilran.chess.Proto.Status.OK;
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public com.gilran.chess.Proto.Status getStatus() {
+        return status_;
+      }
+      public Builder setStatus(com.gilran.chess.Proto.Status value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        status_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = com.gilran.chess.Proto.Status.OK;
+        onChanged();
+        return this;
+      }
+
+      // optional string fen = 2;
+      private java.lang.Object fen_ = "";
+      public boolean hasFen() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      public String getFen() {
+        java.lang.Object ref = fen_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          fen_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setFen(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        fen_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearFen() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fen_ = getDefaultInstance().getFen();
+        onChanged();
+        return this;
+      }
+      void setFen(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000002;
+        fen_ = value;
+        onChanged();
+      }
+
+      // optional .chess.GameStatus game_status = 3;
+      private com.gilran.chess.Proto.GameStatus gameStatus_ = com.gilran.chess.Proto.GameStatus.WHITE_TO_MOVE;
+      public boolean hasGameStatus() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      public com.gilran.chess.Proto.GameStatus getGameStatus() {
+        return gameStatus_;
+      }
+      public Builder setGameStatus(com.gilran.chess.Proto.GameStatus value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000004;
+        gameStatus_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearGameStatus() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        gameStatus_ = com.gilran.chess.Proto.GameStatus.WHITE_TO_MOVE;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 plies = 4;
+      private int plies_ ;
+      public boolean hasPlies() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      public int getPlies() {
+        return plies_;
+      }
+      public Builder setPlies(int value) {
+        bitField0_ |= 0x00000008;
+        plies_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearPlies() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        plies_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:chess.PositionResponse)
+    }
+
+    static {
+      defaultInstance = new PositionResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:chess.PositionResponse)
+  }
+
+  public interface PlyRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required .chess.GameInfo game_info = 1;
+    boolean hasGameInfo();
+    com.gilran.chess.Proto.GameInfo getGameInfo();
+    com.gilran.chess.Proto.GameInfoOrBuilder getGameInfoOrBuilder();
+
+    // required int32 ply = 2;
+    boolean hasPly();
+    int getPly();
+  }
+  public static final class PlyRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements PlyRequestOrBuilder {
+    // Use PlyRequest.newBuilder() to construct.
+    private PlyRequest(Builder builder) {
+      super(builder);
+    }
+    private PlyRequest(boolean noInit) {}
+
+    private static final PlyRequest defaultInstance;
+    public static PlyRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public PlyRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.gilran.chess.Proto.internal_static_chess_PlyRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.gilran.chess.Proto.internal_static_chess_PlyRequest_fieldAccessorTable;
+    }
+
+    private int bitField0_;
+    // required .chess.GameInfo game_info = 1;
+    public static final int GAME_INFO_FIELD_NUMBER = 1;
+    private com.gilran.chess.Proto.GameInfo gameInfo_;
+    public boolean hasGameInfo() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public com.gilran.chess.Proto.GameInfo getGameInfo() {
+      return gameInfo_;
+    }
+    public com.gilran.chess.Proto.GameInfoOrBuilder getGameInfoOrBuilder() {
+      return gameInfo_;
+    }
+
+    // required int32 ply = 2;
+    public static final int PLY_FIELD_NUMBER = 2;
+    private int ply_;
+    public boolean hasPly() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public int getPly() {
+      return ply_;
+    }
+
+    private void initFields() {
+      gameInfo_ = com.gilran.chess.Proto.GameInfo.getDefaultInstance();
+      ply_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasGameInfo()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasPly()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getGameInfo().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, gameInfo_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, ply_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, gameInfo_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, ply_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.gilran.chess.Proto.PlyRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlyRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlyRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlyRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlyRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlyRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlyRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.PlyRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.PlyRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlyRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.gilran.chess.Proto.PlyRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.gilran.chess.Proto.PlyRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.gilran.chess.Proto.internal_static_chess_PlyRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.gilran.chess.Proto.internal_static_chess_PlyRequest_fieldAccessorTable;
+      }
+
+      // Construct using com.gilran.chess.Proto.PlyRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getGameInfoFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (gameInfoBuilder_ == null) {
+          gameInfo_ = com.gilran.chess.Proto.GameInfo.getDefaultInstance();
+        } else {
+          gameInfoBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        ply_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.gilran.chess.Proto.PlyRequest.getDescriptor();
+      }
+
+      public com.gilran.chess.Proto.PlyRequest getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.PlyRequest.getDefaultInstance();
+      }
+
+      public com.gilran.chess.Proto.PlyRequest build() {
+        com.gilran.chess.Proto.PlyRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      private com.gilran.chess.Proto.PlyRequest buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        com.gilran.chess.Proto.PlyRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+
+      public com.gilran.chess.Proto.PlyRequest buildPartial() {
+        com.gilran.chess.Proto.PlyRequest result = new com.gilran.chess.Proto.PlyRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (gameInfoBuilder_ == null) {
+          result.gameInfo_ = gameInfo_;
+        } else {
+          result.gameInfo_ = gameInfoBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.ply_ = ply_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.gilran.chess.Proto.PlyRequest) {
+          return mergeFrom((com.gilran.chess.Proto.PlyRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.gilran.chess.Proto.PlyRequest other) {
+        if (other == com.gilran.chess.Proto.PlyRequest.getDefaultInstance()) return this;
+        if (other.hasGameInfo()) {
+          mergeGameInfo(other.getGameInfo());
+        }
+        if (other.hasPly()) {
+          setPly(other.getPly());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasGameInfo()) {
+
+          return false;
+        }
+        if (!hasPly()) {
+
+          return false;
+        }
+        if (!getGameInfo().isInitialized()) {
+
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 10: {
+              com.gilran.chess.Proto.GameInfo.Builder subBuilder = com.gilran.chess.Proto.GameInfo.newBuilder();
+              if (hasGameInfo()) {
+                subBuilder.mergeFrom(getGameInfo());
+              }
+              input.readMessage(subBuilder, extensionRegistry);
+              setGameInfo(subBuilder.buildPartial());
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              ply_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      }
+
+      private int bitField0_;
+
+      // required .chess.GameInfo game_info = 1;
+      private com.gilran.chess.Proto.GameInfo gameInfo_ = com.gilran.chess.Proto.GameInfo.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.gilran.chess.Proto.GameInfo, com.gilran.chess.Proto.GameInfo.Builder, com.gilran.chess.Proto.GameInfoOrBuilder> gameInfoBuilder_;
+      public boolean hasGameInfo() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public com.gilran.chess.Proto.GameInfo getGameInfo() {
+        if (gameInfoBuilder_ == null) {
+          return gameInfo_;
+        } else {
+          return gameInfoBuilder_.getMessage();
+        }
+      }
+      public Builder setGameInfo(com.gilran.chess.Proto.GameInfo value) {
+        if (gameInfoBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          gameInfo_ = value;
+          onChanged();
+        } else {
+          gameInfoBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      public Builder setGameInfo(
+          com.gilran.chess.Proto.GameInfo.Builder builderForValue) {
+        if (gameInfoBuilder_ == null) {
+          gameInfo_ = builderForValue.build();
+          onChanged();
+        } else {
+          gameInfoBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      public Builder mergeGameInfo(com.gilran.chess.Proto.GameInfo value) {
+        if (gameInfoBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              gameInfo_ != com.gilran.chess.Proto.GameInfo.getDefaultInstance()) {
+            gameInfo_ =
+              com.gilran.chess.Proto.GameInfo.newBuilder(gameInfo_).mergeFrom(value).buildPartial();
+          } else {
+            gameInfo_ = value;
+          }
+          onChanged();
+        } else {
+          gameInfoBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      public Builder clearGameInfo() {
+        if (gameInfoBuilder_ == null) {
+          gameInfo_ = com.gilran.chess.Proto.GameInfo.getDefaultInstance();
+          onChanged();
+        } else {
+          gameInfoBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      public com.gilran.chess.Proto.GameInfo.Builder getGameInfoBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getGameInfoFieldBuilder().getBuilder();
+      }
+      public com.gilran.chess.Proto.GameInfoOrBuilder getGameInfoOrBuilder() {
+        if (gameInfoBuilder_ != null) {
+          return gameInfoBuilder_.getMessageOrBuilder();
+        } else {
+          return gameInfo_;
+        }
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          com.gilran.chess.Proto.GameInfo, com.gilran.chess.Proto.GameInfo.Builder, com.gilran.chess.Proto.GameInfoOrBuilder>
+          getGameInfoFieldBuilder() {
+        if (gameInfoBuilder_ == null) {
+          gameInfoBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.gilran.chess.Proto.GameInfo, com.gilran.chess.Proto.GameInfo.Builder, com.gilran.chess.Proto.GameInfoOrBuilder>(
+                  gameInfo_,
+                  getParentForChildren(),
+                  isClean());
+          gameInfo_ = null;
+        }
+        return gameInfoBuilder_;
+      }
+
+      // required int32 ply = 2;
+      private int ply_ ;
+      public boolean hasPly() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      public int getPly() {
+        return ply_;
+      }
+      public Builder setPly(int value) {
+        bitField0_ |= 0x00000002;
+        ply_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearPly() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        ply_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:chess.PlyRequest)
+    }
+
+    static {
+      defaultInstance = new PlyRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:chess.PlyRequest)
+  }
+
+  public interface GameHistoryResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional .chess.Status status = 1;
+    boolean hasStatus();
+    com.gilran.chess.Proto.Status getStatus();
+
+    // optional string white = 2;
+    boolean hasWhite();
+    String getWhite();
+
+    // optional string black = 3;
+    boolean hasBlack();
+    String getBlack();
+
+    // optional string start_fen = 4;
+    boolean hasStartFen();
+    String getStartFen();
+
+    // repeated .chess.GameEvent event = 5;
+    java.util.List<com.gilran.chess.Proto.GameEvent>
+        getEventList();
+    com.gilran.chess.Proto.GameEvent getEvent(int index);
+    int getEventCount();
+    java.util.List<? extends com.gilran.chess.Proto.GameEventOrBuilder>
+        getEventOrBuilderList();
+    com.gilran.chess.Proto.GameEventOrBuilder getEventOrBuilder(
+        int index);
+  }
+  public static final class GameHistoryResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements GameHistoryResponseOrBuilder {
+    // Use GameHistoryResponse.newBuilder() to construct.
+    private GameHistoryResponse(Builder builder) {
+      super(builder);
+    }
+    private GameHistoryResponse(boolean noInit) {}
+
+    private static final GameHistoryResponse defaultInstance;
+    public static GameHistoryResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public GameHistoryResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.gilran.chess.Proto.internal_static_chess_GameHistoryResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.gilran.chess.Proto.internal_static_chess_GameHistoryResponse_fieldAccessorTable;
+    }
+
+    private int bitField0_;
+    // optional .chess.Status status = 1;
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private com.gilran.chess.Proto.Status status_;
+    public boolean hasStatus() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public com.gilran.chess.Proto.Status getStatus() {
+      return status_;
+    }
+
+    // optional string white = 2;
+    public static final int WHITE_FIELD_NUMBER = 2;
+    private java.lang.Object white_;
+    public boolean hasWhite() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public String getWhite() {
+      java.lang.Object ref = white_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          white_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getWhiteBytes() {
+      java.lang.Object ref = white_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        white_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string black = 3;
+    public static final int BLACK_FIELD_NUMBER = 3;
+    private java.lang.Object black_;
+    public boolean hasBlack() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public String getBlack() {
+      java.lang.Object ref = black_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          black_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getBlackBytes() {
+      java.lang.Object ref = black_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        black_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string start_fen = 4;
+    public static final int START_FEN_FIELD_NUMBER = 4;
+    private java.lang.Object startFen_;
+    public boolean hasStartFen() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    public String getStartFen() {
+      java.lang.Object ref = startFen_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          startFen_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getStartFenBytes() {
+      java.lang.Object ref = startFen_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        startFen_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // repeated .chess.GameEvent event = 5;
+    public static final int EVENT_FIELD_NUMBER = 5;
+    private java.util.List<com.gilran.chess.Proto.GameEvent> event_;
+    public java.util.List<com.gilran.chess.Proto.GameEvent> getEventList() {
+      return event_;
+    }
+    public java.util.List<? extends com.gilran.chess.Proto.GameEventOrBuilder>
+        getEventOrBuilderList() {
+      return event_;
+    }
+    public int getEventCount() {
+      return event_.size();
+    }
+    public com.gilran.chess.Proto.GameEvent getEvent(int index) {
+      return event_.get(index);
+    }
+    public com.gilran.chess.Proto.GameEventOrBuilder getEventOrBuilder(
+        int index) {
+      return event_.get(index);
+    }
+
+    private void initFields() {
+      status_ = com.gilran.chess.Proto.Status.OK;
+      white_ = "";
+      black_ = "";
+      startFen_ = "";
+      event_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getEventCount(); i++) {
+        if (!getEvent(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, status_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getWhiteBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getBlackBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getStartFenBytes());
+      }
+      for (int i = 0; i < event_.size(); i++) {
+        output.writeMessage(5, event_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, status_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getWhiteBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getBlackBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getStartFenBytes());
+      }
+      for (int i = 0; i < event_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, event_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.gilran.chess.Proto.GameHistoryResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.GameHistoryResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.GameHistoryResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.GameHistoryResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.GameHistoryResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.GameHistoryResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.GameHistoryResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.GameHistoryResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.GameHistoryResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.GameHistoryResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.gilran.chess.Proto.GameHistoryResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.gilran.chess.Proto.GameHistoryResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.gilran.chess.Proto.internal_static_chess_GameHistoryResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.gilran.chess.Proto.internal_static_chess_GameHistoryResponse_fieldAccessorTable;
+      }
+
+      // Construct using com.gilran.chess.Proto.GameHistoryResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getEventFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        status_ = com.gilran.chess.Proto.Status.OK;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        white_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        black_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        startFen_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (eventBuilder_ == null) {
+          event_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          eventBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.gilran.chess.Proto.GameHistoryResponse.getDescriptor();
+      }
+
+      public com.gilran.chess.Proto.GameHistoryResponse getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.GameHistoryResponse.getDefaultInstance();
+      }
+
+      public com.gilran.chess.Proto.GameHistoryResponse build() {
+        com.gilran.chess.Proto.GameHistoryResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      private com.gilran.chess.Proto.GameHistoryResponse buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        com.gilran.chess.Proto.GameHistoryResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+
+      public com.gilran.chess.Proto.GameHistoryResponse buildPartial() {
+        com.gilran.chess.Proto.GameHistoryResponse result = new com.gilran.chess.Proto.GameHistoryResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.status_ = status_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.white_ = white_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.black_ = black_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.startFen_ = startFen_;
+        if (eventBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            event_ = java.util.Collections.unmodifiableList(event_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.event_ = event_;
+        } else {
+          result.event_ = eventBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.gilran.chess.Proto.GameHistoryResponse) {
+          return mergeFrom((com.gilran.chess.Proto.GameHistoryResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.gilran.chess.Proto.GameHistoryResponse other) {
+        if (other == com.gilran.chess.Proto.GameHistoryResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          setStatus(other.getStatus());
+        }
+        if (other.hasWhite()) {
+          setWhite(other.getWhite());
+        }
+        if (other.hasBlack()) {
+          setBlack(other.getBlack());
+        }
+        if (other.hasStartFen()) {
+          setStartFen(other.getStartFen());
+        }
+        if (eventBuilder_ == null) {
+          if (!other.event_.isEmpty()) {
+            if (event_.isEmpty()) {
+              event_ = other.event_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureEventIsMutable();
+              event_.addAll(other.event_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.event_.isEmpty()) {
+            if (eventBuilder_.isEmpty()) {
+              eventBuilder_.dispose();
+              eventBuilder_ = null;
+              event_ = other.event_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              eventBuilder_ =
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEventFieldBuilder() : null;
+            } else {
+              eventBuilder_.addAllMessages(other.event_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getEventCount(); i++) {
+          if (!getEvent(i).isInitialized()) {
+
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              com.gilran.chess.Proto.Status value = com.gilran.chess.Proto.Status.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                status_ = value;
+              }
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              white_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              black_ = input.readBytes();
+              break;
+            }
+            case 34: {
+              bitField0_ |= 0x00000008;
+              startFen_ = input.readBytes();
+              break;
+            }
+            case 42: {
+              com.gilran.chess.Proto.GameEvent.Builder subBuilder = com.gilran.chess.Proto.GameEvent.newBuilder();
+              input.readMessage(subBuilder, extensionRegistry);
+              addEvent(subBuilder.buildPartial());
+              break;
+            }
+          }
+        }
+      }
+
+      private int bitField0_;
+
+      // optional .chess.Status status = 1;
+      private com.gilran.chess.Proto.Status status_ = com.gilran.chess.Proto.Status.OK;
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public com.gilran.chess.Proto.Status getStatus() {
+        return status_;
+      }
+      public Builder setStatus(com.gilran.chess.Proto.Status value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        status_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = com.gilran.chess.Proto.Status.OK;
+        onChanged();
+        return this;
+      }
+
+      // optional string white = 2;
+      private java.lang.Object white_ = "";
+      public boolean hasWhite() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      public String getWhite() {
+        java.lang.Object ref = white_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          white_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setWhite(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        white_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearWhite() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        white_ = getDefaultInstance().getWhite();
+        onChanged();
+        return this;
+      }
+      void setWhite(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000002;
+        white_ = value;
+        onChanged();
+      }
+
+      // optional string black = 3;
+      private java.lang.Object black_ = "";
+      public boolean hasBlack() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      public String getBlack() {
+        java.lang.Object ref = black_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          black_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setBlack(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        black_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearBlack() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        black_ = getDefaultInstance().getBlack();
+        onChanged();
+        return this;
+      }
+      void setBlack(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000004;
+        black_ = value;
+        onChanged();
+      }
+
+      // optional string start_fen = 4;
+      private java.lang.Object startFen_ = "";
+      public boolean hasStartFen() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      public String getStartFen() {
+        java.lang.Object ref = startFen_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          startFen_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setStartFen(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        startFen_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearStartFen() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        startFen_ = getDefaultInstance().getStartFen();
+        onChanged();
+        return this;
+      }
+      void setStartFen(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000008;
+        startFen_ = value;
+        onChanged();
+      }
+
+      // repeated .chess.GameEvent event = 5;
+      private java.util.List<com.gilran.chess.Proto.GameEvent> event_ =
+        java.util.Collections.emptyList();
+      private void ensureEventIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          event_ = new java.util.ArrayList<com.gilran.chess.Proto.GameEvent>(event_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.gilran.chess.Proto.GameEvent, com.gilran.chess.Proto.GameEvent.Builder, com.gilran.chess.Proto.GameEventOrBuilder> eventBuilder_;
+
+      public java.util.List<com.gilran.chess.Proto.GameEvent> getEventList() {
+        if (eventBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(event_);
+        } else {
+          return eventBuilder_.getMessageList();
+        }
+      }
+      public int getEventCount() {
+        if (eventBuilder_ == null) {
+          return event_.size();
+        } else {
+          return eventBuilder_.getCount();
+        }
+      }
+      public com.gilran.chess.Proto.GameEvent getEvent(int index) {
+        if (eventBuilder_ == null) {
+          return event_.get(index);
+        } else {
+          return eventBuilder_.getMessage(index);
+        }
+      }
+      public Builder setEvent(
+          int index, com.gilran.chess.Proto.GameEvent value) {
+        if (eventBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventIsMutable();
+          event_.set(index, value);
+          onChanged();
+        } else {
+          eventBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      public Builder setEvent(
+          int index, com.gilran.chess.Proto.GameEvent.Builder builderForValue) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addEvent(com.gilran.chess.Proto.GameEvent value) {
+        if (eventBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventIsMutable();
+          event_.add(value);
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      public Builder addEvent(
+          int index, com.gilran.chess.Proto.GameEvent value) {
+        if (eventBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventIsMutable();
+          event_.add(index, value);
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      public Builder addEvent(
+          com.gilran.chess.Proto.GameEvent.Builder builderForValue) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.add(builderForValue.build());
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addEvent(
+          int index, com.gilran.chess.Proto.GameEvent.Builder builderForValue) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addAllEvent(
+          java.lang.Iterable<? extends com.gilran.chess.Proto.GameEvent> values) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          super.addAll(values, event_);
+          onChanged();
+        } else {
+          eventBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      public Builder clearEvent() {
+        if (eventBuilder_ == null) {
+          event_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          eventBuilder_.clear();
+        }
+        return this;
+      }
+      public Builder removeEvent(int index) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.remove(index);
+          onChanged();
+        } else {
+          eventBuilder_.remove(index);
+        }
+        return this;
+      }
+      public com.gilran.chess.Proto.GameEvent.Builder getEventBuilder(
+          int index) {
+        return getEventFieldBuilder().getBuilder(index);
+      }
+      public com.gilran.chess.Proto.GameEventOrBuilder getEventOrBuilder(
+          int index) {
+        if (eventBuilder_ == null) {
+          return event_.get(index);  } else {
+          return eventBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      public java.util.List<? extends com.gilran.chess.Proto.GameEventOrBuilder>
+           getEventOrBuilderList() {
+        if (eventBuilder_ != null) {
+          return eventBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(event_);
+        }
+      }
+      public com.gilran.chess.Proto.GameEvent.Builder addEventBuilder() {
+        return getEventFieldBuilder().addBuilder(
+            com.gilran.chess.Proto.GameEvent.getDefaultInstance());
+      }
+      public com.gilran.chess.Proto.GameEvent.Builder addEventBuilder(
+          int index) {
+        return getEventFieldBuilder().addBuilder(
+            index, com.gilran.chess.Proto.GameEvent.getDefaultInstance());
+      }
+      public java.util.List<com.gilran.chess.Proto.GameEvent.Builder>
+           getEventBuilderList() {
+        return getEventFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.gilran.chess.Proto.GameEvent, com.gilran.chess.Proto.GameEvent.Builder, com.gilran.chess.Proto.GameEventOrBuilder>
+          getEventFieldBuilder() {
+        if (eventBuilder_ == null) {
+          eventBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.gilran.chess.Proto.GameEvent, com.gilran.chess.Proto.GameEvent.Builder, com.gilran.chess.Proto.GameEventOrBuilder>(
+                  event_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          event_ = null;
+        }
+        return eventBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:chess.GameHistoryResponse)
+    }
+
+    static {
+      defaultInstance = new GameHistoryResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:chess.GameHistoryResponse)
+  }
+
+  public interface PlayerGamesRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string session_token = 1;
+    boolean hasSessionToken();
+    String getSessionToken();
+
+    // required string username = 2;
+    boolean hasUsername();
+    String getUsername();
+
+    // optional int32 max_games = 3 [default = 20];
+    boolean hasMaxGames();
+    int getMaxGames();
+  }
+  public static final class PlayerGamesRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements PlayerGamesRequestOrBuilder {
+    // Use PlayerGamesRequest.newBuilder() to construct.
+    private PlayerGamesRequest(Builder builder) {
+      super(builder);
+    }
+    private PlayerGamesRequest(boolean noInit) {}
+
+    private static final PlayerGamesRequest defaultInstance;
+    public static PlayerGamesRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public PlayerGamesRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.gilran.chess.Proto.internal_static_chess_PlayerGamesRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.gilran.chess.Proto.internal_static_chess_PlayerGamesRequest_fieldAccessorTable;
+    }
+
+    private int bitField0_;
+    // required string session_token = 1;
+    public static final int SESSION_TOKEN_FIELD_NUMBER = 1;
+    private java.lang.Object sessionToken_;
+    public boolean hasSessionToken() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public String getSessionToken() {
+      java.lang.Object ref = sessionToken_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          sessionToken_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getSessionTokenBytes() {
+      java.lang.Object ref = sessionToken_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        sessionToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required string username = 2;
+    public static final int USERNAME_FIELD_NUMBER = 2;
+    private java.lang.Object username_;
+    public boolean hasUsername() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public String getUsername() {
+      java.lang.Object ref = username_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          username_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getUsernameBytes() {
+      java.lang.Object ref = username_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        username_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int32 max_games = 3 [default = 20];
+    public static final int MAX_GAMES_FIELD_NUMBER = 3;
+    private int maxGames_;
+    public boolean hasMaxGames() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public int getMaxGames() {
+      return maxGames_;
+    }
+
+    private void initFields() {
+      sessionToken_ = "";
+      username_ = "";
+      maxGames_ = 20;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasSessionToken()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasUsername()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getSessionTokenBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getUsernameBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(3, maxGames_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getSessionTokenBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getUsernameBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, maxGames_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.gilran.chess.Proto.PlayerGamesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlayerGamesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlayerGamesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlayerGamesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlayerGamesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlayerGamesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlayerGamesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.PlayerGamesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.PlayerGamesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlayerGamesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.gilran.chess.Proto.PlayerGamesRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.gilran.chess.Proto.PlayerGamesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.gilran.chess.Proto.internal_static_chess_PlayerGamesRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.gilran.chess.Proto.internal_static_chess_PlayerGamesRequest_fieldAccessorTable;
+      }
+
+      // Construct using com.gilran.chess.Proto.PlayerGamesRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        sessionToken_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        username_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        maxGames_ = 20;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.gilran.chess.Proto.PlayerGamesRequest.getDescriptor();
+      }
+
+      public com.gilran.chess.Proto.PlayerGamesRequest getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.PlayerGamesRequest.getDefaultInstance();
+      }
+
+      public com.gilran.chess.Proto.PlayerGamesRequest build() {
+        com.gilran.chess.Proto.PlayerGamesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      private com.gilran.chess.Proto.PlayerGamesRequest buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        com.gilran.chess.Proto.PlayerGamesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+
+      public com.gilran.chess.Proto.PlayerGamesRequest buildPartial() {
+        com.gilran.chess.Proto.PlayerGamesRequest result = new com.gilran.chess.Proto.PlayerGamesRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.sessionToken_ = sessionToken_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.username_ = username_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.maxGames_ = maxGames_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.gilran.chess.Proto.PlayerGamesRequest) {
+          return mergeFrom((com.gilran.chess.Proto.PlayerGamesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.gilran.chess.Proto.PlayerGamesRequest other) {
+        if (other == com.gilran.chess.Proto.PlayerGamesRequest.getDefaultInstance()) return this;
+        if (other.hasSessionToken()) {
+          setSessionToken(other.getSessionToken());
+        }
+        if (other.hasUsername()) {
+          setUsername(other.getUsername());
+        }
+        if (other.hasMaxGames()) {
+          setMaxGames(other.getMaxGames());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasSessionToken()) {
+
+          return false;
+        }
+        if (!hasUsername()) {
+
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              sessionToken_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              username_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              maxGames_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      }
+
+      private int bitField0_;
+
+      // required string session_token = 1;
+      private java.lang.Object sessionToken_ = "";
+      public boolean hasSessionToken() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public String getSessionToken() {
+        java.lang.Object ref = sessionToken_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          sessionToken_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setSessionToken(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        sessionToken_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearSessionToken() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sessionToken_ = getDefaultInstance().getSessionToken();
+        onChanged();
+        return this;
+      }
+      void setSessionToken(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000001;
+        sessionToken_ = value;
+        onChanged();
+      }
+
+      // required string username = 2;
+      private java.lang.Object username_ = "";
+      public boolean hasUsername() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      public String getUsername() {
+        java.lang.Object ref = username_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          username_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setUsername(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        username_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearUsername() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        username_ = getDefaultInstance().getUsername();
+        onChanged();
+        return this;
+      }
+      void setUsername(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000002;
+        username_ = value;
+        onChanged();
+      }
+
+      // optional int32 max_games = 3 [default = 20];
+      private int maxGames_ = 20;
+      public boolean hasMaxGames() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      public int getMaxGames() {
+        return maxGames_;
+      }
+      public Builder setMaxGames(int value) {
+        bitField0_ |= 0x00000004;
+        maxGames_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearMaxGames() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        maxGames_ = 20;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:chess.PlayerGamesRequest)
+    }
+
+    static {
+      defaultInstance = new PlayerGamesRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:chess.PlayerGamesRequest)
+  }
+
+  public interface PlayerGamesResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional .chess.Status status = 1;
+    boolean hasStatus();
+    com.gilran.chess.Proto.Status getStatus();
+
+    // repeated string game_id = 2;
+    java.util.List<String> getGameIdList();
+    int getGameIdCount();
+    String getGameId(int index);
+  }
+  public static final class PlayerGamesResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements PlayerGamesResponseOrBuilder {
+    // Use PlayerGamesResponse.newBuilder() to construct.
+    private PlayerGamesResponse(Builder builder) {
+      super(builder);
+    }
+    private PlayerGamesResponse(boolean noInit) {}
+
+    private static final PlayerGamesResponse defaultInstance;
+    public static PlayerGamesResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public PlayerGamesResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.gilran.chess.Proto.internal_static_chess_PlayerGamesResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.gilran.chess.Proto.internal_static_chess_PlayerGamesResponse_fieldAccessorTable;
+    }
+
+    private int bitField0_;
+    // optional .chess.Status status = 1;
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private com.gilran.chess.Proto.Status status_;
+    public boolean hasStatus() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public com.gilran.chess.Proto.Status getStatus() {
+      return status_;
+    }
+
+    // repeated string game_id = 2;
+    public static final int GAME_ID_FIELD_NUMBER = 2;
+    private com.google.protobuf.LazyStringList gameId_;
+    public java.util.List<String>
+        getGameIdList() {
+      return gameId_;
+    }
+    public int getGameIdCount() {
+      return gameId_.size();
+    }
+    public String getGameId(int index) {
+      return gameId_.get(index);
+    }
+
+    private void initFields() {
+      status_ = com.gilran.chess.Proto.Status.OK;
+      gameId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, status_.getNumber());
+      }
+      for (int i = 0; i < gameId_.size(); i++) {
+        output.writeBytes(2, gameId_.getByteString(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, status_.getNumber());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < gameId_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(gameId_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getGameIdList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.gilran.chess.Proto.PlayerGamesResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlayerGamesResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlayerGamesResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlayerGamesResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlayerGamesResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlayerGamesResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlayerGamesResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.PlayerGamesResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.PlayerGamesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.PlayerGamesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.gilran.chess.Proto.PlayerGamesResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.gilran.chess.Proto.PlayerGamesResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.gilran.chess.Proto.internal_static_chess_PlayerGamesResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.gilran.chess.Proto.internal_static_chess_PlayerGamesResponse_fieldAccessorTable;
+      }
+
+      // Construct using com.gilran.chess.Proto.PlayerGamesResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        status_ = com.gilran.chess.Proto.Status.OK;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        gameId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.gilran.chess.Proto.PlayerGamesResponse.getDescriptor();
+      }
+
+      public com.gilran.chess.Proto.PlayerGamesResponse getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.PlayerGamesResponse.getDefaultInstance();
+      }
+
+      public com.gilran.chess.Proto.PlayerGamesResponse build() {
+        com.gilran.chess.Proto.PlayerGamesResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      private com.gilran.chess.Proto.PlayerGamesResponse buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        com.gilran.chess.Proto.PlayerGamesResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+
+      public com.gilran.chess.Proto.PlayerGamesResponse buildPartial() {
+        com.gilran.chess.Proto.PlayerGamesResponse result = new com.gilran.chess.Proto.PlayerGamesResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.status_ = status_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          gameId_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              gameId_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.gameId_ = gameId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.gilran.chess.Proto.PlayerGamesResponse) {
+          return mergeFrom((com.gilran.chess.Proto.PlayerGamesResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.gilran.chess.Proto.PlayerGamesResponse other) {
+        if (other == com.gilran.chess.Proto.PlayerGamesResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          setStatus(other.getStatus());
+        }
+        if (!other.gameId_.isEmpty()) {
+          if (gameId_.isEmpty()) {
+            gameId_ = other.gameId_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureGameIdIsMutable();
+            gameId_.addAll(other.gameId_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              com.gilran.chess.Proto.Status value = com.gilran.chess.Proto.Status.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                status_ = value;
+              }
+              break;
+            }
+            case 18: {
+              ensureGameIdIsMutable();
+              gameId_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      }
+
+      private int bitField0_;
+
+      // optional .chess.Status status = 1;
+      private com.gilran.chess.Proto.Status status_ = com.gilran.chess.Proto.Status.OK;
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public com.gilran.chess.Proto.Status getStatus() {
+        return status_;
+      }
+      public Builder setStatus(com.gilran.chess.Proto.Status value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        status_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = com.gilran.chess.Proto.Status.OK;
+        onChanged();
+        return this;
+      }
+
+      // repeated string game_id = 2;
+      private com.google.protobuf.LazyStringList gameId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureGameIdIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          gameId_ = new com.google.protobuf.LazyStringArrayList(gameId_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      public java.util.List<String>
+          getGameIdList() {
+        return java.util.Collections.unmodifiableList(gameId_);
+      }
+      public int getGameIdCount() {
+        return gameId_.size();
+      }
+      public String getGameId(int index) {
+        return gameId_.get(index);
+      }
+      public Builder setGameId(
+          int index, String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureGameIdIsMutable();
+        gameId_.set(index, value);
+        onChanged();
+        return this;
+      }
+      public Builder addGameId(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureGameIdIsMutable();
+        gameId_.add(value);
+        onChanged();
+        return this;
+      }
+      public Builder addAllGameId(
+          java.lang.Iterable<String> values) {
+        ensureGameIdIsMutable();
+        super.addAll(values, gameId_);
+        onChanged();
+        return this;
+      }
+      public Builder clearGameId() {
+        gameId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      void addGameId(com.google.protobuf.ByteString value) {
+        ensureGameIdIsMutable();
+        gameId_.add(value);
+        onChanged();
+      }
+
+      // @@protoc_insertion_point(builder_scope:chess.PlayerGamesResponse)
+    }
+
+    static {
+      defaultInstance = new PlayerGamesResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:chess.PlayerGamesResponse)
+  }
+
+  public interface ImportGameRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string session_token = 1;
+    boolean hasSessionToken();
+    String getSessionToken();
+
+    // optional string start_fen = 2;
+    boolean hasStartFen();
+    String getStartFen();
+
+    // repeated int32 move = 3 [packed = true];
+    java.util.List<java.lang.Integer> getMoveList();
+    int getMoveCount();
+    int getMove(int index);
+
+    // optional bool store = 4 [default = false];
+    boolean hasStore();
+    boolean getStore();
+
+    // optional string white = 5;
+    boolean hasWhite();
+    String getWhite();
+
+    // optional string black = 6;
+    boolean hasBlack();
+    String getBlack();
+  }
+  public static final class ImportGameRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements ImportGameRequestOrBuilder {
+    // Use ImportGameRequest.newBuilder() to construct.
+    private ImportGameRequest(Builder builder) {
+      super(builder);
+    }
+    private ImportGameRequest(boolean noInit) {}
+
+    private static final ImportGameRequest defaultInstance;
+    public static ImportGameRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ImportGameRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.gilran.chess.Proto.internal_static_chess_ImportGameRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.gilran.chess.Proto.internal_static_chess_ImportGameRequest_fieldAccessorTable;
+    }
+
+    private int bitField0_;
+    // required string session_token = 1;
+    public static final int SESSION_TOKEN_FIELD_NUMBER = 1;
+    private java.lang.Object sessionToken_;
+    public boolean hasSessionToken() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public String getSessionToken() {
+      java.lang.Object ref = sessionToken_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          sessionToken_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getSessionTokenBytes() {
+      java.lang.Object ref = sessionToken_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        sessionToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string start_fen = 2;
+    public static final int START_FEN_FIELD_NUMBER = 2;
+    private java.lang.Object startFen_;
+    public boolean hasStartFen() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public String getStartFen() {
+      java.lang.Object ref = startFen_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          startFen_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getStartFenBytes() {
+      java.lang.Object ref = startFen_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        startFen_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // repeated int32 move = 3 [packed = true];
+    public static final int MOVE_FIELD_NUMBER = 3;
+    private java.util.List<java.lang.Integer> move_;
+    public java.util.List<java.lang.Integer>
+        getMoveList() {
+      return move_;
+    }
+    public int getMoveCount() {
+      return move_.size();
+    }
+    public int getMove(int index) {
+      return move_.get(index);
+    }
+    private int moveMemoizedSerializedSize = -1;
+
+    // optional bool store = 4 [default = false];
+    public static final int STORE_FIELD_NUMBER = 4;
+    private boolean store_;
+    public boolean hasStore() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public boolean getStore() {
+      return store_;
+    }
+
+    // optional string white = 5;
+    public static final int WHITE_FIELD_NUMBER = 5;
+    private java.lang.Object white_;
+    public boolean hasWhite() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    public String getWhite() {
+      java.lang.Object ref = white_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          white_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getWhiteBytes() {
+      java.lang.Object ref = white_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        white_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string black = 6;
+    public static final int BLACK_FIELD_NUMBER = 6;
+    private java.lang.Object black_;
+    public boolean hasBlack() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    public String getBlack() {
+      java.lang.Object ref = black_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          black_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getBlackBytes() {
+      java.lang.Object ref = black_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        black_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      sessionToken_ = "";
+      startFen_ = "";
+      move_ = java.util.Collections.emptyList();;
+      store_ = false;
+      white_ = "";
+      black_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasSessionToken()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getSessionTokenBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getStartFenBytes());
+      }
+      if (getMoveList().size() > 0) {
+        output.writeRawVarint32(26);
+        output.writeRawVarint32(moveMemoizedSerializedSize);
+      }
+      for (int i = 0; i < move_.size(); i++) {
+        output.writeInt32NoTag(move_.get(i));
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBool(4, store_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(5, getWhiteBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(6, getBlackBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getSessionTokenBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getStartFenBytes());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < move_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(move_.get(i));
+        }
+        size += dataSize;
+        if (!getMoveList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        moveMemoizedSerializedSize = dataSize;
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, store_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getWhiteBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, getBlackBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.gilran.chess.Proto.ImportGameRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.ImportGameRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.ImportGameRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.ImportGameRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.ImportGameRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.ImportGameRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.ImportGameRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.ImportGameRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.ImportGameRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.ImportGameRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.gilran.chess.Proto.ImportGameRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.gilran.chess.Proto.ImportGameRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.gilran.chess.Proto.internal_static_chess_ImportGameRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.gilran.chess.Proto.internal_static_chess_ImportGameRequest_fieldAccessorTable;
+      }
+
+      // Construct using com.gilran.chess.Proto.ImportGameRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        sessionToken_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        startFen_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        move_ = java.util.Collections.emptyList();;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        store_ = false;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        white_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        black_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.gilran.chess.Proto.ImportGameRequest.getDescriptor();
+      }
+
+      public com.gilran.chess.Proto.ImportGameRequest getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.ImportGameRequest.getDefaultInstance();
+      }
+
+      public com.gilran.chess.Proto.ImportGameRequest build() {
+        com.gilran.chess.Proto.ImportGameRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      private com.gilran.chess.Proto.ImportGameRequest buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        com.gilran.chess.Proto.ImportGameRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+
+      public com.gilran.chess.Proto.ImportGameRequest buildPartial() {
+        com.gilran.chess.Proto.ImportGameRequest result = new com.gilran.chess.Proto.ImportGameRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.sessionToken_ = sessionToken_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.startFen_ = startFen_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          move_ = java.util.Collections.unmodifiableList(move_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.move_ = move_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.store_ = store_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.white_ = white_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.black_ = black_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.gilran.chess.Proto.ImportGameRequest) {
+          return mergeFrom((com.gilran.chess.Proto.ImportGameRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.gilran.chess.Proto.ImportGameRequest other) {
+        if (other == com.gilran.chess.Proto.ImportGameRequest.getDefaultInstance()) return this;
+        if (other.hasSessionToken()) {
+          setSessionToken(other.getSessionToken());
+        }
+        if (other.hasStartFen()) {
+          setStartFen(other.getStartFen());
+        }
+        if (!other.move_.isEmpty()) {
+          if (move_.isEmpty()) {
+            move_ = other.move_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureMoveIsMutable();
+            move_.addAll(other.move_);
+          }
+          onChanged();
+        }
+        if (other.hasStore()) {
+          setStore(other.getStore());
+        }
+        if (other.hasWhite()) {
+          setWhite(other.getWhite());
+        }
+        if (other.hasBlack()) {
+          setBlack(other.getBlack());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasSessionToken()) {
+
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              sessionToken_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              startFen_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              ensureMoveIsMutable();
+              move_.add(input.readInt32());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              while (input.getBytesUntilLimit() > 0) {
+                addMove(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              store_ = input.readBool();
+              break;
+            }
+            case 42: {
+              bitField0_ |= 0x00000010;
+              white_ = input.readBytes();
+              break;
+            }
+            case 50: {
+              bitField0_ |= 0x00000020;
+              black_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      }
+
+      private int bitField0_;
+
+      // required string session_token = 1;
+      private java.lang.Object sessionToken_ = "";
+      public boolean hasSessionToken() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public String getSessionToken() {
+        java.lang.Object ref = sessionToken_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          sessionToken_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setSessionToken(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        sessionToken_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearSessionToken() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sessionToken_ = getDefaultInstance().getSessionToken();
+        onChanged();
+        return this;
+      }
+      void setSessionToken(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000001;
+        sessionToken_ = value;
+        onChanged();
+      }
+
+      // optional string start_fen = 2;
+      private java.lang.Object startFen_ = "";
+      public boolean hasStartFen() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      public String getStartFen() {
+        java.lang.Object ref = startFen_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          startFen_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setStartFen(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        startFen_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearStartFen() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        startFen_ = getDefaultInstance().getStartFen();
+        onChanged();
+        return this;
+      }
+      void setStartFen(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000002;
+        startFen_ = value;
+        onChanged();
+      }
+
+      // repeated int32 move = 3 [packed = true];
+      private java.util.List<java.lang.Integer> move_ = java.util.Collections.emptyList();;
+      private void ensureMoveIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          move_ = new java.util.ArrayList<java.lang.Integer>(move_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      public java.util.List<java.lang.Integer>
+          getMoveList() {
+        return java.util.Collections.unmodifiableList(move_);
+      }
+      public int getMoveCount() {
+        return move_.size();
+      }
+      public int getMove(int index) {
+        return move_.get(index);
+      }
+      public Builder setMove(
+          int index, int value) {
+        ensureMoveIsMutable();
+        move_.set(index, value);
+        onChanged();
+        return this;
+      }
+      public Builder addMove(int value) {
+        ensureMoveIsMutable();
+        move_.add(value);
+        onChanged();
+        return this;
+      }
+      public Builder addAllMove(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureMoveIsMutable();
+        super.addAll(values, move_);
+        onChanged();
+        return this;
+      }
+      public Builder clearMove() {
+        move_ = java.util.Collections.emptyList();;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      // optional bool store = 4 [default = false];
+      private boolean store_ ;
+      public boolean hasStore() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      public boolean getStore() {
+        return store_;
+      }
+      public Builder setStore(boolean value) {
+        bitField0_ |= 0x00000008;
+        store_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearStore() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        store_ = false;
+        onChanged();
+        return this;
+      }
+
+      // optional string white = 5;
+      private java.lang.Object white_ = "";
+      public boolean hasWhite() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      public String getWhite() {
+        java.lang.Object ref = white_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          white_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setWhite(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        white_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearWhite() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        white_ = getDefaultInstance().getWhite();
+        onChanged();
+        return this;
+      }
+      void setWhite(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000010;
+        white_ = value;
+        onChanged();
+      }
+
+      // optional string black = 6;
+      private java.lang.Object black_ = "";
+      public boolean hasBlack() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      public String getBlack() {
+        java.lang.Object ref = black_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          black_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setBlack(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        black_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearBlack() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        black_ = getDefaultInstance().getBlack();
+        onChanged();
+        return this;
+      }
+      void setBlack(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000020;
+        black_ = value;
+        onChanged();
+      }
+
+      // @@protoc_insertion_point(builder_scope:chess.ImportGameRequest)
+    }
+
+    static {
+      defaultInstance = new ImportGameRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:chess.ImportGameRequest)
+  }
+
+  public interface ImportGameResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional .chess.Status status = 1;
+    boolean hasStatus();
+    com.gilran.chess.Proto.Status getStatus();
+
+    // optional int32 plies = 2;
+    boolean hasPlies();
+    int getPlies();
+
+    // optional .chess.GameStatus game_status = 3;
+    boolean hasGameStatus();
+    com.gilran.chess.Proto.GameStatus getGameStatus();
+
+    // optional string fen = 4;
+    boolean hasFen();
+    String getFen();
+
+    // optional string game_id = 5;
+    boolean hasGameId();
+    String getGameId();
+  }
+  public static final class ImportGameResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements ImportGameResponseOrBuilder {
+    // Use ImportGameResponse.newBuilder() to construct.
+    private ImportGameResponse(Builder builder) {
+      super(builder);
+    }
+    private ImportGameResponse(boolean noInit) {}
+
+    private static final ImportGameResponse defaultInstance;
+    public static ImportGameResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ImportGameResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.gilran.chess.Proto.internal_static_chess_ImportGameResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.gilran.chess.Proto.internal_static_chess_ImportGameResponse_fieldAccessorTable;
+    }
+
+    private int bitField0_;
+    // optional .chess.Status status = 1;
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private com.gilran.chess.Proto.Status status_;
+    public boolean hasStatus() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public com.gilran.chess.Proto.Status getStatus() {
+      return status_;
+    }
+
+    // optional int32 plies = 2;
+    public static final int PLIES_FIELD_NUMBER = 2;
+    private int plies_;
+    public boolean hasPlies() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public int getPlies() {
+      return plies_;
+    }
+
+    // optional .chess.GameStatus game_status = 3;
+    public static final int GAME_STATUS_FIELD_NUMBER = 3;
+    private com.gilran.chess.Proto.GameStatus gameStatus_;
+    public boolean hasGameStatus() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public com.gilran.chess.Proto.GameStatus getGameStatus() {
+      return gameStatus_;
+    }
+
+    // optional string fen = 4;
+    public static final int FEN_FIELD_NUMBER = 4;
+    private java.lang.Object fen_;
+    public boolean hasFen() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    public String getFen() {
+      java.lang.Object ref = fen_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          fen_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getFenBytes() {
+      java.lang.Object ref = fen_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        fen_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string game_id = 5;
+    public static final int GAME_ID_FIELD_NUMBER = 5;
+    private java.lang.Object gameId_;
+    public boolean hasGameId() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    public String getGameId() {
+      java.lang.Object ref = gameId_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          gameId_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getGameIdBytes() {
+      java.lang.Object ref = gameId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        gameId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      status_ = com.gilran.chess.Proto.Status.OK;
+      plies_ = 0;
+      gameStatus_ = com.gilran.chess.Proto.GameStatus.WHITE_TO_MOVE;
+      fen_ = "";
+      gameId_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, status_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, plies_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeEnum(3, gameStatus_.getNumber());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getFenBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, getGameIdBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, status_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, plies_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, gameStatus_.getNumber());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getFenBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getGameIdBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.gilran.chess.Proto.ImportGameResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.ImportGameResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.ImportGameResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.ImportGameResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.ImportGameResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.ImportGameResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.ImportGameResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.ImportGameResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.ImportGameResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.ImportGameResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.gilran.chess.Proto.ImportGameResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.gilran.chess.Proto.ImportGameResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.gilran.chess.Proto.internal_static_chess_ImportGameResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.gilran.chess.Proto.internal_static_chess_ImportGameResponse_fieldAccessorTable;
+      }
+
+      // Construct using com.gilran.chess.Proto.ImportGameResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        status_ = com.gilran.chess.Proto.Status.OK;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        plies_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        gameStatus_ = com.gilran.chess.Proto.GameStatus.WHITE_TO_MOVE;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        fen_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        gameId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.gilran.chess.Proto.ImportGameResponse.getDescriptor();
+      }
+
+      public com.gilran.chess.Proto.ImportGameResponse getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.ImportGameResponse.getDefaultInstance();
+      }
+
+      public com.gilran.chess.Proto.ImportGameResponse build() {
+        com.gilran.chess.Proto.ImportGameResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      private com.gilran.chess.Proto.ImportGameResponse buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        com.gilran.chess.Proto.ImportGameResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+
+      public com.gilran.chess.Proto.ImportGameResponse buildPartial() {
+        com.gilran.chess.Proto.ImportGameResponse result = new com.gilran.chess.Proto.ImportGameResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.status_ = status_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.plies_ = plies_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.gameStatus_ = gameStatus_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.fen_ = fen_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.gameId_ = gameId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.gilran.chess.Proto.ImportGameResponse) {
+          return mergeFrom((com.gilran.chess.Proto.ImportGameResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.gilran.chess.Proto.ImportGameResponse other) {
+        if (other == com.gilran.chess.Proto.ImportGameResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          setStatus(other.getStatus());
+        }
+        if (other.hasPlies()) {
+          setPlies(other.getPlies());
+        }
+        if (other.hasGameStatus()) {
+          setGameStatus(other.getGameStatus());
+        }
+        if (other.hasFen()) {
+          setFen(other.getFen());
+        }
+        if (other.hasGameId()) {
+          setGameId(other.getGameId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              com.gilran.chess.Proto.Status value = com.gilran.chess.Proto.Status.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                status_ = value;
+              }
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              plies_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              int rawValue = input.readEnum();
+              com.gilran.chess.Proto.GameStatus value = com.gilran.chess.Proto.GameStatus.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(3, rawValue);
+              } else {
+                bitField0_ |= 0x00000004;
+                gameStatus_ = value;
+              }
+              break;
+            }
+            case 34: {
+              bitField0_ |= 0x00000008;
+              fen_ = input.readBytes();
+              break;
+            }
+            case 42: {
+              bitField0_ |= 0x00000010;
+              gameId_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      }
+
+      private int bitField0_;
+
+      // optional .chess.Status status = 1;
+      private com.gilran.chess.Proto.Status status_ = com.gilran.chess.Proto.Status.OK;
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public com.gilran.chess.Proto.Status getStatus() {
+        return status_;
+      }
+      public Builder setStatus(com.gilran.chess.Proto.Status value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        status_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = com.gilran.chess.Proto.Status.OK;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 plies = 2;
+      private int plies_ ;
+      public boolean hasPlies() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      public int getPlies() {
+        return plies_;
+      }
+      public Builder setPlies(int value) {
+        bitField0_ |= 0x00000002;
+        plies_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearPlies() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        plies_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional .chess.GameStatus game_status = 3;
+      private com.gilran.chess.Proto.GameStatus gameStatus_ = com.gilran.chess.Proto.GameStatus.WHITE_TO_MOVE;
+      public boolean hasGameStatus() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      public com.gilran.chess.Proto.GameStatus getGameStatus() {
+        return gameStatus_;
+      }
+      public Builder setGameStatus(com.gilran.chess.Proto.GameStatus value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000004;
+        gameStatus_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearGameStatus() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        gameStatus_ = com.gilran.chess.Proto.GameStatus.WHITE_TO_MOVE;
+        onChanged();
+        return this;
+      }
+
+      // optional string fen = 4;
+      private java.lang.Object fen_ = "";
+      public boolean hasFen() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      public String getFen() {
+        java.lang.Object ref = fen_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          fen_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setFen(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        fen_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearFen() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        fen_ = getDefaultInstance().getFen();
+        onChanged();
+        return this;
+      }
+      void setFen(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000008;
+        fen_ = value;
+        onChanged();
+      }
+
+      // optional string game_id = 5;
+      private java.lang.Object gameId_ = "";
+      public boolean hasGameId() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      public String getGameId() {
+        java.lang.Object ref = gameId_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          gameId_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setGameId(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        gameId_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearGameId() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        gameId_ = getDefaultInstance().getGameId();
+        onChanged();
+        return this;
+      }
+      void setGameId(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000010;
+        gameId_ = value;
+        onChanged();
+      }
+
+      // @@protoc_insertion_point(builder_scope:chess.ImportGameResponse)
+    }
+
+    static {
+      defaultInstance = new ImportGameResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:chess.ImportGameResponse)
+  }
+
+  public interface AnalyzeRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string session_token = 1;
+    boolean hasSessionToken();
+    String getSessionToken();
+
+    // optional string fen = 2;
+    boolean hasFen();
+    String getFen();
+
+    // optional string game_id = 3;
+    boolean hasGameId();
+    String getGameId();
+
+    // optional int32 depth = 4;
+    boolean hasDepth();
+    int getDepth();
+
+    // optional int64 max_nodes = 5;
+    boolean hasMaxNodes();
+    long getMaxNodes();
+
+    // optional int64 max_millis = 6;
+    boolean hasMaxMillis();
+    long getMaxMillis();
+  }
+  public static final class AnalyzeRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements AnalyzeRequestOrBuilder {
+    // Use AnalyzeRequest.newBuilder() to construct.
+    private AnalyzeRequest(Builder builder) {
+      super(builder);
+    }
+    private AnalyzeRequest(boolean noInit) {}
+
+    private static final AnalyzeRequest defaultInstance;
+    public static AnalyzeRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public AnalyzeRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.gilran.chess.Proto.internal_static_chess_AnalyzeRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.gilran.chess.Proto.internal_static_chess_AnalyzeRequest_fieldAccessorTable;
+    }
+
+    private int bitField0_;
+    // required string session_token = 1;
+    public static final int SESSION_TOKEN_FIELD_NUMBER = 1;
+    private java.lang.Object sessionToken_;
+    public boolean hasSessionToken() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public String getSessionToken() {
+      java.lang.Object ref = sessionToken_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          sessionToken_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getSessionTokenBytes() {
+      java.lang.Object ref = sessionToken_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        sessionToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string fen = 2;
+    public static final int FEN_FIELD_NUMBER = 2;
+    private java.lang.Object fen_;
+    public boolean hasFen() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public String getFen() {
+      java.lang.Object ref = fen_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          fen_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getFenBytes() {
+      java.lang.Object ref = fen_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        fen_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string game_id = 3;
+    public static final int GAME_ID_FIELD_NUMBER = 3;
+    private java.lang.Object gameId_;
+    public boolean hasGameId() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public String getGameId() {
+      java.lang.Object ref = gameId_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          gameId_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getGameIdBytes() {
+      java.lang.Object ref = gameId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        gameId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int32 depth = 4;
+    public static final int DEPTH_FIELD_NUMBER = 4;
+    private int depth_;
+    public boolean hasDepth() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    public int getDepth() {
+      return depth_;
+    }
+
+    // optional int64 max_nodes = 5;
+    public static final int MAX_NODES_FIELD_NUMBER = 5;
+    private long maxNodes_;
+    public boolean hasMaxNodes() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    public long getMaxNodes() {
+      return maxNodes_;
+    }
+
+    // optional int64 max_millis = 6;
+    public static final int MAX_MILLIS_FIELD_NUMBER = 6;
+    private long maxMillis_;
+    public boolean hasMaxMillis() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    public long getMaxMillis() {
+      return maxMillis_;
+    }
+
+    private void initFields() {
+      sessionToken_ = "";
+      fen_ = "";
+      gameId_ = "";
+      depth_ = 0;
+      maxNodes_ = 0L;
+      maxMillis_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasSessionToken()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getSessionTokenBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getFenBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getGameIdBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt32(4, depth_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeInt64(5, maxNodes_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeInt64(6, maxMillis_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getSessionTokenBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getFenBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getGameIdBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, depth_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, maxNodes_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, maxMillis_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.gilran.chess.Proto.AnalyzeRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.AnalyzeRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.AnalyzeRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.AnalyzeRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.AnalyzeRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.AnalyzeRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.AnalyzeRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.AnalyzeRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.AnalyzeRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.AnalyzeRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.gilran.chess.Proto.AnalyzeRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.gilran.chess.Proto.AnalyzeRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.gilran.chess.Proto.internal_static_chess_AnalyzeRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.gilran.chess.Proto.internal_static_chess_AnalyzeRequest_fieldAccessorTable;
+      }
+
+      // Construct using com.gilran.chess.Proto.AnalyzeRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        sessionToken_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        fen_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        gameId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        depth_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        maxNodes_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        maxMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.gilran.chess.Proto.AnalyzeRequest.getDescriptor();
+      }
+
+      public com.gilran.chess.Proto.AnalyzeRequest getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.AnalyzeRequest.getDefaultInstance();
+      }
+
+      public com.gilran.chess.Proto.AnalyzeRequest build() {
+        com.gilran.chess.Proto.AnalyzeRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      private com.gilran.chess.Proto.AnalyzeRequest buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        com.gilran.chess.Proto.AnalyzeRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+
+      public com.gilran.chess.Proto.AnalyzeRequest buildPartial() {
+        com.gilran.chess.Proto.AnalyzeRequest result = new com.gilran.chess.Proto.AnalyzeRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.sessionToken_ = sessionToken_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.fen_ = fen_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.gameId_ = gameId_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.depth_ = depth_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.maxNodes_ = maxNodes_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.maxMillis_ = maxMillis_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.gilran.chess.Proto.AnalyzeRequest) {
+          return mergeFrom((com.gilran.chess.Proto.AnalyzeRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.gilran.chess.Proto.AnalyzeRequest other) {
+        if (other == com.gilran.chess.Proto.AnalyzeRequest.getDefaultInstance()) return this;
+        if (other.hasSessionToken()) {
+          setSessionToken(other.getSessionToken());
+        }
+        if (other.hasFen()) {
+          setFen(other.getFen());
+        }
+        if (other.hasGameId()) {
+          setGameId(other.getGameId());
+        }
+        if (other.hasDepth()) {
+          setDepth(other.getDepth());
+        }
+        if (other.hasMaxNodes()) {
+          setMaxNodes(other.getMaxNodes());
+        }
+        if (other.hasMaxMillis()) {
+          setMaxMillis(other.getMaxMillis());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasSessionToken()) {
+
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              sessionToken_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              fen_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              gameId_ = input.readBytes();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              depth_ = input.readInt32();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              maxNodes_ = input.readInt64();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              maxMillis_ = input.readInt64();
+              break;
+            }
+          }
+        }
+      }
+
+      private int bitField0_;
+
+      // required string session_token = 1;
+      private java.lang.Object sessionToken_ = "";
+      public boolean hasSessionToken() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public String getSessionToken() {
+        java.lang.Object ref = sessionToken_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          sessionToken_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setSessionToken(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        sessionToken_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearSessionToken() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sessionToken_ = getDefaultInstance().getSessionToken();
+        onChanged();
+        return this;
+      }
+      void setSessionToken(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000001;
+        sessionToken_ = value;
+        onChanged();
+      }
+
+      // optional string fen = 2;
+      private java.lang.Object fen_ = "";
+      public boolean hasFen() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      public String getFen() {
+        java.lang.Object ref = fen_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          fen_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setFen(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        fen_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearFen() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fen_ = getDefaultInstance().getFen();
+        onChanged();
+        return this;
+      }
+      void setFen(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000002;
+        fen_ = value;
+        onChanged();
+      }
+
+      // optional string game_id = 3;
+      private java.lang.Object gameId_ = "";
+      public boolean hasGameId() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      public String getGameId() {
+        java.lang.Object ref = gameId_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          gameId_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setGameId(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        gameId_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearGameId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        gameId_ = getDefaultInstance().getGameId();
+        onChanged();
+        return this;
+      }
+      void setGameId(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000004;
+        gameId_ = value;
+        onChanged();
+      }
+
+      // optional int32 depth = 4;
+      private int depth_ ;
+      public boolean hasDepth() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      public int getDepth() {
+        return depth_;
+      }
+      public Builder setDepth(int value) {
+        bitField0_ |= 0x00000008;
+        depth_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearDepth() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        depth_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 max_nodes = 5;
+      private long maxNodes_ ;
+      public boolean hasMaxNodes() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      public long getMaxNodes() {
+        return maxNodes_;
+      }
+      public Builder setMaxNodes(long value) {
+        bitField0_ |= 0x00000010;
+        maxNodes_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearMaxNodes() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        maxNodes_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 max_millis = 6;
+      private long maxMillis_ ;
+      public boolean hasMaxMillis() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      public long getMaxMillis() {
+        return maxMillis_;
+      }
+      public Builder setMaxMillis(long value) {
+        bitField0_ |= 0x00000020;
+        maxMillis_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearMaxMillis() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        maxMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:chess.AnalyzeRequest)
+    }
+
+    static {
+      defaultInstance = new AnalyzeRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:chess.AnalyzeRequest)
+  }
+
+  public interface AnalyzeResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional .chess.Status status = 1;
+    boolean hasStatus();
+    com.gilran.chess.Proto.Status getStatus();
+
+    // optional int32 depth = 2;
+    boolean hasDepth();
+    int getDepth();
+
+    // optional int32 score = 3;
+    boolean hasScore();
+    int getScore();
+
+    // optional .chess.MoveProto best_move = 4;
+    boolean hasBestMove();
+    com.gilran.chess.Proto.MoveProto getBestMove();
+    com.gilran.chess.Proto.MoveProtoOrBuilder getBestMoveOrBuilder();
+
+    // repeated .chess.MoveProto principal_variation = 5;
+    java.util.List<com.gilran.chess.Proto.MoveProto>
+        getPrincipalVariationList();
+    com.gilran.chess.Proto.MoveProto getPrincipalVariation(int index);
+    int getPrincipalVariationCount();
+    java.util.List<? extends com.gilran.chess.Proto.MoveProtoOrBuilder>
+        getPrincipalVariationOrBuilderList();
+    com.gilran.chess.Proto.MoveProtoOrBuilder getPrincipalVariationOrBuilder(
+        int index);
+
+    // optional int64 nodes = 6;
+    boolean hasNodes();
+    long getNodes();
+  }
+  public static final class AnalyzeResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements AnalyzeResponseOrBuilder {
+    // Use AnalyzeResponse.newBuilder() to construct.
+    private AnalyzeResponse(Builder builder) {
+      super(builder);
+    }
+    private AnalyzeResponse(boolean noInit) {}
+
+    private static final AnalyzeResponse defaultInstance;
+    public static AnalyzeResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public AnalyzeResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.gilran.chess.Proto.internal_static_chess_AnalyzeResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.gilran.chess.Proto.internal_static_chess_AnalyzeResponse_fieldAccessorTable;
+    }
+
+    private int bitField0_;
+    // optional .chess.Status status = 1;
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private com.gilran.chess.Proto.Status status_;
+    public boolean hasStatus() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public com.gilran.chess.Proto.Status getStatus() {
+      return status_;
+    }
+
+    // optional int32 depth = 2;
+    public static final int DEPTH_FIELD_NUMBER = 2;
+    private int depth_;
+    public boolean hasDepth() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public int getDepth() {
+      return depth_;
+    }
+
+    // optional int32 score = 3;
+    public static final int SCORE_FIELD_NUMBER = 3;
+    private int score_;
+    public boolean hasScore() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public int getScore() {
+      return score_;
+    }
+
+    // optional .chess.MoveProto best_move = 4;
+    public static final int BEST_MOVE_FIELD_NUMBER = 4;
+    private com.gilran.chess.Proto.MoveProto bestMove_;
+    public boolean hasBestMove() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    public com.gilran.chess.Proto.MoveProto getBestMove() {
+      return bestMove_;
+    }
+    public com.gilran.chess.Proto.MoveProtoOrBuilder getBestMoveOrBuilder() {
+      return bestMove_;
+    }
+
+    // repeated .chess.MoveProto principal_variation = 5;
+    public static final int PRINCIPAL_VARIATION_FIELD_NUMBER = 5;
+    private java.util.List<com.gilran.chess.Proto.MoveProto> principalVariation_;
+    public java.util.List<com.gilran.chess.Proto.MoveProto> getPrincipalVariationList() {
+      return principalVariation_;
+    }
+    public java.util.List<? extends com.gilran.chess.Proto.MoveProtoOrBuilder>
+        getPrincipalVariationOrBuilderList() {
+      return principalVariation_;
+    }
+    public int getPrincipalVariationCount() {
+      return principalVariation_.size();
+    }
+    public com.gilran.chess.Proto.MoveProto getPrincipalVariation(int index) {
+      return principalVariation_.get(index);
+    }
+    public com.gilran.chess.Proto.MoveProtoOrBuilder getPrincipalVariationOrBuilder(
+        int index) {
+      return principalVariation_.get(index);
+    }
+
+    // optional int64 nodes = 6;
+    public static final int NODES_FIELD_NUMBER = 6;
+    private long nodes_;
+    public boolean hasNodes() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    public long getNodes() {
+      return nodes_;
+    }
+
+    private void initFields() {
+      status_ = com.gilran.chess.Proto.Status.OK;
+      depth_ = 0;
+      score_ = 0;
+      bestMove_ = com.gilran.chess.Proto.MoveProto.getDefaultInstance();
+      principalVariation_ = java.util.Collections.emptyList();
+      nodes_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (hasBestMove()) {
+        if (!getBestMove().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getPrincipalVariationCount(); i++) {
+        if (!getPrincipalVariation(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, status_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, depth_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(3, score_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(4, bestMove_);
+      }
+      for (int i = 0; i < principalVariation_.size(); i++) {
+        output.writeMessage(5, principalVariation_.get(i));
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeInt64(6, nodes_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, status_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, depth_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, score_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, bestMove_);
+      }
+      for (int i = 0; i < principalVariation_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, principalVariation_.get(i));
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, nodes_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.gilran.chess.Proto.AnalyzeResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.AnalyzeResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.AnalyzeResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.AnalyzeResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.AnalyzeResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.AnalyzeResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.AnalyzeResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.AnalyzeResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.AnalyzeResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.AnalyzeResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.gilran.chess.Proto.AnalyzeResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.gilran.chess.Proto.AnalyzeResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.gilran.chess.Proto.internal_static_chess_AnalyzeResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.gilran.chess.Proto.internal_static_chess_AnalyzeResponse_fieldAccessorTable;
+      }
+
+      // Construct using com.gilran.chess.Proto.AnalyzeResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getBestMoveFieldBuilder();
+          getPrincipalVariationFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        status_ = com.gilran.chess.Proto.Status.OK;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        depth_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        score_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (bestMoveBuilder_ == null) {
+          bestMove_ = com.gilran.chess.Proto.MoveProto.getDefaultInstance();
+        } else {
+          bestMoveBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (principalVariationBuilder_ == null) {
+          principalVariation_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          principalVariationBuilder_.clear();
+        }
+        nodes_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.gilran.chess.Proto.AnalyzeResponse.getDescriptor();
+      }
+
+      public com.gilran.chess.Proto.AnalyzeResponse getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.AnalyzeResponse.getDefaultInstance();
+      }
+
+      public com.gilran.chess.Proto.AnalyzeResponse build() {
+        com.gilran.chess.Proto.AnalyzeResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      private com.gilran.chess.Proto.AnalyzeResponse buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        com.gilran.chess.Proto.AnalyzeResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+
+      public com.gilran.chess.Proto.AnalyzeResponse buildPartial() {
+        com.gilran.chess.Proto.AnalyzeResponse result = new com.gilran.chess.Proto.AnalyzeResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.status_ = status_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.depth_ = depth_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.score_ = score_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        if (bestMoveBuilder_ == null) {
+          result.bestMove_ = bestMove_;
+        } else {
+          result.bestMove_ = bestMoveBuilder_.build();
+        }
+        if (principalVariationBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            principalVariation_ = java.util.Collections.unmodifiableList(principalVariation_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.principalVariation_ = principalVariation_;
+        } else {
+          result.principalVariation_ = principalVariationBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.nodes_ = nodes_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.gilran.chess.Proto.AnalyzeResponse) {
+          return mergeFrom((com.gilran.chess.Proto.AnalyzeResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.gilran.chess.Proto.AnalyzeResponse other) {
+        if (other == com.gilran.chess.Proto.AnalyzeResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          setStatus(other.getStatus());
+        }
+        if (other.hasDepth()) {
+          setDepth(other.getDepth());
+        }
+        if (other.hasScore()) {
+          setScore(other.getScore());
+        }
+        if (other.hasBestMove()) {
+          mergeBestMove(other.getBestMove());
+        }
+        if (principalVariationBuilder_ == null) {
+          if (!other.principalVariation_.isEmpty()) {
+            if (principalVariation_.isEmpty()) {
+              principalVariation_ = other.principalVariation_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensurePrincipalVariationIsMutable();
+              principalVariation_.addAll(other.principalVariation_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.principalVariation_.isEmpty()) {
+            if (principalVariationBuilder_.isEmpty()) {
+              principalVariationBuilder_.dispose();
+              principalVariationBuilder_ = null;
+              principalVariation_ = other.principalVariation_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              principalVariationBuilder_ =
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getPrincipalVariationFieldBuilder() : null;
+            } else {
+              principalVariationBuilder_.addAllMessages(other.principalVariation_);
+            }
+          }
+        }
+        if (other.hasNodes()) {
+          setNodes(other.getNodes());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (hasBestMove()) {
+          if (!getBestMove().isInitialized()) {
+
+            return false;
+          }
+        }
+        for (int i = 0; i < getPrincipalVariationCount(); i++) {
+          if (!getPrincipalVariation(i).isInitialized()) {
+
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              com.gilran.chess.Proto.Status value = com.gilran.chess.Proto.Status.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                status_ = value;
+              }
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              depth_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              score_ = input.readInt32();
+              break;
+            }
+            case 34: {
+              com.gilran.chess.Proto.MoveProto.Builder subBuilder = com.gilran.chess.Proto.MoveProto.newBuilder();
+              if (hasBestMove()) {
+                subBuilder.mergeFrom(getBestMove());
+              }
+              input.readMessage(subBuilder, extensionRegistry);
+              setBestMove(subBuilder.buildPartial());
+              break;
+            }
+            case 42: {
+              com.gilran.chess.Proto.MoveProto.Builder subBuilder = com.gilran.chess.Proto.MoveProto.newBuilder();
+              input.readMessage(subBuilder, extensionRegistry);
+              addPrincipalVariation(subBuilder.buildPartial());
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              nodes_ = input.readInt64();
+              break;
+            }
+          }
+        }
+      }
+
+      private int bitField0_;
+
+      // optional .chess.Status status = 1;
+      private com.gilran.chess.Proto.Status status_ = com.gilran.chess.Proto.Status.OK;
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public com.gilran.chess.Proto.Status getStatus() {
+        return status_;
+      }
+      public Builder setStatus(com.gilran.chess.Proto.Status value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        status_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = com.gilran.chess.Proto.Status.OK;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 depth = 2;
+      private int depth_ ;
+      public boolean hasDepth() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      public int getDepth() {
+        return depth_;
+      }
+      public Builder setDepth(int value) {
+        bitField0_ |= 0x00000002;
+        depth_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearDepth() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        depth_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 score = 3;
+      private int score_ ;
+      public boolean hasScore() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      public int getScore() {
+        return score_;
+      }
+      public Builder setScore(int value) {
+        bitField0_ |= 0x00000004;
+        score_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearScore() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        score_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional .chess.MoveProto best_move = 4;
+      private com.gilran.chess.Proto.MoveProto bestMove_ = com.gilran.chess.Proto.MoveProto.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.gilran.chess.Proto.MoveProto, com.gilran.chess.Proto.MoveProto.Builder, com.gilran.chess.Proto.MoveProtoOrBuilder> bestMoveBuilder_;
+      public boolean hasBestMove() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      public com.gilran.chess.Proto.MoveProto getBestMove() {
+        if (bestMoveBuilder_ == null) {
+          return bestMove_;
+        } else {
+          return bestMoveBuilder_.getMessage();
+        }
+      }
+      public Builder setBestMove(com.gilran.chess.Proto.MoveProto value) {
+        if (bestMoveBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bestMove_ = value;
+          onChanged();
+        } else {
+          bestMoveBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      public Builder setBestMove(
+          com.gilran.chess.Proto.MoveProto.Builder builderForValue) {
+        if (bestMoveBuilder_ == null) {
+          bestMove_ = builderForValue.build();
+          onChanged();
+        } else {
+          bestMoveBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      public Builder mergeBestMove(com.gilran.chess.Proto.MoveProto value) {
+        if (bestMoveBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              bestMove_ != com.gilran.chess.Proto.MoveProto.getDefaultInstance()) {
+            bestMove_ =
+              com.gilran.chess.Proto.MoveProto.newBuilder(bestMove_).mergeFrom(value).buildPartial();
+          } else {
+            bestMove_ = value;
+          }
+          onChanged();
+        } else {
+          bestMoveBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      public Builder clearBestMove() {
+        if (bestMoveBuilder_ == null) {
+          bestMove_ = com.gilran.chess.Proto.MoveProto.getDefaultInstance();
+          onChanged();
+        } else {
+          bestMoveBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      public com.gilran.chess.Proto.MoveProto.Builder getBestMoveBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getBestMoveFieldBuilder().getBuilder();
+      }
+      public com.gilran.chess.Proto.MoveProtoOrBuilder getBestMoveOrBuilder() {
+        if (bestMoveBuilder_ != null) {
+          return bestMoveBuilder_.getMessageOrBuilder();
+        } else {
+          return bestMove_;
+        }
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          com.gilran.chess.Proto.MoveProto, com.gilran.chess.Proto.MoveProto.Builder, com.gilran.chess.Proto.MoveProtoOrBuilder>
+          getBestMoveFieldBuilder() {
+        if (bestMoveBuilder_ == null) {
+          bestMoveBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.gilran.chess.Proto.MoveProto, com.gilran.chess.Proto.MoveProto.Builder, com.gilran.chess.Proto.MoveProtoOrBuilder>(
+                  bestMove_,
+                  getParentForChildren(),
+                  isClean());
+          bestMove_ = null;
+        }
+        return bestMoveBuilder_;
+      }
+
+      // repeated .chess.MoveProto principal_variation = 5;
+      private java.util.List<com.gilran.chess.Proto.MoveProto> principalVariation_ =
+        java.util.Collections.emptyList();
+      private void ensurePrincipalVariationIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          principalVariation_ = new java.util.ArrayList<com.gilran.chess.Proto.MoveProto>(principalVariation_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.gilran.chess.Proto.MoveProto, com.gilran.chess.Proto.MoveProto.Builder, com.gilran.chess.Proto.MoveProtoOrBuilder> principalVariationBuilder_;
+
+      public java.util.List<com.gilran.chess.Proto.MoveProto> getPrincipalVariationList() {
+        if (principalVariationBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(principalVariation_);
+        } else {
+          return principalVariationBuilder_.getMessageList();
+        }
+      }
+      public int getPrincipalVariationCount() {
+        if (principalVariationBuilder_ == null) {
+          return principalVariation_.size();
+        } else {
+          return principalVariationBuilder_.getCount();
+        }
+      }
+      public com.gilran.chess.Proto.MoveProto getPrincipalVariation(int index) {
+        if (principalVariationBuilder_ == null) {
+          return principalVariation_.get(index);
+        } else {
+          return principalVariationBuilder_.getMessage(index);
+        }
+      }
+      public Builder setPrincipalVariation(
+          int index, com.gilran.chess.Proto.MoveProto value) {
+        if (principalVariationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePrincipalVariationIsMutable();
+          principalVariation_.set(index, value);
+          onChanged();
+        } else {
+          principalVariationBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      public Builder setPrincipalVariation(
+          int index, com.gilran.chess.Proto.MoveProto.Builder builderForValue) {
+        if (principalVariationBuilder_ == null) {
+          ensurePrincipalVariationIsMutable();
+          principalVariation_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          principalVariationBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addPrincipalVariation(com.gilran.chess.Proto.MoveProto value) {
+        if (principalVariationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePrincipalVariationIsMutable();
+          principalVariation_.add(value);
+          onChanged();
+        } else {
+          principalVariationBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      public Builder addPrincipalVariation(
+          int index, com.gilran.chess.Proto.MoveProto value) {
+        if (principalVariationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePrincipalVariationIsMutable();
+          principalVariation_.add(index, value);
+          onChanged();
+        } else {
+          principalVariationBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      public Builder addPrincipalVariation(
+          com.gilran.chess.Proto.MoveProto.Builder builderForValue) {
+        if (principalVariationBuilder_ == null) {
+          ensurePrincipalVariationIsMutable();
+          principalVariation_.add(builderForValue.build());
+          onChanged();
+        } else {
+          principalVariationBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addPrincipalVariation(
+          int index, com.gilran.chess.Proto.MoveProto.Builder builderForValue) {
+        if (principalVariationBuilder_ == null) {
+          ensurePrincipalVariationIsMutable();
+          principalVariation_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          principalVariationBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addAllPrincipalVariation(
+          java.lang.Iterable<? extends com.gilran.chess.Proto.MoveProto> values) {
+        if (principalVariationBuilder_ == null) {
+          ensurePrincipalVariationIsMutable();
+          super.addAll(values, principalVariation_);
+          onChanged();
+        } else {
+          principalVariationBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      public Builder clearPrincipalVariation() {
+        if (principalVariationBuilder_ == null) {
+          principalVariation_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          principalVariationBuilder_.clear();
+        }
+        return this;
+      }
+      public Builder removePrincipalVariation(int index) {
+        if (principalVariationBuilder_ == null) {
+          ensurePrincipalVariationIsMutable();
+          principalVariation_.remove(index);
+          onChanged();
+        } else {
+          principalVariationBuilder_.remove(index);
+        }
+        return this;
+      }
+      public com.gilran.chess.Proto.MoveProto.Builder getPrincipalVariationBuilder(
+          int index) {
+        return getPrincipalVariationFieldBuilder().getBuilder(index);
+      }
+      public com.gilran.chess.Proto.MoveProtoOrBuilder getPrincipalVariationOrBuilder(
+          int index) {
+        if (principalVariationBuilder_ == null) {
+          return principalVariation_.get(index);  } else {
+          return principalVariationBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      public java.util.List<? extends com.gilran.chess.Proto.MoveProtoOrBuilder>
+           getPrincipalVariationOrBuilderList() {
+        if (principalVariationBuilder_ != null) {
+          return principalVariationBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(principalVariation_);
+        }
+      }
+      public com.gilran.chess.Proto.MoveProto.Builder addPrincipalVariationBuilder() {
+        return getPrincipalVariationFieldBuilder().addBuilder(
+            com.gilran.chess.Proto.MoveProto.getDefaultInstance());
+      }
+      public com.gilran.chess.Proto.MoveProto.Builder addPrincipalVariationBuilder(
+          int index) {
+        return getPrincipalVariationFieldBuilder().addBuilder(
+            index, com.gilran.chess.Proto.MoveProto.getDefaultInstance());
+      }
+      public java.util.List<com.gilran.chess.Proto.MoveProto.Builder>
+           getPrincipalVariationBuilderList() {
+        return getPrincipalVariationFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.gilran.chess.Proto.MoveProto, com.gilran.chess.Proto.MoveProto.Builder, com.gilran.chess.Proto.MoveProtoOrBuilder>
+          getPrincipalVariationFieldBuilder() {
+        if (principalVariationBuilder_ == null) {
+          principalVariationBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.gilran.chess.Proto.MoveProto, com.gilran.chess.Proto.MoveProto.Builder, com.gilran.chess.Proto.MoveProtoOrBuilder>(
+                  principalVariation_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          principalVariation_ = null;
+        }
+        return principalVariationBuilder_;
+      }
+
+      // optional int64 nodes = 6;
+      private long nodes_ ;
+      public boolean hasNodes() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      public long getNodes() {
+        return nodes_;
+      }
+      public Builder setNodes(long value) {
+        bitField0_ |= 0x00000020;
+        nodes_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearNodes() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        nodes_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:chess.AnalyzeResponse)
+    }
+
+    static {
+      defaultInstance = new AnalyzeResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:chess.AnalyzeResponse)
+  }
+
+  public interface StartAnalysisRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string session_token = 1;
+    boolean hasSessionToken();
+    String getSessionToken();
+
+    // optional string fen = 2;
+    boolean hasFen();
+    String getFen();
+
+    // optional string game_id = 3;
+    boolean hasGameId();
+    String getGameId();
+
+    // optional int32 lines = 4 [default = 1];
+    boolean hasLines();
+    int getLines();
+
+    // optional int32 depth = 5;
+    boolean hasDepth();
+    int getDepth();
+
+    // optional int64 max_nodes = 6;
+    boolean hasMaxNodes();
+    long getMaxNodes();
+
+    // optional int64 max_millis = 7;
+    boolean hasMaxMillis();
+    long getMaxMillis();
+  }
+  public static final class StartAnalysisRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements StartAnalysisRequestOrBuilder {
+    // Use StartAnalysisRequest.newBuilder() to construct.
+    private StartAnalysisRequest(Builder builder) {
+      super(builder);
+    }
+    private StartAnalysisRequest(boolean noInit) {}
+
+    private static final StartAnalysisRequest defaultInstance;
+    public static StartAnalysisRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public StartAnalysisRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.gilran.chess.Proto.internal_static_chess_StartAnalysisRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.gilran.chess.Proto.internal_static_chess_StartAnalysisRequest_fieldAccessorTable;
+    }
+
+    private int bitField0_;
+    // required string session_token = 1;
+    public static final int SESSION_TOKEN_FIELD_NUMBER = 1;
+    private java.lang.Object sessionToken_;
+    public boolean hasSessionToken() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public String getSessionToken() {
+      java.lang.Object ref = sessionToken_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          sessionToken_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getSessionTokenBytes() {
+      java.lang.Object ref = sessionToken_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        sessionToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string fen = 2;
+    public static final int FEN_FIELD_NUMBER = 2;
+    private java.lang.Object fen_;
+    public boolean hasFen() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public String getFen() {
+      java.lang.Object ref = fen_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          fen_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getFenBytes() {
+      java.lang.Object ref = fen_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        fen_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string game_id = 3;
+    public static final int GAME_ID_FIELD_NUMBER = 3;
+    private java.lang.Object gameId_;
+    public boolean hasGameId() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public String getGameId() {
+      java.lang.Object ref = gameId_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        if (com.google.protobuf.Internal.isValidUtf8(bs)) {
+          gameId_ = s;
+        }
+        return s;
+      }
+    }
+    private com.google.protobuf.ByteString getGameIdBytes() {
+      java.lang.Object ref = gameId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b =
+            com.google.protobuf.ByteString.copyFromUtf8((String) ref);
+        gameId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int32 lines = 4 [default = 1];
+    public static final int LINES_FIELD_NUMBER = 4;
+    private int lines_;
+    public boolean hasLines() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    public int getLines() {
+      return lines_;
+    }
+
+    // optional int32 depth = 5;
+    public static final int DEPTH_FIELD_NUMBER = 5;
+    private int depth_;
+    public boolean hasDepth() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    public int getDepth() {
+      return depth_;
+    }
+
+    // optional int64 max_nodes = 6;
+    public static final int MAX_NODES_FIELD_NUMBER = 6;
+    private long maxNodes_;
+    public boolean hasMaxNodes() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    public long getMaxNodes() {
+      return maxNodes_;
+    }
+
+    // optional int64 max_millis = 7;
+    public static final int MAX_MILLIS_FIELD_NUMBER = 7;
+    private long maxMillis_;
+    public boolean hasMaxMillis() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    public long getMaxMillis() {
+      return maxMillis_;
+    }
+
+    private void initFields() {
+      sessionToken_ = "";
+      fen_ = "";
+      gameId_ = "";
+      lines_ = 1;
+      depth_ = 0;
+      maxNodes_ = 0L;
+      maxMillis_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasSessionToken()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getSessionTokenBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getFenBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getGameIdBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt32(4, lines_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeInt32(5, depth_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeInt64(6, maxNodes_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeInt64(7, maxMillis_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getSessionTokenBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getFenBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getGameIdBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, lines_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, depth_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, maxNodes_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(7, maxMillis_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.gilran.chess.Proto.StartAnalysisRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.StartAnalysisRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.StartAnalysisRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static com.gilran.chess.Proto.StartAnalysisRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.StartAnalysisRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.StartAnalysisRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static com.gilran.chess.Proto.StartAnalysisRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.StartAnalysisRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static com.gilran.chess.Proto.StartAnalysisRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static com.gilran.chess.Proto.StartAnalysisRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.gilran.chess.Proto.StartAnalysisRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.gilran.chess.Proto.StartAnalysisRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.gilran.chess.Proto.internal_static_chess_StartAnalysisRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.gilran.chess.Proto.internal_static_chess_StartAnalysisRequest_fieldAccessorTable;
+      }
+
+      // Construct using com.gilran.chess.Proto.StartAnalysisRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        sessionToken_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        fen_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        gameId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        lines_ = 1;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        depth_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        maxNodes_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        maxMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.gilran.chess.Proto.StartAnalysisRequest.getDescriptor();
+      }
+
+      public com.gilran.chess.Proto.StartAnalysisRequest getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.StartAnalysisRequest.getDefaultInstance();
+      }
+
+      public com.gilran.chess.Proto.StartAnalysisRequest build() {
+        com.gilran.chess.Proto.StartAnalysisRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      private com.gilran.chess.Proto.StartAnalysisRequest buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        com.gilran.chess.Proto.StartAnalysisRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+
+      public com.gilran.chess.Proto.StartAnalysisRequest buildPartial() {
+        com.gilran.chess.Proto.StartAnalysisRequest result = new com.gilran.chess.Proto.StartAnalysisRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.sessionToken_ = sessionToken_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.fen_ = fen_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.gameId_ = gameId_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.lines_ = lines_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.depth_ = depth_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.maxNodes_ = maxNodes_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.maxMillis_ = maxMillis_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.gilran.chess.Proto.StartAnalysisRequest) {
+          return mergeFrom((com.gilran.chess.Proto.StartAnalysisRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.gilran.chess.Proto.StartAnalysisRequest other) {
+        if (other == com.gilran.chess.Proto.StartAnalysisRequest.getDefaultInstance()) return this;
+        if (other.hasSessionToken()) {
+          setSessionToken(other.getSessionToken());
+        }
+        if (other.hasFen()) {
+          setFen(other.getFen());
+        }
+        if (other.hasGameId()) {
+          setGameId(other.getGameId());
+        }
+        if (other.hasLines()) {
+          setLines(other.getLines());
+        }
+        if (other.hasDepth()) {
+          setDepth(other.getDepth());
+        }
+        if (other.hasMaxNodes()) {
+          setMaxNodes(other.getMaxNodes());
+        }
+        if (other.hasMaxMillis()) {
+          setMaxMillis(other.getMaxMillis());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasSessionToken()) {
+
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              sessionToken_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              fen_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              gameId_ = input.readBytes();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              lines_ = input.readInt32();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              depth_ = input.readInt32();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              maxNodes_ = input.readInt64();
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000040;
+              maxMillis_ = input.readInt64();
+              break;
+            }
+          }
+        }
+      }
+
+      private int bitField0_;
+
+      // required string session_token = 1;
+      private java.lang.Object sessionToken_ = "";
+      public boolean hasSessionToken() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public String getSessionToken() {
+        java.lang.Object ref = sessionToken_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          sessionToken_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setSessionToken(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        sessionToken_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearSessionToken() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sessionToken_ = getDefaultInstance().getSessionToken();
+        onChanged();
+        return this;
+      }
+      void setSessionToken(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000001;
+        sessionToken_ = value;
+        onChanged();
+      }
+
+      // optional string fen = 2;
+      private java.lang.Object fen_ = "";
+      public boolean hasFen() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      public String getFen() {
+        java.lang.Object ref = fen_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          fen_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      public Builder setFen(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        fen_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearFen() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fen_ = getDefaultInstance().getFen();
+        onChanged();
+        return this;
+      }
+      void setFen(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000002;
+        fen_ = value;
+        onChanged();
+      }
+
+      // optional string game_id = 3;
+      private java.lang.Object gameId_ = "";
+      public boolean hasGameId() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      public String getGameId() {
+        java.lang.Object ref = gameId_;
+        if (!(ref instanceof String)) {
+          String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
+          gameId_ = s;
+          return s;
+        } else {
+          return (String) ref;
         }
+      }
+      public Builder setGameId(String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        gameId_ = value;
+        onChanged();
         return this;
       }
-      public Builder addEvent(
-          com.gilran.chess.Proto.GameEvent.Builder builderForValue) {
-        if (eventBuilder_ == null) {
-          ensureEventIsMutable();
-          event_.add(builderForValue.build());
-          onChanged();
-        } else {
-          eventBuilder_.addMessage(builderForValue.build());
-        }
+      public Builder clearGameId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        gameId_ = getDefaultInstance().getGameId();
+        onChanged();
         return this;
       }
-      public Builder addEvent(
-          int index, com.gilran.chess.Proto.GameEvent.Builder builderForValue) {
-        if (eventBuilder_ == null) {
-          ensureEventIsMutable();
-          event_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          eventBuilder_.addMessage(index, builderForValue.build());
-        }
+      void setGameId(com.google.protobuf.ByteString value) {
+        bitField0_ |= 0x00000004;
+        gameId_ = value;
+        onChanged();
+      }
+
+      // optional int32 lines = 4 [default = 1];
+      private int lines_ = 1;
+      public boolean hasLines() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      public int getLines() {
+        return lines_;
+      }
+      public Builder setLines(int value) {
+        bitField0_ |= 0x00000008;
+        lines_ = value;
+        onChanged();
         return this;
       }
-      public Builder addAllEvent(
-          java.lang.Iterable<? extends com.gilran.chess.Proto.GameEvent> values) {
-        if (eventBuilder_ == null) {
-          ensureEventIsMutable();
-          super.addAll(values, event_);
-          onChanged();
-        } else {
-          eventBuilder_.addAllMessages(values);
-        }
+      public Builder clearLines() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        lines_ = 1;
+        onChanged();
         return this;
       }
-      public Builder clearEvent() {
-        if (eventBuilder_ == null) {
-          event_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000002);
-          onChanged();
-        } else {
-          eventBuilder_.clear();
-        }
+
+      // optional int32 depth = 5;
+      private int depth_ ;
+      public boolean hasDepth() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      public int getDepth() {
+        return depth_;
+      }
+      public Builder setDepth(int value) {
+        bitField0_ |= 0x00000010;
+        depth_ = value;
+        onChanged();
         return this;
       }
-      public Builder removeEvent(int index) {
-        if (eventBuilder_ == null) {
-          ensureEventIsMutable();
-          event_.remove(index);
-          onChanged();
-        } else {
-          eventBuilder_.remove(index);
-        }
+      public Builder clearDepth() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        depth_ = 0;
+        onChanged();
         return this;
       }
-      public com.gilran.chess.Proto.GameEvent.Builder getEventBuilder(
-          int index) {
-        return getEventFieldBuilder().getBuilder(index);
+
+      // optional int64 max_nodes = 6;
+      private long maxNodes_ ;
+      public boolean hasMaxNodes() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
       }
-      public com.gilran.chess.Proto.GameEventOrBuilder getEventOrBuilder(
-          int index) {
-        if (eventBuilder_ == null) {
-          return event_.get(index);  } else {
-          return eventBuilder_.getMessageOrBuilder(index);
-        }
+      public long getMaxNodes() {
+        return maxNodes_;
       }
-      public java.util.List<? extends com.gilran.chess.Proto.GameEventOrBuilder>
-           getEventOrBuilderList() {
-        if (eventBuilder_ != null) {
-          return eventBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(event_);
-        }
+      public Builder setMaxNodes(long value) {
+        bitField0_ |= 0x00000020;
+        maxNodes_ = value;
+        onChanged();
+        return this;
       }
-      public com.gilran.chess.Proto.GameEvent.Builder addEventBuilder() {
-        return getEventFieldBuilder().addBuilder(
-            com.gilran.chess.Proto.GameEvent.getDefaultInstance());
+      public Builder clearMaxNodes() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        maxNodes_ = 0L;
+        onChanged();
+        return this;
       }
-      public com.gilran.chess.Proto.GameEvent.Builder addEventBuilder(
-          int index) {
-        return getEventFieldBuilder().addBuilder(
-            index, com.gilran.chess.Proto.GameEvent.getDefaultInstance());
+
+      // optional int64 max_millis = 7;
+      private long maxMillis_ ;
+      public boolean hasMaxMillis() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
       }
-      public java.util.List<com.gilran.chess.Proto.GameEvent.Builder>
-           getEventBuilderList() {
-        return getEventFieldBuilder().getBuilderList();
+      public long getMaxMillis() {
+        return maxMillis_;
       }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.gilran.chess.Proto.GameEvent, com.gilran.chess.Proto.GameEvent.Builder, com.gilran.chess.Proto.GameEventOrBuilder>
-          getEventFieldBuilder() {
-        if (eventBuilder_ == null) {
-          eventBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              com.gilran.chess.Proto.GameEvent, com.gilran.chess.Proto.GameEvent.Builder, com.gilran.chess.Proto.GameEventOrBuilder>(
-                  event_,
-                  ((bitField0_ & 0x00000002) == 0x00000002),
-                  getParentForChildren(),
-                  isClean());
-          event_ = null;
-        }
-        return eventBuilder_;
+      public Builder setMaxMillis(long value) {
+        bitField0_ |= 0x00000040;
+        maxMillis_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearMaxMillis() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        maxMillis_ = 0L;
+        onChanged();
+        return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:chess.EventsResponse)
+      // @@protoc_insertion_point(builder_scope:chess.StartAnalysisRequest)
     }
 
     static {
-      defaultInstance = new EventsResponse(true);
+      defaultInstance = new StartAnalysisRequest(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:chess.EventsResponse)
+    // @@protoc_insertion_point(class_scope:chess.StartAnalysisRequest)
   }
 
-  public interface PositionResponseOrBuilder
+  public interface StartAnalysisResponseOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
     // optional .chess.Status status = 1;
     boolean hasStatus();
     com.gilran.chess.Proto.Status getStatus();
 
-    // optional string fen = 2;
-    boolean hasFen();
-    String getFen();
+    // optional string analysis_id = 2;
+    boolean hasAnalysisId();
+    String getAnalysisId();
   }
-  public static final class PositionResponse extends
+  public static final class StartAnalysisResponse extends
       com.google.protobuf.GeneratedMessage
-      implements PositionResponseOrBuilder {
-    // Use PositionResponse.newBuilder() to construct.
-    private PositionResponse(Builder builder) {
+      implements StartAnalysisResponseOrBuilder {
+    // Use StartAnalysisResponse.newBuilder() to construct.
+    private StartAnalysisResponse(Builder builder) {
       super(builder);
     }
-    private PositionResponse(boolean noInit) {}
+    private StartAnalysisResponse(boolean noInit) {}
 
-    private static final PositionResponse defaultInstance;
-    public static PositionResponse getDefaultInstance() {
+    private static final StartAnalysisResponse defaultInstance;
+    public static StartAnalysisResponse getDefaultInstance() {
       return defaultInstance;
     }
 
-    public PositionResponse getDefaultInstanceForType() {
+    public StartAnalysisResponse getDefaultInstanceForType() {
       return defaultInstance;
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.gilran.chess.Proto.internal_static_chess_PositionResponse_descriptor;
+      return com.gilran.chess.Proto.internal_static_chess_StartAnalysisResponse_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.gilran.chess.Proto.internal_static_chess_PositionResponse_fieldAccessorTable;
+      return com.gilran.chess.Proto.internal_static_chess_StartAnalysisResponse_fieldAccessorTable;
     }
 
     private int bitField0_;
@@ -6002,14 +14738,14 @@ public final class Proto {
       return status_;
     }
 
-    // optional string fen = 2;
-    public static final int FEN_FIELD_NUMBER = 2;
-    private java.lang.Object fen_;
-    public boolean hasFen() {
+    // optional string analysis_id = 2;
+    public static final int ANALYSIS_ID_FIELD_NUMBER = 2;
+    private java.lang.Object analysisId_;
+    public boolean hasAnalysisId() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-    public String getFen() {
-      java.lang.Object ref = fen_;
+    public String getAnalysisId() {
+      java.lang.Object ref = analysisId_;
       if (ref instanceof String) {
         return (String) ref;
       } else {
@@ -6017,17 +14753,17 @@ public final class Proto {
             (com.google.protobuf.ByteString) ref;
         String s = bs.toStringUtf8();
         if (com.google.protobuf.Internal.isValidUtf8(bs)) {
-          fen_ = s;
+          analysisId_ = s;
         }
         return s;
       }
     }
-    private com.google.protobuf.ByteString getFenBytes() {
-      java.lang.Object ref = fen_;
+    private com.google.protobuf.ByteString getAnalysisIdBytes() {
+      java.lang.Object ref = analysisId_;
       if (ref instanceof String) {
         com.google.protobuf.ByteString b =
             com.google.protobuf.ByteString.copyFromUtf8((String) ref);
-        fen_ = b;
+        analysisId_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
@@ -6036,7 +14772,7 @@ public final class Proto {
 
     private void initFields() {
       status_ = com.gilran.chess.Proto.Status.OK;
-      fen_ = "";
+      analysisId_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -6054,7 +14790,7 @@ public final class Proto {
         output.writeEnum(1, status_.getNumber());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getFenBytes());
+        output.writeBytes(2, getAnalysisIdBytes());
       }
       getUnknownFields().writeTo(output);
     }
@@ -6071,7 +14807,7 @@ public final class Proto {
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getFenBytes());
+          .computeBytesSize(2, getAnalysisIdBytes());
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -6085,41 +14821,41 @@ public final class Proto {
       return super.writeReplace();
     }
 
-    public static com.gilran.chess.Proto.PositionResponse parseFrom(
+    public static com.gilran.chess.Proto.StartAnalysisResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return newBuilder().mergeFrom(data).buildParsed();
     }
-    public static com.gilran.chess.Proto.PositionResponse parseFrom(
+    public static com.gilran.chess.Proto.StartAnalysisResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return newBuilder().mergeFrom(data, extensionRegistry)
                .buildParsed();
     }
-    public static com.gilran.chess.Proto.PositionResponse parseFrom(byte[] data)
+    public static com.gilran.chess.Proto.StartAnalysisResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return newBuilder().mergeFrom(data).buildParsed();
     }
-    public static com.gilran.chess.Proto.PositionResponse parseFrom(
+    public static com.gilran.chess.Proto.StartAnalysisResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return newBuilder().mergeFrom(data, extensionRegistry)
                .buildParsed();
     }
-    public static com.gilran.chess.Proto.PositionResponse parseFrom(java.io.InputStream input)
+    public static com.gilran.chess.Proto.StartAnalysisResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return newBuilder().mergeFrom(input).buildParsed();
     }
-    public static com.gilran.chess.Proto.PositionResponse parseFrom(
+    public static com.gilran.chess.Proto.StartAnalysisResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return newBuilder().mergeFrom(input, extensionRegistry)
                .buildParsed();
     }
-    public static com.gilran.chess.Proto.PositionResponse parseDelimitedFrom(java.io.InputStream input)
+    public static com.gilran.chess.Proto.StartAnalysisResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       Builder builder = newBuilder();
       if (builder.mergeDelimitedFrom(input)) {
@@ -6128,7 +14864,7 @@ public final class Proto {
         return null;
       }
     }
-    public static com.gilran.chess.Proto.PositionResponse parseDelimitedFrom(
+    public static com.gilran.chess.Proto.StartAnalysisResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6139,12 +14875,12 @@ public final class Proto {
         return null;
       }
     }
-    public static com.gilran.chess.Proto.PositionResponse parseFrom(
+    public static com.gilran.chess.Proto.StartAnalysisResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return newBuilder().mergeFrom(input).buildParsed();
     }
-    public static com.gilran.chess.Proto.PositionResponse parseFrom(
+    public static com.gilran.chess.Proto.StartAnalysisResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6154,7 +14890,7 @@ public final class Proto {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.gilran.chess.Proto.PositionResponse prototype) {
+    public static Builder newBuilder(com.gilran.chess.Proto.StartAnalysisResponse prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -6167,18 +14903,18 @@ public final class Proto {
     }
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.gilran.chess.Proto.PositionResponseOrBuilder {
+       implements com.gilran.chess.Proto.StartAnalysisResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.gilran.chess.Proto.internal_static_chess_PositionResponse_descriptor;
+        return com.gilran.chess.Proto.internal_static_chess_StartAnalysisResponse_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.gilran.chess.Proto.internal_static_chess_PositionResponse_fieldAccessorTable;
+        return com.gilran.chess.Proto.internal_static_chess_StartAnalysisResponse_fieldAccessorTable;
       }
 
-      // Construct using com.gilran.chess.Proto.PositionResponse.newBuilder()
+      // Construct using com.gilran.chess.Proto.StartAnalysisResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6199,7 +14935,7 @@ public final class Proto {
         super.clear();
         status_ = com.gilran.chess.Proto.Status.OK;
         bitField0_ = (bitField0_ & ~0x00000001);
-        fen_ = "";
+        analysisId_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
@@ -6210,24 +14946,24 @@ public final class Proto {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.gilran.chess.Proto.PositionResponse.getDescriptor();
+        return com.gilran.chess.Proto.StartAnalysisResponse.getDescriptor();
       }
 
-      public com.gilran.chess.Proto.PositionResponse getDefaultInstanceForType() {
-        return com.gilran.chess.Proto.PositionResponse.getDefaultInstance();
+      public com.gilran.chess.Proto.StartAnalysisResponse getDefaultInstanceForType() {
+        return com.gilran.chess.Proto.StartAnalysisResponse.getDefaultInstance();
       }
 
-      public com.gilran.chess.Proto.PositionResponse build() {
-        com.gilran.chess.Proto.PositionResponse result = buildPartial();
+      public com.gilran.chess.Proto.StartAnalysisResponse build() {
+        com.gilran.chess.Proto.StartAnalysisResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      private com.gilran.chess.Proto.PositionResponse buildParsed()
+      private com.gilran.chess.Proto.StartAnalysisResponse buildParsed()
           throws com.google.protobuf.InvalidProtocolBufferException {
-        com.gilran.chess.Proto.PositionResponse result = buildPartial();
+        com.gilran.chess.Proto.StartAnalysisResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(
             result).asInvalidProtocolBufferException();
@@ -6235,8 +14971,8 @@ public final class Proto {
         return result;
       }
 
-      public com.gilran.chess.Proto.PositionResponse buildPartial() {
-        com.gilran.chess.Proto.PositionResponse result = new com.gilran.chess.Proto.PositionResponse(this);
+      public com.gilran.chess.Proto.StartAnalysisResponse buildPartial() {
+        com.gilran.chess.Proto.StartAnalysisResponse result = new com.gilran.chess.Proto.StartAnalysisResponse(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -6246,28 +14982,28 @@ public final class Proto {
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.fen_ = fen_;
+        result.analysisId_ = analysisId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.gilran.chess.Proto.PositionResponse) {
-          return mergeFrom((com.gilran.chess.Proto.PositionResponse)other);
+        if (other instanceof com.gilran.chess.Proto.StartAnalysisResponse) {
+          return mergeFrom((com.gilran.chess.Proto.StartAnalysisResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.gilran.chess.Proto.PositionResponse other) {
-        if (other == com.gilran.chess.Proto.PositionResponse.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.gilran.chess.Proto.StartAnalysisResponse other) {
+        if (other == com.gilran.chess.Proto.StartAnalysisResponse.getDefaultInstance()) return this;
         if (other.hasStatus()) {
           setStatus(other.getStatus());
         }
-        if (other.hasFen()) {
-          setFen(other.getFen());
+        if (other.hasAnalysisId()) {
+          setAnalysisId(other.getAnalysisId());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -6313,7 +15049,7 @@ public final class Proto {
             }
             case 18: {
               bitField0_ |= 0x00000002;
-              fen_ = input.readBytes();
+              analysisId_ = input.readBytes();
               break;
             }
           }
@@ -6346,51 +15082,51 @@ public final class Proto {
         return this;
       }
 
-      // optional string fen = 2;
-      private java.lang.Object fen_ = "";
-      public boolean hasFen() {
+      // optional string analysis_id = 2;
+      private java.lang.Object analysisId_ = "";
+      public boolean hasAnalysisId() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-      public String getFen() {
-        java.lang.Object ref = fen_;
+      public String getAnalysisId() {
+        java.lang.Object ref = analysisId_;
         if (!(ref instanceof String)) {
           String s = ((com.google.protobuf.ByteString) ref).toStringUtf8();
-          fen_ = s;
+          analysisId_ = s;
           return s;
         } else {
           return (String) ref;
         }
       }
-      public Builder setFen(String value) {
+      public Builder setAnalysisId(String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000002;
-        fen_ = value;
+        analysisId_ = value;
         onChanged();
         return this;
       }
-      public Builder clearFen() {
+      public Builder clearAnalysisId() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        fen_ = getDefaultInstance().getFen();
+        analysisId_ = getDefaultInstance().getAnalysisId();
         onChanged();
         return this;
       }
-      void setFen(com.google.protobuf.ByteString value) {
+      void setAnalysisId(com.google.protobuf.ByteString value) {
         bitField0_ |= 0x00000002;
-        fen_ = value;
+        analysisId_ = value;
         onChanged();
       }
 
-      // @@protoc_insertion_point(builder_scope:chess.PositionResponse)
+      // @@protoc_insertion_point(builder_scope:chess.StartAnalysisResponse)
     }
 
     static {
-      defaultInstance = new PositionResponse(true);
+      defaultInstance = new StartAnalysisResponse(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:chess.PositionResponse)
+    // @@protoc_insertion_point(class_scope:chess.StartAnalysisResponse)
   }
 
   private static com.google.protobuf.Descriptors.Descriptor
@@ -6438,6 +15174,16 @@ public final class Proto {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_chess_GameEvent_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_chess_AnalysisLine_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_chess_AnalysisLine_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_chess_AnalysisInfo_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_chess_AnalysisInfo_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_chess_EventsRequest_descriptor;
   private static
@@ -6453,6 +15199,56 @@ public final class Proto {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_chess_PositionResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_chess_PlyRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_chess_PlyRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_chess_GameHistoryResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_chess_GameHistoryResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_chess_PlayerGamesRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_chess_PlayerGamesRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_chess_PlayerGamesResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_chess_PlayerGamesResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_chess_ImportGameRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_chess_ImportGameRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_chess_ImportGameResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_chess_ImportGameResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_chess_AnalyzeRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_chess_AnalyzeRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_chess_AnalyzeResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_chess_AnalyzeResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_chess_StartAnalysisRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_chess_StartAnalysisRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_chess_StartAnalysisResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_chess_StartAnalysisResponse_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -6469,38 +15265,82 @@ public final class Proto {
       "n_token\030\002 \001(\t\"$\n\013SeekRequest\022\025\n\rsession_" +
       "token\030\001 \002(\t\"\\\n\014SeekResponse\022\035\n\006status\030\001 " +
       "\001(\0162\r.chess.Status\022\017\n\007game_id\030\002 \001(\t\022\r\n\005w" +
-      "hite\030\003 \001(\t\022\r\n\005black\030\004 \001(\t\"%\n\tMoveProto\022\014" +
-      "\n\004from\030\001 \002(\t\022\n\n\002to\030\002 \002(\t\"2\n\010GameInfo\022\025\n\r" +
-      "session_token\030\001 \002(\t\022\017\n\007game_id\030\002 \002(\t\"Q\n\013",
-      "MoveRequest\022\"\n\tgame_info\030\001 \002(\0132\017.chess.G" +
-      "ameInfo\022\036\n\004move\030\002 \002(\0132\020.chess.MoveProto\"" +
-      "\225\002\n\tGameEvent\022\025\n\rserial_number\030\001 \002(\005\022#\n\004" +
-      "type\030\002 \002(\0162\025.chess.GameEvent.Type\022!\n\006sta" +
-      "tus\030\003 \002(\0162\021.chess.GameStatus\022\036\n\004move\030\004 \003" +
-      "(\0132\020.chess.MoveProto\"\210\001\n\004Type\022\r\n\tMOVE_MA" +
-      "DE\020\000\022\016\n\nGAME_ENDED\020\001\022\026\n\022WHITE_OFFERED_DR" +
-      "AW\020\002\022\026\n\022BLACK_OFFERED_DRAW\020\003\022\027\n\023DRAW_OFF" +
-      "ER_DECLINED\020\004\022\030\n\024DRAW_OFFER_WITHDRAWN\020\005\"" +
-      "M\n\rEventsRequest\022\"\n\tgame_info\030\001 \002(\0132\017.ch",
-      "ess.GameInfo\022\030\n\020min_event_number\030\002 \002(\005\"P" +
-      "\n\016EventsResponse\022\035\n\006status\030\001 \001(\0162\r.chess" +
-      ".Status\022\037\n\005event\030\002 \003(\0132\020.chess.GameEvent" +
-      "\">\n\020PositionResponse\022\035\n\006status\030\001 \001(\0162\r.c" +
-      "hess.Status\022\013\n\003fen\030\002 \001(\t*\227\001\n\006Status\022\006\n\002O" +
-      "K\020\000\022\023\n\017INVALID_REQUEST\020\001\022$\n INVALID_OR_E" +
-      "XPIRED_SESSION_TOKEN\020\002\022\023\n\017INVALID_GAME_I" +
-      "D\020\003\022\020\n\014INVALID_MOVE\020\004\022\021\n\rNOT_YOUR_TURN\020\005" +
-      "\022\020\n\014ILLEGAL_MOVE\020\006*\362\002\n\nGameStatus\022\021\n\rWHI" +
-      "TE_TO_MOVE\020\000\022\021\n\rBLACK_TO_MOVE\020\001\022\021\n\rWHITE",
-      "_CHECKED\020\002\022\021\n\rBLACK_CHECKED\020\003\022\024\n\020BLACK_C" +
-      "HECKMATED\020\004\022\022\n\016BLACK_RESIGNED\020\005\022\027\n\023BLACK" +
-      "_CLOCK_EXPIRED\020\006\022\024\n\020WHITE_CHECKMATED\020\007\022\022" +
-      "\n\016WHITE_RESIGNED\020\010\022\027\n\023WHITE_CLOCK_EXPIRE" +
-      "D\020\t\022\024\n\020BLACK_STALEMATED\020\n\022\024\n\020WHITE_STALE" +
-      "MATED\020\013\022\031\n\025INSUFFICIENT_MATERIAL\020\014\022\032\n\026HA" +
-      "LFMOVE_CLOCK_EXPIRED\020\r\022\030\n\024THREEFOLD_REPE" +
-      "TITION\020\016\022\025\n\021DRAW_BY_AGREEMENT\020\017B\031\n\020com.g" +
-      "ilran.chessB\005Proto"
+      "hite\030\003 \001(\t\022\r\n\005black\030\004 \001(\t\"8\n\tMoveProto\022\014" +
+      "\n\004from\030\001 \002(\t\022\n\n\002to\030\002 \002(\t\022\021\n\tpromotion\030\003 " +
+      "\001(\t\"2\n\010GameInfo\022\025\n\rsession_token\030\001 \002(\t\022\017",
+      "\n\007game_id\030\002 \002(\t\"Q\n\013MoveRequest\022\"\n\tgame_i" +
+      "nfo\030\001 \002(\0132\017.chess.GameInfo\022\036\n\004move\030\002 \002(\013" +
+      "2\020.chess.MoveProto\"\374\003\n\tGameEvent\022\025\n\rseri" +
+      "al_number\030\001 \002(\005\022#\n\004type\030\002 \002(\0162\025.chess.Ga" +
+      "meEvent.Type\022!\n\006status\030\003 \002(\0162\021.chess.Gam" +
+      "eStatus\022\036\n\004move\030\004 \003(\0132\020.chess.MoveProto\022" +
+      "\025\n\rwhite_time_ms\030\005 \001(\003\022\025\n\rblack_time_ms\030" +
+      "\006 \001(\003\022%\n\010analysis\030\007 \001(\0132\023.chess.Analysis" +
+      "Info\"\232\002\n\004Type\022\r\n\tMOVE_MADE\020\000\022\016\n\nGAME_END" +
+      "ED\020\001\022\026\n\022WHITE_OFFERED_DRAW\020\002\022\026\n\022BLACK_OF",
+      "FERED_DRAW\020\003\022\027\n\023DRAW_OFFER_DECLINED\020\004\022\030\n" +
+      "\024DRAW_OFFER_WITHDRAWN\020\005\022\023\n\017ANALYSIS_UPDA" +
+      "TE\020\006\022\022\n\016ANALYSIS_ENDED\020\007\022\034\n\030WHITE_REQUES" +
+      "TED_TAKEBACK\020\010\022\034\n\030BLACK_REQUESTED_TAKEBA" +
+      "CK\020\t\022\025\n\021TAKEBACK_DECLINED\020\n\022\024\n\020MOVES_TAK" +
+      "EN_BACK\020\013\"=\n\014AnalysisLine\022\r\n\005score\030\001 \001(\005" +
+      "\022\036\n\004move\030\002 \003(\0132\020.chess.MoveProto\"i\n\014Anal" +
+      "ysisInfo\022\r\n\005depth\030\001 \001(\005\022!\n\004line\030\002 \003(\0132\023." +
+      "chess.AnalysisLine\022\r\n\005nodes\030\003 \001(\003\022\030\n\020nod" +
+      "es_per_second\030\004 \001(\003\"M\n\rEventsRequest\022\"\n\t",
+      "game_info\030\001 \002(\0132\017.chess.GameInfo\022\030\n\020min_" +
+      "event_number\030\002 \002(\005\"P\n\016EventsResponse\022\035\n\006" +
+      "status\030\001 \001(\0162\r.chess.Status\022\037\n\005event\030\002 \003" +
+      "(\0132\020.chess.GameEvent\"u\n\020PositionResponse" +
+      "\022\035\n\006status\030\001 \001(\0162\r.chess.Status\022\013\n\003fen\030\002" +
+      " \001(\t\022&\n\013game_status\030\003 \001(\0162\021.chess.GameSt" +
+      "atus\022\r\n\005plies\030\004 \001(\005\"=\n\nPlyRequest\022\"\n\tgam" +
+      "e_info\030\001 \002(\0132\017.chess.GameInfo\022\013\n\003ply\030\002 \002" +
+      "(\005\"\206\001\n\023GameHistoryResponse\022\035\n\006status\030\001 \001" +
+      "(\0162\r.chess.Status\022\r\n\005white\030\002 \001(\t\022\r\n\005blac",
+      "k\030\003 \001(\t\022\021\n\tstart_fen\030\004 \001(\t\022\037\n\005event\030\005 \003(" +
+      "\0132\020.chess.GameEvent\"T\n\022PlayerGamesReques" +
+      "t\022\025\n\rsession_token\030\001 \002(\t\022\020\n\010username\030\002 \002" +
+      "(\t\022\025\n\tmax_games\030\003 \001(\005:\00220\"E\n\023PlayerGames" +
+      "Response\022\035\n\006status\030\001 \001(\0162\r.chess.Status\022" +
+      "\017\n\007game_id\030\002 \003(\t\"\203\001\n\021ImportGameRequest\022\025" +
+      "\n\rsession_token\030\001 \002(\t\022\021\n\tstart_fen\030\002 \001(\t" +
+      "\022\020\n\004move\030\003 \003(\005B\002\020\001\022\024\n\005store\030\004 \001(\010:\005false" +
+      "\022\r\n\005white\030\005 \001(\t\022\r\n\005black\030\006 \001(\t\"\210\001\n\022Impor" +
+      "tGameResponse\022\035\n\006status\030\001 \001(\0162\r.chess.St",
+      "atus\022\r\n\005plies\030\002 \001(\005\022&\n\013game_status\030\003 \001(\016" +
+      "2\021.chess.GameStatus\022\013\n\003fen\030\004 \001(\t\022\017\n\007game" +
+      "_id\030\005 \001(\t\"{\n\016AnalyzeRequest\022\025\n\rsession_t" +
+      "oken\030\001 \002(\t\022\013\n\003fen\030\002 \001(\t\022\017\n\007game_id\030\003 \001(\t" +
+      "\022\r\n\005depth\030\004 \001(\005\022\021\n\tmax_nodes\030\005 \001(\003\022\022\n\nma" +
+      "x_millis\030\006 \001(\003\"\261\001\n\017AnalyzeResponse\022\035\n\006st" +
+      "atus\030\001 \001(\0162\r.chess.Status\022\r\n\005depth\030\002 \001(\005" +
+      "\022\r\n\005score\030\003 \001(\005\022#\n\tbest_move\030\004 \001(\0132\020.che" +
+      "ss.MoveProto\022-\n\023principal_variation\030\005 \003(" +
+      "\0132\020.chess.MoveProto\022\r\n\005nodes\030\006 \001(\003\"\223\001\n\024S",
+      "tartAnalysisRequest\022\025\n\rsession_token\030\001 \002" +
+      "(\t\022\013\n\003fen\030\002 \001(\t\022\017\n\007game_id\030\003 \001(\t\022\020\n\005line" +
+      "s\030\004 \001(\005:\0011\022\r\n\005depth\030\005 \001(\005\022\021\n\tmax_nodes\030\006" +
+      " \001(\003\022\022\n\nmax_millis\030\007 \001(\003\"K\n\025StartAnalysi" +
+      "sResponse\022\035\n\006status\030\001 \001(\0162\r.chess.Status" +
+      "\022\023\n\013analysis_id\030\002 \001(\t*\204\002\n\006Status\022\006\n\002OK\020\000" +
+      "\022\023\n\017INVALID_REQUEST\020\001\022$\n INVALID_OR_EXPI" +
+      "RED_SESSION_TOKEN\020\002\022\023\n\017INVALID_GAME_ID\020\003" +
+      "\022\020\n\014INVALID_MOVE\020\004\022\021\n\rNOT_YOUR_TURN\020\005\022\020\n" +
+      "\014ILLEGAL_MOVE\020\006\022\027\n\023TOO_MANY_SPECTATORS\020\007",
+      "\022\035\n\031TOO_MANY_WAITING_REQUESTS\020\010\022\020\n\014RATE_" +
+      "LIMITED\020\t\022\017\n\013SERVER_BUSY\020\n\022\020\n\014SERVER_ERR" +
+      "OR\020\013*\362\002\n\nGameStatus\022\021\n\rWHITE_TO_MOVE\020\000\022\021" +
+      "\n\rBLACK_TO_MOVE\020\001\022\021\n\rWHITE_CHECKED\020\002\022\021\n\r" +
+      "BLACK_CHECKED\020\003\022\024\n\020BLACK_CHECKMATED\020\004\022\022\n" +
+      "\016BLACK_RESIGNED\020\005\022\027\n\023BLACK_CLOCK_EXPIRED" +
+      "\020\006\022\024\n\020WHITE_CHECKMATED\020\007\022\022\n\016WHITE_RESIGN" +
+      "ED\020\010\022\027\n\023WHITE_CLOCK_EXPIRED\020\t\022\024\n\020BLACK_S" +
+      "TALEMATED\020\n\022\024\n\020WHITE_STALEMATED\020\013\022\031\n\025INS" +
+      "UFFICIENT_MATERIAL\020\014\022\032\n\026HALFMOVE_CLOCK_E",
+      "XPIRED\020\r\022\030\n\024THREEFOLD_REPETITION\020\016\022\025\n\021DR" +
+      "AW_BY_AGREEMENT\020\017B\031\n\020com.gilran.chessB\005P" +
+      "roto"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -6552,7 +15392,7 @@ public final class Proto {
           internal_static_chess_MoveProto_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_chess_MoveProto_descriptor,
-              new java.lang.String[] { "From", "To", },
+              new java.lang.String[] { "From", "To", "Promotion", },
               com.gilran.chess.Proto.MoveProto.class,
               com.gilran.chess.Proto.MoveProto.Builder.class);
           internal_static_chess_GameInfo_descriptor =
@@ -6576,11 +15416,27 @@ public final class Proto {
           internal_static_chess_GameEvent_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_chess_GameEvent_descriptor,
-              new java.lang.String[] { "SerialNumber", "Type", "Status", "Move", },
+              new java.lang.String[] { "SerialNumber", "Type", "Status", "Move", "WhiteTimeMs", "BlackTimeMs", "Analysis", },
               com.gilran.chess.Proto.GameEvent.class,
               com.gilran.chess.Proto.GameEvent.Builder.class);
-          internal_static_chess_EventsRequest_descriptor =
+          internal_static_chess_AnalysisLine_descriptor =
             getDescriptor().getMessageTypes().get(9);
+          internal_static_chess_AnalysisLine_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_chess_AnalysisLine_descriptor,
+              new java.lang.String[] { "Score", "Move", },
+              com.gilran.chess.Proto.AnalysisLine.class,
+              com.gilran.chess.Proto.AnalysisLine.Builder.class);
+          internal_static_chess_AnalysisInfo_descriptor =
+            getDescriptor().getMessageTypes().get(10);
+          internal_static_chess_AnalysisInfo_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_chess_AnalysisInfo_descriptor,
+              new java.lang.String[] { "Depth", "Line", "Nodes", "NodesPerSecond", },
+              com.gilran.chess.Proto.AnalysisInfo.class,
+              com.gilran.chess.Proto.AnalysisInfo.Builder.class);
+          internal_static_chess_EventsRequest_descriptor =
+            getDescriptor().getMessageTypes().get(11);
           internal_static_chess_EventsRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_chess_EventsRequest_descriptor,
@@ -6588,7 +15444,7 @@ public final class Proto {
               com.gilran.chess.Proto.EventsRequest.class,
               com.gilran.chess.Proto.EventsRequest.Builder.class);
           internal_static_chess_EventsResponse_descriptor =
-            getDescriptor().getMessageTypes().get(10);
+            getDescriptor().getMessageTypes().get(12);
           internal_static_chess_EventsResponse_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_chess_EventsResponse_descriptor,
@@ -6596,13 +15452,93 @@ public final class Proto {
               com.gilran.chess.Proto.EventsResponse.class,
               com.gilran.chess.Proto.EventsResponse.Builder.class);
           internal_static_chess_PositionResponse_descriptor =
-            getDescriptor().getMessageTypes().get(11);
+            getDescriptor().getMessageTypes().get(13);
           internal_static_chess_PositionResponse_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_chess_PositionResponse_descriptor,
-              new java.lang.String[] { "Status", "Fen", },
+              new java.lang.String[] { "Status", "Fen", "GameStatus", "Plies", },
               com.gilran.chess.Proto.PositionResponse.class,
               com.gilran.chess.Proto.PositionResponse.Builder.class);
+          internal_static_chess_PlyRequest_descriptor =
+            getDescriptor().getMessageTypes().get(14);
+          internal_static_chess_PlyRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_chess_PlyRequest_descriptor,
+              new java.lang.String[] { "GameInfo", "Ply", },
+              com.gilran.chess.Proto.PlyRequest.class,
+              com.gilran.chess.Proto.PlyRequest.Builder.class);
+          internal_static_chess_GameHistoryResponse_descriptor =
+            getDescriptor().getMessageTypes().get(15);
+          internal_static_chess_GameHistoryResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_chess_GameHistoryResponse_descriptor,
+              new java.lang.String[] { "Status", "White", "Black", "StartFen", "Event", },
+              com.gilran.chess.Proto.GameHistoryResponse.class,
+              com.gilran.chess.Proto.GameHistoryResponse.Builder.class);
+          internal_static_chess_PlayerGamesRequest_descriptor =
+            getDescriptor().getMessageTypes().get(16);
+          internal_static_chess_PlayerGamesRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_chess_PlayerGamesRequest_descriptor,
+              new java.lang.String[] { "SessionToken", "Username", "MaxGames", },
+              com.gilran.chess.Proto.PlayerGamesRequest.class,
+              com.gilran.chess.Proto.PlayerGamesRequest.Builder.class);
+          internal_static_chess_PlayerGamesResponse_descriptor =
+            getDescriptor().getMessageTypes().get(17);
+          internal_static_chess_PlayerGamesResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_chess_PlayerGamesResponse_descriptor,
+              new java.lang.String[] { "Status", "GameId", },
+              com.gilran.chess.Proto.PlayerGamesResponse.class,
+              com.gilran.chess.Proto.PlayerGamesResponse.Builder.class);
+          internal_static_chess_ImportGameRequest_descriptor =
+            getDescriptor().getMessageTypes().get(18);
+          internal_static_chess_ImportGameRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_chess_ImportGameRequest_descriptor,
+              new java.lang.String[] { "SessionToken", "StartFen", "Move", "Store", "White", "Black", },
+              com.gilran.chess.Proto.ImportGameRequest.class,
+              com.gilran.chess.Proto.ImportGameRequest.Builder.class);
+          internal_static_chess_ImportGameResponse_descriptor =
+            getDescriptor().getMessageTypes().get(19);
+          internal_static_chess_ImportGameResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_chess_ImportGameResponse_descriptor,
+              new java.lang.String[] { "Status", "Plies", "GameStatus", "Fen", "GameId", },
+              com.gilran.chess.Proto.ImportGameResponse.class,
+              com.gilran.chess.Proto.ImportGameResponse.Builder.class);
+          internal_static_chess_AnalyzeRequest_descriptor =
+            getDescriptor().getMessageTypes().get(20);
+          internal_static_chess_AnalyzeRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_chess_AnalyzeRequest_descriptor,
+              new java.lang.String[] { "SessionToken", "Fen", "GameId", "Depth", "MaxNodes", "MaxMillis", },
+              com.gilran.chess.Proto.AnalyzeRequest.class,
+              com.gilran.chess.Proto.AnalyzeRequest.Builder.class);
+          internal_static_chess_AnalyzeResponse_descriptor =
+            getDescriptor().getMessageTypes().get(21);
+          internal_static_chess_AnalyzeResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_chess_AnalyzeResponse_descriptor,
+              new java.lang.String[] { "Status", "Depth", "Score", "BestMove", "PrincipalVariation", "Nodes", },
+              com.gilran.chess.Proto.AnalyzeResponse.class,
+              com.gilran.chess.Proto.AnalyzeResponse.Builder.class);
+          internal_static_chess_StartAnalysisRequest_descriptor =
+            getDescriptor().getMessageTypes().get(22);
+          internal_static_chess_StartAnalysisRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_chess_StartAnalysisRequest_descriptor,
+              new java.lang.String[] { "SessionToken", "Fen", "GameId", "Lines", "Depth", "MaxNodes", "MaxMillis", },
+              com.gilran.chess.Proto.StartAnalysisRequest.class,
+              com.gilran.chess.Proto.StartAnalysisRequest.Builder.class);
+          internal_static_chess_StartAnalysisResponse_descriptor =
+            getDescriptor().getMessageTypes().get(23);
+          internal_static_chess_StartAnalysisResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_chess_StartAnalysisResponse_descriptor,
+              new java.lang.String[] { "Status", "AnalysisId", },
+              com.gilran.chess.Proto.StartAnalysisResponse.class,
+              com.gilran.chess.Proto.StartAnalysisResponse.Builder.class);
           return null;
         }
       };
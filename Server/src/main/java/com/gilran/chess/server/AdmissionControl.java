@@ -0,0 +1,314 @@
+package com.gilran.chess.server;
+
+import com.gilran.chess.Proto.Status;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Predicate;
+import com.google.common.collect.Maps;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control of the web service requests.
+ *
+ * <p>Two limits are enforced:
+ * <ul>
+ * <li>A rate limit per session and method: each session has a token bucket
+ *     for each method, so one session cannot flood the server with moves or
+ *     event polls. Requests over the limit are refused with RATE_LIMITED.
+ * <li>A global concurrency limit: the number of requests being handled.
+ *     Requests over the limit are shed with SERVER_BUSY. Requests that are
+ *     parked to wait (e.g. for game events) exit the limit once they are
+ *     parked, as they hold no thread, and the waiting requests have limits
+ *     of their own.
+ * </ul>
+ * <p>Both are checked with lock-free counters. The session token of a request
+ * is found by a field path that is resolved once per method, when the method
+ * is added. Requests without a session token (e.g. login) are only subject to
+ * the concurrency limit. Buckets are only created for live sessions, and the
+ * requests with unknown session tokens of each method share a single bucket,
+ * so made-up tokens cannot grow the buckets. The buckets of idle and ended
+ * sessions are removed periodically, so the buckets do not outlive the
+ * sessions.
+ * <p>The limit of each method is taken from the system property
+ * chess.limit.METHOD, or chess.limit.default if it is not set, given as
+ * "RATE/BURST" in requests per second (e.g. "10/20"), or "0" for no limit. The
+ * concurrency limit is taken from chess.limit.concurrentRequests.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class AdmissionControl {
+  /** The name of the session token fields. */
+  private static final String SESSION_TOKEN_FIELD = "session_token";
+  /** The default rate limit of a method. */
+  private static final String DEFAULT_LIMIT =
+      System.getProperty("chess.limit.default", "20/40");
+  /** The default concurrency limit. */
+  private static final int CONCURRENT_REQUESTS =
+      Integer.getInteger("chess.limit.concurrentRequests", 10000);
+  /** The interval between removals of idle buckets, in seconds. */
+  private static final long SWEEP_SECONDS = 60;
+
+  /** The rate limit of a method. */
+  private static class MethodLimit {
+    /** The requests per second (0 for no limit). */
+    final double ratePerSecond;
+    /** The size of a burst. */
+    final int burst;
+    /**
+     * The path of fields to the session token in the method's request, or
+     * null if the request has no session token.
+     */
+    final FieldDescriptor[] tokenPath;
+    /** The buckets of the sessions, by session token. */
+    final ConcurrentMap<String, TokenBucket> buckets;
+    /** The bucket shared by all the unknown session tokens (null if none). */
+    final TokenBucket unknownSessions;
+
+    /** Constructor. */
+    MethodLimit(double ratePerSecond, int burst, FieldDescriptor[] tokenPath) {
+      this.ratePerSecond = ratePerSecond;
+      this.burst = burst;
+      this.tokenPath = tokenPath;
+      this.buckets = Maps.newConcurrentMap();
+      this.unknownSessions =
+          ratePerSecond == 0 ? null : new TokenBucket(ratePerSecond, burst);
+    }
+  }
+
+  /** The rate limits, by method name. */
+  private final Map<String, MethodLimit> limits;
+  /** Returns true iff a session token belongs to a live session. */
+  private final Predicate<String> isLiveSession;
+  /** The maximal number of requests in progress. */
+  private final int maxConcurrentRequests;
+  /** The number of requests in progress. */
+  private final AtomicInteger concurrentRequests;
+  /** The number of requests refused by the rate limits. */
+  private final AtomicLong rateLimited;
+  /** The number of requests shed by the concurrency limit. */
+  private final AtomicLong shed;
+
+  /**
+   * Constructor.
+   *
+   * @param maxConcurrentRequests The maximal number of requests in progress.
+   * @param isLiveSession Returns true iff a session token belongs to a live
+   *     session.
+   */
+  public AdmissionControl(
+      int maxConcurrentRequests, Predicate<String> isLiveSession) {
+    Preconditions.checkArgument(maxConcurrentRequests > 0);
+    this.isLiveSession = Preconditions.checkNotNull(isLiveSession);
+    this.limits = Maps.newHashMap();
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.concurrentRequests = new AtomicInteger();
+    this.rateLimited = new AtomicLong();
+    this.shed = new AtomicLong();
+
+    ScheduledExecutorService sweeper =
+        Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+          @Override
+          public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "admission-sweeper");
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+    sweeper.scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        sweep();
+      }
+    }, SWEEP_SECONDS, SWEEP_SECONDS, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Constructor.
+   * The same as the previous constructor, but the concurrency limit is taken
+   * from the system properties.
+   */
+  public AdmissionControl(Predicate<String> isLiveSession) {
+    this(CONCURRENT_REQUESTS, isLiveSession);
+  }
+
+  /**
+   * Adds a method, with the rate limit from the system properties.
+   * All the methods must be added before requests are admitted.
+   *
+   * @param method The method name.
+   * @param requestType The type of the method's request.
+   */
+  public void addMethod(String method, Descriptor requestType) {
+    String limit = System.getProperty("chess.limit." + method, DEFAULT_LIMIT);
+    String[] parts = limit.split("/");
+    double ratePerSecond = Double.parseDouble(parts[0].trim());
+    int burst = parts.length > 1
+        ? Integer.parseInt(parts[1].trim())
+        : Math.max((int) Math.ceil(ratePerSecond), 1);
+    addMethod(method, requestType, ratePerSecond, burst);
+  }
+
+  /**
+   * Adds a method.
+   * All the methods must be added before requests are admitted.
+   *
+   * @param method The method name.
+   * @param requestType The type of the method's request.
+   * @param ratePerSecond The allowed requests per second of each session (0
+   *     for no limit).
+   * @param burst The allowed burst of requests of each session.
+   */
+  public void addMethod(
+      String method,
+      Descriptor requestType,
+      double ratePerSecond,
+      int burst) {
+    Preconditions.checkArgument(ratePerSecond >= 0);
+    Preconditions.checkArgument(ratePerSecond == 0 || burst > 0);
+    Preconditions.checkState(limits.put(method, new MethodLimit(
+        ratePerSecond, burst, findTokenPath(requestType))) == null);
+  }
+
+  /**
+   * Admits a request, if it is within the limits. An admitted request must be
+   * ended by calling exit.
+   *
+   * @param method The method name. Must have been added.
+   * @param request The request.
+   * @return OK if the request is admitted, or the reason it is refused.
+   */
+  public Status enter(String method, Message request) {
+    if (concurrentRequests.incrementAndGet() > maxConcurrentRequests) {
+      concurrentRequests.decrementAndGet();
+      shed.incrementAndGet();
+      return Status.SERVER_BUSY;
+    }
+    MethodLimit limit = limits.get(method);
+    if (limit.ratePerSecond == 0 || limit.tokenPath == null) {
+      return Status.OK;
+    }
+    String token = getToken(request, limit.tokenPath);
+    if (token == null) {
+      return Status.OK;
+    }
+    TokenBucket bucket = limit.buckets.get(token);
+    if (bucket == null) {
+      if (isLiveSession.apply(token)) {
+        limit.buckets.putIfAbsent(
+            token, new TokenBucket(limit.ratePerSecond, limit.burst));
+        bucket = limit.buckets.get(token);
+      } else {
+        bucket = limit.unknownSessions;
+      }
+    }
+    if (!bucket.tryAcquire()) {
+      concurrentRequests.decrementAndGet();
+      rateLimited.incrementAndGet();
+      return Status.RATE_LIMITED;
+    }
+    return Status.OK;
+  }
+
+  /** Ends an admitted request, or marks it as parked. */
+  public void exit() {
+    concurrentRequests.decrementAndGet();
+  }
+
+  /** Adds the gauges of the admission control to the request metrics. */
+  public void addGauges(RequestMetrics metrics) {
+    metrics.addGauge(new Gauge(
+        "concurrent_requests",
+        "The number of admitted requests being handled.") {
+      @Override
+      public long getValue() {
+        return concurrentRequests.get();
+      }
+    });
+    metrics.addGauge(new Gauge(
+        "rate_limited_requests",
+        "The number of requests refused by the per-session rate limits.") {
+      @Override
+      public long getValue() {
+        return rateLimited.get();
+      }
+    });
+    metrics.addGauge(new Gauge(
+        "shed_requests",
+        "The number of requests shed by the concurrency limit.") {
+      @Override
+      public long getValue() {
+        return shed.get();
+      }
+    });
+  }
+
+  /**
+   * Removes the buckets that are full, as they are the same as new ones, and
+   * the buckets of sessions that ended.
+   */
+  private void sweep() {
+    for (MethodLimit limit : limits.values()) {
+      Iterator<Map.Entry<String, TokenBucket>> iterator =
+          limit.buckets.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<String, TokenBucket> entry = iterator.next();
+        if (entry.getValue().isFull() || !isLiveSession.apply(entry.getKey())) {
+          iterator.remove();
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the path of fields to the session token in a request type: either
+   * a session token field of the request, or of one of its message fields.
+   * Returns null if there is no session token.
+   */
+  private static FieldDescriptor[] findTokenPath(Descriptor requestType) {
+    FieldDescriptor field = requestType.findFieldByName(SESSION_TOKEN_FIELD);
+    if (isToken(field)) {
+      return new FieldDescriptor[] { field };
+    }
+    for (FieldDescriptor parent : requestType.getFields()) {
+      if (parent.getJavaType() != FieldDescriptor.JavaType.MESSAGE ||
+          parent.isRepeated()) {
+        continue;
+      }
+      field = parent.getMessageType().findFieldByName(SESSION_TOKEN_FIELD);
+      if (isToken(field)) {
+        return new FieldDescriptor[] { parent, field };
+      }
+    }
+    return null;
+  }
+
+  /** Returns true iff the field is a non-repeated string field. */
+  private static boolean isToken(FieldDescriptor field) {
+    return field != null && !field.isRepeated() &&
+        field.getJavaType() == FieldDescriptor.JavaType.STRING;
+  }
+
+  /** Returns the session token of a request, or null if it is not set. */
+  private static String getToken(Message request, FieldDescriptor[] path) {
+    Message message = request;
+    for (int i = 0; i < path.length - 1; ++i) {
+      if (!message.hasField(path[i])) {
+        return null;
+      }
+      message = (Message) message.getField(path[i]);
+    }
+    FieldDescriptor field = path[path.length - 1];
+    return message.hasField(field) ? (String) message.getField(field) : null;
+  }
+}
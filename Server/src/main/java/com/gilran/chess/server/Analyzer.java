@@ -0,0 +1,309 @@
+package com.gilran.chess.server;
+
+import com.gilran.chess.board.Position;
+import com.gilran.chess.board.Search;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs position analyses on a dedicated, bounded executor.
+ *
+ * <p>Analyses are CPU bound and may run for seconds, so they run on their own
+ * few threads, with a bounded queue, and cannot take the threads of the live
+ * games. An analysis that does not fit in the queue is refused.
+ * <p>The result of each depth of each analysis is cached by the position hash
+ * and the depth. An analysis deepens the search one depth at a time, and takes
+ * the depths that are cached from the cache, so repeated analyses of popular
+ * positions cost nothing.
+ * <p>An analysis may also be streamed: a listener gets the best lines of each
+ * depth as soon as it is searched, and the analysis is cancelled through its
+ * future.
+ * <p>The analyzer is configured by the system properties
+ * chess.analysis.threads, chess.analysis.queueSize and
+ * chess.analysis.cacheSize.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class Analyzer {
+  /** The number of analysis threads. */
+  private static final int THREADS =
+      Integer.getInteger("chess.analysis.threads", 1);
+  /** The maximal number of analyses waiting for a thread. */
+  private static final int QUEUE_SIZE =
+      Integer.getInteger("chess.analysis.queueSize", 16);
+  /** The maximal number of cached results. */
+  private static final long CACHE_SIZE =
+      Long.getLong("chess.analysis.cacheSize", 10000);
+
+  /** A callback that takes the result of an analysis. */
+  public interface ResultCallback {
+    /**
+     * Runs the callback.
+     *
+     * @param result The result of the deepest search that ended within the
+     *     budget, or null if not even the first depth did.
+     */
+    void run(Search.Result result);
+
+    /** Called instead of run when the search failed. */
+    void failed();
+  }
+
+  /** A listener of a streamed analysis. Called by an analysis thread. */
+  public interface Listener {
+    /**
+     * Called when a depth was searched.
+     *
+     * @param lines The best lines, best first.
+     * @param nodes The number of nodes searched so far.
+     * @param nanos The time of the analysis so far, in nanoseconds.
+     */
+    void update(List<Search.Result> lines, long nodes, long nanos);
+
+    /**
+     * Called once when the analysis ended: at the maximal depth, or when the
+     * budget ran out, or when the analysis was cancelled (even before it
+     * started running).
+     */
+    void ended();
+  }
+
+  /** A key of the results cache. */
+  private static class Key {
+    /** The position hash. */
+    final long positionHash;
+    /** The depth of the search. */
+    final int depth;
+    /** The number of lines. */
+    final int lines;
+
+    /** Constructor. */
+    Key(long positionHash, int depth, int lines) {
+      this.positionHash = positionHash;
+      this.depth = depth;
+      this.lines = lines;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key otherKey = (Key) other;
+      return positionHash == otherKey.positionHash &&
+          depth == otherKey.depth &&
+          lines == otherKey.lines;
+    }
+
+    @Override
+    public int hashCode() {
+      return ((int) (positionHash ^ (positionHash >>> 32)) * 31 + depth) * 31
+          + lines;
+    }
+  }
+
+  /** The analysis executor. */
+  private final ThreadPoolExecutor executor;
+  /** The results cache. */
+  private final Cache<Key, List<Search.Result>> cache;
+
+  /** Constructor. */
+  public Analyzer() {
+    executor = new ThreadPoolExecutor(
+        THREADS, THREADS, 0, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<Runnable>(QUEUE_SIZE),
+        new ThreadFactory() {
+          @Override
+          public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "analysis");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+          }
+        });
+    cache = CacheBuilder.newBuilder()
+        .maximumSize(CACHE_SIZE)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Analyzes a position in the background.
+   *
+   * @param position The position. Owned by the analysis.
+   * @param maxDepth The maximal depth of the search, in plies.
+   * @param maxNodes The maximal number of nodes to search.
+   * @param maxMillis The maximal time of the search, in milliseconds, from the
+   *     time the analysis starts running.
+   * @param callback The callback that takes the result. Called by an
+   *     analysis thread, exactly once, even if the search fails.
+   * @return true iff the analysis was queued, or false if the queue is full.
+   */
+  public boolean analyze(
+      final Position position,
+      final int maxDepth,
+      final long maxNodes,
+      final long maxMillis,
+      final ResultCallback callback) {
+    Preconditions.checkArgument(maxDepth > 0);
+    try {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          List<Search.Result> lines = null;
+          boolean searched = false;
+          try {
+            lines = search(position, 1, maxDepth, maxNodes, maxMillis, null);
+            searched = true;
+          } finally {
+            if (searched) {
+              callback.run(lines == null ? null : lines.get(0));
+            } else {
+              callback.failed();
+            }
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Starts a streamed analysis of a position in the background. The listener
+   * is called after each depth, and when the analysis ends.
+   *
+   * @param position The position. Owned by the analysis.
+   * @param lines The number of best lines.
+   * @param maxDepth The maximal depth of the search, in plies.
+   * @param maxNodes The maximal number of nodes to search.
+   * @param maxMillis The maximal time of the search, in milliseconds, from the
+   *     time the analysis starts running.
+   * @param listener The listener of the analysis.
+   * @return The future of the analysis, which cancels the analysis (and stops
+   *     its search right away) when it is cancelled with interruption, or
+   *     null if the queue is full.
+   */
+  public Future<?> stream(
+      final Position position,
+      final int lines,
+      final int maxDepth,
+      final long maxNodes,
+      final long maxMillis,
+      final Listener listener) {
+    Preconditions.checkArgument(lines > 0);
+    Preconditions.checkArgument(maxDepth > 0);
+    // Whoever claims the analysis first ends it: the analysis thread, or the
+    // cancellation of an analysis that is still queued and will never run.
+    final AtomicBoolean claimed = new AtomicBoolean();
+    FutureTask<Void> task = new FutureTask<Void>(new Runnable() {
+      @Override
+      public void run() {
+        if (!claimed.compareAndSet(false, true)) {
+          return;
+        }
+        try {
+          search(position, lines, maxDepth, maxNodes, maxMillis, listener);
+        } finally {
+          listener.ended();
+        }
+      }
+    }, null) {
+      @Override
+      protected void done() {
+        if (isCancelled() && claimed.compareAndSet(false, true)) {
+          executor.purge();
+          listener.ended();
+        }
+      }
+    };
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException e) {
+      return null;
+    }
+    return task;
+  }
+
+  /**
+   * Searches a position one depth at a time, until the maximal depth or until
+   * the budget runs out, and returns the lines of the deepest search (null if
+   * not even the first depth was searched).
+   */
+  private List<Search.Result> search(
+      Position position,
+      int lines,
+      int maxDepth,
+      long maxNodes,
+      long maxMillis,
+      Listener listener) {
+    long startNanos = System.nanoTime();
+    long positionHash = position.getPositionHash();
+    Search search = new Search(position, maxNodes, maxMillis);
+    List<Search.Result> result = null;
+    for (int depth = 1; depth <= maxDepth; ++depth) {
+      Key key = new Key(positionHash, depth, lines);
+      List<Search.Result> depthResult = cache.getIfPresent(key);
+      if (depthResult != null) {
+        search.setPrincipalVariation(
+            depthResult.get(0).getPrincipalVariation());
+      } else {
+        depthResult = search.search(depth, lines);
+        if (depthResult == null) {
+          break;
+        }
+        cache.put(key, depthResult);
+      }
+      result = depthResult;
+      if (listener != null) {
+        listener.update(
+            result, search.getNodes(), System.nanoTime() - startNanos);
+      }
+      if (result.get(0).getBestMove() == null) {
+        // The game has ended, so deeper searches are the same.
+        break;
+      }
+    }
+    return result;
+  }
+
+  /** Adds the gauges of the analyzer to the request metrics. */
+  public void addGauges(RequestMetrics metrics) {
+    metrics.addGauge(new Gauge(
+        "queued_analyses",
+        "The number of analyses waiting for an analysis thread.") {
+      @Override
+      public long getValue() {
+        return executor.getQueue().size();
+      }
+    });
+    metrics.addGauge(new Gauge(
+        "analysis_cache_hits",
+        "The number of analysis depths that were found in the cache.") {
+      @Override
+      public long getValue() {
+        return cache.stats().hitCount();
+      }
+    });
+    metrics.addGauge(new Gauge(
+        "analysis_cache_misses",
+        "The number of analysis depths that were searched.") {
+      @Override
+      public long getValue() {
+        return cache.stats().missCount();
+      }
+    });
+  }
+}
@@ -0,0 +1,177 @@
+package com.gilran.chess.server;
+
+import com.google.common.base.Preconditions;
+
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.logging.Logger;
+
+/**
+ * A standalone Chess server, running the RequestHandler on an embedded
+ * Grizzly NIO HTTP server, without a servlet container.
+ *
+ * <p>The selector threads accept connections and do all the network I/O, and
+ * the worker threads run the request handler. As the request handler suspends
+ * the requests that wait for game events, a small worker pool serves any
+ * number of waiting requests. Jersey's classpath scanning and optional
+ * features are disabled, so the server starts quickly. This makes it suitable
+ * for tests, load tests and small deployments.
+ * <p>When run as a main class, the server is configured with the system
+ * properties chess.server.host, chess.server.port,
+ * chess.server.selectorThreads, chess.server.workerThreads and
+ * chess.server.workerQueueLimit.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class EmbeddedServer {
+  /** Logger. */
+  private static final Logger LOGGER = Logger.getLogger(
+      Thread.currentThread().getStackTrace()[0].getClassName());
+
+  /** The context path of the web service, as in the war's web.xml. */
+  public static final String CONTEXT_PATH = "/chess/";
+
+  /** The host name or address to bind. */
+  private static final String HOST =
+      System.getProperty("chess.server.host", "0.0.0.0");
+  /** The port to bind (0 for any free port). */
+  private static final int PORT =
+      Integer.getInteger("chess.server.port", 8080);
+  /** The number of selector threads. */
+  private static final int SELECTOR_THREADS = Integer.getInteger(
+      "chess.server.selectorThreads",
+      Runtime.getRuntime().availableProcessors());
+  /** The number of worker threads. */
+  private static final int WORKER_THREADS = Integer.getInteger(
+      "chess.server.workerThreads",
+      2 * Runtime.getRuntime().availableProcessors());
+  /** The maximal number of requests waiting for a worker (-1 for no limit). */
+  private static final int WORKER_QUEUE_LIMIT =
+      Integer.getInteger("chess.server.workerQueueLimit", -1);
+
+  /** The host name or address to bind. */
+  private final String host;
+  /** The requested port. */
+  private final int port;
+  /** The number of selector threads. */
+  private final int selectorThreads;
+  /** The number of worker threads. */
+  private final int workerThreads;
+  /** The maximal number of requests waiting for a worker. */
+  private final int workerQueueLimit;
+  /** The HTTP server (null if the server is not running). */
+  private HttpServer httpServer;
+
+  /**
+   * Constructor.
+   *
+   * @param host The host name or address to bind.
+   * @param port The port to bind (0 for any free port).
+   * @param selectorThreads The number of selector threads, which accept
+   *     connections and do the network I/O.
+   * @param workerThreads The number of worker threads, which run the request
+   *     handler.
+   * @param workerQueueLimit The maximal number of requests waiting for a
+   *     worker (-1 for no limit).
+   */
+  public EmbeddedServer(
+      String host,
+      int port,
+      int selectorThreads,
+      int workerThreads,
+      int workerQueueLimit) {
+    Preconditions.checkArgument(selectorThreads > 0);
+    Preconditions.checkArgument(workerThreads > 0);
+    this.host = Preconditions.checkNotNull(host);
+    this.port = port;
+    this.selectorThreads = selectorThreads;
+    this.workerThreads = workerThreads;
+    this.workerQueueLimit = workerQueueLimit;
+  }
+
+  /**
+   * Constructor.
+   * The same as the previous constructor, but the pools are configured by the
+   * system properties.
+   */
+  public EmbeddedServer(String host, int port) {
+    this(host, port, SELECTOR_THREADS, WORKER_THREADS, WORKER_QUEUE_LIMIT);
+  }
+
+  /** The main function. */
+  public static void main(String[] args)
+      throws IOException, InterruptedException {
+    final EmbeddedServer server = new EmbeddedServer(HOST, PORT);
+    long startTime = System.currentTimeMillis();
+    URI uri = server.start();
+    LOGGER.info("Started at " + uri + " in "
+        + (System.currentTimeMillis() - startTime) + "ms");
+    Runtime.getRuntime().addShutdownHook(new Thread() {
+      @Override
+      public void run() {
+        server.stop();
+      }
+    });
+    // The server threads are daemon threads.
+    Thread.currentThread().join();
+  }
+
+  /**
+   * Starts the server.
+   *
+   * @return The base URI of the web service.
+   */
+  public synchronized URI start() throws IOException {
+    Preconditions.checkState(httpServer == null, "Already started.");
+    ResourceConfig config = new ResourceConfig(RequestHandler.class)
+        .property(ServerProperties.FEATURE_AUTO_DISCOVERY_DISABLE, true)
+        .property(ServerProperties.METAINF_SERVICES_LOOKUP_DISABLE, true)
+        .property(ServerProperties.WADL_FEATURE_DISABLE, true)
+        .property(ServerProperties.BV_FEATURE_DISABLE, true);
+    HttpServer server = GrizzlyHttpServerFactory.createHttpServer(
+        URI.create("http://" + host + ":" + port + CONTEXT_PATH),
+        config,
+        false);
+    for (NetworkListener listener : server.getListeners()) {
+      TCPNIOTransport transport = listener.getTransport();
+      transport.setSelectorRunnersCount(selectorThreads);
+      transport.setWorkerThreadPoolConfig(ThreadPoolConfig.defaultConfig()
+          .setPoolName("chess-worker")
+          .setCorePoolSize(workerThreads)
+          .setMaxPoolSize(workerThreads)
+          .setQueueLimit(workerQueueLimit));
+    }
+    server.start();
+    httpServer = server;
+    return getUri();
+  }
+
+  /** Stops the server. Requests that are still waiting are dropped. */
+  public synchronized void stop() {
+    if (httpServer == null) {
+      return;
+    }
+    httpServer.shutdownNow();
+    httpServer = null;
+  }
+
+  /** Returns the base URI of the web service. The server must be running. */
+  public synchronized URI getUri() {
+    return URI.create("http://" + (host.equals("0.0.0.0") ? "localhost" : host)
+        + ":" + getPort() + CONTEXT_PATH);
+  }
+
+  /** Returns the bound port. The server must be running. */
+  public synchronized int getPort() {
+    Preconditions.checkState(httpServer != null, "Not started.");
+    return httpServer.getListeners().iterator().next().getPort();
+  }
+}
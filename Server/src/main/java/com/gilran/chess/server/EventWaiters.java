@@ -0,0 +1,156 @@
+package com.gilran.chess.server;
+
+import com.google.common.base.Preconditions;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.ObjectName;
+
+/**
+ * The limits and the counters of the getEvents requests that wait for new game
+ * events.
+ *
+ * <p>Each game keeps its own waiting requests, and uses the event waiters for
+ * the global limit and for timing out requests. A request that waits longer
+ * than the wait timeout gets an empty response, so the client polls again and
+ * the server does not hold the request forever. Requests over the per-game or
+ * the global limit are rejected, so the memory used by waiting requests is
+ * bounded no matter how many clients poll.
+ * <p>The counters are exported over JMX.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class EventWaiters implements EventWaitersMBean {
+  /** Logger. */
+  private static final Logger LOGGER = Logger.getLogger(
+      Thread.currentThread().getStackTrace()[0].getClassName());
+
+  /** The JMX object name. */
+  private static final String OBJECT_NAME =
+      "com.gilran.chess.server:type=EventWaiters";
+
+  /** The timer that times out waiting requests. */
+  private final HashedWheelTimer timer;
+  /** The time a request may wait, in milliseconds. */
+  private final long timeoutMillis;
+  /** The maximal number of waiting requests in all games. */
+  private final int maxWaiting;
+  /** The maximal number of waiting requests in a single game. */
+  private final int maxWaitingPerGame;
+  /** The number of waiting requests. */
+  private final AtomicInteger waiting;
+  /** The number of waiting requests that got a new event. */
+  private final AtomicLong fired;
+  /** The number of waiting requests that timed out. */
+  private final AtomicLong timedOut;
+  /** The number of requests rejected due to the per-game limit. */
+  private final AtomicLong rejectedPerGame;
+  /** The number of requests rejected due to the global limit. */
+  private final AtomicLong rejectedGlobal;
+
+  /**
+   * Constructor.
+   *
+   * @param timer The timer that times out waiting requests.
+   * @param timeoutMillis The time a request may wait, in milliseconds.
+   * @param maxWaiting The maximal number of waiting requests in all games.
+   * @param maxWaitingPerGame The maximal number of waiting requests in a
+   *     single game.
+   */
+  public EventWaiters(
+      HashedWheelTimer timer,
+      long timeoutMillis,
+      int maxWaiting,
+      int maxWaitingPerGame) {
+    Preconditions.checkArgument(timeoutMillis > 0);
+    this.timer = Preconditions.checkNotNull(timer);
+    this.timeoutMillis = timeoutMillis;
+    this.maxWaiting = maxWaiting;
+    this.maxWaitingPerGame = maxWaitingPerGame;
+    this.waiting = new AtomicInteger();
+    this.fired = new AtomicLong();
+    this.timedOut = new AtomicLong();
+    this.rejectedPerGame = new AtomicLong();
+    this.rejectedGlobal = new AtomicLong();
+  }
+
+  /** Registers the event waiters in the platform MBean server. */
+  public void registerMBean() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(
+          this, new ObjectName(OBJECT_NAME));
+    } catch (Exception e) {
+      LOGGER.log(Level.WARNING, "Failed to register " + OBJECT_NAME, e);
+    }
+  }
+
+  /**
+   * Adds a waiting request.
+   *
+   * @param gameWaiting The number of requests already waiting in the game.
+   * @param timeoutTask The task to run when the request times out.
+   * @return The timeout of the request, or null if the request is rejected.
+   */
+  HashedWheelTimer.Timeout add(
+      int gameWaiting, HashedWheelTimer.Task timeoutTask) {
+    if (gameWaiting >= maxWaitingPerGame) {
+      rejectedPerGame.incrementAndGet();
+      return null;
+    }
+    while (true) {
+      int current = waiting.get();
+      if (current >= maxWaiting) {
+        rejectedGlobal.incrementAndGet();
+        return null;
+      }
+      if (waiting.compareAndSet(current, current + 1)) {
+        break;
+      }
+    }
+    return timer.schedule(timeoutTask, timeoutMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Adds a waiting request that is limited per game by its caller (such as a
+   * spectator). Only the global limit is applied.
+   *
+   * @param timeoutTask The task to run when the request times out.
+   * @return The timeout of the request, or null if the request is rejected.
+   */
+  HashedWheelTimer.Timeout add(HashedWheelTimer.Task timeoutTask) {
+    return add(0, timeoutTask);
+  }
+
+  /** Removes a waiting request that got a new event. */
+  void fired(HashedWheelTimer.Timeout timeout) {
+    timeout.cancel();
+    waiting.decrementAndGet();
+    fired.incrementAndGet();
+  }
+
+  /** Removes a waiting request that timed out. */
+  void timedOut() {
+    waiting.decrementAndGet();
+    timedOut.incrementAndGet();
+  }
+
+  @Override
+  public int getWaiting() { return waiting.get(); }
+  @Override
+  public int getMaxWaiting() { return maxWaiting; }
+  @Override
+  public int getMaxWaitingPerGame() { return maxWaitingPerGame; }
+  @Override
+  public long getFired() { return fired.get(); }
+  @Override
+  public long getTimedOut() { return timedOut.get(); }
+  @Override
+  public long getRejectedPerGame() { return rejectedPerGame.get(); }
+  @Override
+  public long getRejectedGlobal() { return rejectedGlobal.get(); }
+}
@@ -0,0 +1,23 @@
+package com.gilran.chess.server;
+
+/**
+ * The JMX interface of EventWaiters.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public interface EventWaitersMBean {
+  /** Returns the number of getEvents requests currently waiting. */
+  int getWaiting();
+  /** Returns the maximal number of waiting requests in all games. */
+  int getMaxWaiting();
+  /** Returns the maximal number of waiting requests in a single game. */
+  int getMaxWaitingPerGame();
+  /** Returns the number of waiting requests that got a new event. */
+  long getFired();
+  /** Returns the number of waiting requests that timed out. */
+  long getTimedOut();
+  /** Returns the number of requests rejected due to the per-game limit. */
+  long getRejectedPerGame();
+  /** Returns the number of requests rejected due to the global limit. */
+  long getRejectedGlobal();
+}
@@ -2,8 +2,12 @@ package com.gilran.chess.server;
 
 import com.gilran.chess.Proto.*;
 import com.gilran.chess.board.Coordinate;
+import com.gilran.chess.board.ForsythEdwardsNotation;
+import com.gilran.chess.board.ForsythEdwardsNotation.InvalidFENStringException;
+import com.gilran.chess.board.GameHistory;
 import com.gilran.chess.board.Move;
 import com.gilran.chess.board.Piece;
+import com.gilran.chess.board.Position;
 import com.gilran.chess.board.Piece.Color;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ArrayListMultimap;
@@ -11,9 +15,13 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * A chess game managed by the server.
@@ -24,12 +32,44 @@ import java.util.UUID;
  * @author Gil Ran <gilrun@gmail.com>
  */
 public class Game extends com.gilran.chess.board.Game {
+  /** Logger. */
+  private static final Logger LOGGER = Logger.getLogger(
+      Thread.currentThread().getStackTrace()[0].getClassName());
+
   /** The game id. */
   private String id;
+  /**
+   * The serial number of the first event in the events list.
+   * <p>This is 0, unless the game was recovered from a snapshot, in which case
+   * the events that precede the snapshot are not kept.
+   */
+  private int firstEventSerial;
+  /** The FEN of the position that precedes the first event. */
+  private String startFen;
   /** The game events. */
   private List<GameEvent> events;
-  /** Callbacks for pending getEvent calls. */
-  private Multimap<Integer, EventsCallback> pendingEventCallbaks;
+  /** Pending getEvent calls, by the serial number they wait for. */
+  private Multimap<Integer, Waiter> waiters;
+  /** The limits and counters of pending getEvent calls (may be null). */
+  private EventWaiters eventWaiters;
+  /** The journal the game events are written to (null if not journaled). */
+  private GameJournal journal;
+  /** A listener that is called when the game ends (may be null). */
+  private EndListener endListener;
+  /** The game clock (null if the game is not timed). */
+  private GameClock clock;
+  /** The timer that detects flag fall (null if the clock was not started). */
+  private HashedWheelTimer timer;
+  /** The flag fall timeout of the player whose clock is running. */
+  private HashedWheelTimer.Timeout flagTimeout;
+  /** The broadcast of the game events to spectators (null if none). */
+  private GameBroadcast broadcast;
+  /** The last time getEvents was called (as in System.nanoTime). */
+  private long lastPollNanos;
+  /** The player who requested a takeback (null if there is no request). */
+  private Piece.Color outstandingTakebackRequest;
+  /** The moves of the game, for replaying it. */
+  private GameHistory history;
 
   /**
    * Constructor.
@@ -40,8 +80,91 @@ public class Game extends com.gilran.chess.board.Game {
   public Game(String whitePlayer, String blackPlayer) {
     super(whitePlayer, blackPlayer);
     this.id = UUID.randomUUID().toString();
+    this.firstEventSerial = 0;
+    this.startFen = ForsythEdwardsNotation.STARTING_POSITION.toString();
+    this.events = Lists.newArrayList();
+    this.waiters = ArrayListMultimap.create();
+    this.lastPollNanos = System.nanoTime();
+    this.history = new GameHistory(getPosition());
+  }
+
+  /**
+   * Constructs a game that starts at the given position, such as a board to
+   * analyze.
+   *
+   * @param whitePlayer The name of the player playing white.
+   * @param blackPlayer The name of the player playing black.
+   * @param startFen The FEN of the position before the first move.
+   */
+  public Game(String whitePlayer, String blackPlayer, String startFen)
+      throws InvalidFENStringException {
+    super(
+        whitePlayer,
+        blackPlayer,
+        new Position(new ForsythEdwardsNotation(startFen)));
+    this.id = UUID.randomUUID().toString();
+    this.firstEventSerial = 0;
+    this.startFen = startFen;
+    this.events = Lists.newArrayList();
+    this.waiters = ArrayListMultimap.create();
+    this.lastPollNanos = System.nanoTime();
+    this.history = new GameHistory(getPosition());
+  }
+
+  /**
+   * Constructs a game from moves that were already played, such as an
+   * imported game.
+   *
+   * @param whitePlayer The name of the player playing white.
+   * @param blackPlayer The name of the player playing black.
+   * @param position The position after the moves. Kept by the game.
+   * @param history The moves. Kept by the game.
+   */
+  public Game(
+      String whitePlayer,
+      String blackPlayer,
+      Position position,
+      GameHistory history) {
+    super(whitePlayer, blackPlayer, position);
+    this.id = UUID.randomUUID().toString();
+    this.firstEventSerial = 0;
+    this.startFen = history.getStartFen();
+    this.events = Lists.newArrayList();
+    this.waiters = ArrayListMultimap.create();
+    this.lastPollNanos = System.nanoTime();
+    this.history = history;
+  }
+
+  /**
+   * Constructs a game from a snapshot.
+   * <p>The events that follow the snapshot should then be replayed using
+   * replay. The history of the game is rebuilt from the moves in the snapshot,
+   * so it still starts at the position the game started from.
+   */
+  public Game(GameSnapshot snapshot) throws InvalidFENStringException {
+    super(
+        snapshot.getWhitePlayer(),
+        snapshot.getBlackPlayer(),
+        new Position(
+            new ForsythEdwardsNotation(snapshot.getFen()),
+            snapshot.getRepetitionHistory(),
+            snapshot.getStatus()));
+    this.id = snapshot.getGameId();
+    this.firstEventSerial = snapshot.getEventSerial();
+    this.startFen = snapshot.getFen();
     this.events = Lists.newArrayList();
-    this.pendingEventCallbaks = ArrayListMultimap.create();
+    this.waiters = ArrayListMultimap.create();
+    this.lastPollNanos = System.nanoTime();
+    this.history = GameHistory.fromEncodedMoves(
+        new Position(new ForsythEdwardsNotation(snapshot.getStartFen())),
+        snapshot.getMoves());
+    setOutstandingDrawOffer(snapshot.getOutstandingDrawOffer());
+    if (snapshot.getClockBaseMillis() > 0) {
+      this.clock = new GameClock(
+          snapshot.getClockBaseMillis(), snapshot.getClockIncrementMillis());
+      this.clock.setRemainingMillis(
+          snapshot.getWhiteMillis(), snapshot.getBlackMillis());
+    }
   }
 
   /** Returns the game id. */
@@ -49,6 +172,266 @@ public class Game extends com.gilran.chess.board.Game {
     return id;
   }
 
+  /** Returns the FEN of the position that precedes the first event. */
+  public String getStartFen() {
+    return startFen;
+  }
+
+  /**
+   * Returns the moves of the game, for replaying it. The history starts at the
+   * position the game started from, even in a recovered game, whose events
+   * start later.
+   */
+  public GameHistory getHistory() {
+    return history;
+  }
+
+  /** Returns the FEN of the current position. */
+  public synchronized String getFen() {
+    return new ForsythEdwardsNotation(getPosition()).toString();
+  }
+
+  /** Returns a copy of the game events list. */
+  public synchronized List<GameEvent> getEventList() {
+    return ImmutableList.copyOf(events);
+  }
+
+  /** A listener for the end of the game. */
+  public interface EndListener {
+    void gameEnded(Game game);
+  }
+
+  /** Sets a listener that is called when the game ends. */
+  public synchronized void setEndListener(EndListener endListener) {
+    this.endListener = endListener;
+  }
+
+  /**
+   * Sets the journal to which the game events are written.
+   * <p>The game writes an initial snapshot, so it can be recovered even before
+   * the first periodic snapshot is taken.
+   */
+  public synchronized void setJournal(GameJournal journal) throws IOException {
+    this.journal = journal;
+    writeSnapshot();
+  }
+
+  /**
+   * Takes a snapshot of the game and writes it to the journal.
+   * <p>The snapshot is taken, written and its obsolete segments are compacted
+   * under the game lock, so no event is appended to the journal in between,
+   * and no other snapshot of the game is written at the same time.
+   *
+   * @return The snapshot that was written.
+   */
+  public synchronized GameSnapshot writeSnapshot() throws IOException {
+    Preconditions.checkState(journal != null);
+    GameSnapshot snapshot = snapshot();
+    journal.writeSnapshot(snapshot);
+    return snapshot;
+  }
+
+  /** Sets the game clock. The clock is started by startClock. */
+  public synchronized void setClock(GameClock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Starts the clock of the player to move, if the game is timed.
+   *
+   * @param timer The timer that is used for detecting flag fall.
+   */
+  public synchronized void startClock(HashedWheelTimer timer) {
+    if (clock == null || hasEnded()) {
+      return;
+    }
+    this.timer = Preconditions.checkNotNull(timer);
+    clock.start(getPosition().getActivePlayer());
+    scheduleFlagFall();
+  }
+
+  /** Schedules the flag fall of the player whose clock is running. */
+  private void scheduleFlagFall() {
+    if (flagTimeout != null) {
+      flagTimeout.cancel();
+    }
+    final Piece.Color color = clock.getRunning();
+    flagTimeout = timer.schedule(new HashedWheelTimer.Task() {
+      @Override
+      public void run() {
+        checkFlagFall(color);
+      }
+    }, clock.getRemainingMillis(color), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Ends the game if the given player's time ran out.
+   * <p>Called by the timer. As the timer is only accurate to its tick, the
+   * flag fall is rescheduled if the time did not run out yet.
+   */
+  private synchronized void checkFlagFall(Piece.Color color) {
+    if (hasEnded() || clock.getRunning() != color) {
+      return;
+    }
+    if (clock.isExpired(color)) {
+      flagFall(color);
+    } else {
+      scheduleFlagFall();
+    }
+  }
+
+  /** Ends the game, as the given player's time ran out. */
+  private void flagFall(Piece.Color color) {
+    getPosition().setStatus(
+        color == Piece.Color.WHITE
+            ? GameStatus.WHITE_CLOCK_EXPIRED
+            : GameStatus.BLACK_CLOCK_EXPIRED);
+    GameEvent.Builder eventBuilder = GameEvent.newBuilder()
+        .setType(GameEvent.Type.GAME_ENDED)
+        .setStatus(getPosition().getStatus());
+    setClockTimes(eventBuilder);
+    addEvent(eventBuilder);
+  }
+
+  /** Stops the game clock, if the game is timed. */
+  private void stopClock() {
+    if (clock == null) {
+      return;
+    }
+    clock.stop();
+    if (flagTimeout != null) {
+      flagTimeout.cancel();
+      flagTimeout = null;
+    }
+  }
+
+  /** Sets the remaining clock times in the event, if the game is timed. */
+  private void setClockTimes(GameEvent.Builder eventBuilder) {
+    if (clock == null) {
+      return;
+    }
+    eventBuilder.setWhiteTimeMs(
+        Math.max(clock.getRemainingMillis(Piece.Color.WHITE), 0));
+    eventBuilder.setBlackTimeMs(
+        Math.max(clock.getRemainingMillis(Piece.Color.BLACK), 0));
+  }
+
+  /** Returns the serial number that the next event will get. */
+  public synchronized int getNextEventSerial() {
+    return firstEventSerial + events.size();
+  }
+
+  /** Returns true iff the game has ended. */
+  public boolean hasEnded() {
+    return hasEnded(getPosition().getStatus());
+  }
+
+  /** Returns true iff a game with the given status has ended. */
+  static boolean hasEnded(GameStatus status) {
+    switch (status) {
+      case WHITE_TO_MOVE:
+      case BLACK_TO_MOVE:
+      case WHITE_CHECKED:
+      case BLACK_CHECKED:
+        return false;
+      default:
+        return true;
+    }
+  }
+
+  /** Takes a snapshot of the game. */
+  public synchronized GameSnapshot snapshot() {
+    return new GameSnapshot(
+        id,
+        getWhitePlayer(),
+        getBlackPlayer(),
+        new ForsythEdwardsNotation(getPosition()).toString(),
+        getPosition().getStatus(),
+        getNextEventSerial(),
+        getOutstandingDrawOffer(),
+        getPosition().getRepetitionHistory(),
+        clock,
+        history);
+  }
+
+  /**
+   * Replays an event that was read from the journal.
+   * <p>The event is applied to the game state and added to the events list,
+   * without writing it to the journal again.
+   */
+  public synchronized void replay(GameEvent event) {
+    Preconditions.checkArgument(
+        event.getSerialNumber() == getNextEventSerial());
+    switch (event.getType()) {
+      case MOVE_MADE:
+        // In castling, the king's move comes first and implies the rook's.
+        MoveProto move = event.getMove(0);
+        if (move.hasPromotion()) {
+          getPosition().setPromotionPieceType(
+              getPosition().getActivePlayer(),
+              Piece.Type.valueOf(move.getPromotion()));
+        }
+        List<Move> made = getPosition().move(
+            Coordinate.get(move.getFrom()), Coordinate.get(move.getTo()));
+        Preconditions.checkState(
+            !made.isEmpty(), "Invalid journaled move in game %s", id);
+        history.add(made, getPosition());
+        outstandingTakebackRequest = null;
+        if (clock != null && event.hasWhiteTimeMs()) {
+          clock.setRemainingMillis(
+              event.getWhiteTimeMs(), event.getBlackTimeMs());
+        }
+        break;
+      case WHITE_REQUESTED_TAKEBACK:
+        outstandingTakebackRequest = Piece.Color.WHITE;
+        break;
+      case BLACK_REQUESTED_TAKEBACK:
+        outstandingTakebackRequest = Piece.Color.BLACK;
+        break;
+      case TAKEBACK_DECLINED:
+        outstandingTakebackRequest = null;
+        break;
+      case MOVES_TAKEN_BACK:
+        // Normally a snapshot follows a takeback, so this is only replayed if
+        // writing the snapshot failed.
+        int plies = event.getMoveCount();
+        Preconditions.checkState(
+            plies <= history.getPlies(),
+            "Took back %s plies of %s in game %s",
+            plies, history.getPlies(), id);
+        history.takeBack(plies);
+        if (plies <= getPosition().getUndoDepth()) {
+          for (int i = 0; i < plies; ++i) {
+            getPosition().undo();
+          }
+        } else {
+          // A snapshot between the moves dropped their undo records.
+          setPosition(history.replay());
+        }
+        outstandingTakebackRequest = null;
+        setOutstandingDrawOffer(null);
+        if (clock != null && event.hasWhiteTimeMs()) {
+          clock.setRemainingMillis(
+              event.getWhiteTimeMs(), event.getBlackTimeMs());
+        }
+        break;
+      case GAME_ENDED:
+        getPosition().setStatus(event.getStatus());
+        break;
+      case WHITE_OFFERED_DRAW:
+        setOutstandingDrawOffer(Piece.Color.WHITE);
+        break;
+      case BLACK_OFFERED_DRAW:
+        setOutstandingDrawOffer(Piece.Color.BLACK);
+        break;
+      case DRAW_OFFER_DECLINED:
+      case DRAW_OFFER_WITHDRAWN:
+        setOutstandingDrawOffer(null);
+        break;
+    }
+    events.add(event);
+  }
+
   /**
    * Adds an event to the game.
    *
@@ -56,17 +439,36 @@ public class Game extends com.gilran.chess.board.Game {
    * synchronized.
    */
   public synchronized GameEvent addEvent(GameEvent.Builder eventBuilder) {
-    eventBuilder.setSerialNumber(events.size());
+    eventBuilder.setSerialNumber(getNextEventSerial());
+    if (eventBuilder.getType() == GameEvent.Type.GAME_ENDED) {
+      stopClock();
+    }
     GameEvent event = eventBuilder.build();
     events.add(event);
-    Collection<EventsCallback> eventCallbacks =
-        pendingEventCallbaks.get(event.getSerialNumber());
-    if (eventCallbacks != null) {
+    if (journal != null) {
+      try {
+        journal.append(id, event);
+      } catch (IOException e) {
+        LOGGER.log(Level.WARNING, "Failed to journal event of game " + id, e);
+      }
+    }
+    if (broadcast != null) {
+      broadcast.eventAdded(event);
+    }
+    Collection<Waiter> firedWaiters =
+        waiters.removeAll(event.getSerialNumber());
+    if (!firedWaiters.isEmpty()) {
       List<GameEvent> eventsList = ImmutableList.of(event);
-      for (EventsCallback callback : eventCallbacks) {
-        callback.run(eventsList);
+      for (Waiter waiter : firedWaiters) {
+        if (waiter.timeout != null) {
+          eventWaiters.fired(waiter.timeout);
+        }
+        waiter.callback.run(eventsList);
       }
     }
+    if (event.getType() == GameEvent.Type.GAME_ENDED && endListener != null) {
+      endListener.gameEnded(this);
+    }
     return event;
   }
 
@@ -75,43 +477,168 @@ public class Game extends com.gilran.chess.board.Game {
     void run(List<GameEvent> events);
   }
 
+  /** A pending getEvents call. */
+  private static class Waiter {
+    /** The serial number of the event the call waits for. */
+    private final int minEvent;
+    /** The callback of the call. */
+    private final EventsCallback callback;
+    /** The timeout of the call (null if the call does not time out). */
+    private HashedWheelTimer.Timeout timeout;
+
+    /** Constructor. */
+    Waiter(int minEvent, EventsCallback callback) {
+      this.minEvent = minEvent;
+      this.callback = callback;
+    }
+  }
+
+  /**
+   * Sets the limits and counters of pending getEvents calls.
+   * <p>If they are not set, pending calls never time out and are not limited.
+   */
+  public synchronized void setEventWaiters(EventWaiters eventWaiters) {
+    this.eventWaiters = eventWaiters;
+  }
+
   /**
    * Calls the callback with the game events with serial number >= minEvent.
    *
    * <p>If there are no events with serial number >= minEvent, the callback is
    * kept until a new event is available, and calls the callback with the new
-   * event.
+   * event. If no such event is added before the wait timeout, the callback is
+   * called with no events.
+   *
+   * @return false iff the call was rejected, as too many calls are pending.
+   */
+  public synchronized boolean getEvents(
+      int minEvent, EventsCallback callback) {
+    lastPollNanos = System.nanoTime();
+    if (minEvent < getNextEventSerial()) {
+      int fromIndex = Math.max(minEvent - firstEventSerial, 0);
+      callback.run(events.subList(fromIndex, events.size()));
+      return true;
+    }
+
+    final Waiter waiter = new Waiter(minEvent, callback);
+    if (eventWaiters != null) {
+      waiter.timeout = eventWaiters.add(
+          waiters.size(), new HashedWheelTimer.Task() {
+            @Override
+            public void run() {
+              timeOut(waiter);
+            }
+          });
+      if (waiter.timeout == null) {
+        return false;
+      }
+    }
+    waiters.put(minEvent, waiter);
+    return true;
+  }
+
+  /**
+   * Returns the time since the events of the game were last polled, in
+   * milliseconds.
+   * <p>A pending getEvents call counts from the time it was made, as a client
+   * that is gone gives no notice. If the calls time out before the idle limit
+   * of the caller, a client that keeps polling stays within the limit.
    */
-  public synchronized void getEvents(int minEvent, EventsCallback callback) {
-    if (minEvent >= events.size()) {
-      pendingEventCallbaks.put(minEvent, callback);
+  public synchronized long getIdleMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastPollNanos);
+  }
+
+  /** Calls a pending getEvents callback with no events. */
+  private synchronized void timeOut(Waiter waiter) {
+    if (!waiters.remove(waiter.minEvent, waiter)) {
+      // The waiter already got an event.
       return;
     }
-    callback.run(events.subList(minEvent, events.size()));
+    eventWaiters.timedOut();
+    waiter.callback.run(ImmutableList.<GameEvent>of());
+  }
+
+  /** Sets the broadcast of the game events to spectators. */
+  public synchronized void setBroadcast(GameBroadcast broadcast) {
+    this.broadcast = broadcast;
+  }
+
+  /**
+   * Sends the game events with serial number >= minEvent to a spectator.
+   *
+   * <p>Like getEvents, if there are no such events, the spectator waits for the
+   * next event. Unlike getEvents, the events are sent in a shared response.
+   *
+   * @param spectator The spectator's id.
+   * @return false iff the game cannot be spectated, or it has too many waiting
+   *     spectators.
+   */
+  public synchronized boolean spectate(
+      String spectator, int minEvent, GameBroadcast.Callback callback) {
+    if (broadcast == null) {
+      return false;
+    }
+    int fromIndex = Math.min(
+        Math.max(minEvent - firstEventSerial, 0), events.size());
+    return broadcast.watch(
+        spectator,
+        firstEventSerial + fromIndex,
+        events.subList(fromIndex, events.size()),
+        callback);
   }
 
-  /** Performs a move in the game. */
-  public Status move(Color playerColor, String from, String to) {
+  /**
+   * Performs a move in the game.
+   *
+   * <p>The game actions are synchronized, so the position and the events list
+   * are always consistent with each other when a snapshot is taken.
+   */
+  public synchronized Status move(Color playerColor, String from, String to) {
     Coordinate fromCoordinate = Coordinate.get(from);
     Coordinate toCoordinate = Coordinate.get(to);
-    if (from == null || to == null) {
+    if (fromCoordinate == null || toCoordinate == null) {
       return Status.INVALID_MOVE;
     }
+    return move(playerColor, fromCoordinate, toCoordinate);
+  }
+
+  /** Performs a move in the game. The same as the previous method. */
+  public synchronized Status move(
+      Color playerColor, Coordinate fromCoordinate, Coordinate toCoordinate) {
+    if (hasEnded()) {
+      return Status.ILLEGAL_MOVE;
+    }
     if (getPosition().getActivePlayer() != playerColor) {
       return Status.NOT_YOUR_TURN;
     }
+    if (clock != null && clock.isExpired(playerColor)) {
+      // The move arrived after the player's time ran out.
+      flagFall(playerColor);
+      return Status.ILLEGAL_MOVE;
+    }
     List<Move> moves = getPosition().move(fromCoordinate, toCoordinate);
     if (moves.isEmpty()) {
       return Status.ILLEGAL_MOVE;
     }
+    history.add(moves, getPosition());
+    outstandingTakebackRequest = null;
 
     GameEvent.Builder eventBuilder = GameEvent.newBuilder();
     eventBuilder.setType(GameEvent.Type.MOVE_MADE);
     eventBuilder.setStatus(getPosition().getStatus());
     for (Move move : moves) {
-      eventBuilder.addMove(MoveProto.newBuilder()
+      MoveProto.Builder moveBuilder = MoveProto.newBuilder()
           .setFrom(move.getFrom().name())
-          .setTo(move.getTo().name()));
+          .setTo(move.getTo().name());
+      if (move.getPromotionPiece() != null) {
+        moveBuilder.setPromotion(move.getPromotionPiece().name());
+      }
+      eventBuilder.addMove(moveBuilder);
+    }
+    if (clock != null) {
+      clock.press(playerColor);
+      scheduleFlagFall();
+      setClockTimes(eventBuilder);
     }
     addEvent(eventBuilder);
 
@@ -135,7 +662,7 @@ public class Game extends com.gilran.chess.board.Game {
   }
 
   /** Applies game resignation by the given player. */
-  public void resign(Piece.Color playerColor) {
+  public synchronized void resign(Piece.Color playerColor) {
     getPosition().setStatus(
         playerColor == Piece.Color.WHITE
             ? GameStatus.WHITE_RESIGNED
@@ -152,7 +679,7 @@ public class Game extends com.gilran.chess.board.Game {
    * agreement.
    */
 
-  public void addDrawOffer(Piece.Color playerColor) {
+  public synchronized void addDrawOffer(Piece.Color playerColor) {
     Piece.Color drawOffer = getOutstandingDrawOffer();
     GameEvent.Type eventType = null;
     if (drawOffer == null) {
@@ -177,7 +704,7 @@ public class Game extends com.gilran.chess.board.Game {
   }
 
   /** Removes an existing draw offer. */
-  public void clearDrawOffer(Piece.Color playerColor) {
+  public synchronized void clearDrawOffer(Piece.Color playerColor) {
     if (getOutstandingDrawOffer() == null) {
       // There is no outstanding draw offer. Nothing needs to be done.
       return;
@@ -193,4 +720,124 @@ public class Game extends com.gilran.chess.board.Game {
         .setType(eventType)
         .setStatus(getPosition().getStatus()));
   }
+
+  /** Returns the player who requested a takeback, or null if none did. */
+  public synchronized Piece.Color getOutstandingTakebackRequest() {
+    return outstandingTakebackRequest;
+  }
+
+  /**
+   * Adds a request by the given player to take back their last move.
+   *
+   * <p>If the other player already requested a takeback, the request accepts
+   * it, like draw offers.
+   *
+   * @return INVALID_REQUEST if the game has ended, or the player has no move
+   *     to take back; OK otherwise.
+   */
+  public synchronized Status requestTakeback(Piece.Color playerColor) {
+    if (outstandingTakebackRequest == playerColor) {
+      // There is an outstanding request from this player. Nothing needs to be
+      // done.
+      return Status.OK;
+    }
+    if (outstandingTakebackRequest != null) {
+      return takeBack(outstandingTakebackRequest);
+    }
+    if (hasEnded() ||
+        getPosition().getUndoDepth() < takebackPlies(playerColor)) {
+      return Status.INVALID_REQUEST;
+    }
+    outstandingTakebackRequest = playerColor;
+    addEvent(GameEvent.newBuilder()
+        .setType(playerColor == Piece.Color.WHITE
+            ? GameEvent.Type.WHITE_REQUESTED_TAKEBACK
+            : GameEvent.Type.BLACK_REQUESTED_TAKEBACK)
+        .setStatus(getPosition().getStatus()));
+    return Status.OK;
+  }
+
+  /**
+   * Accepts the takeback request of the other player.
+   *
+   * @return INVALID_REQUEST if the other player did not request a takeback;
+   *     OK otherwise.
+   */
+  public synchronized Status acceptTakeback(Piece.Color playerColor) {
+    Piece.Color requester = Piece.otherColor(playerColor);
+    if (outstandingTakebackRequest != requester) {
+      return Status.INVALID_REQUEST;
+    }
+    return takeBack(requester);
+  }
+
+  /**
+   * Removes an outstanding takeback request: the other player declines it, or
+   * the requesting player withdraws it.
+   */
+  public synchronized void declineTakeback(Piece.Color playerColor) {
+    if (outstandingTakebackRequest == null) {
+      // There is no outstanding takeback request. Nothing needs to be done.
+      return;
+    }
+    outstandingTakebackRequest = null;
+    addEvent(GameEvent.newBuilder()
+        .setType(GameEvent.Type.TAKEBACK_DECLINED)
+        .setStatus(getPosition().getStatus()));
+  }
+
+  /**
+   * Returns the number of plies that are taken back in order to take back the
+   * last move of the given player: one if it is the other player's turn, and
+   * two if the other player already replied.
+   */
+  private int takebackPlies(Piece.Color playerColor) {
+    return getPosition().getActivePlayer() == playerColor ? 2 : 1;
+  }
+
+  /**
+   * Takes back the last move of the requesting player, and the other player's
+   * reply if any.
+   *
+   * <p>The moves are popped from the position's undo records, so a takeback
+   * costs the same however long the game is. The draw offer is cleared, and
+   * the clock of the player to move is restarted. If the game is journaled, a
+   * snapshot is written after the takeback, so the journal never has to take
+   * back moves that precede its last snapshot.
+   */
+  private Status takeBack(Piece.Color requester) {
+    int plies = takebackPlies(requester);
+    if (hasEnded() || getPosition().getUndoDepth() < plies) {
+      return Status.INVALID_REQUEST;
+    }
+    GameEvent.Builder eventBuilder = GameEvent.newBuilder()
+        .setType(GameEvent.Type.MOVES_TAKEN_BACK);
+    for (int i = 0; i < plies; ++i) {
+      Move move = getPosition().undo().get(0);
+      eventBuilder.addMove(MoveProto.newBuilder()
+          .setFrom(move.getFrom().name())
+          .setTo(move.getTo().name()));
+    }
+    history.takeBack(plies);
+    outstandingTakebackRequest = null;
+    setOutstandingDrawOffer(null);
+    eventBuilder.setStatus(getPosition().getStatus());
+    if (clock != null && timer != null) {
+      clock.stop();
+      clock.start(getPosition().getActivePlayer());
+      scheduleFlagFall();
+      setClockTimes(eventBuilder);
+    }
+    addEvent(eventBuilder);
+
+    if (journal != null) {
+      try {
+        writeSnapshot();
+      } catch (IOException e) {
+        LOGGER.log(
+            Level.WARNING, "Failed to snapshot game " + id + " on takeback", e);
+      }
+    }
+    return Status.OK;
+  }
 }
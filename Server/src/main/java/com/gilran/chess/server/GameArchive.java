@@ -0,0 +1,337 @@
+package com.gilran.chess.server;
+
+import com.gilran.chess.Proto.GameEvent;
+import com.gilran.chess.Proto.GameHistoryResponse;
+import com.gilran.chess.Proto.GameStatus;
+import com.gilran.chess.Proto.MoveProto;
+import com.gilran.chess.board.Coordinate;
+import com.gilran.chess.board.GameHistory;
+import com.gilran.chess.board.Piece;
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+/**
+ * An append-only, memory-mapped archive of finished games.
+ *
+ * <p>The archive file is mapped in fixed size chunks. Each game is kept as a
+ * single record, that never crosses a chunk boundary:
+ * <pre>
+ *   int    record length (0 marks the end of the data, -1 the end of a chunk)
+ *   long   offset of the previous record of the white player (-1 if none)
+ *   long   offset of the previous record of the black player (-1 if none)
+ *   byte   final game status
+ *   string game id, white player, black player, start position FEN
+ *   int    number of plies
+ *   plies  3 bytes each: the from and to squares (6 bits each), a castling
+ *          flag, the promotion piece (3 bits, 0 if none) and the game status
+ *          after the ply
+ * </pre>
+ * <p>A record is written body first, then its length, and then forced to
+ * disk, so a crash while writing leaves the length 0, which marks the end of
+ * the data, and add returns only once the record is durable. The int that
+ * follows each record is zeroed as part of its body, so it marks the end of
+ * the data even where an earlier torn record was overwritten.
+ * <p>A game is archived from its history, so a game that was recovered from
+ * the journal is archived from the position it started from, with all its
+ * moves, and the moves that were taken back are not archived.
+ * <p>The index from game id to record offset, and from player to the offset
+ * of the player's latest record, are kept off the java heap. The records of
+ * each player are chained through the previous record offsets, so listing the
+ * games of a player does not require any on-heap index either. The indexes
+ * are rebuilt by scanning the archive when it is opened.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class GameArchive {
+  /** The size of a mapped chunk. */
+  private static final int CHUNK_SIZE = 64 * 1024 * 1024;
+  /** The record length that marks the end of the data in a chunk. */
+  private static final int END_OF_CHUNK = -1;
+  /** The size of the fixed part of a record header. */
+  private static final int HEADER_SIZE = 4 + 8 + 8 + 1;
+  /** The size of an encoded ply. */
+  private static final int PLY_SIZE = 3;
+  /** The castling flag of an encoded move. */
+  private static final int CASTLING_FLAG = 1 << 12;
+  /** The offset of the promotion piece code (the type's ordinal + 1). */
+  private static final int PROMOTION_SHIFT = 13;
+  /** The hash function used for index keys. */
+  private static final HashFunction HASH = Hashing.murmur3_128();
+
+  /** The archive file channel. */
+  private FileChannel channel;
+  /** The mapped chunks of the archive file. */
+  private List<MappedByteBuffer> chunks;
+  /** The offset at which the next record is written. */
+  private long writeOffset;
+  /** An index from game id keys to record offsets. */
+  private OffHeapIndex gameIndex;
+  /** An index from player keys to the offset of their latest record. */
+  private OffHeapIndex playerIndex;
+
+  /** Opens (or creates) the archive in the given file. */
+  public GameArchive(File file) throws IOException {
+    channel = new RandomAccessFile(file, "rw").getChannel();
+    chunks = Lists.newArrayList();
+    long chunksCount = (channel.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    for (int i = 0; i < Math.max(chunksCount, 1); i++) {
+      mapChunk();
+    }
+    gameIndex = new OffHeapIndex(1024);
+    playerIndex = new OffHeapIndex(1024);
+    scan();
+  }
+
+  /** Returns the number of games in the archive. */
+  public synchronized int size() {
+    return gameIndex.size();
+  }
+
+  /**
+   * Appends a finished game to the archive.
+   * <p>When this returns, the record is on disk, so the game may be deleted
+   * from the journal.
+   */
+  public synchronized void add(Game game) throws IOException {
+    GameHistory history = game.getHistory();
+    List<byte[]> strings = Lists.newArrayList(
+        game.getId().getBytes(Charsets.UTF_8),
+        game.getWhitePlayer().getBytes(Charsets.UTF_8),
+        game.getBlackPlayer().getBytes(Charsets.UTF_8),
+        history.getStartFen().getBytes(Charsets.UTF_8));
+    int plies = history.getPlies();
+
+    int length = HEADER_SIZE + 4 + plies * PLY_SIZE;
+    for (byte[] string : strings) {
+      length += 2 + string.length;
+    }
+    if (length + 4 > CHUNK_SIZE) {
+      throw new IOException("Game is too long to archive: " + game.getId());
+    }
+
+    int position = (int) (writeOffset % CHUNK_SIZE);
+    if (position + length + 4 > CHUNK_SIZE) {
+      chunks.get(chunkIndex(writeOffset)).putInt(position, END_OF_CHUNK);
+      writeOffset += CHUNK_SIZE - position;
+      position = 0;
+    }
+    if (chunkIndex(writeOffset) == chunks.size()) {
+      mapChunk();
+    }
+
+    long whiteKey = key(game.getWhitePlayer());
+    long blackKey = key(game.getBlackPlayer());
+    MappedByteBuffer chunk = chunks.get(chunkIndex(writeOffset));
+    ByteBuffer record = chunk.duplicate();
+    record.position(position + 4);
+    record.putLong(playerIndex.get(whiteKey, -1));
+    record.putLong(playerIndex.get(blackKey, -1));
+    record.put((byte) game.getPosition().getStatus().getNumber());
+    for (byte[] string : strings) {
+      record.putShort((short) string.length);
+      record.put(string);
+    }
+    record.putInt(plies);
+    for (int ply = 0; ply < plies; ply++) {
+      int encoded = squareIndex(history.getFrom(ply)) << 6 |
+          squareIndex(history.getTo(ply));
+      if (history.isCastling(ply)) {
+        encoded |= CASTLING_FLAG;
+      }
+      Piece.Type promotion = history.getPromotionPiece(ply);
+      if (promotion != null) {
+        encoded |= (promotion.ordinal() + 1) << PROMOTION_SHIFT;
+      }
+      record.putShort((short) encoded);
+      record.put((byte) history.getStatusAtPly(ply + 1).getNumber());
+    }
+    record.putInt(0);
+    chunk.force();
+    chunk.putInt(position, length);
+    chunk.force();
+
+    index(writeOffset, game.getId(), whiteKey, blackKey);
+    writeOffset += length;
+  }
+
+  /**
+   * Returns the history of the given game, or null if the game is not in the
+   * archive.
+   */
+  public synchronized GameHistoryResponse getHistory(String gameId) {
+    long offset = gameIndex.get(key(gameId), -1);
+    if (offset < 0) {
+      return null;
+    }
+    ByteBuffer record = recordAt(offset);
+    record.position(record.position() + HEADER_SIZE - 1);
+    GameStatus status = GameStatus.valueOf(record.get());
+    if (!readString(record).equals(gameId)) {
+      // A hash collision of the game id.
+      return null;
+    }
+    GameHistoryResponse.Builder responseBuilder =
+        GameHistoryResponse.newBuilder()
+        .setWhite(readString(record))
+        .setBlack(readString(record))
+        .setStartFen(readString(record));
+    int plies = record.getInt();
+    for (int ply = 0; ply < plies; ply++) {
+      int encoded = record.getShort() & 0xffff;
+      Coordinate from = squareAt(encoded >> 6 & 0x3f);
+      Coordinate to = squareAt(encoded & 0x3f);
+      MoveProto.Builder moveBuilder = moveProto(from, to).toBuilder();
+      int promotion = encoded >> PROMOTION_SHIFT & 0x7;
+      if (promotion != 0) {
+        moveBuilder.setPromotion(Piece.Type.values()[promotion - 1].name());
+      }
+      GameEvent.Builder eventBuilder = GameEvent.newBuilder()
+          .setSerialNumber(ply)
+          .setType(GameEvent.Type.MOVE_MADE)
+          .setStatus(GameStatus.valueOf(record.get()))
+          .addMove(moveBuilder);
+      if ((encoded & CASTLING_FLAG) != 0) {
+        // The rook's move is implied by the king's move.
+        boolean kingSide = to.getFile() > from.getFile();
+        eventBuilder.addMove(moveProto(
+            Coordinate.get(
+                kingSide ? Coordinate.LAST_FILE : Coordinate.FIRST_FILE,
+                from.getRank()),
+            to.add(kingSide ? -1 : 1, 0)));
+      }
+      responseBuilder.addEvent(eventBuilder);
+    }
+    responseBuilder.addEvent(GameEvent.newBuilder()
+        .setSerialNumber(plies)
+        .setType(GameEvent.Type.GAME_ENDED)
+        .setStatus(status));
+    return responseBuilder.build();
+  }
+
+  /**
+   * Returns the ids of the archived games of the given player, most recent
+   * first.
+   */
+  public synchronized List<String> getPlayerGames(
+      String username, int maxGames) {
+    List<String> gameIds = Lists.newArrayList();
+    long offset = playerIndex.get(key(username), -1);
+    while (offset >= 0 && gameIds.size() < maxGames) {
+      ByteBuffer record = recordAt(offset);
+      record.getInt();
+      long previousWhite = record.getLong();
+      long previousBlack = record.getLong();
+      record.get();
+      String gameId = readString(record);
+      String white = readString(record);
+      String black = readString(record);
+      if (white.equals(username)) {
+        offset = previousWhite;
+      } else if (black.equals(username)) {
+        offset = previousBlack;
+      } else {
+        // A hash collision of the player name.
+        break;
+      }
+      gameIds.add(gameId);
+    }
+    return gameIds;
+  }
+
+  /** Closes the archive. */
+  public synchronized void close() throws IOException {
+    channel.close();
+  }
+
+  /** Rebuilds the indexes, and finds the end of the data. */
+  private void scan() {
+    writeOffset = 0;
+    while (chunkIndex(writeOffset) < chunks.size()) {
+      ByteBuffer record = recordAt(writeOffset);
+      int length = record.getInt();
+      if (length == END_OF_CHUNK) {
+        writeOffset += CHUNK_SIZE - writeOffset % CHUNK_SIZE;
+        continue;
+      }
+      if (length < HEADER_SIZE ||
+          writeOffset % CHUNK_SIZE + length + 4 > CHUNK_SIZE) {
+        // The end of the data (0), or a record that was not completed.
+        return;
+      }
+      record.position(record.position() + HEADER_SIZE - 4);
+      String gameId = readString(record);
+      long whiteKey = key(readString(record));
+      long blackKey = key(readString(record));
+      index(writeOffset, gameId, whiteKey, blackKey);
+      writeOffset += length;
+    }
+  }
+
+  /** Adds a record to the indexes. */
+  private void index(long offset, String gameId, long whiteKey, long blackKey) {
+    gameIndex.put(key(gameId), offset);
+    playerIndex.put(whiteKey, offset);
+    playerIndex.put(blackKey, offset);
+  }
+
+  /** Maps another chunk of the archive file. */
+  private void mapChunk() throws IOException {
+    chunks.add(channel.map(
+        FileChannel.MapMode.READ_WRITE,
+        (long) chunks.size() * CHUNK_SIZE,
+        CHUNK_SIZE));
+  }
+
+  /** Returns a buffer positioned at the record at the given offset. */
+  private ByteBuffer recordAt(long offset) {
+    ByteBuffer record = chunks.get(chunkIndex(offset)).duplicate();
+    record.position((int) (offset % CHUNK_SIZE));
+    return record;
+  }
+
+  /** Returns the index of the chunk that holds the given offset. */
+  private static int chunkIndex(long offset) {
+    return (int) (offset / CHUNK_SIZE);
+  }
+
+  /** Reads a length-prefixed UTF-8 string. */
+  private static String readString(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.getShort()];
+    buffer.get(bytes);
+    return new String(bytes, Charsets.UTF_8);
+  }
+
+  /** Returns the (non-zero) index key of the given string. */
+  private static long key(String string) {
+    long key = HASH.hashString(string, Charsets.UTF_8).asLong();
+    return key == 0 ? 1 : key;
+  }
+
+  /** Returns the 6 bit index of the given square. */
+  private static int squareIndex(Coordinate coordinate) {
+    return coordinate.getFile() * Coordinate.RANKS + coordinate.getRank();
+  }
+
+  /** Returns the square with the given 6 bit index. */
+  private static Coordinate squareAt(int index) {
+    return Coordinate.get(index / Coordinate.RANKS, index % Coordinate.RANKS);
+  }
+
+  /** Returns the proto message of the given move. */
+  private static MoveProto moveProto(Coordinate from, Coordinate to) {
+    return MoveProto.newBuilder()
+        .setFrom(from.name())
+        .setTo(to.name())
+        .build();
+  }
+}
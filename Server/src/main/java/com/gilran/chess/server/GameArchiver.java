@@ -0,0 +1,85 @@
+package com.gilran.chess.server;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Moves finished games into the game archive.
+ *
+ * <p>A game is archived a while after it ended, and not immediately, so the
+ * players' clients have the time to fetch the last game events before the game
+ * is removed from their sessions.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class GameArchiver {
+  /** Logger. */
+  private static final Logger LOGGER = Logger.getLogger(
+      Thread.currentThread().getStackTrace()[0].getClassName());
+
+  /** A callback that is called after a game was archived. */
+  public interface ArchivedCallback {
+    void run(Game game);
+  }
+
+  /** The archive. */
+  private GameArchive archive;
+  /** The delay between the end of a game and its archiving, in seconds. */
+  private long delaySeconds;
+  /** The executor that runs the delayed archiving. */
+  private ScheduledExecutorService executor;
+
+  /**
+   * Constructor.
+   *
+   * @param archive The archive to which finished games are added.
+   * @param delaySeconds The delay between the end of a game and its archiving.
+   */
+  public GameArchiver(GameArchive archive, long delaySeconds) {
+    this.archive = Preconditions.checkNotNull(archive);
+    this.delaySeconds = delaySeconds;
+    this.executor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactory() {
+          @Override
+          public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "game-archiver");
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+  }
+
+  /** Returns the archive. */
+  public GameArchive getArchive() {
+    return archive;
+  }
+
+  /**
+   * Archives a finished game after the archiving delay.
+   *
+   * @param game The game. Must have ended.
+   * @param callback A callback that is called after the game was archived, in
+   *     order to release the game. Not called if archiving failed.
+   */
+  public void archiveLater(final Game game, final ArchivedCallback callback) {
+    executor.schedule(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          archive.add(game);
+        } catch (Exception e) {
+          LOGGER.log(
+              Level.WARNING, "Failed to archive game " + game.getId(), e);
+          return;
+        }
+        callback.run(game);
+      }
+    }, delaySeconds, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,195 @@
+package com.gilran.chess.server;
+
+import com.gilran.chess.Proto.EventsResponse;
+import com.gilran.chess.Proto.GameEvent;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fans out the events of a game to its spectators.
+ *
+ * <p>Each event is put in a single SharedResponse, so it is encoded only once
+ * no matter how many spectators wait for it. The callbacks of the spectators
+ * run on the fan-out executor, and not while the game is locked.
+ * <p>Backpressure is kept per spectator: a spectator has at most one waiting
+ * request per game, and a new request releases the previous one with an empty
+ * response. A spectator that falls behind does not hold anything on the
+ * server. When it catches up, it gets all the events it missed in one
+ * response, which is shared with all the other spectators that missed the same
+ * events.
+ * <p>Like getEvents requests, waiting spectators are counted by the event
+ * waiters, and get an empty response when the wait times out, so a spectator
+ * of a quiet or an ended game does not hold its request forever.
+ * <p>The broadcast is synchronized, as timeouts are run by the timer thread.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class GameBroadcast {
+  /** Logger. */
+  private static final Logger LOGGER = Logger.getLogger(
+      Thread.currentThread().getStackTrace()[0].getClassName());
+
+  /** A response without events, for releasing replaced requests. */
+  private static final SharedResponse EMPTY_RESPONSE =
+      new SharedResponse(EventsResponse.getDefaultInstance());
+
+  /** A callback that takes a shared events response. */
+  public interface Callback {
+    void run(SharedResponse response);
+  }
+
+  /** The executor that runs the spectators' callbacks. */
+  private final Executor fanoutExecutor;
+  /** The maximal number of waiting spectators. */
+  private final int maxWaiting;
+  /** The global limit and the timeouts of waiting requests. */
+  private final EventWaiters eventWaiters;
+  /** The spectators waiting for the next event, by spectator id. */
+  private Map<String, Waiter> waiting;
+  /**
+   * Responses holding the events from a serial number to the last event, by
+   * serial number. Cleared whenever an event is added.
+   */
+  private Map<Integer, SharedResponse> tailResponses;
+
+  /** A waiting spectator. */
+  private static class Waiter {
+    /** The spectator's callback. */
+    final Callback callback;
+    /** The timeout of the wait. */
+    final HashedWheelTimer.Timeout timeout;
+
+    /** Constructor. */
+    Waiter(Callback callback, HashedWheelTimer.Timeout timeout) {
+      this.callback = callback;
+      this.timeout = timeout;
+    }
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param fanoutExecutor The executor that runs the spectators' callbacks.
+   * @param maxWaiting The maximal number of spectators waiting for the next
+   *     event.
+   * @param eventWaiters The global limit and the timeouts of waiting
+   *     requests.
+   */
+  public GameBroadcast(
+      Executor fanoutExecutor, int maxWaiting, EventWaiters eventWaiters) {
+    this.fanoutExecutor = Preconditions.checkNotNull(fanoutExecutor);
+    this.maxWaiting = maxWaiting;
+    this.eventWaiters = Preconditions.checkNotNull(eventWaiters);
+    this.waiting = Maps.newLinkedHashMap();
+    this.tailResponses = Maps.newHashMap();
+  }
+
+  /**
+   * Sends events to a spectator.
+   *
+   * @param spectator The spectator's id.
+   * @param minEvent The serial number of the first event to send.
+   * @param events The game events with serial number >= minEvent. If empty,
+   *     the spectator waits for the next event.
+   * @param callback The spectator's callback.
+   * @return false iff there are too many waiting spectators, in the game or in
+   *     all the games.
+   */
+  public synchronized boolean watch(
+      final String spectator,
+      int minEvent,
+      List<GameEvent> events,
+      final Callback callback) {
+    if (!events.isEmpty()) {
+      SharedResponse response = tailResponses.get(minEvent);
+      if (response == null) {
+        response = new SharedResponse(
+            EventsResponse.newBuilder().addAllEvent(events).build());
+        tailResponses.put(minEvent, response);
+      }
+      dispatch(response, callback);
+      return true;
+    }
+
+    Waiter previous = waiting.remove(spectator);
+    if (previous != null) {
+      eventWaiters.fired(previous.timeout);
+      dispatch(EMPTY_RESPONSE, previous.callback);
+    } else if (waiting.size() >= maxWaiting) {
+      return false;
+    }
+    HashedWheelTimer.Timeout timeout =
+        eventWaiters.add(new HashedWheelTimer.Task() {
+          @Override
+          public void run() {
+            timeOut(spectator, callback);
+          }
+        });
+    if (timeout == null) {
+      return false;
+    }
+    waiting.put(spectator, new Waiter(callback, timeout));
+    return true;
+  }
+
+  /** Sends an empty response to a spectator whose wait timed out. */
+  private synchronized void timeOut(String spectator, Callback callback) {
+    Waiter waiter = waiting.get(spectator);
+    if (waiter == null || waiter.callback != callback) {
+      // The spectator already got an event, or is waiting again.
+      return;
+    }
+    waiting.remove(spectator);
+    eventWaiters.timedOut();
+    dispatch(EMPTY_RESPONSE, waiter.callback);
+  }
+
+  /** Sends a new event to all the waiting spectators. */
+  public synchronized void eventAdded(GameEvent event) {
+    tailResponses.clear();
+    if (waiting.isEmpty()) {
+      return;
+    }
+    SharedResponse response = new SharedResponse(
+        EventsResponse.newBuilder().addEvent(event).build());
+    tailResponses.put(event.getSerialNumber(), response);
+    List<Callback> callbacks = Lists.newArrayList();
+    for (Waiter waiter : waiting.values()) {
+      eventWaiters.fired(waiter.timeout);
+      callbacks.add(waiter.callback);
+    }
+    waiting = Maps.newLinkedHashMap();
+    dispatch(response, callbacks);
+  }
+
+  /** Runs a callback on the fan-out executor. */
+  private void dispatch(SharedResponse response, Callback callback) {
+    dispatch(response, Collections.singletonList(callback));
+  }
+
+  /** Runs the callbacks on the fan-out executor. */
+  private void dispatch(
+      final SharedResponse response, final Collection<Callback> callbacks) {
+    fanoutExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        for (Callback callback : callbacks) {
+          try {
+            callback.run(response);
+          } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Spectator callback failed.", e);
+          }
+        }
+      }
+    });
+  }
+}
@@ -0,0 +1,112 @@
+package com.gilran.chess.server;
+
+import com.gilran.chess.board.Piece;
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A chess clock with a base time and an increment per move.
+ *
+ * <p>The clock is not thread-safe. The server Game only uses it while holding
+ * its own lock.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class GameClock {
+  /** The base time of each player, in milliseconds. */
+  private final long baseMillis;
+  /** The time added to a player after each move, in milliseconds. */
+  private final long incrementMillis;
+  /** The remaining time of white, at the start of the current turn. */
+  private long whiteMillis;
+  /** The remaining time of black, at the start of the current turn. */
+  private long blackMillis;
+  /** The player whose clock is running (null if the clock is stopped). */
+  private Piece.Color running;
+  /** The time the current turn started, in System.nanoTime terms. */
+  private long turnStartNanos;
+
+  /**
+   * Constructor.
+   *
+   * @param baseMillis The base time of each player, in milliseconds.
+   * @param incrementMillis The time added to a player after each move, in
+   *     milliseconds.
+   */
+  public GameClock(long baseMillis, long incrementMillis) {
+    Preconditions.checkArgument(baseMillis > 0 && incrementMillis >= 0);
+    this.baseMillis = baseMillis;
+    this.incrementMillis = incrementMillis;
+    this.whiteMillis = baseMillis;
+    this.blackMillis = baseMillis;
+    this.running = null;
+  }
+
+  /** Returns the base time of each player, in milliseconds. */
+  public long getBaseMillis() { return baseMillis; }
+  /** Returns the time added to a player after each move, in milliseconds. */
+  public long getIncrementMillis() { return incrementMillis; }
+
+  /** Starts the clock of the given player. */
+  public void start(Piece.Color color) {
+    running = Preconditions.checkNotNull(color);
+    turnStartNanos = System.nanoTime();
+  }
+
+  /** Stops the clock, charging the running player for the current turn. */
+  public void stop() {
+    if (running == null) {
+      return;
+    }
+    setRemaining(running, getRemainingMillis(running));
+    running = null;
+  }
+
+  /** Returns the player whose clock is running, or null if it is stopped. */
+  public Piece.Color getRunning() {
+    return running;
+  }
+
+  /** Returns the remaining time of the given player, in milliseconds. */
+  public long getRemainingMillis(Piece.Color color) {
+    long remaining = color == Piece.Color.WHITE ? whiteMillis : blackMillis;
+    if (color == running) {
+      remaining -= TimeUnit.NANOSECONDS.toMillis(
+          System.nanoTime() - turnStartNanos);
+    }
+    return remaining;
+  }
+
+  /** Returns true iff the time of the given player ran out. */
+  public boolean isExpired(Piece.Color color) {
+    return getRemainingMillis(color) <= 0;
+  }
+
+  /**
+   * Ends the turn of the given player, who just moved.
+   * <p>The player gets the increment, and the other player's clock starts.
+   */
+  public void press(Piece.Color color) {
+    setRemaining(color, getRemainingMillis(color) + incrementMillis);
+    start(Piece.otherColor(color));
+  }
+
+  /** Sets the remaining times of the players, in milliseconds. */
+  public void setRemainingMillis(long whiteMillis, long blackMillis) {
+    this.whiteMillis = whiteMillis;
+    this.blackMillis = blackMillis;
+    if (running != null) {
+      turnStartNanos = System.nanoTime();
+    }
+  }
+
+  /** Sets the remaining time of the given player. */
+  private void setRemaining(Piece.Color color, long millis) {
+    if (color == Piece.Color.WHITE) {
+      whiteMillis = millis;
+    } else {
+      blackMillis = millis;
+    }
+  }
+}
@@ -0,0 +1,243 @@
+package com.gilran.chess.server;
+
+import com.gilran.chess.Proto.GameEvent;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.io.CountingInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An on-disk journal of game events and game snapshots.
+ *
+ * <p>Each game has its own directory, holding the latest snapshot of the game
+ * and a list of event segments. A segment is a file of length-delimited
+ * GameEvent messages, named after the serial number of its first event.
+ * <p>Writing a snapshot starts a new segment, so all older segments only hold
+ * events that are already included in the snapshot and are deleted
+ * (compacted). Recovering a game thus requires reading the snapshot and
+ * replaying at most one segment.
+ * <p>A crash may leave a partly written event at the end of a segment. It is
+ * dropped when the segment is read, as the event was never acknowledged.
+ * <p>Calls for the same game must not be made concurrently. The server Game
+ * serializes them by holding its own lock, including when it writes its
+ * snapshots (see Game.writeSnapshot).
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class GameJournal {
+  /** Logger. */
+  private static final Logger LOGGER = Logger.getLogger(
+      Thread.currentThread().getStackTrace()[0].getClassName());
+
+  /** The name of the snapshot file in a game directory. */
+  private static final String SNAPSHOT_FILE = "snapshot";
+  /** The suffix of segment files. */
+  private static final String SEGMENT_SUFFIX = ".log";
+
+  /** The journal root directory. */
+  private File directory;
+  /** The open segment of each game, by game id. */
+  private ConcurrentMap<String, OutputStream> openSegments;
+
+  /**
+   * Constructor.
+   *
+   * @param directory The journal root directory. Created if it is missing.
+   */
+  public GameJournal(File directory) throws IOException {
+    this.directory = Preconditions.checkNotNull(directory);
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Failed to create journal directory: " + directory);
+    }
+    this.openSegments = Maps.newConcurrentMap();
+  }
+
+  /** Appends an event to the journal of the given game. */
+  public void append(String gameId, GameEvent event) throws IOException {
+    OutputStream out = openSegments.get(gameId);
+    if (out == null) {
+      File segment = new File(
+          gameDirectory(gameId), segmentName(event.getSerialNumber()));
+      out = new BufferedOutputStream(new FileOutputStream(segment, true));
+      openSegments.put(gameId, out);
+    }
+    event.writeDelimitedTo(out);
+    out.flush();
+  }
+
+  /**
+   * Writes a snapshot of a game, and compacts the segments that are made
+   * obsolete by it.
+   */
+  public void writeSnapshot(GameSnapshot snapshot) throws IOException {
+    File gameDirectory = gameDirectory(snapshot.getGameId());
+    File tmpFile = new File(gameDirectory, SNAPSHOT_FILE + ".tmp");
+    DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(new FileOutputStream(tmpFile)));
+    try {
+      snapshot.writeTo(out);
+    } finally {
+      out.close();
+    }
+    File snapshotFile = new File(gameDirectory, SNAPSHOT_FILE);
+    if (!tmpFile.renameTo(snapshotFile)) {
+      throw new IOException("Failed to write snapshot: " + snapshotFile);
+    }
+
+    // The next event starts a new segment, so all existing segments hold only
+    // events that are included in the snapshot.
+    close(snapshot.getGameId());
+    for (Integer firstSerial : segments(gameDirectory)) {
+      if (firstSerial < snapshot.getEventSerial()) {
+        new File(gameDirectory, segmentName(firstSerial)).delete();
+      }
+    }
+  }
+
+  /** Closes the open segment of the given game, if there is one. */
+  public void close(String gameId) throws IOException {
+    OutputStream out = openSegments.remove(gameId);
+    if (out != null) {
+      out.close();
+    }
+  }
+
+  /** Deletes the journal of the given game. */
+  public void delete(String gameId) throws IOException {
+    close(gameId);
+    File gameDirectory = new File(directory, gameId);
+    File[] files = gameDirectory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+    gameDirectory.delete();
+  }
+
+  /** Returns the ids of all the games in the journal. */
+  public List<String> getGameIds() {
+    List<String> gameIds = Lists.newArrayList();
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return gameIds;
+    }
+    for (File file : files) {
+      if (new File(file, SNAPSHOT_FILE).isFile()) {
+        gameIds.add(file.getName());
+      }
+    }
+    return gameIds;
+  }
+
+  /** Reads the latest snapshot of the given game. */
+  public GameSnapshot readSnapshot(String gameId) throws IOException {
+    DataInputStream in = new DataInputStream(new BufferedInputStream(
+        new FileInputStream(new File(gameDirectory(gameId), SNAPSHOT_FILE))));
+    try {
+      return GameSnapshot.readFrom(in);
+    } finally {
+      in.close();
+    }
+  }
+
+  /**
+   * Reads the events of the given game with serial number >= minEvent.
+   * <p>Only the segments that may hold such events are read. A truncated or
+   * unparsable record ends its segment, and the segment is truncated at the
+   * last complete record, so later appends follow a valid record.
+   */
+  public List<GameEvent> readEvents(String gameId, int minEvent)
+      throws IOException {
+    File gameDirectory = gameDirectory(gameId);
+    List<Integer> segments = segments(gameDirectory);
+    List<GameEvent> events = Lists.newArrayList();
+    for (int i = 0; i < segments.size(); i++) {
+      if (i + 1 < segments.size() && segments.get(i + 1) <= minEvent) {
+        continue;
+      }
+      File segment = new File(gameDirectory, segmentName(segments.get(i)));
+      CountingInputStream in = new CountingInputStream(
+          new BufferedInputStream(new FileInputStream(segment)));
+      long validLength = 0;
+      boolean torn = false;
+      try {
+        GameEvent event;
+        while ((event = GameEvent.parseDelimitedFrom(in)) != null) {
+          validLength = in.getCount();
+          if (event.getSerialNumber() >= minEvent) {
+            events.add(event);
+          }
+        }
+      } catch (InvalidProtocolBufferException e) {
+        torn = true;
+      } finally {
+        in.close();
+      }
+      if (torn) {
+        LOGGER.log(Level.WARNING, "Dropping a torn record at offset "
+            + validLength + " of " + segment);
+        truncate(segment, validLength);
+      }
+    }
+    return events;
+  }
+
+  /** Truncates a file to the given length. */
+  private static void truncate(File file, long length) throws IOException {
+    RandomAccessFile raf = new RandomAccessFile(file, "rw");
+    try {
+      raf.setLength(length);
+    } finally {
+      raf.close();
+    }
+  }
+
+  /** Returns the directory of the given game, creating it if needed. */
+  private File gameDirectory(String gameId) throws IOException {
+    File gameDirectory = new File(directory, gameId);
+    if (!gameDirectory.isDirectory() && !gameDirectory.mkdirs()) {
+      throw new IOException("Failed to create game directory: " + gameId);
+    }
+    return gameDirectory;
+  }
+
+  /** Returns the first serial numbers of the segments, in ascending order. */
+  private static List<Integer> segments(File gameDirectory) {
+    List<Integer> segments = Lists.newArrayList();
+    String[] names = gameDirectory.list();
+    if (names == null) {
+      return segments;
+    }
+    for (String name : names) {
+      if (name.endsWith(SEGMENT_SUFFIX)) {
+        segments.add(Integer.valueOf(
+            name.substring(0, name.length() - SEGMENT_SUFFIX.length())));
+      }
+    }
+    Collections.sort(segments);
+    return segments;
+  }
+
+  /** Returns the file name of the segment starting at the given serial. */
+  private static String segmentName(int firstSerial) {
+    return String.format("%010d%s", firstSerial, SEGMENT_SUFFIX);
+  }
+}
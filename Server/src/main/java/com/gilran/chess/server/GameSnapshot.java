@@ -0,0 +1,245 @@
+package com.gilran.chess.server;
+
+import com.gilran.chess.Proto.GameStatus;
+import com.gilran.chess.board.GameHistory;
+import com.gilran.chess.board.Piece;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A compact snapshot of a server game.
+ *
+ * <p>A snapshot holds everything that is needed in order to continue a game
+ * without replaying its moves: the position (as FEN), the game status, the
+ * outstanding draw offer and the repetition history. The event serial number
+ * marks the first event that is not included in the snapshot, so recovery
+ * only needs to replay the events from that serial number on.
+ * <p>The snapshot also holds the position the game started from and the
+ * encoded moves of its history, so a recovered game is still replayed and
+ * archived from its start.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class GameSnapshot {
+  /** The snapshot format version. */
+  private static final int FORMAT_VERSION = 3;
+  /** The first snapshot format version that holds the game clock. */
+  private static final int CLOCK_FORMAT_VERSION = 2;
+  /** The first snapshot format version that holds the game history. */
+  private static final int HISTORY_FORMAT_VERSION = 3;
+
+  /** The game id. */
+  private final String gameId;
+  /** The name of the player playing white. */
+  private final String whitePlayer;
+  /** The name of the player playing black. */
+  private final String blackPlayer;
+  /** The position in Forsyth-Edwards Notation. */
+  private final String fen;
+  /** The game status. */
+  private final GameStatus status;
+  /** The serial number of the first event not included in the snapshot. */
+  private final int eventSerial;
+  /** The player who offered draw, or null if there is no draw offer. */
+  private final Piece.Color outstandingDrawOffer;
+  /** The repetition history of the position. */
+  private final ImmutableMap<String, Integer> repetitionHistory;
+  /** The base time of the game clock in milliseconds (0 if not timed). */
+  private final long clockBaseMillis;
+  /** The increment of the game clock in milliseconds. */
+  private final long clockIncrementMillis;
+  /** The remaining time of white in milliseconds. */
+  private final long whiteMillis;
+  /** The remaining time of black in milliseconds. */
+  private final long blackMillis;
+  /** The FEN of the position the game started from. */
+  private final String startFen;
+  /** The encoded moves of the game history (see GameHistory). */
+  private final short[] moves;
+
+  /**
+   * Constructor.
+   *
+   * @param clock The game clock, or null if the game is not timed.
+   * @param history The game history.
+   */
+  public GameSnapshot(
+      String gameId,
+      String whitePlayer,
+      String blackPlayer,
+      String fen,
+      GameStatus status,
+      int eventSerial,
+      Piece.Color outstandingDrawOffer,
+      Map<String, Integer> repetitionHistory,
+      GameClock clock,
+      GameHistory history) {
+    this(
+        gameId,
+        whitePlayer,
+        blackPlayer,
+        fen,
+        status,
+        eventSerial,
+        outstandingDrawOffer,
+        repetitionHistory,
+        clock == null ? 0 : clock.getBaseMillis(),
+        clock == null ? 0 : clock.getIncrementMillis(),
+        clock == null ? 0 : clock.getRemainingMillis(Piece.Color.WHITE),
+        clock == null ? 0 : clock.getRemainingMillis(Piece.Color.BLACK),
+        history.getStartFen(),
+        history.getEncodedMoves());
+  }
+
+  /** Constructor with the game clock and the game history fields. */
+  private GameSnapshot(
+      String gameId,
+      String whitePlayer,
+      String blackPlayer,
+      String fen,
+      GameStatus status,
+      int eventSerial,
+      Piece.Color outstandingDrawOffer,
+      Map<String, Integer> repetitionHistory,
+      long clockBaseMillis,
+      long clockIncrementMillis,
+      long whiteMillis,
+      long blackMillis,
+      String startFen,
+      short[] moves) {
+    this.gameId = Preconditions.checkNotNull(gameId);
+    this.whitePlayer = Preconditions.checkNotNull(whitePlayer);
+    this.blackPlayer = Preconditions.checkNotNull(blackPlayer);
+    this.fen = Preconditions.checkNotNull(fen);
+    this.status = Preconditions.checkNotNull(status);
+    this.eventSerial = eventSerial;
+    this.outstandingDrawOffer = outstandingDrawOffer;
+    this.repetitionHistory = ImmutableMap.copyOf(repetitionHistory);
+    this.clockBaseMillis = clockBaseMillis;
+    this.clockIncrementMillis = clockIncrementMillis;
+    this.whiteMillis = whiteMillis;
+    this.blackMillis = blackMillis;
+    this.startFen = Preconditions.checkNotNull(startFen);
+    this.moves = moves;
+  }
+
+  /** Returns the game id. */
+  public String getGameId() { return gameId; }
+  /** Returns the name of the player playing white. */
+  public String getWhitePlayer() { return whitePlayer; }
+  /** Returns the name of the player playing black. */
+  public String getBlackPlayer() { return blackPlayer; }
+  /** Returns the position in Forsyth-Edwards Notation. */
+  public String getFen() { return fen; }
+  /** Returns the game status. */
+  public GameStatus getStatus() { return status; }
+  /** Returns the serial number of the first event not in the snapshot. */
+  public int getEventSerial() { return eventSerial; }
+  /** Returns the player who offered draw, or null if there is no offer. */
+  public Piece.Color getOutstandingDrawOffer() { return outstandingDrawOffer; }
+  /** Returns the repetition history of the position. */
+  public Map<String, Integer> getRepetitionHistory() {
+    return repetitionHistory;
+  }
+  /** Returns the base time of the game clock (0 if the game is not timed). */
+  public long getClockBaseMillis() { return clockBaseMillis; }
+  /** Returns the increment of the game clock. */
+  public long getClockIncrementMillis() { return clockIncrementMillis; }
+  /** Returns the remaining time of white. */
+  public long getWhiteMillis() { return whiteMillis; }
+  /** Returns the remaining time of black. */
+  public long getBlackMillis() { return blackMillis; }
+  /**
+   * Returns the FEN of the position the game started from (the snapshot's
+   * position, in snapshots of older formats).
+   */
+  public String getStartFen() { return startFen; }
+  /** Returns the encoded moves of the game history. Must not be modified. */
+  public short[] getMoves() { return moves; }
+
+  /** Writes the snapshot to the given output. */
+  public void writeTo(DataOutputStream out) throws IOException {
+    out.writeInt(FORMAT_VERSION);
+    out.writeUTF(gameId);
+    out.writeUTF(whitePlayer);
+    out.writeUTF(blackPlayer);
+    out.writeUTF(fen);
+    out.writeByte(status.getNumber());
+    out.writeInt(eventSerial);
+    out.writeByte(
+        outstandingDrawOffer == null ? -1 : outstandingDrawOffer.ordinal());
+    out.writeInt(repetitionHistory.size());
+    for (Map.Entry<String, Integer> entry : repetitionHistory.entrySet()) {
+      out.writeUTF(entry.getKey());
+      out.writeByte(entry.getValue());
+    }
+    out.writeLong(clockBaseMillis);
+    out.writeLong(clockIncrementMillis);
+    out.writeLong(whiteMillis);
+    out.writeLong(blackMillis);
+    out.writeUTF(startFen);
+    out.writeInt(moves.length);
+    for (short move : moves) {
+      out.writeShort(move);
+    }
+  }
+
+  /** Reads a snapshot that was written by writeTo. */
+  public static GameSnapshot readFrom(DataInputStream in) throws IOException {
+    int version = in.readInt();
+    if (version > FORMAT_VERSION) {
+      throw new IOException("Unsupported snapshot version: " + version);
+    }
+    String gameId = in.readUTF();
+    String whitePlayer = in.readUTF();
+    String blackPlayer = in.readUTF();
+    String fen = in.readUTF();
+    GameStatus status = GameStatus.valueOf(in.readByte());
+    if (status == null) {
+      throw new IOException("Invalid game status in snapshot.");
+    }
+    int eventSerial = in.readInt();
+    byte drawOffer = in.readByte();
+    int historySize = in.readInt();
+    ImmutableMap.Builder<String, Integer> historyBuilder =
+        ImmutableMap.builder();
+    for (int i = 0; i < historySize; i++) {
+      historyBuilder.put(in.readUTF(), (int) in.readByte());
+    }
+    long[] clockFields = new long[4];
+    if (version >= CLOCK_FORMAT_VERSION) {
+      for (int i = 0; i < clockFields.length; i++) {
+        clockFields[i] = in.readLong();
+      }
+    }
+    String startFen = fen;
+    short[] moves = new short[0];
+    if (version >= HISTORY_FORMAT_VERSION) {
+      startFen = in.readUTF();
+      moves = new short[in.readInt()];
+      for (int i = 0; i < moves.length; i++) {
+        moves[i] = in.readShort();
+      }
+    }
+    return new GameSnapshot(
+        gameId,
+        whitePlayer,
+        blackPlayer,
+        fen,
+        status,
+        eventSerial,
+        drawOffer < 0 ? null : Piece.Color.values()[drawOffer],
+        historyBuilder.build(),
+        clockFields[0],
+        clockFields[1],
+        clockFields[2],
+        clockFields[3],
+        startFen,
+        moves);
+  }
+}
@@ -0,0 +1,152 @@
+package com.gilran.chess.server;
+
+import com.gilran.chess.Proto.GameEvent;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Periodically writes snapshots of the active games to the game journal.
+ *
+ * <p>A game is snapshotted only if at least minEvents events were added to it
+ * since its last snapshot, so idle games cost nothing. Snapshots bound the
+ * number of events that need to be replayed when a game is recovered.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class GameSnapshotter {
+  /** Logger. */
+  private static final Logger LOGGER = Logger.getLogger(
+      Thread.currentThread().getStackTrace()[0].getClassName());
+
+  /** The journal to which snapshots are written. */
+  private GameJournal journal;
+  /** The minimal number of new events for taking a new snapshot. */
+  private int minEvents;
+  /** The active games, by game id. */
+  private ConcurrentMap<String, Game> games;
+  /** The event serial of the last snapshot of each game, by game id. */
+  private Map<String, Integer> lastSnapshotSerial;
+  /** The executor that runs the periodic snapshots. */
+  private ScheduledExecutorService executor;
+
+  /**
+   * Constructor.
+   *
+   * @param journal The journal to which snapshots are written.
+   * @param intervalSeconds The interval between snapshot rounds.
+   * @param minEvents The minimal number of events that should be added to a
+   *     game since its last snapshot in order to take a new snapshot.
+   */
+  public GameSnapshotter(
+      GameJournal journal, long intervalSeconds, int minEvents) {
+    this.journal = Preconditions.checkNotNull(journal);
+    this.minEvents = minEvents;
+    this.games = Maps.newConcurrentMap();
+    this.lastSnapshotSerial = Maps.newConcurrentMap();
+    this.executor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactory() {
+          @Override
+          public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "game-snapshotter");
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+    this.executor.scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        snapshotAll();
+      }
+    }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+  }
+
+  /** Adds a new game to the journal and to the periodic snapshots. */
+  public void add(Game game) {
+    try {
+      game.setJournal(journal);
+    } catch (Exception e) {
+      LOGGER.log(Level.WARNING, "Failed to journal game " + game.getId(), e);
+      return;
+    }
+    lastSnapshotSerial.put(game.getId(), game.getNextEventSerial());
+    games.put(game.getId(), game);
+  }
+
+  /**
+   * Removes a game from the periodic snapshots, and deletes its journal.
+   * <p>This is done once the game is kept elsewhere (i.e. archived).
+   */
+  public void remove(Game game) {
+    games.remove(game.getId());
+    lastSnapshotSerial.remove(game.getId());
+    try {
+      journal.delete(game.getId());
+    } catch (Exception e) {
+      LOGGER.log(Level.WARNING, "Failed to delete game " + game.getId(), e);
+    }
+  }
+
+  /**
+   * Recovers all the games from the journal.
+   * <p>Each game is restored from its latest snapshot, and only the events that
+   * follow the snapshot are replayed. The recovered games that did not end are
+   * added to the periodic snapshots. The games that ended are returned as
+   * well, as they are still in the journal only if they were not archived.
+   */
+  public List<Game> recover() {
+    List<Game> recovered = Lists.newArrayList();
+    for (String gameId : journal.getGameIds()) {
+      try {
+        GameSnapshot snapshot = journal.readSnapshot(gameId);
+        Game game = new Game(snapshot);
+        for (GameEvent event :
+             journal.readEvents(gameId, snapshot.getEventSerial())) {
+          game.replay(event);
+        }
+        if (!game.hasEnded()) {
+          add(game);
+        }
+        recovered.add(game);
+      } catch (Exception e) {
+        LOGGER.log(Level.SEVERE, "Failed to recover game " + gameId, e);
+      }
+    }
+    return recovered;
+  }
+
+  /** Takes a snapshot of every active game that changed enough. */
+  private void snapshotAll() {
+    for (Game game : games.values()) {
+      String gameId = game.getId();
+      boolean ended = game.hasEnded();
+      if (!ended &&
+          game.getNextEventSerial() - lastSnapshotSerial.get(gameId)
+              < minEvents) {
+        continue;
+      }
+      try {
+        GameSnapshot snapshot = game.writeSnapshot();
+        lastSnapshotSerial.put(gameId, snapshot.getEventSerial());
+      } catch (Exception e) {
+        LOGGER.log(Level.WARNING, "Failed to snapshot game " + gameId, e);
+        continue;
+      }
+      if (ended) {
+        // The final snapshot holds the complete game state.
+        games.remove(gameId);
+        lastSnapshotSerial.remove(gameId);
+      }
+    }
+  }
+}
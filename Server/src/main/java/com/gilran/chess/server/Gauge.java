@@ -0,0 +1,41 @@
+package com.gilran.chess.server;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * A named value that is read when the metrics are scraped, such as the number
+ * of active games.
+ *
+ * <p>A gauge reads a value that the server keeps anyway, so it costs nothing
+ * until it is read.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public abstract class Gauge implements GaugeMBean {
+  /** The name of the gauge. */
+  private final String name;
+  /** A description of the gauge. */
+  private final String help;
+
+  /**
+   * Constructor.
+   *
+   * @param name The name of the gauge. Must be a valid metric name.
+   * @param help A description of the gauge.
+   */
+  public Gauge(String name, String help) {
+    Preconditions.checkArgument(name.matches("[a-zA-Z_][a-zA-Z0-9_]*"));
+    this.name = name;
+    this.help = Preconditions.checkNotNull(help);
+  }
+
+  /** Returns the name of the gauge. */
+  public String getName() {
+    return name;
+  }
+
+  /** Returns the description of the gauge. */
+  public String getHelp() {
+    return help;
+  }
+}
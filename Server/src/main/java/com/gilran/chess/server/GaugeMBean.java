@@ -0,0 +1,11 @@
+package com.gilran.chess.server;
+
+/**
+ * The JMX interface of Gauge.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public interface GaugeMBean {
+  /** Returns the current value. */
+  long getValue();
+}
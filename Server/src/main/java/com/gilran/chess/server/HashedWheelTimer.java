@@ -0,0 +1,283 @@
+package com.gilran.chess.server;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A timer for a very large number of timeouts, that runs on a single thread.
+ *
+ * <p>The timer keeps the timeouts in a wheel of buckets. Every tick, the
+ * worker thread advances to the next bucket and runs its expired timeouts.
+ * Timeouts that are more than one wheel rotation away wait in their bucket for
+ * the remaining rotations. Both scheduling and cancelling a timeout are O(1).
+ * <p>Timeouts are accurate to the tick duration, which is good enough for
+ * things like chess clocks, and much cheaper than a ScheduledFuture (and a
+ * priority queue entry) per timeout.
+ * <p>Tasks run on the worker thread, so they must be short.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class HashedWheelTimer {
+  /** Logger. */
+  private static final Logger LOGGER = Logger.getLogger(
+      Thread.currentThread().getStackTrace()[0].getClassName());
+
+  /** The maximal number of new timeouts added to the wheel in one tick. */
+  private static final int MAX_TRANSFERS_PER_TICK = 100000;
+
+  /** A task that runs when a timeout expires. */
+  public interface Task {
+    void run();
+  }
+
+  /** The states of a timeout. */
+  private static final int PENDING = 0;
+  private static final int CANCELLED = 1;
+  private static final int EXPIRED = 2;
+
+  /** A scheduled timeout. */
+  public final class Timeout {
+    /** The task to run when the timeout expires. */
+    private final Task task;
+    /** The deadline, in nanoseconds since the timer started. */
+    private final long deadline;
+    /** The state of the timeout. */
+    private final AtomicInteger state;
+    /** The wheel rotations left before the timeout expires. */
+    private long remainingRounds;
+    /** The bucket holding the timeout (null if not in the wheel). */
+    private Bucket bucket;
+    /** The next timeout in the bucket. */
+    private Timeout next;
+    /** The previous timeout in the bucket. */
+    private Timeout previous;
+
+    /** Constructor. */
+    private Timeout(Task task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+      this.state = new AtomicInteger(PENDING);
+    }
+
+    /**
+     * Cancels the timeout.
+     *
+     * @return true iff the timeout was cancelled before it expired.
+     */
+    public boolean cancel() {
+      if (!state.compareAndSet(PENDING, CANCELLED)) {
+        return false;
+      }
+      cancelledTimeouts.add(this);
+      return true;
+    }
+
+    /** Runs the task, unless the timeout was cancelled. */
+    private void expire() {
+      if (!state.compareAndSet(PENDING, EXPIRED)) {
+        return;
+      }
+      try {
+        task.run();
+      } catch (Throwable t) {
+        LOGGER.log(Level.WARNING, "Timer task failed.", t);
+      }
+    }
+  }
+
+  /** A bucket of the wheel: a doubly linked list of timeouts. */
+  private static final class Bucket {
+    private Timeout head;
+    private Timeout tail;
+
+    /** Adds a timeout to the bucket. */
+    void add(Timeout timeout) {
+      timeout.bucket = this;
+      if (head == null) {
+        head = tail = timeout;
+      } else {
+        tail.next = timeout;
+        timeout.previous = tail;
+        tail = timeout;
+      }
+    }
+
+    /** Removes a timeout from the bucket, and returns the next timeout. */
+    Timeout remove(Timeout timeout) {
+      Timeout next = timeout.next;
+      if (timeout.previous != null) {
+        timeout.previous.next = next;
+      }
+      if (timeout.next != null) {
+        timeout.next.previous = timeout.previous;
+      }
+      if (timeout == head) {
+        head = next;
+      }
+      if (timeout == tail) {
+        tail = timeout.previous;
+      }
+      timeout.previous = null;
+      timeout.next = null;
+      timeout.bucket = null;
+      return next;
+    }
+  }
+
+  /** The tick duration in nanoseconds. */
+  private final long tickNanos;
+  /** The wheel. */
+  private final Bucket[] wheel;
+  /** A mask for finding the bucket of a tick (the wheel size is 2^n). */
+  private final int mask;
+  /** Timeouts that were scheduled and were not added to the wheel yet. */
+  private final Queue<Timeout> pendingTimeouts;
+  /** Timeouts that were cancelled and were not removed from the wheel yet. */
+  private final Queue<Timeout> cancelledTimeouts;
+  /** The time the timer started, in System.nanoTime terms. */
+  private final long startTime;
+  /** The worker thread. */
+  private final Thread worker;
+  /** Indicates whether the timer is running. */
+  private volatile boolean running;
+
+  /**
+   * Constructor. The timer starts immediately.
+   *
+   * @param tickDuration The tick duration.
+   * @param unit The time unit of the tick duration.
+   * @param wheelSize The number of buckets in the wheel. Rounded up to a power
+   *     of 2.
+   */
+  public HashedWheelTimer(long tickDuration, TimeUnit unit, int wheelSize) {
+    Preconditions.checkArgument(tickDuration > 0);
+    Preconditions.checkArgument(wheelSize > 0 && wheelSize <= 1 << 30);
+    this.tickNanos = unit.toNanos(tickDuration);
+    int size = Integer.highestOneBit(wheelSize - 1) << 1;
+    this.wheel = new Bucket[Math.max(size, 1)];
+    for (int i = 0; i < wheel.length; i++) {
+      wheel[i] = new Bucket();
+    }
+    this.mask = wheel.length - 1;
+    this.pendingTimeouts = new ConcurrentLinkedQueue<Timeout>();
+    this.cancelledTimeouts = new ConcurrentLinkedQueue<Timeout>();
+    this.startTime = System.nanoTime();
+    this.running = true;
+    this.worker = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        work();
+      }
+    }, "hashed-wheel-timer");
+    this.worker.setDaemon(true);
+    this.worker.start();
+  }
+
+  /**
+   * Schedules a task.
+   *
+   * @param task The task to run.
+   * @param delay The delay after which the task should run.
+   * @param unit The time unit of the delay.
+   * @return The timeout, which can be used for cancelling the task.
+   */
+  public Timeout schedule(Task task, long delay, TimeUnit unit) {
+    Timeout timeout = new Timeout(
+        Preconditions.checkNotNull(task),
+        System.nanoTime() - startTime + unit.toNanos(Math.max(delay, 0)));
+    pendingTimeouts.add(timeout);
+    return timeout;
+  }
+
+  /** Stops the timer. Timeouts that did not expire yet are dropped. */
+  public void stop() {
+    running = false;
+    worker.interrupt();
+  }
+
+  /** The worker thread main loop. */
+  private void work() {
+    long tick = 0;
+    while (running) {
+      if (!waitForTick(tick)) {
+        return;
+      }
+      removeCancelled();
+      transferPending(tick);
+      expire(wheel[(int) (tick & mask)]);
+      tick++;
+    }
+  }
+
+  /**
+   * Sleeps until the end of the given tick.
+   *
+   * @return false iff the timer was stopped.
+   */
+  private boolean waitForTick(long tick) {
+    long deadline = tickNanos * (tick + 1);
+    while (true) {
+      long sleepNanos = deadline - (System.nanoTime() - startTime);
+      if (sleepNanos <= 0) {
+        return true;
+      }
+      try {
+        TimeUnit.NANOSECONDS.sleep(sleepNanos);
+      } catch (InterruptedException e) {
+        if (!running) {
+          return false;
+        }
+      }
+    }
+  }
+
+  /** Removes the cancelled timeouts from the wheel. */
+  private void removeCancelled() {
+    Timeout timeout;
+    while ((timeout = cancelledTimeouts.poll()) != null) {
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+      }
+    }
+  }
+
+  /** Adds the newly scheduled timeouts to the wheel. */
+  private void transferPending(long tick) {
+    for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+      Timeout timeout = pendingTimeouts.poll();
+      if (timeout == null) {
+        return;
+      }
+      if (timeout.state.get() == CANCELLED) {
+        continue;
+      }
+      long deadlineTick = timeout.deadline / tickNanos;
+      timeout.remainingRounds = (deadlineTick - tick) / wheel.length;
+      // A timeout whose deadline already passed expires in this tick.
+      wheel[(int) (Math.max(deadlineTick, tick) & mask)].add(timeout);
+    }
+  }
+
+  /** Expires the due timeouts of the given bucket. */
+  private void expire(Bucket bucket) {
+    Timeout timeout = bucket.head;
+    while (timeout != null) {
+      if (timeout.remainingRounds <= 0) {
+        Timeout next = bucket.remove(timeout);
+        timeout.expire();
+        timeout = next;
+      } else if (timeout.state.get() == CANCELLED) {
+        timeout = bucket.remove(timeout);
+      } else {
+        timeout.remainingRounds--;
+        timeout = timeout.next;
+      }
+    }
+  }
+}
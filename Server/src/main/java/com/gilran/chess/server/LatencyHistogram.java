@@ -0,0 +1,135 @@
+package com.gilran.chess.server;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of request latencies.
+ *
+ * <p>The latencies are counted in logarithmic buckets, in microseconds: each
+ * power of two is split into SUB_BUCKETS linear sub-buckets, so the relative
+ * error of a percentile is bounded by 1 / SUB_BUCKETS, with a fixed, small
+ * memory footprint no matter how many latencies are recorded. Recording takes
+ * a few atomic increments, and the percentiles are only computed when they are
+ * read.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class LatencyHistogram {
+  /** The log2 of the number of sub-buckets in each power of two. */
+  private static final int SUB_BUCKET_BITS = 3;
+  /** The number of sub-buckets in each power of two. */
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  /** The number of buckets. Covers latencies below 2^41 microseconds. */
+  private static final int BUCKETS = SUB_BUCKETS * (40 - SUB_BUCKET_BITS + 2);
+
+  /** The counts of the buckets. */
+  private final AtomicLongArray counts;
+  /** The number of recorded latencies. */
+  private final AtomicLong count;
+  /** The sum of the recorded latencies, in microseconds. */
+  private final AtomicLong sumMicros;
+  /** The maximal recorded latency, in microseconds. */
+  private final AtomicLong maxMicros;
+  /** The number of failed requests. */
+  private final AtomicLong errors;
+
+  /** Constructor. */
+  public LatencyHistogram() {
+    counts = new AtomicLongArray(BUCKETS);
+    count = new AtomicLong();
+    sumMicros = new AtomicLong();
+    maxMicros = new AtomicLong();
+    errors = new AtomicLong();
+  }
+
+  /** Records the latency of a request, in nanoseconds. */
+  public void record(long nanos) {
+    long micros = Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 0);
+    counts.incrementAndGet(bucketOf(micros));
+    count.incrementAndGet();
+    sumMicros.addAndGet(micros);
+    long max = maxMicros.get();
+    while (micros > max && !maxMicros.compareAndSet(max, micros)) {
+      max = maxMicros.get();
+    }
+  }
+
+  /** Records a failed request. */
+  public void recordError() {
+    errors.incrementAndGet();
+  }
+
+  /** Returns the number of recorded latencies. */
+  public long getCount() {
+    return count.get();
+  }
+
+  /** Returns the number of failed requests. */
+  public long getErrors() {
+    return errors.get();
+  }
+
+  /** Returns the sum of the recorded latencies, in microseconds. */
+  public long getSumMicros() {
+    return sumMicros.get();
+  }
+
+  /** Returns the mean latency, in microseconds. */
+  public long getMeanMicros() {
+    long n = count.get();
+    return n == 0 ? 0 : sumMicros.get() / n;
+  }
+
+  /** Returns the maximal latency, in microseconds. */
+  public long getMaxMicros() {
+    return maxMicros.get();
+  }
+
+  /**
+   * Returns a percentile of the latencies, in microseconds.
+   * <p>The result is the upper bound of the bucket of the percentile.
+   *
+   * @param percentile The percentile, between 0 and 100.
+   */
+  public long getPercentileMicros(double percentile) {
+    long total = 0;
+    for (int i = 0; i < BUCKETS; ++i) {
+      total += counts.get(i);
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = (long) Math.ceil(total * percentile / 100);
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; ++i) {
+      seen += counts.get(i);
+      if (seen >= Math.max(rank, 1)) {
+        return Math.min(upperBoundOf(i), maxMicros.get());
+      }
+    }
+    return maxMicros.get();
+  }
+
+  /** Returns the bucket of a latency. */
+  private static int bucketOf(long micros) {
+    if (micros < SUB_BUCKETS) {
+      return (int) micros;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(micros);
+    int shift = exponent - SUB_BUCKET_BITS;
+    int subBucket = (int) (micros >> shift) & (SUB_BUCKETS - 1);
+    return Math.min(SUB_BUCKETS * (shift + 1) + subBucket, BUCKETS - 1);
+  }
+
+  /** Returns the largest latency in a bucket. */
+  private static long upperBoundOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    long subBucket = bucket % SUB_BUCKETS;
+    return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+  }
+}
@@ -0,0 +1,78 @@
+package com.gilran.chess.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The metrics of a single web-service method: the latency histogram of the
+ * completed requests, and the number of requests in progress.
+ *
+ * <p>The latency of a request is measured from the time it is received until
+ * its response is ready, so it includes the time a getEvents request waits
+ * for a new event.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class MethodMetrics implements MethodMetricsMBean {
+  /** The name of the method. */
+  private final String method;
+  /** The latencies and the errors of the completed requests. */
+  private final LatencyHistogram histogram;
+  /** The number of requests in progress. */
+  private final AtomicInteger inFlight;
+
+  /** Constructor. */
+  public MethodMetrics(String method) {
+    this.method = method;
+    this.histogram = new LatencyHistogram();
+    this.inFlight = new AtomicInteger();
+  }
+
+  /**
+   * Records that a request started.
+   *
+   * @return The start time of the request, to be passed to ended.
+   */
+  public long started() {
+    inFlight.incrementAndGet();
+    return System.nanoTime();
+  }
+
+  /**
+   * Records that a request ended.
+   *
+   * @param startNanos The start time, as returned by started.
+   * @param error true iff the request failed.
+   */
+  public void ended(long startNanos, boolean error) {
+    histogram.record(System.nanoTime() - startNanos);
+    if (error) {
+      histogram.recordError();
+    }
+    inFlight.decrementAndGet();
+  }
+
+  /** Returns the name of the method. */
+  public String getMethod() {
+    return method;
+  }
+
+  /** Returns the latency histogram. */
+  public LatencyHistogram getHistogram() {
+    return histogram;
+  }
+
+  @Override
+  public long getCount() { return histogram.getCount(); }
+  @Override
+  public long getErrors() { return histogram.getErrors(); }
+  @Override
+  public int getInFlight() { return inFlight.get(); }
+  @Override
+  public long getMeanMicros() { return histogram.getMeanMicros(); }
+  @Override
+  public long getP50Micros() { return histogram.getPercentileMicros(50); }
+  @Override
+  public long getP99Micros() { return histogram.getPercentileMicros(99); }
+  @Override
+  public long getMaxMicros() { return histogram.getMaxMicros(); }
+}
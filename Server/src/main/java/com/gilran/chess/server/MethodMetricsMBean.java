@@ -0,0 +1,23 @@
+package com.gilran.chess.server;
+
+/**
+ * The JMX interface of MethodMetrics.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public interface MethodMetricsMBean {
+  /** Returns the number of completed requests. */
+  long getCount();
+  /** Returns the number of completed requests that failed. */
+  long getErrors();
+  /** Returns the number of requests in progress. */
+  int getInFlight();
+  /** Returns the mean latency, in microseconds. */
+  long getMeanMicros();
+  /** Returns the median latency, in microseconds. */
+  long getP50Micros();
+  /** Returns the 99th percentile latency, in microseconds. */
+  long getP99Micros();
+  /** Returns the maximal latency, in microseconds. */
+  long getMaxMicros();
+}
@@ -0,0 +1,104 @@
+package com.gilran.chess.server;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A hash map from long keys to long values, stored off the java heap.
+ *
+ * <p>The map is an open-addressing hash table with linear probing, kept in a
+ * direct ByteBuffer. Each slot holds a key and a value (16 bytes). Key 0 marks
+ * an empty slot, so it cannot be used as a key.
+ * <p>The map is not thread-safe.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+/* package */ class OffHeapIndex {
+  /** The size of a slot in bytes. */
+  private static final int SLOT_SIZE = 16;
+  /** The maximal load factor before the table is grown. */
+  private static final double MAX_LOAD = 0.6;
+
+  /** The table. */
+  private ByteBuffer table;
+  /** The number of slots in the table (a power of 2). */
+  private int capacity;
+  /** The number of keys in the map. */
+  private int size;
+
+  /** Constructor. */
+  OffHeapIndex(int initialCapacity) {
+    capacity = Integer.highestOneBit(Math.max(initialCapacity, 16) - 1) << 1;
+    table = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+    size = 0;
+  }
+
+  /** Returns the number of keys in the map. */
+  int size() { return size; }
+
+  /** Returns the value of the given key, or the default value if missing. */
+  long get(long key, long defaultValue) {
+    int slot = find(table, capacity, key);
+    if (table.getLong(slot * SLOT_SIZE) == 0) {
+      return defaultValue;
+    }
+    return table.getLong(slot * SLOT_SIZE + 8);
+  }
+
+  /** Sets the value of the given key. */
+  void put(long key, long value) {
+    if (key == 0) {
+      throw new IllegalArgumentException("0 is not a valid key.");
+    }
+    if (size + 1 > capacity * MAX_LOAD) {
+      grow();
+    }
+    int slot = find(table, capacity, key);
+    if (table.getLong(slot * SLOT_SIZE) == 0) {
+      size++;
+    }
+    table.putLong(slot * SLOT_SIZE, key);
+    table.putLong(slot * SLOT_SIZE + 8, value);
+  }
+
+  /** Doubles the table capacity, rehashing all the keys. */
+  private void grow() {
+    int newCapacity = capacity * 2;
+    ByteBuffer newTable = ByteBuffer.allocateDirect(newCapacity * SLOT_SIZE);
+    for (int slot = 0; slot < capacity; slot++) {
+      long key = table.getLong(slot * SLOT_SIZE);
+      if (key == 0) {
+        continue;
+      }
+      int newSlot = find(newTable, newCapacity, key);
+      newTable.putLong(newSlot * SLOT_SIZE, key);
+      newTable.putLong(
+          newSlot * SLOT_SIZE + 8, table.getLong(slot * SLOT_SIZE + 8));
+    }
+    table = newTable;
+    capacity = newCapacity;
+  }
+
+  /**
+   * Returns the slot that holds the given key, or the empty slot where it
+   * should be inserted.
+   */
+  private static int find(ByteBuffer table, int capacity, long key) {
+    int mask = capacity - 1;
+    int slot = (int) (mix(key) & mask);
+    while (true) {
+      long slotKey = table.getLong(slot * SLOT_SIZE);
+      if (slotKey == 0 || slotKey == key) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  /** Mixes the bits of the key, so similar keys spread over the table. */
+  private static long mix(long key) {
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+    return key;
+  }
+}
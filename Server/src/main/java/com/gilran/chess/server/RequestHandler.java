@@ -3,24 +3,34 @@ package com.gilran.chess.server;
 import com.gilran.chess.JsonParser;
 import com.gilran.chess.Proto.ErrorResponse;
 import com.gilran.chess.Proto.Status;
+import com.gilran.chess.board.MoveTrace;
+import com.gilran.chess.board.MoveTracer;
 
+import com.google.common.base.Charsets;
+import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Predicate;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.Message;
 
 import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 /**
@@ -37,6 +47,12 @@ import javax.ws.rs.core.Response;
  * with another class that translates protobuf messages from and to some other
  * format we can replace the network protocol without making any changes in
  * implementation of other modules.
+ * <p>The request handler also measures the requests, and exports the metrics
+ * over JMX, and as a scrape page at the "metrics" path. The sampled traces of
+ * the moves made in the games are listed at the "traces" path. Completed
+ * requests are logged asynchronously by the RequestLog, and requests are
+ * admitted by the AdmissionControl, which limits the request rate of each
+ * session and the number of requests in progress.
  */
 @Path("/")
 public class RequestHandler {
@@ -44,14 +60,43 @@ public class RequestHandler {
   private static final Logger LOGGER = Logger.getLogger(
       Thread.currentThread().getStackTrace()[0].getClassName());
 
+  /** The media type of the encoded shared responses. */
+  private static final MediaType JSON_MEDIA_TYPE =
+      MediaType.TEXT_PLAIN_TYPE.withCharset(Charsets.UTF_8.name());
+  /**
+   * Encodes shared responses as JSON bytes. The same bytes are then written to
+   * all the responses.
+   */
+  private static final Function<Message, byte[]> JSON_ENCODER =
+      new Function<Message, byte[]>() {
+        @Override
+        public byte[] apply(Message message) {
+          return JsonParser.toJson(message).getBytes(Charsets.UTF_8);
+        }
+      };
+
   /** The Chess service implementation class. */
   private static ServiceImpl service;
   /** A from available method names to the methods themselves. */
   private static Map<String, Method> methodsMap;
+  /** The request metrics. */
+  private static RequestMetrics metrics;
+  /** The request log. */
+  private static RequestLog requestLog;
+  /** The admission control. */
+  private static AdmissionControl admissionControl;
 
   static {
     service = new ServiceImpl();
     methodsMap = Maps.newHashMap();
+    metrics = new RequestMetrics();
+    requestLog = RequestLog.fromSystemProperties();
+    admissionControl = new AdmissionControl(new Predicate<String>() {
+      @Override
+      public boolean apply(String sessionToken) {
+        return service.hasSession(sessionToken);
+      }
+    });
 
     Set<Method> methods = Sets.newHashSet(service.getClass().getMethods());
     methods.removeAll(
@@ -67,7 +112,44 @@ public class RequestHandler {
 
       LOGGER.info("Registering method: " + method.getName());
       methodsMap.put(method.getName(), method);
+      metrics.addMethod(method.getName());
+      admissionControl.addMethod(
+          method.getName(), getDescriptor(paramTypes[0]));
     }
+    service.addGauges(metrics);
+    admissionControl.addGauges(metrics);
+    metrics.addGauge(new Gauge(
+        "request_log_dropped",
+        "The number of request log entries dropped as the log was full.") {
+      @Override
+      public long getValue() {
+        return requestLog.getDropped();
+      }
+    });
+    metrics.registerMBeans();
+  }
+
+  /** Returns the request metrics, in the Prometheus text format. */
+  @GET
+  @Path("/metrics")
+  @Produces(MediaType.TEXT_PLAIN)
+  public String metrics() {
+    return metrics.scrape();
+  }
+
+  /**
+   * Returns the sampled traces of the moves made in the games, slowest first.
+   * Tracing is turned on by the chess.trace.sampleEvery system property.
+   */
+  @GET
+  @Path("/traces")
+  @Produces(MediaType.TEXT_PLAIN)
+  public String traces() {
+    StringBuilder out = new StringBuilder();
+    for (MoveTrace trace : MoveTracer.dump(true)) {
+      out.append(trace).append('\n');
+    }
+    return out.toString();
   }
 
   /**
@@ -82,11 +164,13 @@ public class RequestHandler {
   @GET
   @Path("/{method}")
   public void get(
-      @PathParam("method") String methodName,
-      @QueryParam("r") String requestJson,
+      @PathParam("method") final String methodName,
+      @QueryParam("r") final String requestJson,
       @Suspended final AsyncResponse asyncResponse) {
-    LOGGER.info(methodName + "(" + requestJson + ")");
     if (requestJson == null || requestJson.isEmpty()) {
+      metrics.badRequest();
+      requestLog.log(
+          methodName, RequestLog.Outcome.BAD_REQUEST, requestJson);
       asyncResponse.resume(
           Response.status(Response.Status.BAD_REQUEST).build());
       return;
@@ -94,6 +178,9 @@ public class RequestHandler {
 
     Method method = methodsMap.get(methodName);
     if (method == null) {
+      metrics.badRequest();
+      requestLog.log(
+          methodName, RequestLog.Outcome.NOT_FOUND, requestJson);
       asyncResponse.resume(Response.status(Response.Status.NOT_FOUND).build());
       return;
     }
@@ -101,26 +188,99 @@ public class RequestHandler {
     Message request =
       JsonParser.toProto(requestJson, method.getParameterTypes()[0]);
     if (request == null || !request.isInitialized()) {
+      metrics.badRequest();
+      requestLog.log(
+          methodName, RequestLog.Outcome.BAD_REQUEST, requestJson);
       asyncResponse.resume(
           Response.status(Response.Status.BAD_REQUEST).build());
       return;
     }
 
-    ServiceImpl.Callback callback = new ServiceImpl.Callback() {
+    Status admission = admissionControl.enter(methodName, request);
+    if (admission != Status.OK) {
+      requestLog.log(methodName, RequestLog.Outcome.REJECTED, requestJson);
+      asyncResponse.resume(JsonParser.toJson(
+          ErrorResponse.newBuilder().setStatus(admission).build()));
+      return;
+    }
+
+    final MethodMetrics methodMetrics = metrics.get(methodName);
+    final long startNanos = methodMetrics.started();
+    // Cleared when the request leaves the concurrency limit.
+    final AtomicBoolean admitted = new AtomicBoolean(true);
+    ServiceImpl.Callback callback = new ServiceImpl.SharedCallback() {
       public void run(Message response) {
         Preconditions.checkNotNull(response);
+        ended(response);
         asyncResponse.resume(JsonParser.toJson(response));
       }
+
+      public void run(SharedResponse response) {
+        ended(response.getMessage());
+        asyncResponse.resume(Response
+            .ok(response.getEncoded(JSON_ENCODER))
+            .type(JSON_MEDIA_TYPE)
+            .build());
+      }
+
+      /** Records the end of the request. */
+      private void ended(Message response) {
+        boolean error = isError(response);
+        exitAdmission(admitted);
+        methodMetrics.ended(startNanos, error);
+        requestLog.log(methodName,
+            error ? RequestLog.Outcome.ERROR : RequestLog.Outcome.OK,
+            startNanos,
+            requestJson);
+      }
     };
 
     Status status;
     try {
       status = (Status) method.invoke(service, request, callback);
     } catch (Exception e) {
+      exitAdmission(admitted);
+      methodMetrics.ended(startNanos, true);
+      requestLog.log(
+          methodName, RequestLog.Outcome.ERROR, startNanos, requestJson);
       throw new RuntimeException(e);
     }
+    // A request that is still waiting (for game events, an opponent or an
+    // analysis) is parked, and holds no thread. Parked requests have limits
+    // of their own, so they are not counted by the concurrency limit.
+    exitAdmission(admitted);
     if (status != Status.OK) {
       callback.run(ErrorResponse.newBuilder().setStatus(status).build());
     }
   }
+
+  /**
+   * Takes a request out of the concurrency limit, unless it was already taken
+   * out: when it was answered, or when its method returned.
+   */
+  private static void exitAdmission(AtomicBoolean admitted) {
+    if (admitted.getAndSet(false)) {
+      admissionControl.exit();
+    }
+  }
+
+  /** Returns the descriptor of a protobuf message class. */
+  private static Descriptor getDescriptor(Class<?> messageClass) {
+    try {
+      return (Descriptor) messageClass.getMethod("getDescriptor").invoke(null);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /** Returns true iff the response has a status other than OK. */
+  private static boolean isError(Message response) {
+    FieldDescriptor statusField =
+        response.getDescriptorForType().findFieldByName("status");
+    return statusField != null &&
+        statusField.getType() == FieldDescriptor.Type.ENUM &&
+        response.hasField(statusField) &&
+        !response.getField(statusField).equals(
+            Status.OK.getValueDescriptor());
+  }
 }
@@ -0,0 +1,343 @@
+package com.gilran.chess.server;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An asynchronous structured log of the web service requests.
+ *
+ * <p>Each completed request is logged as a single JSON line, with its time,
+ * method, outcome, latency and request. The request thread only puts an entry
+ * in a lock-free ring buffer, and a background writer thread drains the buffer
+ * in batches, formats the entries and writes them. The request thread never
+ * blocks on the log: if the writer falls behind (e.g. because the disk is
+ * slow) and the buffer is full, new entries are dropped and counted.
+ * <p>Successful requests are sampled, and only one of every sampleEvery of
+ * them is logged (on average). Failed and bad requests are always logged. The
+ * values of the redacted fields (by default, the session tokens) are replaced
+ * in the logged requests, so the log cannot be used to hijack sessions.
+ * <p>The log is configured by the system properties chess.requestLog.file (if
+ * not set, the lines are passed to java.util.logging by the writer thread),
+ * chess.requestLog.bufferSize, chess.requestLog.sampleEvery (0 to log only the
+ * failed requests), chess.requestLog.redact (a comma separated list of field
+ * names) and chess.requestLog.flushMillis.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class RequestLog {
+  /** Logger. */
+  private static final Logger LOGGER = Logger.getLogger(
+      Thread.currentThread().getStackTrace()[0].getClassName());
+
+  /** The maximal number of entries written in a single batch. */
+  private static final int MAX_BATCH = 1024;
+  /** The value that replaces the values of the redacted fields. */
+  private static final String REDACTED = "***";
+
+  /** The outcome of a request. */
+  public enum Outcome {
+    /** The request succeeded. */
+    OK,
+    /** The service returned an error status. */
+    ERROR,
+    /** The request was missing or invalid. */
+    BAD_REQUEST,
+    /** There is no such method. */
+    NOT_FOUND,
+    /** The request was refused by the admission control. */
+    REJECTED
+  }
+
+  /** A log entry. Created by a request thread, and formatted by the writer. */
+  private static class Entry {
+    /** The time the request ended (as in System.currentTimeMillis). */
+    final long timeMillis;
+    /** The method name. */
+    final String method;
+    /** The outcome of the request. */
+    final Outcome outcome;
+    /** The latency of the request, in nanoseconds (-1 if not measured). */
+    final long latencyNanos;
+    /** The request JSON, as received. */
+    final String request;
+
+    /** Constructor. */
+    Entry(String method, Outcome outcome, long latencyNanos, String request) {
+      this.timeMillis = System.currentTimeMillis();
+      this.method = method;
+      this.outcome = outcome;
+      this.latencyNanos = latencyNanos;
+      this.request = request;
+    }
+  }
+
+  /** The ring buffer. A null slot was not published yet, or was written. */
+  private final AtomicReferenceArray<Entry> ring;
+  /** The number of entries ever claimed by the request threads. */
+  private final AtomicLong tail;
+  /** The number of entries ever written. Only modified by the writer. */
+  private volatile long head;
+  /** The number of entries dropped because the buffer was full. */
+  private final AtomicLong dropped;
+  /** Log one of every sampleEvery successful requests (0 for none). */
+  private final int sampleEvery;
+  /** Matches the redacted fields and their values (null if none). */
+  private final Pattern redactPattern;
+  /** The output of the log (null to use java.util.logging). */
+  private final Writer out;
+  /** The time to wait for new entries when the buffer is empty. */
+  private final long flushMillis;
+
+  /**
+   * Constructor. Starts the writer thread.
+   *
+   * @param bufferSize The number of entries in the ring buffer.
+   * @param sampleEvery Log one of every given number of successful requests
+   *     (0 to log only the failed requests).
+   * @param redactedFields The names of the request fields whose values are
+   *     not logged.
+   * @param out The output of the log (null to pass the lines to
+   *     java.util.logging).
+   * @param flushMillis The time the writer waits for new entries when the
+   *     buffer is empty, in milliseconds.
+   */
+  public RequestLog(
+      int bufferSize,
+      int sampleEvery,
+      Iterable<String> redactedFields,
+      Writer out,
+      long flushMillis) {
+    Preconditions.checkArgument(bufferSize > 0);
+    Preconditions.checkArgument(sampleEvery >= 0);
+    Preconditions.checkArgument(flushMillis > 0);
+    this.ring = new AtomicReferenceArray<Entry>(bufferSize);
+    this.tail = new AtomicLong();
+    this.dropped = new AtomicLong();
+    this.sampleEvery = sampleEvery;
+    this.redactPattern = redactPattern(redactedFields);
+    this.out = out;
+    this.flushMillis = flushMillis;
+
+    Thread writer = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        writeLoop();
+      }
+    }, "request-log-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /** Creates a request log configured by the system properties. */
+  public static RequestLog fromSystemProperties() {
+    Writer out = null;
+    String file = System.getProperty("chess.requestLog.file");
+    if (file != null) {
+      try {
+        out = new BufferedWriter(new OutputStreamWriter(
+            new FileOutputStream(file, true), Charsets.UTF_8));
+      } catch (IOException e) {
+        LOGGER.log(Level.WARNING, "Failed to open " + file
+            + ". Logging requests to java.util.logging instead.", e);
+      }
+    }
+    return new RequestLog(
+        Integer.getInteger("chess.requestLog.bufferSize", 8192),
+        Integer.getInteger("chess.requestLog.sampleEvery", 1),
+        Splitter.on(',').trimResults().omitEmptyStrings().split(
+            System.getProperty("chess.requestLog.redact", "session_token")),
+        out,
+        Long.getLong("chess.requestLog.flushMillis", 200));
+  }
+
+  /** Returns the number of entries dropped because the buffer was full. */
+  public long getDropped() {
+    return dropped.get();
+  }
+
+  /**
+   * Logs a completed request. Never blocks.
+   *
+   * @param method The method name.
+   * @param outcome The outcome of the request.
+   * @param startNanos The time the request started (as in System.nanoTime).
+   * @param request The request JSON, as received.
+   */
+  public void log(
+      String method, Outcome outcome, long startNanos, String request) {
+    if (isSampled(outcome)) {
+      add(new Entry(method, outcome, System.nanoTime() - startNanos, request));
+    }
+  }
+
+  /**
+   * Logs a request that was not measured (e.g. a bad request). Never blocks.
+   *
+   * @param method The method name.
+   * @param outcome The outcome of the request.
+   * @param request The request JSON, as received.
+   */
+  public void log(String method, Outcome outcome, String request) {
+    if (isSampled(outcome)) {
+      add(new Entry(method, outcome, -1, request));
+    }
+  }
+
+  /** Returns true iff a request with the given outcome should be logged. */
+  private boolean isSampled(Outcome outcome) {
+    return outcome != Outcome.OK || sampleEvery == 1 ||
+        (sampleEvery > 1 &&
+         ThreadLocalRandom.current().nextInt(sampleEvery) == 0);
+  }
+
+  /** Adds an entry to the ring buffer, or drops it if the buffer is full. */
+  private void add(Entry entry) {
+    while (true) {
+      long index = tail.get();
+      if (index - head >= ring.length()) {
+        dropped.incrementAndGet();
+        return;
+      }
+      if (tail.compareAndSet(index, index + 1)) {
+        ring.set((int) (index % ring.length()), entry);
+        return;
+      }
+    }
+  }
+
+  /** Drains the ring buffer in batches, until the thread is interrupted. */
+  private void writeLoop() {
+    StringBuilder batch = new StringBuilder();
+    while (!Thread.currentThread().isInterrupted()) {
+      int count = 0;
+      while (count < MAX_BATCH) {
+        int slot = (int) (head % ring.length());
+        Entry entry = ring.get(slot);
+        if (entry == null) {
+          // The buffer is empty, or the next entry is not published yet.
+          break;
+        }
+        // Clear the slot before releasing it to the request threads.
+        ring.set(slot, null);
+        head = head + 1;
+        format(entry, batch);
+        ++count;
+      }
+      if (count == 0) {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushMillis));
+        continue;
+      }
+      write(batch);
+      batch.setLength(0);
+    }
+  }
+
+  /** Writes a batch of formatted entries. */
+  private void write(StringBuilder batch) {
+    if (out == null) {
+      batch.setLength(batch.length() - 1);
+      LOGGER.info(batch.toString());
+      return;
+    }
+    try {
+      out.append(batch);
+      out.flush();
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Failed to write the request log.", e);
+    }
+  }
+
+  /** Formats an entry as a JSON line. */
+  private void format(Entry entry, StringBuilder line) {
+    line.append("{\"time\":").append(entry.timeMillis)
+        .append(",\"method\":");
+    appendString(entry.method, line);
+    line.append(",\"outcome\":\"").append(entry.outcome.name().toLowerCase())
+        .append('"');
+    if (entry.latencyNanos >= 0) {
+      line.append(",\"latency_us\":").append(entry.latencyNanos / 1000);
+    }
+    line.append(",\"request\":");
+    appendString(redact(entry.request), line);
+    line.append("}\n");
+  }
+
+  /** Replaces the values of the redacted fields in a request JSON. */
+  private String redact(String request) {
+    if (request == null || redactPattern == null) {
+      return request;
+    }
+    Matcher matcher = redactPattern.matcher(request);
+    return matcher.find()
+        ? matcher.replaceAll("$1\"" + REDACTED + "\"")
+        : request;
+  }
+
+  /**
+   * Returns a pattern that matches the given fields and their string values,
+   * capturing the name and the colon, or null if there are no fields.
+   */
+  private static Pattern redactPattern(Iterable<String> fields) {
+    StringBuilder names = new StringBuilder();
+    for (String field : fields) {
+      names.append(names.length() == 0 ? "" : "|").append(Pattern.quote(field));
+    }
+    if (names.length() == 0) {
+      return null;
+    }
+    return Pattern.compile(
+        "(\"(?:" + names + ")\"\\s*:\\s*)\"(?:[^\"\\\\]|\\\\.)*\"");
+  }
+
+  /** Appends a string as a quoted and escaped JSON string (or null). */
+  private static void appendString(String value, StringBuilder line) {
+    if (value == null) {
+      line.append("null");
+      return;
+    }
+    line.append('"');
+    for (int i = 0; i < value.length(); ++i) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          line.append("\\\"");
+          break;
+        case '\\':
+          line.append("\\\\");
+          break;
+        case '\n':
+          line.append("\\n");
+          break;
+        case '\r':
+          line.append("\\r");
+          break;
+        case '\t':
+          line.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            line.append(String.format("\\u%04x", (int) c));
+          } else {
+            line.append(c);
+          }
+      }
+    }
+    line.append('"');
+  }
+}
@@ -0,0 +1,181 @@
+package com.gilran.chess.server;
+
+import com.google.common.base.Preconditions;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * The metrics of the web service: the metrics of each method, and gauges of
+ * the service state.
+ *
+ * <p>The metrics are exported over JMX, and as a scrape page in the Prometheus
+ * text format. Recording a request only updates a few atomic counters; all the
+ * aggregation is done when the metrics are read, so the metrics cost almost
+ * nothing when no one is reading them.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class RequestMetrics {
+  /** Logger. */
+  private static final Logger LOGGER = Logger.getLogger(
+      Thread.currentThread().getStackTrace()[0].getClassName());
+
+  /** The JMX domain of the metrics. */
+  private static final String DOMAIN = "com.gilran.chess.server";
+  /** The prefix of the metric names in the scrape page. */
+  private static final String PREFIX = "chess_";
+  /** The latency quantiles in the scrape page. */
+  private static final double[] QUANTILES = { 0.5, 0.9, 0.99, 0.999 };
+
+  /** The metrics of the methods, by method name. */
+  private final Map<String, MethodMetrics> methods;
+  /** The gauges. */
+  private final List<Gauge> gauges;
+  /** The number of requests for unknown methods, or with invalid requests. */
+  private final AtomicLong badRequests;
+
+  /** Constructor. */
+  public RequestMetrics() {
+    methods = new ConcurrentSkipListMap<String, MethodMetrics>();
+    gauges = new CopyOnWriteArrayList<Gauge>();
+    badRequests = new AtomicLong();
+    addGauge(new Gauge(
+        "bad_requests",
+        "The number of requests for unknown methods, or invalid requests.") {
+      @Override
+      public long getValue() {
+        return badRequests.get();
+      }
+    });
+  }
+
+  /** Adds a method, and returns its metrics. */
+  public MethodMetrics addMethod(String method) {
+    MethodMetrics metrics = new MethodMetrics(method);
+    Preconditions.checkState(methods.put(method, metrics) == null);
+    return metrics;
+  }
+
+  /** Returns the metrics of a method, or null if there is no such method. */
+  public MethodMetrics get(String method) {
+    return methods.get(method);
+  }
+
+  /** Adds a gauge. */
+  public void addGauge(Gauge gauge) {
+    gauges.add(gauge);
+  }
+
+  /** Records a request for an unknown method, or with an invalid request. */
+  public void badRequest() {
+    badRequests.incrementAndGet();
+  }
+
+  /** Registers the metrics of the methods and the gauges over JMX. */
+  public void registerMBeans() {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    for (MethodMetrics metrics : methods.values()) {
+      register(server, metrics, MethodMetricsMBean.class,
+          "type=RequestMetrics,method=" + metrics.getMethod());
+    }
+    for (Gauge gauge : gauges) {
+      register(server, gauge, GaugeMBean.class,
+          "type=Gauge,name=" + gauge.getName());
+    }
+  }
+
+  /** Registers a single MBean. */
+  private static <T> void register(
+      MBeanServer server, T bean, Class<T> beanInterface, String properties) {
+    String name = DOMAIN + ":" + properties;
+    try {
+      server.registerMBean(
+          new StandardMBean(bean, beanInterface), new ObjectName(name));
+    } catch (Exception e) {
+      LOGGER.log(Level.WARNING, "Failed to register " + name, e);
+    }
+  }
+
+  /** Returns the metrics in the Prometheus text format. */
+  public String scrape() {
+    StringBuilder out = new StringBuilder();
+
+    header(out, "requests_total", "counter",
+        "The number of completed requests.");
+    for (MethodMetrics metrics : methods.values()) {
+      sample(out, "requests_total", metrics, null, metrics.getCount());
+    }
+    header(out, "request_errors_total", "counter",
+        "The number of completed requests that failed.");
+    for (MethodMetrics metrics : methods.values()) {
+      sample(out, "request_errors_total", metrics, null, metrics.getErrors());
+    }
+    header(out, "requests_in_flight", "gauge",
+        "The number of requests in progress.");
+    for (MethodMetrics metrics : methods.values()) {
+      sample(out, "requests_in_flight", metrics, null, metrics.getInFlight());
+    }
+
+    header(out, "request_latency_seconds", "summary",
+        "The latency of the completed requests.");
+    for (MethodMetrics metrics : methods.values()) {
+      LatencyHistogram histogram = metrics.getHistogram();
+      for (double quantile : QUANTILES) {
+        sample(out, "request_latency_seconds", metrics,
+            String.valueOf(quantile),
+            seconds(histogram.getPercentileMicros(quantile * 100)));
+      }
+      sample(out, "request_latency_seconds_sum", metrics, null,
+          seconds(histogram.getSumMicros()));
+      sample(out, "request_latency_seconds_count", metrics, null,
+          histogram.getCount());
+    }
+
+    for (Gauge gauge : gauges) {
+      header(out, gauge.getName(), "gauge", gauge.getHelp());
+      out.append(PREFIX).append(gauge.getName()).append(' ')
+          .append(gauge.getValue()).append('\n');
+    }
+    return out.toString();
+  }
+
+  /** Appends the header of a metric. */
+  private static void header(
+      StringBuilder out, String name, String type, String help) {
+    out.append("# HELP ").append(PREFIX).append(name).append(' ')
+        .append(help).append('\n');
+    out.append("# TYPE ").append(PREFIX).append(name).append(' ')
+        .append(type).append('\n');
+  }
+
+  /** Appends a sample of a method metric. */
+  private static void sample(
+      StringBuilder out,
+      String name,
+      MethodMetrics metrics,
+      String quantile,
+      Object value) {
+    out.append(PREFIX).append(name)
+        .append("{method=\"").append(metrics.getMethod()).append('"');
+    if (quantile != null) {
+      out.append(",quantile=\"").append(quantile).append('"');
+    }
+    out.append("} ").append(value).append('\n');
+  }
+
+  /** Converts microseconds to seconds. */
+  private static double seconds(long micros) {
+    return micros / 1e6;
+  }
+}
@@ -1,15 +1,36 @@
 package com.gilran.chess.server;
 
 import com.gilran.chess.Proto.*;
+import com.gilran.chess.board.Coordinate;
 import com.gilran.chess.board.ForsythEdwardsNotation;
+import com.gilran.chess.board.ForsythEdwardsNotation.InvalidFENStringException;
+import com.gilran.chess.board.GameHistory;
+import com.gilran.chess.board.LegalMovesCache;
+import com.gilran.chess.board.Move;
 import com.gilran.chess.board.Piece;
+import com.gilran.chess.board.Position;
+import com.gilran.chess.board.Search;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
 import com.google.protobuf.Message;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * The chess service implementation.
@@ -24,6 +45,97 @@ import java.util.Random;
  * @author Gil Ran <gilrun@gmail.com>
  */
 public class ServiceImpl {
+  /** Logger. */
+  private static final Logger LOGGER = Logger.getLogger(
+      Thread.currentThread().getStackTrace()[0].getClassName());
+
+  /**
+   * The system property holding the game journal directory. If it is not set,
+   * games are not journaled.
+   */
+  private static final String JOURNAL_DIR_PROPERTY = "chess.journal.dir";
+  /** The interval between game snapshot rounds, in seconds. */
+  private static final long SNAPSHOT_INTERVAL_SECONDS =
+      Long.getLong("chess.snapshot.intervalSeconds", 30);
+  /** The minimal number of new game events for taking a new snapshot. */
+  private static final int SNAPSHOT_MIN_EVENTS =
+      Integer.getInteger("chess.snapshot.minEvents", 20);
+  /**
+   * The system property holding the finished games archive file. If it is not
+   * set, finished games are not archived.
+   */
+  private static final String ARCHIVE_FILE_PROPERTY = "chess.archive.file";
+  /**
+   * The delay between the end of a game and its archiving and release, in
+   * seconds.
+   */
+  private static final long ARCHIVE_DELAY_SECONDS =
+      Long.getLong("chess.archive.delaySeconds", 60);
+  /** The base time of each player, in seconds (0 for untimed games). */
+  private static final long CLOCK_BASE_SECONDS =
+      Long.getLong("chess.clock.baseSeconds", 0);
+  /** The time added to a player after each move, in seconds. */
+  private static final long CLOCK_INCREMENT_SECONDS =
+      Long.getLong("chess.clock.incrementSeconds", 0);
+  /** The tick duration of the timer, in milliseconds. */
+  private static final long TIMER_TICK_MILLIS = 50;
+  /** The number of buckets in the timer wheel. */
+  private static final int TIMER_WHEEL_SIZE = 1024;
+  /** The time a getEvents request may wait for a new event, in seconds. */
+  private static final long EVENTS_WAIT_TIMEOUT_SECONDS =
+      Long.getLong("chess.events.waitTimeoutSeconds", 30);
+  /** The maximal number of waiting getEvents requests in all games. */
+  private static final int EVENTS_MAX_WAITING =
+      Integer.getInteger("chess.events.maxWaiting", 100000);
+  /** The maximal number of waiting getEvents requests in a single game. */
+  private static final int EVENTS_MAX_WAITING_PER_GAME =
+      Integer.getInteger("chess.events.maxWaitingPerGame", 16);
+  /** The maximal number of spectators waiting for the next event of a game. */
+  private static final int SPECTATE_MAX_WAITING =
+      Integer.getInteger("chess.spectate.maxWaiting", 10000);
+  /** The number of threads that send game events to spectators. */
+  private static final int SPECTATE_FANOUT_THREADS =
+      Integer.getInteger("chess.spectate.fanoutThreads", 2);
+  /** The maximal number of moves of an imported game. */
+  private static final int IMPORT_MAX_PLIES =
+      Integer.getInteger("chess.import.maxPlies", 1000);
+  /** The bits of the squares of an imported move. */
+  private static final int IMPORT_SQUARES_BITS = 12;
+  /** The bits of an imported move (the squares and the promotion piece). */
+  private static final int IMPORT_MOVE_BITS = 15;
+  /** The name of an imported game's player that was not given. */
+  private static final String UNKNOWN_PLAYER = "?";
+  /** The maximal depth of an analysis, in plies. */
+  private static final int ANALYSIS_MAX_DEPTH =
+      Integer.getInteger("chess.analysis.maxDepth", 4);
+  /** The maximal number of nodes an analysis searches. */
+  private static final long ANALYSIS_MAX_NODES =
+      Long.getLong("chess.analysis.maxNodes", 50000);
+  /** The maximal time of an analysis, in milliseconds. */
+  private static final long ANALYSIS_MAX_MILLIS =
+      Long.getLong("chess.analysis.maxMillis", 5000);
+  /** The maximal number of lines of a streamed analysis. */
+  private static final int ANALYSIS_MAX_LINES =
+      Integer.getInteger("chess.analysis.maxLines", 4);
+  /**
+   * The time a poll of a streamed analysis' events may wait for an event, in
+   * milliseconds. It is short, so a live client polls again well within the
+   * idle time.
+   */
+  private static final long ANALYSIS_POLL_MILLIS =
+      Long.getLong("chess.analysis.pollMillis", 1000);
+  /**
+   * The time after which a streamed analysis whose events are not polled is
+   * stopped and released, in milliseconds. It is longer than the poll wait,
+   * and shorter than the maximal time of an analysis, so the search of a
+   * client that is gone is stopped before its budget runs out.
+   */
+  private static final long ANALYSIS_IDLE_MILLIS =
+      Long.getLong("chess.analysis.idleMillis", 2500);
+  /** The maximal number of archived games kept ready for replay. */
+  private static final long REPLAY_CACHE_SIZE =
+      Long.getLong("chess.replay.cacheSize", 256);
+
   /** An interface for service methods callbacks. */
   public interface Callback {
     /**
@@ -34,6 +146,21 @@ public class ServiceImpl {
     void run(Message response);
   }
 
+  /**
+   * A callback that can also take a shared response.
+   * <p>The network layer should pass such a callback, so shared responses are
+   * encoded only once for all their callbacks. Other callbacks get the shared
+   * response's message.
+   */
+  public interface SharedCallback extends Callback {
+    /**
+     * Runs the callback.
+     *
+     * @param response The shared response. Must not be modified.
+     */
+    void run(SharedResponse response);
+  }
+
   /** A class for a pending seek. */
   private static class PendingSeek {
     /** Random utility. */
@@ -49,8 +176,12 @@ public class ServiceImpl {
       this.callback = Preconditions.checkNotNull(callback);
     }
 
-    /** Matches two pending seeks, starting a game between the players. */
-    public static void match(PendingSeek seek1, PendingSeek seek2) {
+    /**
+     * Matches two pending seeks, starting a game between the players.
+     *
+     * @return The new game.
+     */
+    public static Game match(PendingSeek seek1, PendingSeek seek2) {
       boolean firstIsWhite = random.nextBoolean();
       String whitePlayer;
       String blackPlayer;
@@ -72,6 +203,7 @@ public class ServiceImpl {
       SeekResponse response = responseBuilder.build();
       seek1.callback.run(response);
       seek2.callback.run(response);
+      return game;
     }
   }
 
@@ -79,16 +211,222 @@ public class ServiceImpl {
   private Map<String, Session> sessions;
   /** A currently pending seek (null if there is no pending seek). */
   private PendingSeek pendingSeek;
+  /** The game snapshotter (null if games are not journaled). */
+  private GameSnapshotter snapshotter;
+  /**
+   * Games that were recovered from the journal, by game id. A recovered game
+   * is added to the sessions of its players when they login.
+   */
+  private Map<String, Game> recoveredGames;
+  /** The finished games archiver (null if games are not archived). */
+  private GameArchiver archiver;
+  /** The sessions that each game was added to, by game id. */
+  private Multimap<String, Session> gameSessions;
+  /** The timer for flag fall and for getEvents timeouts. */
+  private HashedWheelTimer timer;
+  /** The limits and counters of waiting getEvents requests. */
+  private EventWaiters eventWaiters;
+  /** The games that did not end yet, or were not archived yet, by game id. */
+  private Map<String, Game> activeGames;
+  /** The executor that sends game events to spectators. */
+  private ExecutorService spectateExecutor;
+  /** Runs the position analyses. */
+  private Analyzer analyzer;
+  /** The running streamed analyses, by analysis id. */
+  private Map<String, Future<?>> analyses;
+  /** The limits and timeouts of waiting polls of streamed analyses. */
+  private EventWaiters analysisWaiters;
+  /** The histories of recently replayed archived games, by game id. */
+  private Cache<String, GameHistory> archivedHistories;
+  /**
+   * Archives games when they end, and then releases them. If games are not
+   * archived, they are released after the same delay, so the players can
+   * still get the last events.
+   */
+  private final Game.EndListener gameEndListener = new Game.EndListener() {
+    @Override
+    public void gameEnded(final Game game) {
+      if (archiver == null) {
+        timer.schedule(new HashedWheelTimer.Task() {
+          @Override
+          public void run() {
+            release(game);
+          }
+        }, ARCHIVE_DELAY_SECONDS, TimeUnit.SECONDS);
+        return;
+      }
+      archiver.archiveLater(game, new GameArchiver.ArchivedCallback() {
+        @Override
+        public void run(Game game) {
+          release(game);
+          if (snapshotter != null) {
+            snapshotter.remove(game);
+          }
+        }
+      });
+    }
+  };
+
+  /** Removes an ended game from the active games and from its sessions. */
+  private void release(Game game) {
+    recoveredGames.remove(game.getId());
+    activeGames.remove(game.getId());
+    for (Session session : gameSessions.removeAll(game.getId())) {
+      session.removeGame(game.getId());
+    }
+  }
 
   /** Constructs a new ServiceImpl. */
   public ServiceImpl() {
-    sessions = Maps.newHashMap();
+    sessions = Maps.newConcurrentMap();
     pendingSeek = null;
+    recoveredGames = Maps.newConcurrentMap();
+    activeGames = Maps.newConcurrentMap();
+    spectateExecutor = Executors.newFixedThreadPool(
+        SPECTATE_FANOUT_THREADS,
+        new ThreadFactory() {
+          @Override
+          public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "spectate-fanout");
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+    analyzer = new Analyzer();
+    analyses = Maps.newConcurrentMap();
+    archivedHistories = CacheBuilder.newBuilder()
+        .maximumSize(REPLAY_CACHE_SIZE)
+        .build();
+    gameSessions = Multimaps.synchronizedMultimap(
+        HashMultimap.<String, Session>create());
+    timer = new HashedWheelTimer(
+        TIMER_TICK_MILLIS, TimeUnit.MILLISECONDS, TIMER_WHEEL_SIZE);
+    eventWaiters = new EventWaiters(
+        timer,
+        TimeUnit.SECONDS.toMillis(EVENTS_WAIT_TIMEOUT_SECONDS),
+        EVENTS_MAX_WAITING,
+        EVENTS_MAX_WAITING_PER_GAME);
+    eventWaiters.registerMBean();
+    analysisWaiters = new EventWaiters(
+        timer,
+        ANALYSIS_POLL_MILLIS,
+        EVENTS_MAX_WAITING,
+        EVENTS_MAX_WAITING_PER_GAME);
+
+    String archiveFile = System.getProperty(ARCHIVE_FILE_PROPERTY);
+    if (archiveFile != null) {
+      try {
+        archiver = new GameArchiver(
+            new GameArchive(new File(archiveFile)), ARCHIVE_DELAY_SECONDS);
+      } catch (Exception e) {
+        LOGGER.log(Level.SEVERE, "Failed to open the game archive.", e);
+        archiver = null;
+      }
+    }
+
+    String journalDir = System.getProperty(JOURNAL_DIR_PROPERTY);
+    if (journalDir != null) {
+      try {
+        snapshotter = new GameSnapshotter(
+            new GameJournal(new File(journalDir)),
+            SNAPSHOT_INTERVAL_SECONDS,
+            SNAPSHOT_MIN_EVENTS);
+        for (Game game : snapshotter.recover()) {
+          recoveredGames.put(game.getId(), game);
+          activeGames.put(game.getId(), game);
+          game.setEndListener(gameEndListener);
+          game.setEventWaiters(eventWaiters);
+          game.setBroadcast(
+              new GameBroadcast(
+                  spectateExecutor, SPECTATE_MAX_WAITING, eventWaiters));
+          if (CLOCK_BASE_SECONDS > 0) {
+            game.startClock(timer);
+          }
+          if (game.hasEnded()) {
+            // The game ended before the crash, but was not archived yet.
+            gameEndListener.gameEnded(game);
+          }
+        }
+        LOGGER.info("Recovered " + recoveredGames.size() + " games.");
+      } catch (Exception e) {
+        LOGGER.log(Level.SEVERE, "Failed to open the game journal.", e);
+        snapshotter = null;
+      }
+    }
+  }
+
+  /**
+   * Adds gauges of the service state to the request metrics.
+   * <p>Not public, so it is not exported as a web-service method.
+   */
+  void addGauges(RequestMetrics metrics) {
+    metrics.addGauge(new Gauge("sessions", "The number of sessions.") {
+      @Override
+      public long getValue() {
+        return sessions.size();
+      }
+    });
+    metrics.addGauge(new Gauge(
+        "active_games",
+        "The number of games that did not end, or were not archived yet.") {
+      @Override
+      public long getValue() {
+        return activeGames.size();
+      }
+    });
+    metrics.addGauge(new Gauge(
+        "waiting_event_requests",
+        "The number of getEvents requests waiting for a new event.") {
+      @Override
+      public long getValue() {
+        return eventWaiters.getWaiting();
+      }
+    });
+    metrics.addGauge(new Gauge(
+        "legal_moves_cache_hits",
+        "The number of positions whose legal moves were found in the cache.") {
+      @Override
+      public long getValue() {
+        return LegalMovesCache.getStats().hitCount();
+      }
+    });
+    metrics.addGauge(new Gauge(
+        "legal_moves_cache_misses",
+        "The number of positions whose legal moves were not in the cache.") {
+      @Override
+      public long getValue() {
+        return LegalMovesCache.getStats().missCount();
+      }
+    });
+    metrics.addGauge(new Gauge(
+        "legal_moves_cache_size",
+        "The number of positions in the legal moves cache.") {
+      @Override
+      public long getValue() {
+        return LegalMovesCache.size();
+      }
+    });
+    analyzer.addGauges(metrics);
+  }
+
+  /**
+   * Returns true iff the given session token belongs to a session.
+   * <p>Not public, so it is not exported as a web-service method.
+   */
+  boolean hasSession(String sessionToken) {
+    return sessions.containsKey(sessionToken);
   }
 
   /** Handles a login request. */
   public Status login(LoginRequest request, Callback callback) {
     Session session = new Session(request.getUsername());
+    for (Game game : recoveredGames.values()) {
+      if (game.getWhitePlayer().equals(session.getUsername()) ||
+          game.getBlackPlayer().equals(session.getUsername())) {
+        session.addGame(game);
+        gameSessions.put(game.getId(), session);
+      }
+    }
     sessions.put(session.getToken(), session);
     callback.run(LoginResponse.newBuilder()
         .setSessionToken(session.getToken())
@@ -115,8 +453,27 @@ public class ServiceImpl {
       return Status.OK;
     }
 
-    PendingSeek.match(currentSeek, pendingSeek);
+    Game game = PendingSeek.match(currentSeek, pendingSeek);
+    gameSessions.put(game.getId(), currentSeek.session);
+    gameSessions.put(game.getId(), pendingSeek.session);
     pendingSeek = null;
+    activeGames.put(game.getId(), game);
+    game.setEndListener(gameEndListener);
+    game.setEventWaiters(eventWaiters);
+    game.setBroadcast(
+        new GameBroadcast(
+            spectateExecutor, SPECTATE_MAX_WAITING, eventWaiters));
+    if (CLOCK_BASE_SECONDS > 0) {
+      game.setClock(new GameClock(
+          TimeUnit.SECONDS.toMillis(CLOCK_BASE_SECONDS),
+          TimeUnit.SECONDS.toMillis(CLOCK_INCREMENT_SECONDS)));
+    }
+    if (snapshotter != null) {
+      snapshotter.add(game);
+    }
+    if (CLOCK_BASE_SECONDS > 0) {
+      game.startClock(timer);
+    }
     return Status.OK;
   }
 
@@ -145,8 +502,9 @@ public class ServiceImpl {
 
     gameActionInfo.status = Status.OK;
     gameActionInfo.game = game;
-    gameActionInfo.playerColor = session.getUsername() == game.getWhitePlayer()
-        ? Piece.Color.WHITE : Piece.Color.BLACK;
+    gameActionInfo.playerColor =
+        session.getUsername().equals(game.getWhitePlayer())
+            ? Piece.Color.WHITE : Piece.Color.BLACK;
     return gameActionInfo;
   }
 
@@ -157,10 +515,14 @@ public class ServiceImpl {
       return gameActionInfo.status;
     }
 
-    gameActionInfo.game.move(
+    Status status = gameActionInfo.game.move(
         gameActionInfo.playerColor,
         request.getMove().getFrom(),
         request.getMove().getTo());
+    if (status != Status.OK) {
+      // Lets clients that applied the move optimistically roll it back.
+      return status;
+    }
     callback.run(ErrorResponse.newBuilder().build());
 
     return Status.OK;
@@ -169,11 +531,18 @@ public class ServiceImpl {
   /** Handles a getEvents request. */
   public Status getEvents(EventsRequest request, final Callback callback) {
     GameActionInfo gameActionInfo = getGameActionInfo(request.getGameInfo());
-    if (gameActionInfo.status != Status.OK) {
+    Game game = gameActionInfo.game;
+    if (gameActionInfo.status == Status.INVALID_GAME_ID) {
+      // The events of streamed analyses are polled like the games' events.
+      game = getAnalysisBoard(request.getGameInfo());
+      if (game == null) {
+        return Status.INVALID_GAME_ID;
+      }
+    } else if (gameActionInfo.status != Status.OK) {
       return gameActionInfo.status;
     }
 
-    gameActionInfo.game.getEvents(
+    boolean accepted = game.getEvents(
         request.getMinEventNumber(), new Game.EventsCallback() {
       @Override
       public void run(List<GameEvent> events) {
@@ -182,7 +551,41 @@ public class ServiceImpl {
             .build());
       }
     });
-    return Status.OK;
+    return accepted ? Status.OK : Status.TOO_MANY_WAITING_REQUESTS;
+  }
+
+  /**
+   * Handles a spectate request.
+   *
+   * <p>Like getEvents, but any logged-in user may spectate any active game.
+   * The events are sent in shared responses, so a popular game costs a single
+   * encoding per event and not one per spectator.
+   */
+  public Status spectate(EventsRequest request, final Callback callback) {
+    GameInfo gameInfo = request.getGameInfo();
+    Session session = sessions.get(gameInfo.getSessionToken());
+    if (session == null) {
+      return Status.INVALID_OR_EXPIRED_SESSION_TOKEN;
+    }
+    Game game = activeGames.get(gameInfo.getGameId());
+    if (game == null) {
+      return Status.INVALID_GAME_ID;
+    }
+
+    boolean watching = game.spectate(
+        session.getToken(),
+        request.getMinEventNumber(),
+        new GameBroadcast.Callback() {
+          @Override
+          public void run(SharedResponse response) {
+            if (callback instanceof SharedCallback) {
+              ((SharedCallback) callback).run(response);
+            } else {
+              callback.run(response.getMessage());
+            }
+          }
+        });
+    return watching ? Status.OK : Status.TOO_MANY_SPECTATORS;
   }
 
   /** Handles a resign request. */
@@ -221,6 +624,54 @@ public class ServiceImpl {
     return Status.OK;
   }
 
+  /**
+   * Handles a requestTakeback request: a request to take back the player's
+   * last move. If the other player already requested a takeback, it is
+   * accepted.
+   */
+  public Status requestTakeback(GameInfo request, final Callback callback) {
+    GameActionInfo gameActionInfo = getGameActionInfo(request);
+    if (gameActionInfo.status != Status.OK) {
+      return gameActionInfo.status;
+    }
+
+    Status status =
+        gameActionInfo.game.requestTakeback(gameActionInfo.playerColor);
+    if (status != Status.OK) {
+      return status;
+    }
+    callback.run(ErrorResponse.newBuilder().build());
+    return Status.OK;
+  }
+
+  /** Handles an acceptTakeback request. */
+  public Status acceptTakeback(GameInfo request, final Callback callback) {
+    GameActionInfo gameActionInfo = getGameActionInfo(request);
+    if (gameActionInfo.status != Status.OK) {
+      return gameActionInfo.status;
+    }
+
+    Status status =
+        gameActionInfo.game.acceptTakeback(gameActionInfo.playerColor);
+    if (status != Status.OK) {
+      return status;
+    }
+    callback.run(ErrorResponse.newBuilder().build());
+    return Status.OK;
+  }
+
+  /** Handles a declineTakeback request (also withdraws a request). */
+  public Status declineTakeback(GameInfo request, final Callback callback) {
+    GameActionInfo gameActionInfo = getGameActionInfo(request);
+    if (gameActionInfo.status != Status.OK) {
+      return gameActionInfo.status;
+    }
+
+    gameActionInfo.game.declineTakeback(gameActionInfo.playerColor);
+    callback.run(ErrorResponse.newBuilder().build());
+    return Status.OK;
+  }
+
   /** Handles a getPosition request. */
   public Status getPosition(GameInfo request, final Callback callback) {
     GameActionInfo gameActionInfo = getGameActionInfo(request);
@@ -232,5 +683,480 @@ public class ServiceImpl {
     callback.run(PositionResponse.newBuilder().setFen(fen).build());
     return Status.OK;
   }
-}
 
+  /**
+   * Handles a getGameHistory request.
+   *
+   * <p>Returns the moves of an archived game. Any logged-in user may get the
+   * history of any archived game.
+   */
+  public Status getGameHistory(GameInfo request, final Callback callback) {
+    if (sessions.get(request.getSessionToken()) == null) {
+      return Status.INVALID_OR_EXPIRED_SESSION_TOKEN;
+    }
+    if (archiver == null) {
+      return Status.INVALID_GAME_ID;
+    }
+    GameHistoryResponse response =
+        archiver.getArchive().getHistory(request.getGameId());
+    if (response == null) {
+      return Status.INVALID_GAME_ID;
+    }
+    callback.run(response);
+    return Status.OK;
+  }
+
+  /**
+   * Handles a getPositionAtPly request.
+   *
+   * <p>Returns the position of an active or an archived game after the given
+   * number of plies. Any logged-in user may replay any game. The position is
+   * found from the nearest checkpoint of the game history, so stepping through
+   * a game costs about one move per step. The history of an archived game is
+   * built when it is first replayed, and kept for the following requests.
+   */
+  public Status getPositionAtPly(PlyRequest request, final Callback callback) {
+    GameInfo gameInfo = request.getGameInfo();
+    if (sessions.get(gameInfo.getSessionToken()) == null) {
+      return Status.INVALID_OR_EXPIRED_SESSION_TOKEN;
+    }
+    GameHistory history;
+    Game game = activeGames.get(gameInfo.getGameId());
+    if (game != null) {
+      history = game.getHistory();
+    } else {
+      history = archivedHistory(gameInfo.getGameId());
+      if (history == null) {
+        return Status.INVALID_GAME_ID;
+      }
+    }
+
+    PositionResponse.Builder responseBuilder = PositionResponse.newBuilder();
+    // The history of an active game may change between the calls.
+    synchronized (history) {
+      int ply = request.getPly();
+      if (ply < 0 || ply > history.getPlies()) {
+        return Status.INVALID_REQUEST;
+      }
+      responseBuilder
+          .setFen(history.getPositionAtPly(ply).toString())
+          .setGameStatus(history.getStatusAtPly(ply))
+          .setPlies(history.getPlies());
+    }
+    callback.run(responseBuilder.build());
+    return Status.OK;
+  }
+
+  /**
+   * Returns the history of an archived game, or null if the game is not in the
+   * archive.
+   */
+  private GameHistory archivedHistory(String gameId) {
+    GameHistory history = archivedHistories.getIfPresent(gameId);
+    if (history != null || archiver == null) {
+      return history;
+    }
+    GameHistoryResponse archived = archiver.getArchive().getHistory(gameId);
+    if (archived == null) {
+      return null;
+    }
+    Position position;
+    try {
+      position = new Position(
+          new ForsythEdwardsNotation(archived.getStartFen()));
+    } catch (InvalidFENStringException e) {
+      LOGGER.log(Level.WARNING, "Invalid start of archived game " + gameId, e);
+      return null;
+    }
+    history = new GameHistory(position);
+    for (GameEvent event : archived.getEventList()) {
+      if (event.getType() != GameEvent.Type.MOVE_MADE) {
+        continue;
+      }
+      // In castling, the king's move comes first and implies the rook's.
+      MoveProto move = event.getMove(0);
+      if (move.hasPromotion()) {
+        position.setPromotionPieceType(
+            position.getActivePlayer(),
+            Piece.Type.valueOf(move.getPromotion()));
+      }
+      List<Move> made = position.move(
+          Coordinate.get(move.getFrom()), Coordinate.get(move.getTo()));
+      if (made.isEmpty()) {
+        LOGGER.warning("Invalid move in archived game " + gameId);
+        return null;
+      }
+      history.add(made, position);
+    }
+    archivedHistories.put(gameId, history);
+    return history;
+  }
+
+  /** Handles a getPlayerGames request. */
+  public Status getPlayerGames(
+      PlayerGamesRequest request, final Callback callback) {
+    if (sessions.get(request.getSessionToken()) == null) {
+      return Status.INVALID_OR_EXPIRED_SESSION_TOKEN;
+    }
+    PlayerGamesResponse.Builder responseBuilder =
+        PlayerGamesResponse.newBuilder();
+    if (archiver != null) {
+      responseBuilder.addAllGameId(archiver.getArchive().getPlayerGames(
+          request.getUsername(), request.getMaxGames()));
+    }
+    callback.run(responseBuilder.build());
+    return Status.OK;
+  }
+
+  /**
+   * Handles an importGame request.
+   *
+   * <p>Replays the moves of a complete game on a single bare position,
+   * without undo records, up to the first illegal move, and returns the number
+   * of moves played and the resulting status. The moves are recorded in a game
+   * history only if the game is to be stored, and the game itself is then
+   * built once, after the replay. If the request asks to store the game, all
+   * its moves are legal and the server archives games, the game is added to
+   * the archive right away, and its id is returned.
+   */
+  public Status importGame(ImportGameRequest request, Callback callback) {
+    if (sessions.get(request.getSessionToken()) == null) {
+      return Status.INVALID_OR_EXPIRED_SESSION_TOKEN;
+    }
+    if (request.getMoveCount() > IMPORT_MAX_PLIES) {
+      return Status.INVALID_REQUEST;
+    }
+
+    Position position;
+    try {
+      position = new Position(
+          request.hasStartFen()
+              ? new ForsythEdwardsNotation(request.getStartFen())
+              : ForsythEdwardsNotation.STARTING_POSITION,
+          0);
+    } catch (InvalidFENStringException | IllegalArgumentException e) {
+      return Status.INVALID_REQUEST;
+    }
+    boolean store = request.getStore() && archiver != null;
+    GameHistory history = store ? new GameHistory(position) : null;
+
+    int plies = 0;
+    for (int move : request.getMoveList()) {
+      if (Game.hasEnded(position.getStatus()) ||
+          move < 0 || move >= 1 << IMPORT_MOVE_BITS) {
+        break;
+      }
+      int squares = move & ((1 << IMPORT_SQUARES_BITS) - 1);
+      Coordinate from = Coordinate.getByIndex(squares / Coordinate.SQUARES);
+      Coordinate to = Coordinate.getByIndex(squares % Coordinate.SQUARES);
+      int promotionCode = move >> IMPORT_SQUARES_BITS;
+      Piece.Type promotion = importedPromotion(promotionCode);
+      if (promotion == null ||
+          (promotionCode != 0 && !isPromotion(position, from, to))) {
+        break;
+      }
+      position.setPromotionPieceType(position.getActivePlayer(), promotion);
+      List<Move> made = position.move(from, to);
+      if (made.isEmpty()) {
+        break;
+      }
+      if (history != null) {
+        history.add(made, position);
+      }
+      plies++;
+    }
+
+    ImportGameResponse.Builder responseBuilder = ImportGameResponse.newBuilder()
+        .setPlies(plies)
+        .setGameStatus(position.getStatus())
+        .setFen(new ForsythEdwardsNotation(position).toString());
+    if (store && plies == request.getMoveCount()) {
+      Game game = new Game(
+          request.hasWhite() ? request.getWhite() : UNKNOWN_PLAYER,
+          request.hasBlack() ? request.getBlack() : UNKNOWN_PLAYER,
+          position,
+          history);
+      try {
+        archiver.getArchive().add(game);
+        responseBuilder.setGameId(game.getId());
+      } catch (IOException e) {
+        LOGGER.log(Level.WARNING,
+            "Failed to archive imported game " + game.getId(), e);
+      }
+    }
+    callback.run(responseBuilder.build());
+    return Status.OK;
+  }
+
+  /**
+   * Returns the piece type of the promotion code of an imported move, or null
+   * if the code is not valid. Pawns are promoted to queens by default.
+   */
+  private static Piece.Type importedPromotion(int code) {
+    if (code == 0) {
+      return Piece.Type.QUEEN;
+    }
+    if (code > Piece.Type.values().length) {
+      return null;
+    }
+    Piece.Type type = Piece.Type.values()[code - 1];
+    return type == Piece.Type.PAWN || type == Piece.Type.KING ? null : type;
+  }
+
+  /** Returns true iff a move from the given square promotes a pawn. */
+  private static boolean isPromotion(
+      Position position, Coordinate from, Coordinate to) {
+    Piece piece = position.getPiecesPlacement().at(from);
+    return piece != null && piece.getType() == Piece.Type.PAWN &&
+        (to.getRank() == Coordinate.FIRST_RANK ||
+         to.getRank() == Coordinate.LAST_RANK);
+  }
+
+  /**
+   * Handles an analyze request.
+   *
+   * <p>Any logged-in user may analyze any position, or the current position of
+   * any active game. The analysis runs in the background, and the response is
+   * sent when it ends. If there are too many analyses waiting, the request is
+   * refused with SERVER_BUSY.
+   */
+  public Status analyze(AnalyzeRequest request, final Callback callback) {
+    if (sessions.get(request.getSessionToken()) == null) {
+      return Status.INVALID_OR_EXPIRED_SESSION_TOKEN;
+    }
+    String fen;
+    if (request.hasGameId()) {
+      Game game = activeGames.get(request.getGameId());
+      if (game == null) {
+        return Status.INVALID_GAME_ID;
+      }
+      fen = game.getFen();
+    } else if (request.hasFen()) {
+      fen = request.getFen();
+    } else {
+      return Status.INVALID_REQUEST;
+    }
+    Position position;
+    try {
+      position = new Position(new ForsythEdwardsNotation(fen));
+    } catch (InvalidFENStringException | IllegalArgumentException e) {
+      return Status.INVALID_REQUEST;
+    }
+    if (request.getDepth() < 0 || request.getMaxNodes() < 0 ||
+        request.getMaxMillis() < 0) {
+      return Status.INVALID_REQUEST;
+    }
+
+    boolean queued = analyzer.analyze(
+        position,
+        limit(request.getDepth(), ANALYSIS_MAX_DEPTH),
+        limit(request.getMaxNodes(), ANALYSIS_MAX_NODES),
+        limit(request.getMaxMillis(), ANALYSIS_MAX_MILLIS),
+        new Analyzer.ResultCallback() {
+          @Override
+          public void run(Search.Result result) {
+            callback.run(analyzeResponse(result));
+          }
+
+          @Override
+          public void failed() {
+            callback.run(AnalyzeResponse.newBuilder()
+                .setStatus(Status.SERVER_ERROR)
+                .build());
+          }
+        });
+    return queued ? Status.OK : Status.SERVER_BUSY;
+  }
+
+  /**
+   * Handles a startAnalysis request.
+   *
+   * <p>Like analyze, but the analysis is streamed: the best lines of each
+   * depth are sent as ANALYSIS_UPDATE events as soon as the depth is searched,
+   * and an ANALYSIS_ENDED event is sent when the analysis ends. The events are
+   * polled with getEvents, with the returned analysis id as the game id, and
+   * the analysis is stopped with stopAnalysis. An analysis whose events are not
+   * polled for a while is stopped, as its client is gone.
+   */
+  public Status startAnalysis(
+      StartAnalysisRequest request, final Callback callback) {
+    final Session session = sessions.get(request.getSessionToken());
+    if (session == null) {
+      return Status.INVALID_OR_EXPIRED_SESSION_TOKEN;
+    }
+    String fen;
+    if (request.hasGameId()) {
+      Game game = activeGames.get(request.getGameId());
+      if (game == null) {
+        return Status.INVALID_GAME_ID;
+      }
+      fen = game.getFen();
+    } else if (request.hasFen()) {
+      fen = request.getFen();
+    } else {
+      return Status.INVALID_REQUEST;
+    }
+    // The events of the analysis are added to a board of its own.
+    final Game board;
+    try {
+      board = new Game(session.getUsername(), session.getUsername(), fen);
+    } catch (InvalidFENStringException | IllegalArgumentException e) {
+      return Status.INVALID_REQUEST;
+    }
+    if (request.getLines() <= 0 || request.getDepth() < 0 ||
+        request.getMaxNodes() < 0 || request.getMaxMillis() < 0) {
+      return Status.INVALID_REQUEST;
+    }
+    board.setEventWaiters(analysisWaiters);
+
+    final GameStatus status = board.getPosition().getStatus();
+    Future<?> future = analyzer.stream(
+        new Position(board.getPosition(), 0),
+        Math.min(request.getLines(), ANALYSIS_MAX_LINES),
+        limit(request.getDepth(), ANALYSIS_MAX_DEPTH),
+        limit(request.getMaxNodes(), ANALYSIS_MAX_NODES),
+        limit(request.getMaxMillis(), ANALYSIS_MAX_MILLIS),
+        new Analyzer.Listener() {
+          @Override
+          public void update(
+              List<Search.Result> lines, long nodes, long nanos) {
+            board.addEvent(GameEvent.newBuilder()
+                .setType(GameEvent.Type.ANALYSIS_UPDATE)
+                .setStatus(status)
+                .setAnalysis(analysisInfo(lines, nodes, nanos)));
+          }
+
+          @Override
+          public void ended() {
+            board.addEvent(GameEvent.newBuilder()
+                .setType(GameEvent.Type.ANALYSIS_ENDED)
+                .setStatus(status));
+          }
+        });
+    if (future == null) {
+      return Status.SERVER_BUSY;
+    }
+    analyses.put(board.getId(), future);
+    session.addAnalysis(board);
+    scheduleAnalysisLease(session, board, ANALYSIS_IDLE_MILLIS);
+
+    callback.run(StartAnalysisResponse.newBuilder()
+        .setAnalysisId(board.getId())
+        .build());
+    return Status.OK;
+  }
+
+  /**
+   * Handles a stopAnalysis request.
+   *
+   * <p>The analysis stops right away, and its ANALYSIS_ENDED event is sent.
+   */
+  public Status stopAnalysis(GameInfo request, final Callback callback) {
+    Session session = sessions.get(request.getSessionToken());
+    if (session == null) {
+      return Status.INVALID_OR_EXPIRED_SESSION_TOKEN;
+    }
+    if (session.getAnalysis(request.getGameId()) == null) {
+      return Status.INVALID_GAME_ID;
+    }
+    Future<?> future = analyses.remove(request.getGameId());
+    if (future != null) {
+      future.cancel(true);
+    }
+    callback.run(ErrorResponse.newBuilder().build());
+    return Status.OK;
+  }
+
+  /**
+   * Checks periodically whether the events of a streamed analysis are still
+   * polled. If they are not, the analysis is stopped and its board is removed
+   * from the session.
+   * <p>Long polls give no notice when their client disconnects, so the lease
+   * is renewed by the polling itself. The polls of an analysis wait less than
+   * the idle time, so a client that keeps polling is never idle for the idle
+   * time, even while its poll is pending, and a client that is gone is
+   * detected once its last poll is older than the idle time.
+   *
+   * @param delayMillis The time until the check, in milliseconds.
+   */
+  private void scheduleAnalysisLease(
+      final Session session, final Game board, long delayMillis) {
+    timer.schedule(new HashedWheelTimer.Task() {
+      @Override
+      public void run() {
+        long idleMillis = board.getIdleMillis();
+        if (idleMillis < ANALYSIS_IDLE_MILLIS) {
+          scheduleAnalysisLease(
+              session, board, ANALYSIS_IDLE_MILLIS - idleMillis);
+          return;
+        }
+        Future<?> future = analyses.remove(board.getId());
+        if (future != null) {
+          future.cancel(true);
+        }
+        session.removeAnalysis(board.getId());
+      }
+    }, delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Returns the board of a streamed analysis of the request's session (null
+   * if there is no such analysis).
+   */
+  private Game getAnalysisBoard(GameInfo gameInfo) {
+    Session session = sessions.get(gameInfo.getSessionToken());
+    return session == null ? null : session.getAnalysis(gameInfo.getGameId());
+  }
+
+  /** Returns the requested limit, or the server limit if it is lower or 0. */
+  private static int limit(int requested, int serverLimit) {
+    return (int) limit((long) requested, serverLimit);
+  }
+
+  /** Returns the requested limit, or the server limit if it is lower or 0. */
+  private static long limit(long requested, long serverLimit) {
+    return requested == 0 ? serverLimit : Math.min(requested, serverLimit);
+  }
+
+  /** Creates the info of a streamed analysis depth. */
+  private static AnalysisInfo analysisInfo(
+      List<Search.Result> lines, long nodes, long nanos) {
+    AnalysisInfo.Builder infoBuilder = AnalysisInfo.newBuilder()
+        .setDepth(lines.get(0).getDepth())
+        .setNodes(nodes)
+        .setNodesPerSecond(nodes * TimeUnit.SECONDS.toNanos(1)
+            / Math.max(nanos, 1));
+    for (Search.Result line : lines) {
+      AnalysisLine.Builder lineBuilder = AnalysisLine.newBuilder()
+          .setScore(line.getScore());
+      for (Move move : line.getPrincipalVariation()) {
+        lineBuilder.addMove(MoveProto.newBuilder()
+            .setFrom(move.getFrom().name())
+            .setTo(move.getTo().name()));
+      }
+      infoBuilder.addLine(lineBuilder);
+    }
+    return infoBuilder.build();
+  }
+
+  /** Creates the response of an analysis. */
+  private static AnalyzeResponse analyzeResponse(Search.Result result) {
+    AnalyzeResponse.Builder responseBuilder = AnalyzeResponse.newBuilder();
+    if (result == null) {
+      return responseBuilder.build();
+    }
+    responseBuilder
+        .setDepth(result.getDepth())
+        .setScore(result.getScore())
+        .setNodes(result.getNodes());
+    for (Move move : result.getPrincipalVariation()) {
+      responseBuilder.addPrincipalVariation(MoveProto.newBuilder()
+          .setFrom(move.getFrom().name())
+          .setTo(move.getTo().name()));
+    }
+    if (responseBuilder.getPrincipalVariationCount() > 0) {
+      responseBuilder.setBestMove(responseBuilder.getPrincipalVariation(0));
+    }
+    return responseBuilder.build();
+  }
+}
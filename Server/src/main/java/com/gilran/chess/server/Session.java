@@ -17,12 +17,18 @@ public class Session {
   private String username;
   /** The active games of this session. */
   private Map<String, Game> games;
+  /**
+   * The boards of the streamed analyses of this session, by analysis id. They
+   * are kept apart from the games, so game actions cannot be applied to them.
+   */
+  private Map<String, Game> analyses;
 
   /** Constructor. */
   public Session(String username) {
     this.token = UUID.randomUUID().toString();
     this.username = username;
-    this.games = Maps.newHashMap();
+    this.games = Maps.newConcurrentMap();
+    this.analyses = Maps.newConcurrentMap();
   }
 
   /** Returns the session token. */
@@ -34,5 +40,14 @@ public class Session {
   public void addGame(Game game) { games.put(game.getId(), game); }
   /** Gets a game that is associated with this session. */
   public Game getGame(String id) { return games.get(id); }
+  /** Removes a game from the session. */
+  public void removeGame(String id) { games.remove(id); }
+
+  /** Adds the board of a streamed analysis to the session. */
+  public void addAnalysis(Game board) { analyses.put(board.getId(), board); }
+  /** Gets the board of a streamed analysis of this session. */
+  public Game getAnalysis(String id) { return analyses.get(id); }
+  /** Removes the board of a streamed analysis from the session. */
+  public void removeAnalysis(String id) { analyses.remove(id); }
 }
 
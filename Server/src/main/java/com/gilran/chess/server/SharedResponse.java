@@ -0,0 +1,46 @@
+package com.gilran.chess.server;
+
+import com.google.common.base.Function;
+import com.google.common.base.Preconditions;
+import com.google.protobuf.Message;
+
+/**
+ * A response that is sent as is to many callbacks.
+ *
+ * <p>The response is encoded by the network layer only once, and the same
+ * encoded response is then sent to all the callbacks. This is what makes it
+ * cheap to send a game event to thousands of spectators.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public final class SharedResponse {
+  /** The response proto message. */
+  private final Message message;
+  /** The encoded response (null until it is first requested). */
+  private Object encoded;
+
+  /** Constructor. */
+  public SharedResponse(Message message) {
+    this.message = Preconditions.checkNotNull(message);
+  }
+
+  /** Returns the response proto message. */
+  public Message getMessage() {
+    return message;
+  }
+
+  /**
+   * Returns the encoded response.
+   * <p>The response is encoded using the given encoder the first time this is
+   * called, and the same encoded object is returned from then on. The network
+   * layer must therefore always use the same encoder, and must never modify
+   * the returned object.
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized <T> T getEncoded(Function<Message, T> encoder) {
+    if (encoded == null) {
+      encoded = Preconditions.checkNotNull(encoder.apply(message));
+    }
+    return (T) encoded;
+  }
+}
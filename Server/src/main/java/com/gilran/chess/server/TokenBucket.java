@@ -0,0 +1,65 @@
+package com.gilran.chess.server;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket rate limiter.
+ *
+ * <p>The bucket is kept as a single atomic value: the time at which it will be
+ * full again (the generic cell rate algorithm). Taking a token pushes that time
+ * forward by the interval between tokens, and is refused if it would be pushed
+ * further than the burst allows. So a bucket allows the given rate on average,
+ * and bursts of up to the given number of requests.
+ *
+ * @author Gil Ran <gilrun@gmail.com>
+ */
+public class TokenBucket {
+  /** The time it takes to add a token to the bucket, in nanoseconds. */
+  private final long intervalNanos;
+  /** The time it takes to fill an empty bucket, in nanoseconds. */
+  private final long capacityNanos;
+  /** The time the bucket will be full (as in System.nanoTime). */
+  private final AtomicLong fullAt;
+
+  /**
+   * Constructor. The bucket starts full.
+   *
+   * @param ratePerSecond The number of tokens added to the bucket per second.
+   * @param burst The number of tokens in a full bucket.
+   */
+  public TokenBucket(double ratePerSecond, int burst) {
+    Preconditions.checkArgument(ratePerSecond > 0);
+    Preconditions.checkArgument(burst > 0);
+    this.intervalNanos =
+        Math.max((long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond), 1);
+    this.capacityNanos = intervalNanos * burst;
+    this.fullAt = new AtomicLong(System.nanoTime());
+  }
+
+  /**
+   * Takes a token from the bucket.
+   *
+   * @return true iff there was a token in the bucket.
+   */
+  public boolean tryAcquire() {
+    long now = System.nanoTime();
+    while (true) {
+      long current = fullAt.get();
+      long next = Math.max(current, now) + intervalNanos;
+      if (next - now > capacityNanos) {
+        return false;
+      }
+      if (fullAt.compareAndSet(current, next)) {
+        return true;
+      }
+    }
+  }
+
+  /** Returns true iff the bucket is full, so it is the same as a new one. */
+  public boolean isFull() {
+    return fullAt.get() - System.nanoTime() <= 0;
+  }
+}